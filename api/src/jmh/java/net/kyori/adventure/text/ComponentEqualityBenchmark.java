@@ -0,0 +1,115 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import static net.kyori.adventure.text.Component.text;
+import static net.kyori.adventure.text.Component.translatable;
+import static net.kyori.adventure.text.format.Style.style;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ComponentEqualityBenchmark {
+  @Param({"4", "8"})
+  private int depth;
+
+  private Component tree;
+  private Component equalTree;
+  private Component differentTree;
+  private Map<Component, Boolean> map;
+
+  @Setup(Level.Trial)
+  public void prepare() {
+    this.tree = tree(this.depth, "leaf");
+    this.equalTree = tree(this.depth, "leaf");
+    this.differentTree = tree(this.depth, "other");
+    this.map = new HashMap<>();
+    this.map.put(this.tree, Boolean.TRUE);
+    // as with keys that have been used in a map before
+    this.equalTree.hashCode();
+    this.differentTree.hashCode();
+  }
+
+  private static Component tree(final int depth, final String leaf) {
+    if (depth == 0) {
+      return text(leaf, style(NamedTextColor.RED, TextDecoration.BOLD));
+    }
+    final Component child = tree(depth - 1, leaf);
+    return text()
+      .content("depth " + depth)
+      .hoverEvent(HoverEvent.showText(text("hover " + depth)))
+      .append(child)
+      .append(translatable("key." + depth, child))
+      .build();
+  }
+
+  @Benchmark
+  public int hashCodeOf() {
+    return this.equalTree.hashCode();
+  }
+
+  @Benchmark
+  public boolean equalsEqual() {
+    return this.tree.equals(this.equalTree);
+  }
+
+  @Benchmark
+  public boolean equalsDifferent() {
+    return this.tree.equals(this.differentTree);
+  }
+
+  @Benchmark
+  public Boolean mapLookup() {
+    return this.map.get(this.equalTree);
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    final Options opt = new OptionsBuilder()
+      .include(ComponentEqualityBenchmark.class.getSimpleName())
+      .forks(1)
+      .build();
+
+    new Runner(opt).run();
+  }
+}
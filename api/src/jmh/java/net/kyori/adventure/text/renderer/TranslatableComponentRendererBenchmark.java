@@ -0,0 +1,127 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.renderer;
+
+import java.text.AttributedCharacterIterator;
+import java.text.MessageFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.TranslationArgument;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TranslatableComponentRendererBenchmark {
+  private static final MessageFormat FORMAT = new MessageFormat("{0} has joined {1}, welcome them! They are player #{2} today.", Locale.US);
+
+  private TranslatableComponentRenderer<Locale> template;
+  private TranslatableComponentRenderer<Locale> messageFormat;
+  private Component component;
+
+  @Setup(Level.Trial)
+  public void prepare() {
+    this.template = new TranslatableComponentRenderer<Locale>() {
+      @Override
+      protected @Nullable MessageFormat translate(final @NotNull String key, final @NotNull Locale context) {
+        return FORMAT;
+      }
+    };
+    this.messageFormat = new MessageFormatRenderer();
+    this.component = Component.translatable(
+      "multiplayer.player.joined",
+      Component.text("kashike", NamedTextColor.DARK_PURPLE),
+      Component.text("the server"),
+      Component.text(42)
+    );
+  }
+
+  @Benchmark
+  public Component template() {
+    return this.template.render(this.component, Locale.US);
+  }
+
+  @Benchmark
+  public Component messageFormat() {
+    return this.messageFormat.render(this.component, Locale.US);
+  }
+
+  // the previous implementation, which formats the message twice for every render
+  static final class MessageFormatRenderer extends TranslatableComponentRenderer<Locale> {
+    @Override
+    protected @Nullable MessageFormat translate(final @NotNull String key, final @NotNull Locale context) {
+      return FORMAT;
+    }
+
+    @Override
+    @SuppressWarnings("JdkObsolete")
+    protected @NotNull Component renderTranslatable(final @NotNull TranslatableComponent component, final @NotNull Locale context) {
+      final MessageFormat format = this.translate(component.key(), context);
+      final List<TranslationArgument> args = component.arguments();
+      final TextComponent.Builder builder = Component.text();
+      this.mergeStyle(component, builder, context);
+      final Object[] nulls = new Object[args.size()];
+      final StringBuffer sb = format.format(nulls, new StringBuffer(), null);
+      final AttributedCharacterIterator it = format.formatToCharacterIterator(nulls);
+      while (it.getIndex() < it.getEndIndex()) {
+        final int end = it.getRunLimit();
+        final Integer index = (Integer) it.getAttribute(MessageFormat.Field.ARGUMENT);
+        if (index != null) {
+          builder.append(this.render(args.get(index).asComponent(), context));
+        } else {
+          builder.append(Component.text(sb.substring(it.getIndex(), end)));
+        }
+        it.setIndex(end);
+      }
+      return this.optionallyRenderChildrenAppendAndBuild(component.children(), builder, context);
+    }
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    final Options opt = new OptionsBuilder()
+      .include(TranslatableComponentRendererBenchmark.class.getSimpleName())
+      .forks(1)
+      .build();
+
+    new Runner(opt).run();
+  }
+}
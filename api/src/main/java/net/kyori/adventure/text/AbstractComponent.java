@@ -27,6 +27,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.stream.Stream;
 import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.util.TriState;
 import net.kyori.examination.ExaminableProperty;
 import net.kyori.examination.string.StringExaminer;
 import org.jetbrains.annotations.ApiStatus;
@@ -46,6 +47,10 @@ import org.jetbrains.annotations.Nullable;
 public abstract class AbstractComponent implements Component {
   protected final List<Component> children;
   protected final Style style;
+  // lazily computed by hashCode(), 0 if not yet known
+  private int hash;
+  // lazily computed by containsTranslatable()
+  private TriState translatable = TriState.NOT_SET;
 
   protected AbstractComponent(final @NotNull List<? extends ComponentLike> children, final @NotNull Style style) {
     this.children = ComponentLike.asComponents(children, IS_NOT_EMPTY);
@@ -62,17 +67,39 @@ public abstract class AbstractComponent implements Component {
     return this.style;
   }
 
+  @Override
+  public boolean containsTranslatable() {
+    TriState result = this.translatable;
+    if (result == TriState.NOT_SET) {
+      result = TriState.byBoolean(ComponentInternals.containsTranslatable(this));
+      this.translatable = result;
+    }
+    return result == TriState.TRUE;
+  }
+
   @Override
   public boolean equals(final @Nullable Object other) {
     if (this == other) return true;
     if (!(other instanceof AbstractComponent)) return false;
     final AbstractComponent that = (AbstractComponent) other;
+    // only compare cached hashes - computing them here would walk both trees an extra time
+    if (this.hash != 0 && that.hash != 0 && this.hash != that.hash && this.getClass() == that.getClass()) return false;
     return Objects.equals(this.children, that.children)
       && Objects.equals(this.style, that.style);
   }
 
   @Override
   public int hashCode() {
+    int result = this.hash;
+    if (result == 0) {
+      result = this.computeHashCode();
+      this.hash = result;
+    }
+    return result;
+  }
+
+  // components are immutable, so implementations in this package extend this instead of hashCode() to have their hash cached
+  int computeHashCode() {
     int result = this.children.hashCode();
     result = (31 * result) + this.style.hashCode();
     return result;
@@ -1956,6 +1956,21 @@ public interface Component extends ComponentBuilderApplicable, ComponentLike, Ex
     return false;
   }
 
+  /**
+   * Checks if this component is, or contains, a {@link TranslatableComponent}.
+   *
+   * <p>Children, component translation arguments, hover event text and entity names, and NBT and selector separators are all
+   * searched. Components for which this returns {@code false} do not need to be passed through a translating renderer.</p>
+   *
+   * <p>As components are immutable, the built-in implementations only search their contents once.</p>
+   *
+   * @return {@code true} if this component is or contains a translatable component
+   * @since 4.18.0
+   */
+  default boolean containsTranslatable() {
+    return ComponentInternals.containsTranslatable(this);
+  }
+
   /**
    * Prevents a cycle between this component and the provided component.
    *
@@ -23,9 +23,34 @@
  */
 package net.kyori.adventure.text;
 
+import net.kyori.adventure.text.event.HoverEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
 final class ComponentInternals {
   static final String CHILDREN_PROPERTY = "children";
 
   private ComponentInternals() {
   }
+
+  // searches the parts of a component that a translating renderer would render
+  static boolean containsTranslatable(final @NotNull Component component) {
+    if (component instanceof TranslatableComponent) return true;
+    if (component instanceof NBTComponent<?, ?> && anyTranslatable(((NBTComponent<?, ?>) component).separator())) return true;
+    if (component instanceof SelectorComponent && anyTranslatable(((SelectorComponent) component).separator())) return true;
+    final @Nullable HoverEvent<?> hoverEvent = component.hoverEvent();
+    if (hoverEvent != null) {
+      final Object value = hoverEvent.value();
+      if (value instanceof Component && ((Component) value).containsTranslatable()) return true;
+      if (value instanceof HoverEvent.ShowEntity && anyTranslatable(((HoverEvent.ShowEntity) value).name())) return true;
+    }
+    for (final Component child : component.children()) {
+      if (child.containsTranslatable()) return true;
+    }
+    return false;
+  }
+
+  private static boolean anyTranslatable(final @Nullable Component component) {
+    return component != null && component.containsTranslatable();
+  }
 }
@@ -0,0 +1,86 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text;
+
+import net.kyori.adventure.text.format.Style;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A pool of canonical {@link Component} and {@link Style} instances.
+ *
+ * <p>Interning a component replaces it with a structurally equal instance that has been interned before, if there is
+ * one. Otherwise, its children, style, translation arguments and hover text are interned first, so that equal subtrees of
+ * different components end up sharing the same instances. This reduces the memory used by long-lived components, and
+ * lets caches keyed on components hit on identity rather than having to compare whole trees.</p>
+ *
+ * <p>Interners are bounded: once an interner is full, new instances may replace older ones. Interners are safe to use
+ * from multiple threads, although two threads racing on the same value may briefly receive different (but equal)
+ * instances.</p>
+ *
+ * @since 4.18.0
+ */
+public interface ComponentInterner {
+  /**
+   * Creates an interner with the default capacity.
+   *
+   * @return a new interner
+   * @since 4.18.0
+   */
+  static @NotNull ComponentInterner componentInterner() {
+    return componentInterner(ComponentInternerImpl.DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates an interner.
+   *
+   * @param capacity the maximum number of components and of styles to retain, rounded up to a power of two
+   * @return a new interner
+   * @throws IllegalArgumentException if {@code capacity} is not positive, or is more than {@code 2^30}
+   * @since 4.18.0
+   */
+  static @NotNull ComponentInterner componentInterner(final int capacity) {
+    if (capacity <= 0 || capacity > ComponentInternerImpl.MAXIMUM_CAPACITY) {
+      throw new IllegalArgumentException("capacity must be between 1 and " + ComponentInternerImpl.MAXIMUM_CAPACITY + ", was " + capacity);
+    }
+    return new ComponentInternerImpl(capacity);
+  }
+
+  /**
+   * Gets the canonical instance of a component.
+   *
+   * @param component the component
+   * @return an interned component equal to {@code component}
+   * @since 4.18.0
+   */
+  @NotNull Component intern(final @NotNull Component component);
+
+  /**
+   * Gets the canonical instance of a style.
+   *
+   * @param style the style
+   * @return an interned style equal to {@code style}
+   * @since 4.18.0
+   */
+  @NotNull Style intern(final @NotNull Style style);
+}
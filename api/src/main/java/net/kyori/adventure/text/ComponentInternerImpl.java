@@ -0,0 +1,151 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.Style;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A fixed-size, direct-mapped interner.
+ *
+ * <p>Components and styles have separate tables of the same size, and each value is stored in the slot selected by its
+ * hash code, replacing whichever value was there before. Component and style hash codes are cached, so looking up a
+ * value that was interned before costs one equality check.</p>
+ *
+ * <p>A component is only stored once its children, style, and translation arguments have been interned, so everything
+ * reachable from a stored component is itself canonical. Because the result is stored without locking, two threads
+ * interning equal values at once may each return their own copy; both are equal, and later calls converge on the one
+ * left in the slot.</p>
+ */
+final class ComponentInternerImpl implements ComponentInterner {
+  static final int DEFAULT_CAPACITY = 4096;
+  // the largest capacity whose table size, a power of two, is still an int
+  static final int MAXIMUM_CAPACITY = 1 << 30;
+
+  private final Component[] components;
+  private final Style[] styles;
+  private final int mask;
+
+  ComponentInternerImpl(final int capacity) {
+    final int size = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+    this.components = new Component[size];
+    this.styles = new Style[size];
+    this.mask = size - 1;
+  }
+
+  @Override
+  public @NotNull Component intern(final @NotNull Component component) {
+    final int hash = component.hashCode();
+    final int slot = this.slot(hash);
+    final Component existing = this.components[slot];
+    if (existing == component || (existing != null && existing.hashCode() == hash && existing.equals(component))) {
+      return existing;
+    }
+    final Component interned = this.internParts(component);
+    this.components[slot] = interned;
+    return interned;
+  }
+
+  @Override
+  public @NotNull Style intern(final @NotNull Style style) {
+    if (style.isEmpty()) return Style.empty();
+    final int hash = style.hashCode();
+    final int slot = this.slot(hash);
+    final Style existing = this.styles[slot];
+    if (existing == style || (existing != null && existing.hashCode() == hash && existing.equals(style))) {
+      return existing;
+    }
+    Style interned = style;
+    final HoverEvent<?> hoverEvent = style.hoverEvent();
+    if (hoverEvent != null && hoverEvent.action() == HoverEvent.Action.SHOW_TEXT) {
+      final Component text = (Component) hoverEvent.value();
+      final Component internedText = this.intern(text);
+      if (internedText != text) {
+        interned = interned.hoverEvent(HoverEvent.showText(internedText));
+      }
+    }
+    this.styles[slot] = interned;
+    return interned;
+  }
+
+  // interns everything a component refers to, only creating a new component if something was replaced
+  private @NotNull Component internParts(final @NotNull Component component) {
+    Component result = component;
+    final List<Component> children = this.internAll(component.children());
+    if (children != null) {
+      result = result.children(children);
+    }
+    final Style style = this.intern(component.style());
+    if (style != component.style()) {
+      result = result.style(style);
+    }
+    if (result instanceof TranslatableComponent) {
+      final List<TranslationArgument> arguments = this.internArguments(((TranslatableComponent) result).arguments());
+      if (arguments != null) {
+        result = ((TranslatableComponent) result).arguments(arguments);
+      }
+    }
+    return result;
+  }
+
+  private @Nullable List<Component> internAll(final @NotNull List<Component> components) {
+    List<Component> interned = null;
+    for (int i = 0, size = components.size(); i < size; i++) {
+      final Component component = components.get(i);
+      final Component internedComponent = this.intern(component);
+      if (internedComponent != component && interned == null) {
+        interned = new ArrayList<>(components);
+      }
+      if (interned != null) {
+        interned.set(i, internedComponent);
+      }
+    }
+    return interned;
+  }
+
+  private @Nullable List<TranslationArgument> internArguments(final @NotNull List<TranslationArgument> arguments) {
+    List<TranslationArgument> interned = null;
+    for (int i = 0, size = arguments.size(); i < size; i++) {
+      final TranslationArgument argument = arguments.get(i);
+      if (!(argument.value() instanceof Component)) continue;
+      final Component component = (Component) argument.value();
+      final Component internedComponent = this.intern(component);
+      if (internedComponent != component) {
+        if (interned == null) {
+          interned = new ArrayList<>(arguments);
+        }
+        interned.set(i, TranslationArgument.component(internedComponent));
+      }
+    }
+    return interned;
+  }
+
+  private int slot(final int hash) {
+    return (hash ^ (hash >>> 16)) & this.mask;
+  }
+}
@@ -113,8 +113,8 @@ final class ScoreComponentImpl extends AbstractComponent implements ScoreCompone
   }
 
   @Override
-  public int hashCode() {
-    int result = super.hashCode();
+  int computeHashCode() {
+    int result = super.computeHashCode();
     result = (31 * result) + this.name.hashCode();
     result = (31 * result) + this.objective.hashCode();
     result = (31 * result) + Objects.hashCode(this.value);
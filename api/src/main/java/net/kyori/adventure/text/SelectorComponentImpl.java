@@ -92,8 +92,8 @@ final class SelectorComponentImpl extends AbstractComponent implements SelectorC
   }
 
   @Override
-  public int hashCode() {
-    int result = super.hashCode();
+  int computeHashCode() {
+    int result = super.computeHashCode();
     result = (31 * result) + this.pattern.hashCode();
     result = (31 * result) + Objects.hashCode(this.separator);
     return result;
@@ -124,8 +124,8 @@ final class TranslatableComponentImpl extends AbstractComponent implements Trans
   }
 
   @Override
-  public int hashCode() {
-    int result = super.hashCode();
+  int computeHashCode() {
+    int result = super.computeHashCode();
     result = (31 * result) + this.key.hashCode();
     result = (31 * result) + Objects.hashCode(this.fallback);
     result = (31 * result) + this.args.hashCode();
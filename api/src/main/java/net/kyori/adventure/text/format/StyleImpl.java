@@ -48,6 +48,8 @@ final class StyleImpl implements Style {
   final @Nullable ClickEvent clickEvent;
   final @Nullable HoverEvent<?> hoverEvent;
   final @Nullable String insertion;
+  // lazily computed, 0 if not yet known
+  private int hash;
 
   StyleImpl(
     final @Nullable Key font,
@@ -264,6 +266,7 @@ final class StyleImpl implements Style {
     if (this == other) return true;
     if (!(other instanceof StyleImpl)) return false;
     final StyleImpl that = (StyleImpl) other;
+    if (this.hash != 0 && that.hash != 0 && this.hash != that.hash) return false;
     return Objects.equals(this.color, that.color)
       && this.decorations.equals(that.decorations)
       && Objects.equals(this.clickEvent, that.clickEvent)
@@ -274,12 +277,16 @@ final class StyleImpl implements Style {
 
   @Override
   public int hashCode() {
-    int result = Objects.hashCode(this.color);
-    result = (31 * result) + this.decorations.hashCode();
-    result = (31 * result) + Objects.hashCode(this.clickEvent);
-    result = (31 * result) + Objects.hashCode(this.hoverEvent);
-    result = (31 * result) + Objects.hashCode(this.insertion);
-    result = (31 * result) + Objects.hashCode(this.font);
+    int result = this.hash;
+    if (result == 0) {
+      result = Objects.hashCode(this.color);
+      result = (31 * result) + this.decorations.hashCode();
+      result = (31 * result) + Objects.hashCode(this.clickEvent);
+      result = (31 * result) + Objects.hashCode(this.hoverEvent);
+      result = (31 * result) + Objects.hashCode(this.insertion);
+      result = (31 * result) + Objects.hashCode(this.font);
+      this.hash = result;
+    }
     return result;
   }
 
@@ -23,7 +23,6 @@
  */
 package net.kyori.adventure.text.renderer;
 
-import java.text.AttributedCharacterIterator;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.List;
@@ -55,6 +54,13 @@ import static java.util.Objects.requireNonNull;
 /**
  * A component renderer that does server-side translation rendering.
  *
+ * <p>Components that do not {@link Component#containsTranslatable() contain} any translatable component, and translatable
+ * components whose key has no translation and whose contents did not change, are returned as-is.</p>
+ *
+ * <p>The structure of each {@link MessageFormat} is remembered by instance after it is first rendered, so a message
+ * format must not be changed (for example with {@link MessageFormat#applyPattern(String)}) once a translator has
+ * returned it.</p>
+ *
  * @param <C> the context type, usually {@link java.util.Locale}.
  * @since 4.0.0
  */
@@ -117,6 +123,7 @@ public abstract class TranslatableComponentRenderer<C> extends AbstractComponent
 
   @Override
   protected @NotNull Component renderBlockNbt(final @NotNull BlockNBTComponent component, final @NotNull C context) {
+    if (!component.containsTranslatable()) return component;
     final BlockNBTComponent.Builder builder = this.nbt(context, Component.blockNBT(), component)
       .pos(component.pos());
     return this.mergeStyleAndOptionallyDeepRender(component, builder, context);
@@ -124,6 +131,7 @@ public abstract class TranslatableComponentRenderer<C> extends AbstractComponent
 
   @Override
   protected @NotNull Component renderEntityNbt(final @NotNull EntityNBTComponent component, final @NotNull C context) {
+    if (!component.containsTranslatable()) return component;
     final EntityNBTComponent.Builder builder = this.nbt(context, Component.entityNBT(), component)
       .selector(component.selector());
     return this.mergeStyleAndOptionallyDeepRender(component, builder, context);
@@ -131,6 +139,7 @@ public abstract class TranslatableComponentRenderer<C> extends AbstractComponent
 
   @Override
   protected @NotNull Component renderStorageNbt(final @NotNull StorageNBTComponent component, final @NotNull C context) {
+    if (!component.containsTranslatable()) return component;
     final StorageNBTComponent.Builder builder = this.nbt(context, Component.storageNBT(), component)
       .storage(component.storage());
     return this.mergeStyleAndOptionallyDeepRender(component, builder, context);
@@ -149,6 +158,7 @@ public abstract class TranslatableComponentRenderer<C> extends AbstractComponent
 
   @Override
   protected @NotNull Component renderKeybind(final @NotNull KeybindComponent component, final @NotNull C context) {
+    if (!component.containsTranslatable()) return component;
     final KeybindComponent.Builder builder = Component.keybind().keybind(component.keybind());
     return this.mergeStyleAndOptionallyDeepRender(component, builder, context);
   }
@@ -156,6 +166,7 @@ public abstract class TranslatableComponentRenderer<C> extends AbstractComponent
   @Override
   @SuppressWarnings("deprecation")
   protected @NotNull Component renderScore(final @NotNull ScoreComponent component, final @NotNull C context) {
+    if (!component.containsTranslatable()) return component;
     final ScoreComponent.Builder builder = Component.score()
       .name(component.name())
       .objective(component.objective())
@@ -165,73 +176,114 @@ public abstract class TranslatableComponentRenderer<C> extends AbstractComponent
 
   @Override
   protected @NotNull Component renderSelector(final @NotNull SelectorComponent component, final @NotNull C context) {
+    if (!component.containsTranslatable()) return component;
     final SelectorComponent.Builder builder = Component.selector().pattern(component.pattern());
     return this.mergeStyleAndOptionallyDeepRender(component, builder, context);
   }
 
   @Override
   protected @NotNull Component renderText(final @NotNull TextComponent component, final @NotNull C context) {
+    if (!component.containsTranslatable()) return component;
     final TextComponent.Builder builder = Component.text().content(component.content());
     return this.mergeStyleAndOptionallyDeepRender(component, builder, context);
   }
 
   @Override
-  @SuppressWarnings("JdkObsolete") // MessageFormat requires StringBuffer in its api
   protected @NotNull Component renderTranslatable(final @NotNull TranslatableComponent component, final @NotNull C context) {
     final @Nullable MessageFormat format = this.translate(component.key(), component.fallback(), context);
     if (format == null) {
-      // we don't have a translation for this component, but the arguments or children
-      // of this component might need additional rendering
-
-      final TranslatableComponent.Builder builder = Component.translatable()
-        .key(component.key()).fallback(component.fallback());
-      if (!component.arguments().isEmpty()) {
-        final List<TranslationArgument> args = new ArrayList<>(component.arguments());
-        for (int i = 0, size = args.size(); i < size; i++) {
-          final TranslationArgument arg = args.get(i);
-          if (arg.value() instanceof Component) {
-            args.set(i, TranslationArgument.component(this.render(((Component) arg.value()), context)));
-          }
-        }
-        builder.arguments(args);
-      }
-      return this.mergeStyleAndOptionallyDeepRender(component, builder, context);
+      // we don't have a translation for this component, but the arguments, children
+      // or hover event of this component might need additional rendering
+      return this.renderContents(component, context);
     }
 
     final List<TranslationArgument> args = component.arguments();
+    final TranslationTemplate template = TranslationTemplate.of(format);
 
     final TextComponent.Builder builder = Component.text();
     this.mergeStyle(component, builder, context);
 
     // no arguments makes this render very simple
     if (args.isEmpty()) {
-      builder.content(format.format(null, new StringBuffer(), null).toString());
+      builder.content(template.text());
       return this.optionallyRenderChildrenAppendAndBuild(component.children(), builder, context);
     }
 
-    final Object[] nulls = new Object[args.size()];
-    final StringBuffer sb = format.format(nulls, new StringBuffer(), null);
-    final AttributedCharacterIterator it = format.formatToCharacterIterator(nulls);
-
-    while (it.getIndex() < it.getEndIndex()) {
-      final int end = it.getRunLimit();
-      final Integer index = (Integer) it.getAttribute(MessageFormat.Field.ARGUMENT);
-      if (index != null) {
-        final TranslationArgument arg = args.get(index);
-        if (arg.value() instanceof Component) {
-          builder.append(this.render(arg.asComponent(), context));
-        } else {
-          builder.append(arg.asComponent()); // todo: number rendering?
-        }
+    // arguments that were not provided are left as literal text, and merged with the text around them
+    String literal = null;
+    for (int i = 0, size = template.size(); i < size; i++) {
+      final int index = template.argument(i);
+      if (index == TranslationTemplate.NO_ARGUMENT || index >= args.size()) {
+        final String text = index == TranslationTemplate.NO_ARGUMENT ? template.literal(i) : "{" + index + "}";
+        literal = literal == null ? text : literal + text;
+        continue;
+      }
+      if (literal != null) {
+        builder.append(Component.text(literal));
+        literal = null;
+      }
+      final TranslationArgument arg = args.get(index);
+      if (arg.value() instanceof Component) {
+        builder.append(this.render(arg.asComponent(), context));
       } else {
-        builder.append(Component.text(sb.substring(it.getIndex(), end)));
+        builder.append(arg.asComponent()); // todo: number rendering?
       }
-      it.setIndex(end);
+    }
+    if (literal != null) {
+      builder.append(Component.text(literal));
     }
 
     return this.optionallyRenderChildrenAppendAndBuild(component.children(), builder, context);
   }
 
+  private @NotNull Component renderContents(final @NotNull TranslatableComponent component, final @NotNull C context) {
+    final List<TranslationArgument> args = this.renderArguments(component.arguments(), context);
+    final List<Component> children = this.renderChildren(component.children(), context);
+    final @Nullable HoverEvent<?> hoverEvent = component.hoverEvent();
+    final @Nullable HoverEvent<?> renderedHoverEvent = hoverEvent == null ? null : hoverEvent.withRenderedValue(this, context);
+    if (args == null && children == null && renderedHoverEvent == hoverEvent) return component;
+
+    final TranslatableComponent.Builder builder = Component.translatable()
+      .key(component.key()).fallback(component.fallback())
+      .arguments(args != null ? args : component.arguments());
+    this.mergeStyle(component, builder, context);
+    return builder.append(children != null ? children : component.children()).build();
+  }
+
+  // renders each argument, returning null if none of them changed
+  private @Nullable List<TranslationArgument> renderArguments(final @NotNull List<TranslationArgument> args, final @NotNull C context) {
+    List<TranslationArgument> rendered = null;
+    for (int i = 0, size = args.size(); i < size; i++) {
+      final TranslationArgument arg = args.get(i);
+      if (!(arg.value() instanceof Component)) continue;
+      final Component value = (Component) arg.value();
+      final Component renderedValue = this.render(value, context);
+      if (renderedValue != value) {
+        if (rendered == null) {
+          rendered = new ArrayList<>(args);
+        }
+        rendered.set(i, TranslationArgument.component(renderedValue));
+      }
+    }
+    return rendered;
+  }
+
+  // renders each child, returning null if none of them changed
+  private @Nullable List<Component> renderChildren(final @NotNull List<Component> children, final @NotNull C context) {
+    List<Component> rendered = null;
+    for (int i = 0, size = children.size(); i < size; i++) {
+      final Component child = children.get(i);
+      final Component renderedChild = this.render(child, context);
+      if (renderedChild != child && rendered == null) {
+        rendered = new ArrayList<>(children);
+      }
+      if (rendered != null) {
+        rendered.set(i, renderedChild);
+      }
+    }
+    return rendered;
+  }
+
   protected <O extends BuildableComponent<O, B>, B extends ComponentBuilder<O, B>> O mergeStyleAndOptionallyDeepRender(final Component component, final B builder, final C context) {
     this.mergeStyle(component, builder, context);
     return this.optionallyRenderChildrenAppendAndBuild(component.children(), builder, context);
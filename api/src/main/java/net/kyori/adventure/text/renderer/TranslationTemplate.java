@@ -0,0 +1,146 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.renderer;
+
+import java.text.AttributedCharacterIterator;
+import java.text.CharacterIterator;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A {@link MessageFormat} compiled into literal text and argument slots.
+ *
+ * <p>Translations are rendered with {@code null} arguments, so that the arguments can be replaced by components
+ * afterwards. With {@code null} arguments, the output of a message format does not depend on the formats of its
+ * arguments, which means it only needs to be formatted once.</p>
+ */
+final class TranslationTemplate {
+  static final int NO_ARGUMENT = -1;
+  private static final int CACHE_SIZE = 1024;
+  // keyed by identity, as translators usually return the same format instance every time. Message formats are
+  // mutable, but changing one after it has been returned by a translator is not supported, see TranslatableComponentRenderer
+  private static final TranslationTemplate[] CACHE = new TranslationTemplate[CACHE_SIZE];
+
+  private final MessageFormat format;
+  private final String[] literals;
+  private final int[] arguments;
+  private final String text;
+
+  private TranslationTemplate(final MessageFormat format, final String[] literals, final int[] arguments, final String text) {
+    this.format = format;
+    this.literals = literals;
+    this.arguments = arguments;
+    this.text = text;
+  }
+
+  /**
+   * Gets the template for a message format, compiling it if it has not been compiled recently.
+   *
+   * @param format the message format
+   * @return the template
+   */
+  static @NotNull TranslationTemplate of(final @NotNull MessageFormat format) {
+    final int hash = System.identityHashCode(format);
+    final int slot = (hash ^ (hash >>> 16)) & (CACHE_SIZE - 1);
+    final TranslationTemplate cached = CACHE[slot];
+    if (cached != null && cached.format == format) {
+      return cached;
+    }
+    final TranslationTemplate template = compile(format);
+    CACHE[slot] = template;
+    return template;
+  }
+
+  @SuppressWarnings("JdkObsolete") // MessageFormat requires StringBuffer in its api
+  static @NotNull TranslationTemplate compile(final @NotNull MessageFormat format) {
+    final int count = format.getFormatsByArgumentIndex().length;
+    final AttributedCharacterIterator it = format.formatToCharacterIterator(new Object[count]);
+    final List<String> literals = new ArrayList<>();
+    final List<Integer> arguments = new ArrayList<>();
+    final StringBuilder literal = new StringBuilder();
+    while (it.getIndex() < it.getEndIndex()) {
+      final int end = it.getRunLimit();
+      final Integer index = (Integer) it.getAttribute(MessageFormat.Field.ARGUMENT);
+      if (index != null) {
+        literals.add(null);
+        arguments.add(index);
+        it.setIndex(end);
+      } else {
+        for (char c = it.current(); it.getIndex() < end && c != CharacterIterator.DONE; c = it.next()) {
+          literal.append(c);
+        }
+        literals.add(literal.toString());
+        arguments.add(NO_ARGUMENT);
+        literal.setLength(0);
+      }
+    }
+    final int[] argumentArray = new int[arguments.size()];
+    for (int i = 0; i < argumentArray.length; i++) {
+      argumentArray[i] = arguments.get(i);
+    }
+    final String text = format.format(null, new StringBuffer(), null).toString();
+    return new TranslationTemplate(format, literals.toArray(new String[0]), argumentArray, text);
+  }
+
+  /**
+   * Gets the number of parts.
+   *
+   * @return the number of parts
+   */
+  int size() {
+    return this.arguments.length;
+  }
+
+  /**
+   * Gets the argument index of a part.
+   *
+   * @param part the part
+   * @return the argument index, or {@link #NO_ARGUMENT} if the part is literal text
+   */
+  int argument(final int part) {
+    return this.arguments[part];
+  }
+
+  /**
+   * Gets the literal text of a part.
+   *
+   * @param part the part
+   * @return the literal text, or {@code null} if the part is an argument
+   */
+  String literal(final int part) {
+    return this.literals[part];
+  }
+
+  /**
+   * Gets the text of the whole template when there are no arguments, which is the same as formatting the message format
+   * with a {@code null} argument array.
+   *
+   * @return the text
+   */
+  @NotNull String text() {
+    return this.text;
+  }
+}
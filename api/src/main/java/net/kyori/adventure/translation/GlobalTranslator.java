@@ -78,13 +78,15 @@ public interface GlobalTranslator extends Translator, Examinable {
   /**
    * Renders a component using the {@link #renderer() global renderer}.
    *
+   * <p>Rendered components may be served from the {@link #renderCache() render cache}.</p>
+   *
    * @param component the component to render
    * @param locale the locale to use when rendering
    * @return the rendered component
    * @since 4.0.0
    */
   static @NotNull Component render(final @NotNull Component component, final @NotNull Locale locale) {
-    return renderer().render(component, locale);
+    return GlobalTranslatorImpl.INSTANCE.render(component, locale);
   }
 
   /**
@@ -115,4 +117,52 @@ public interface GlobalTranslator extends Translator, Examinable {
    * @since 4.0.0
    */
   boolean removeSource(final @NotNull Translator source);
+
+  /**
+   * Gets the cache used by {@link #render(Component, Locale)}.
+   *
+   * @return the render cache
+   * @since 4.18.0
+   */
+  default @NotNull RenderCache renderCache() {
+    return GlobalTranslatorImpl.INSTANCE.renderCache();
+  }
+
+  /**
+   * A bounded cache of components rendered by {@link #render(Component, Locale)}, for each locale.
+   *
+   * <p>Rendering the same component for many audiences that share a locale only renders it once. Equal components
+   * share cached results, and components that do not {@link Component#containsTranslatable() contain} anything to
+   * translate are never cached.</p>
+   *
+   * <p>The cache is cleared whenever a source is added or removed, or when a {@link TranslationRegistry} that is a
+   * source changes. As other {@link Translator} implementations cannot report changes, the cache is only used while
+   * every source is a {@link TranslationRegistry} created by {@link TranslationRegistry#create(net.kyori.adventure.key.Key)}.</p>
+   *
+   * @since 4.18.0
+   */
+  interface RenderCache {
+    /**
+     * Removes all cached components.
+     *
+     * @since 4.18.0
+     */
+    void invalidate();
+
+    /**
+     * Gets the number of renders that were served from the cache.
+     *
+     * @return the number of hits
+     * @since 4.18.0
+     */
+    long hits();
+
+    /**
+     * Gets the number of renders that could have been, but were not, served from the cache.
+     *
+     * @return the number of misses
+     * @since 4.18.0
+     */
+    long misses();
+  }
 }
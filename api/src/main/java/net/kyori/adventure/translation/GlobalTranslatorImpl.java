@@ -24,10 +24,17 @@
 package net.kyori.adventure.translation;
 
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.text.Component;
@@ -45,6 +52,15 @@ final class GlobalTranslatorImpl implements GlobalTranslator {
   static final GlobalTranslatorImpl INSTANCE = new GlobalTranslatorImpl();
   final TranslatableComponentRenderer<Locale> renderer = TranslatableComponentRenderer.usingTranslationSource(this);
   private final Set<Translator> sources = Collections.newSetFromMap(new ConcurrentHashMap<>());
+  private final RenderCacheImpl renderCache = new RenderCacheImpl();
+  private final Consumer<TranslationRegistryImpl> sourceListener = this::sourceChanged;
+  // whether every source reports its changes, so that rendered components can be cached
+  private volatile boolean cacheable = true;
+  // incremented whenever the sources or their keys change, making the current index stale
+  private final AtomicInteger generation = new AtomicInteger();
+  private volatile @Nullable Index index;
+  // the global locale the render cache was filled under
+  private volatile @Nullable Locale globalLocale;
 
   private GlobalTranslatorImpl() {
   }
@@ -63,18 +79,83 @@ final class GlobalTranslatorImpl implements GlobalTranslator {
   public boolean addSource(final @NotNull Translator source) {
     requireNonNull(source, "source");
     if (source == this) throw new IllegalArgumentException("GlobalTranslationSource");
-    return this.sources.add(source);
+    final boolean added = this.sources.add(source);
+    if (added) {
+      if (source instanceof TranslationRegistryImpl) ((TranslationRegistryImpl) source).addListener(this.sourceListener);
+      this.sourcesChanged();
+    }
+    return added;
   }
 
   @Override
   public boolean removeSource(final @NotNull Translator source) {
     requireNonNull(source, "source");
-    return this.sources.remove(source);
+    final boolean removed = this.sources.remove(source);
+    if (removed) {
+      if (source instanceof TranslationRegistryImpl) ((TranslationRegistryImpl) source).removeListener(this.sourceListener);
+      this.sourcesChanged();
+    }
+    return removed;
+  }
+
+  private void sourcesChanged() {
+    boolean cacheable = true;
+    for (final Translator source : this.sources) {
+      if (!(source instanceof TranslationRegistryImpl)) {
+        cacheable = false;
+        break;
+      }
+    }
+    this.cacheable = cacheable;
+    this.generation.incrementAndGet();
+    this.renderCache.invalidate();
+  }
+
+  private void sourceChanged(final @NotNull Translator source) {
+    // by identity, as registries compare all of their translations in equals(), and an equal registry may have been removed in its place
+    for (final Translator existing : this.sources) {
+      if (existing == source) {
+        this.generation.incrementAndGet();
+        this.renderCache.invalidate();
+        return;
+      }
+    }
+  }
+
+  @Override
+  public @NotNull RenderCache renderCache() {
+    return this.renderCache;
+  }
+
+  @NotNull Component render(final @NotNull Component component, final @NotNull Locale locale) {
+    if (!this.cacheable || !component.containsTranslatable()) {
+      return this.renderer.render(component, locale);
+    }
+    // registries fall back to the global locale, which may follow the system locale, so a change makes every render stale.
+    // Registries notice it themselves, but only when they translate, which a cached render skips.
+    final Locale globalLocale = TranslationLocales.global();
+    if (globalLocale != this.globalLocale) {
+      this.globalLocale = globalLocale;
+      this.renderCache.invalidate();
+    }
+    return this.renderCache.render(this.renderer, component, locale);
+  }
+
+  // the index is rebuilt lazily, so that registering many translations at once does not rebuild it each time
+  private @NotNull Index index() {
+    final int generation = this.generation.get();
+    Index index = this.index;
+    if (index == null || index.generation != generation) {
+      index = new Index(generation, this.sources);
+      this.index = index;
+    }
+    return index;
   }
 
   @Override
   public @NotNull TriState hasAnyTranslations() {
-    if (!this.sources.isEmpty()) {
+    final Index index = this.index();
+    if (!index.routes.isEmpty() || index.opaque.length != 0) {
       return TriState.TRUE;
     }
     return TriState.FALSE;
@@ -84,7 +165,15 @@ final class GlobalTranslatorImpl implements GlobalTranslator {
   public @Nullable MessageFormat translate(final @NotNull String key, final @NotNull Locale locale) {
     requireNonNull(key, "key");
     requireNonNull(locale, "locale");
-    for (final Translator source : this.sources) {
+    final Index index = this.index();
+    final TranslationRegistryImpl[] registries = index.routes.get(key);
+    if (registries != null) {
+      for (final TranslationRegistryImpl registry : registries) {
+        final MessageFormat translation = registry.translate(key, locale);
+        if (translation != null) return translation;
+      }
+    }
+    for (final Translator source : index.opaque) {
       final MessageFormat translation = source.translate(key, locale);
       if (translation != null) return translation;
     }
@@ -95,7 +184,8 @@ final class GlobalTranslatorImpl implements GlobalTranslator {
   public @Nullable Component translate(final @NotNull TranslatableComponent component, final @NotNull Locale locale) {
     requireNonNull(component, "component");
     requireNonNull(locale, "locale");
-    for (final Translator source : this.sources) {
+    // registries only provide message formats
+    for (final Translator source : this.index().opaque) {
       final Component translation = source.translate(component, locale);
       if (translation != null) return translation;
     }
@@ -104,6 +194,44 @@ final class GlobalTranslatorImpl implements GlobalTranslator {
 
   @Override
   public @NotNull Stream<? extends ExaminableProperty> examinableProperties() {
-    return Stream.of(ExaminableProperty.of("sources", this.sources));
+    return Stream.of(
+      ExaminableProperty.of("sources", this.sources),
+      ExaminableProperty.of("renderCache", this.renderCache)
+    );
+  }
+
+  /**
+   * Routes each translation key to the registries that contain it.
+   *
+   * <p>Other translators cannot tell which keys they contain, and are asked for every key.</p>
+   */
+  private static final class Index {
+    final int generation;
+    final Map<String, TranslationRegistryImpl[]> routes = new HashMap<>();
+    final Translator[] opaque;
+
+    Index(final int generation, final Set<Translator> sources) {
+      this.generation = generation;
+      final List<Translator> opaque = new ArrayList<>();
+      for (final Translator source : sources) {
+        if (source instanceof TranslationRegistryImpl) {
+          final TranslationRegistryImpl registry = (TranslationRegistryImpl) source;
+          for (final String key : registry.keys()) {
+            final TranslationRegistryImpl[] existing = this.routes.get(key);
+            if (existing == null) {
+              this.routes.put(key, new TranslationRegistryImpl[] {registry});
+            } else {
+              // the same key may be registered for different locales in multiple registries
+              final TranslationRegistryImpl[] registries = Arrays.copyOf(existing, existing.length + 1);
+              registries[existing.length] = registry;
+              this.routes.put(key, registries);
+            }
+          }
+        } else {
+          opaque.add(source);
+        }
+      }
+      this.opaque = opaque.toArray(new Translator[0]);
+    }
   }
 }
@@ -0,0 +1,118 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.translation;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+import net.kyori.adventure.internal.Internals;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.renderer.TranslatableComponentRenderer;
+import net.kyori.examination.Examinable;
+import net.kyori.examination.ExaminableProperty;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A render cache made of a fixed-size, direct-mapped table for each locale.
+ *
+ * <p>Each rendered component is stored in the slot selected by the hash code of the component it was rendered from,
+ * replacing whichever entry was there before. An entry keeps the source component next to its rendering, and is only
+ * used when that source equals the component being rendered, so a slot never answers for a different component.</p>
+ *
+ * <p>The result of a render only depends on the translations registered when it ran. Invalidating the cache therefore
+ * drops the tables instead of clearing them: a render that was in progress stores its possibly stale result in a table
+ * that is no longer reachable, and the next render for that locale starts from an empty table.</p>
+ */
+final class RenderCacheImpl implements GlobalTranslator.RenderCache, Examinable {
+  static final int LOCALE_CAPACITY = 512;
+  // locales are often supplied by clients, so the number of tables is bounded too
+  static final int MAXIMUM_LOCALES = 64;
+
+  private final Map<Locale, Entry[]> locales = new ConcurrentHashMap<>();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  @NotNull Component render(final @NotNull TranslatableComponentRenderer<Locale> renderer, final @NotNull Component component, final @NotNull Locale locale) {
+    Entry[] entries = this.locales.get(locale);
+    if (entries == null) {
+      if (this.locales.size() >= MAXIMUM_LOCALES) {
+        this.misses.increment();
+        return renderer.render(component, locale);
+      }
+      entries = this.locales.computeIfAbsent(locale, key -> new Entry[LOCALE_CAPACITY]);
+    }
+    final int hash = component.hashCode();
+    final int slot = (hash ^ (hash >>> 16)) & (LOCALE_CAPACITY - 1);
+    final Entry entry = entries[slot];
+    if (entry != null && (entry.component == component || (entry.component.hashCode() == hash && entry.component.equals(component)))) {
+      this.hits.increment();
+      return entry.rendered;
+    }
+    this.misses.increment();
+    final Component rendered = renderer.render(component, locale);
+    entries[slot] = new Entry(component, rendered);
+    return rendered;
+  }
+
+  @Override
+  public void invalidate() {
+    this.locales.clear();
+  }
+
+  @Override
+  public long hits() {
+    return this.hits.sum();
+  }
+
+  @Override
+  public long misses() {
+    return this.misses.sum();
+  }
+
+  @Override
+  public @NotNull Stream<? extends ExaminableProperty> examinableProperties() {
+    return Stream.of(
+      ExaminableProperty.of("locales", this.locales.keySet()),
+      ExaminableProperty.of("hits", this.hits()),
+      ExaminableProperty.of("misses", this.misses())
+    );
+  }
+
+  @Override
+  public String toString() {
+    return Internals.toString(this);
+  }
+
+  private static final class Entry {
+    final Component component;
+    final Component rendered;
+
+    Entry(final Component component, final Component rendered) {
+      this.component = component;
+      this.rendered = rendered;
+    }
+  }
+}
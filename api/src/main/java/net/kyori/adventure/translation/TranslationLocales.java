@@ -27,19 +27,20 @@ import java.util.Locale;
 import java.util.function.Supplier;
 import net.kyori.adventure.internal.properties.AdventureProperties;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.VisibleForTesting;
 
 final class TranslationLocales {
-  private static final Supplier<Locale> GLOBAL;
+  private static volatile Supplier<Locale> global;
 
   static {
     final @Nullable String property = AdventureProperties.DEFAULT_TRANSLATION_LOCALE.value();
     if (property == null || property.isEmpty()) {
-      GLOBAL = () -> Locale.US;
+      global = () -> Locale.US;
     } else if (property.equals("system")) {
-      GLOBAL = Locale::getDefault;
+      global = Locale::getDefault;
     } else {
       final Locale locale = Translator.parseLocale(property);
-      GLOBAL = () -> locale;
+      global = () -> locale;
     }
   }
 
@@ -47,6 +48,14 @@ final class TranslationLocales {
   }
 
   static Locale global() {
-    return GLOBAL.get();
+    return global.get();
+  }
+
+  // replaces how the global locale is found, returning the previous supplier
+  @VisibleForTesting
+  static Supplier<Locale> global(final Supplier<Locale> supplier) {
+    final Supplier<Locale> previous = global;
+    global = supplier;
+    return previous;
   }
 }
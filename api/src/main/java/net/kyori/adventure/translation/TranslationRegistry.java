@@ -108,6 +108,8 @@ public interface TranslationRegistry extends Translator {
    *   registry.register("example.hello", Locale.US, new MessageFormat("Hi, {0}. How are you?"));
    * </pre>
    *
+   * <p>Renderers remember the structure of the format after rendering it, so it must not be changed once registered.</p>
+   *
    * @param key a translation key
    * @param locale a locale
    * @param format a translation format
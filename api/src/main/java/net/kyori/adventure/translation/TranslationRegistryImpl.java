@@ -24,10 +24,15 @@
 package net.kyori.adventure.translation;
 
 import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import net.kyori.adventure.internal.Internals;
 import net.kyori.adventure.key.Key;
@@ -40,9 +45,19 @@ import org.jetbrains.annotations.Nullable;
 import static java.util.Objects.requireNonNull;
 
 final class TranslationRegistryImpl implements Examinable, TranslationRegistry {
+  // locales are often supplied by clients, so the number of locales resolved ahead of time is bounded
+  static final int MAXIMUM_CACHED_LOCALES = 64;
+  // marks a locale for which a translation has no format
+  private static final MessageFormat MISSING = new MessageFormat("");
+
   private final Key name;
   private final Map<String, Translation> translations = new ConcurrentHashMap<>();
-  private Locale defaultLocale = Locale.US; // en_us
+  private volatile Locale defaultLocale = Locale.US; // en_us
+  // the locales to try, in order, for each locale that has been looked up
+  private volatile Map<Locale, Locale[]> fallbacks = new ConcurrentHashMap<>();
+  private volatile Locale globalLocale = TranslationLocales.global();
+  // notified when translations or the default locale change, such as the global translator while this is one of its sources
+  private final List<Consumer<? super TranslationRegistryImpl>> listeners = new CopyOnWriteArrayList<>();
 
   TranslationRegistryImpl(final Key name) {
     this.name = name;
@@ -51,11 +66,28 @@ final class TranslationRegistryImpl implements Examinable, TranslationRegistry {
   @Override
   public void register(final @NotNull String key, final @NotNull Locale locale, final @NotNull MessageFormat format) {
     this.translations.computeIfAbsent(key, Translation::new).register(locale, format);
+    this.changed();
   }
 
   @Override
   public void unregister(final @NotNull String key) {
-    this.translations.remove(key);
+    if (this.translations.remove(key) != null) {
+      this.changed();
+    }
+  }
+
+  void addListener(final @NotNull Consumer<? super TranslationRegistryImpl> listener) {
+    this.listeners.add(listener);
+  }
+
+  void removeListener(final @NotNull Consumer<? super TranslationRegistryImpl> listener) {
+    this.listeners.remove(listener);
+  }
+
+  private void changed() {
+    for (final Consumer<? super TranslationRegistryImpl> listener : this.listeners) {
+      listener.accept(this);
+    }
   }
 
   @Override
@@ -68,6 +100,10 @@ final class TranslationRegistryImpl implements Examinable, TranslationRegistry {
     return this.translations.containsKey(key);
   }
 
+  @NotNull Set<String> keys() {
+    return this.translations.keySet();
+  }
+
   @Override
   public @NotNull TriState hasAnyTranslations() {
     if (!this.translations.isEmpty()) {
@@ -80,12 +116,58 @@ final class TranslationRegistryImpl implements Examinable, TranslationRegistry {
   public @Nullable MessageFormat translate(final @NotNull String key, final @NotNull Locale locale) {
     final Translation translation = this.translations.get(key);
     if (translation == null) return null;
+    final Locale globalLocale = TranslationLocales.global();
+    if (globalLocale != this.globalLocale) {
+      // only when the global locale follows the system locale
+      this.globalLocale = globalLocale;
+      this.fallbacksChanged();
+      this.changed();
+    }
     return translation.translate(locale);
   }
 
   @Override
   public void defaultLocale(final @NotNull Locale defaultLocale) {
     this.defaultLocale = requireNonNull(defaultLocale, "defaultLocale");
+    this.fallbacksChanged();
+    this.changed();
+  }
+
+  private void fallbacksChanged() {
+    this.fallbacks = new ConcurrentHashMap<>();
+    for (final Translation translation : this.translations.values()) {
+      translation.formatsChanged();
+    }
+  }
+
+  /**
+   * Gets the locales to try when looking up a translation for {@code locale}.
+   *
+   * <p>These are the locale itself, the locale without its country, the default locale of this registry,
+   * and the {@link TranslationLocales#global() global default locale}, without duplicates.</p>
+   *
+   * @param locale the locale
+   * @return the locales to try, in order
+   */
+  private Locale @NotNull[] fallbacks(final @NotNull Locale locale) {
+    final Map<Locale, Locale[]> fallbacks = this.fallbacks;
+    Locale[] chain = fallbacks.get(locale);
+    if (chain == null) {
+      final Locale[] candidates = {locale, new Locale(locale.getLanguage()), this.defaultLocale, this.globalLocale};
+      int length = 0;
+      candidates:
+      for (final Locale candidate : candidates) {
+        for (int i = 0; i < length; i++) {
+          if (candidates[i].equals(candidate)) continue candidates;
+        }
+        candidates[length++] = candidate;
+      }
+      chain = Arrays.copyOf(candidates, length);
+      if (fallbacks.size() < MAXIMUM_CACHED_LOCALES) {
+        fallbacks.put(locale, chain);
+      }
+    }
+    return chain;
   }
 
   @Override
@@ -118,6 +200,8 @@ final class TranslationRegistryImpl implements Examinable, TranslationRegistry {
   final class Translation implements Examinable {
     private final String key;
     private final Map<Locale, MessageFormat> formats;
+    // the format to use for each locale that has been looked up, after falling back
+    private volatile Map<Locale, MessageFormat> resolved = new ConcurrentHashMap<>();
 
     Translation(final @NotNull String key) {
       this.key = requireNonNull(key, "translation key");
@@ -128,20 +212,31 @@ final class TranslationRegistryImpl implements Examinable, TranslationRegistry {
       if (this.formats.putIfAbsent(requireNonNull(locale, "locale"), requireNonNull(format, "message format")) != null) {
         throw new IllegalArgumentException(String.format("Translation already exists: %s for %s", this.key, locale));
       }
+      this.formatsChanged();
+    }
+
+    // lookups that are in progress store their results in the old map, which is no longer reachable
+    void formatsChanged() {
+      this.resolved = new ConcurrentHashMap<>();
     }
 
     @Nullable MessageFormat translate(final @NotNull Locale locale) {
-      MessageFormat format = this.formats.get(requireNonNull(locale, "locale"));
+      final Map<Locale, MessageFormat> resolved = this.resolved;
+      MessageFormat format = resolved.get(requireNonNull(locale, "locale"));
       if (format == null) {
-        format = this.formats.get(new Locale(locale.getLanguage())); // try without country
-        if (format == null) {
-          format = this.formats.get(TranslationRegistryImpl.this.defaultLocale); // try local default locale
-          if (format == null) {
-            format = this.formats.get(TranslationLocales.global()); // try global default locale
+        format = MISSING;
+        for (final Locale candidate : TranslationRegistryImpl.this.fallbacks(locale)) {
+          final MessageFormat candidateFormat = this.formats.get(candidate);
+          if (candidateFormat != null) {
+            format = candidateFormat;
+            break;
           }
         }
+        if (resolved.size() < MAXIMUM_CACHED_LOCALES) {
+          resolved.put(locale, format);
+        }
       }
-      return format;
+      return format == MISSING ? null : format;
     }
 
     @Override
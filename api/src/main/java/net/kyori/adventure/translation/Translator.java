@@ -95,6 +95,9 @@ public interface Translator {
    * <p>When used in the {@link GlobalTranslator}, this method is called only if
    * {@link #translate(TranslatableComponent, Locale)} returns {@code null}.</p>
    *
+   * <p>Renderers may remember the structure of a returned format, so it should not be changed afterwards.
+   * Return a new format instead.</p>
+   *
    * @param locale a locale
    * @param key a translation key
    * @return a message format or {@code null} to skip translation
@@ -60,6 +60,19 @@ abstract class AbstractComponentTest<C extends BuildableComponent<C, B> & Scoped
     assertSame(Style.empty(), c0.style());
   }
 
+  @Test
+  void testEqualityAfterHashing() {
+    final C c0 = this.buildOne().children(Collections.singletonList(Component.text("foo")));
+    final C c1 = this.buildOne().children(Collections.singletonList(Component.text("foo")));
+    final C c2 = this.buildOne().children(Collections.singletonList(Component.text("bar")));
+    assertEquals(c0.hashCode(), c1.hashCode());
+    assertEquals(c0.hashCode(), c0.hashCode());
+    assertTrue(c2.hashCode() != c0.hashCode());
+    assertEquals(c0, c1);
+    assertFalse(c0.equals(c2));
+    assertFalse(c2.equals(c0));
+  }
+
   @Test
   void testChildren() {
     final C c0 = this.buildOne();
@@ -28,6 +28,7 @@ import net.kyori.adventure.key.Key;
 import net.kyori.adventure.text.event.HoverEvent;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 // https://github.com/KyoriPowered/adventure/issues/363
@@ -67,4 +68,15 @@ class ComponentContainsTest {
     assertTrue(c1.contains(c0));
     assertTrue(c1.contains(Component.text("Joe Ray"), Component.EQUALS));
   }
+
+  @Test
+  public void testContainsTranslatable() {
+    assertFalse(Component.text("a").append(Component.text("b").hoverEvent(Component.text("c"))).containsTranslatable());
+    assertTrue(Component.translatable("a").containsTranslatable());
+    assertTrue(Component.text("a").append(Component.text("b").append(Component.translatable("c"))).containsTranslatable());
+    assertTrue(Component.text("a").hoverEvent(Component.translatable("b")).containsTranslatable());
+    assertTrue(Component.text("a").hoverEvent(HoverEvent.showEntity(Key.key("pig"), UUID.randomUUID(), Component.translatable("b"))).containsTranslatable());
+    assertTrue(Component.selector("@p", Component.translatable("a")).containsTranslatable());
+    assertTrue(Component.storageNBT().nbtPath("a").storage(Key.key("b")).separator(Component.translatable("c")).build().containsTranslatable());
+  }
 }
@@ -0,0 +1,96 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text;
+
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ComponentInternerTest {
+  private static Component prefix() {
+    return Component.text()
+      .content("[")
+      .color(NamedTextColor.GRAY)
+      .append(Component.text("Admin", NamedTextColor.RED, TextDecoration.BOLD))
+      .append(Component.text("] "))
+      .build();
+  }
+
+  @Test
+  void testIntern() {
+    final ComponentInterner interner = ComponentInterner.componentInterner();
+    final Component first = prefix();
+    final Component second = prefix();
+    assertNotSame(first, second);
+    final Component interned = interner.intern(first);
+    assertEquals(first, interned);
+    assertSame(interned, interner.intern(second));
+    assertSame(interned, interner.intern(interned));
+  }
+
+  @Test
+  void testSharedSubtrees() {
+    final ComponentInterner interner = ComponentInterner.componentInterner();
+    final Component a = interner.intern(Component.text("a").append(prefix()));
+    final Component b = interner.intern(Component.text("b").append(prefix()));
+    assertSame(a.children().get(0), b.children().get(0));
+    assertSame(a.children().get(0).children().get(0).style(), b.children().get(0).children().get(0).style());
+  }
+
+  @Test
+  void testArgumentsAndHoverText() {
+    final ComponentInterner interner = ComponentInterner.componentInterner();
+    final Component translatable = interner.intern(Component.translatable("chat.type.text", prefix(), Component.text("hi")));
+    final Component hover = interner.intern(Component.text("x").hoverEvent(HoverEvent.showText(prefix())));
+    assertSame(((TranslatableComponent) translatable).arguments().get(0).asComponent(), hover.hoverEvent().value());
+  }
+
+  @Test
+  void testStyle() {
+    final ComponentInterner interner = ComponentInterner.componentInterner();
+    final Style style = interner.intern(Style.style(NamedTextColor.RED, TextDecoration.BOLD));
+    assertSame(style, interner.intern(Style.style(NamedTextColor.RED, TextDecoration.BOLD)));
+    assertSame(Style.empty(), interner.intern(Style.style().build()));
+  }
+
+  @Test
+  void testReplacement() {
+    final ComponentInterner interner = ComponentInterner.componentInterner(1);
+    for (int i = 0; i < 64; i++) {
+      final Component component = Component.text(i);
+      assertEquals(component, interner.intern(component));
+    }
+    assertEquals(prefix(), interner.intern(prefix()));
+    assertThrows(IllegalArgumentException.class, () -> ComponentInterner.componentInterner(0));
+    assertThrows(IllegalArgumentException.class, () -> ComponentInterner.componentInterner((1 << 30) + 1));
+    assertThrows(IllegalArgumentException.class, () -> ComponentInterner.componentInterner(Integer.MAX_VALUE));
+  }
+}
@@ -25,6 +25,7 @@ package net.kyori.adventure.translation;
 
 import java.text.MessageFormat;
 import java.util.Locale;
+import java.util.function.Supplier;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.TranslatableComponent;
@@ -38,7 +39,9 @@ import org.junit.jupiter.params.provider.ValueSource;
 
 import static com.google.common.truth.Truth.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -103,6 +106,95 @@ class GlobalTranslatorTest {
     );
   }
 
+  @Test
+  void testRenderCache() {
+    final TranslationRegistry registry = TranslationRegistry.create(Key.key("adventure", "render_cache_test"));
+    registry.register("cached", Locale.US, new MessageFormat("Cached {0}"));
+    GlobalTranslator.translator().addSource(registry);
+    try {
+      final GlobalTranslator.RenderCache cache = GlobalTranslator.translator().renderCache();
+      final long hits = cache.hits();
+      final long misses = cache.misses();
+
+      final Component rendered = GlobalTranslator.render(Component.translatable("cached", Component.text("text")), Locale.US);
+      assertEquals(Component.text().append(Component.text("Cached ")).append(Component.text("text")).build(), rendered);
+      assertSame(rendered, GlobalTranslator.render(Component.translatable("cached", Component.text("text")), Locale.US));
+      assertEquals(hits + 1, cache.hits());
+      assertEquals(misses + 1, cache.misses());
+
+      // registries that are not sources do not clear the cache
+      TranslationRegistry.create(Key.key("adventure", "render_cache_unrelated")).register("cached", Locale.US, new MessageFormat("Unrelated {0}"));
+      assertSame(rendered, GlobalTranslator.render(Component.translatable("cached", Component.text("text")), Locale.US));
+
+      // nothing to translate, so nothing to cache
+      GlobalTranslator.render(Component.text("text"), Locale.US);
+      assertEquals(misses + 1, cache.misses());
+
+      registry.defaultLocale(Locale.US);
+      assertNotSame(rendered, GlobalTranslator.render(Component.translatable("cached", Component.text("text")), Locale.US));
+      assertEquals(misses + 2, cache.misses());
+
+      // results of other translators cannot be cached
+      GlobalTranslator.translator().addSource(DummyTranslator.INSTANCE);
+      GlobalTranslator.render(Component.translatable("cached"), Locale.US);
+      GlobalTranslator.render(Component.translatable("cached"), Locale.US);
+      assertEquals(hits + 2, cache.hits());
+      assertEquals(misses + 2, cache.misses());
+    } finally {
+      GlobalTranslator.translator().removeSource(registry);
+    }
+  }
+
+  @Test
+  void testRenderCacheFollowsGlobalLocale() {
+    final TranslationRegistry registry = TranslationRegistry.create(Key.key("adventure", "global_locale_test"));
+    registry.defaultLocale(Locale.GERMANY);
+    registry.register("global", Locale.US, new MessageFormat("Hello"));
+    registry.register("global", Locale.FRANCE, new MessageFormat("Bonjour"));
+    GlobalTranslator.translator().addSource(registry);
+    final Supplier<Locale> previous = TranslationLocales.global(() -> Locale.US);
+    try {
+      assertEquals(Component.text("Hello"), GlobalTranslator.render(Component.translatable("global"), Locale.JAPAN));
+      assertEquals(Component.text("Hello"), GlobalTranslator.render(Component.translatable("global"), Locale.JAPAN));
+
+      // as if the system locale had changed, with the global locale following it
+      TranslationLocales.global(() -> Locale.FRANCE);
+      assertEquals(Component.text("Bonjour"), GlobalTranslator.render(Component.translatable("global"), Locale.JAPAN));
+    } finally {
+      TranslationLocales.global(previous);
+      GlobalTranslator.translator().removeSource(registry);
+    }
+  }
+
+  @Test
+  void testTranslateIndexed() {
+    final TranslationRegistry english = TranslationRegistry.create(Key.key("adventure", "index_test_en"));
+    final TranslationRegistry german = TranslationRegistry.create(Key.key("adventure", "index_test_de"));
+    german.defaultLocale(Locale.GERMANY);
+    english.register("indexed", Locale.UK, new MessageFormat("Hello"));
+    german.register("indexed", Locale.GERMAN, new MessageFormat("Hallo"));
+    GlobalTranslator.translator().addSource(english);
+    GlobalTranslator.translator().addSource(german);
+    try {
+      assertEquals(new MessageFormat("Hello"), GlobalTranslator.translator().translate("indexed", Locale.UK));
+      assertEquals(new MessageFormat("Hallo"), GlobalTranslator.translator().translate("indexed", Locale.GERMANY));
+
+      // keys registered or removed after the registry was added
+      german.register("indexed.later", Locale.GERMAN, new MessageFormat("Später"));
+      assertEquals(new MessageFormat("Später"), GlobalTranslator.translator().translate("indexed.later", Locale.GERMANY));
+      german.unregister("indexed.later");
+      assertNull(GlobalTranslator.translator().translate("indexed.later", Locale.GERMANY));
+
+      // other translators are still asked
+      GlobalTranslator.translator().addSource(DummyTranslator.INSTANCE);
+      assertEquals(new MessageFormat("Hello {0}!"), GlobalTranslator.translator().translate("testDummy", Locale.US));
+    } finally {
+      GlobalTranslator.translator().removeSource(english);
+      GlobalTranslator.translator().removeSource(german);
+    }
+    assertNull(GlobalTranslator.translator().translate("indexed", Locale.UK));
+  }
+
   static class DummyTranslator implements Translator {
     static final DummyTranslator INSTANCE = new DummyTranslator();
 
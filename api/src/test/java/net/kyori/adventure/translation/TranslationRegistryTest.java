@@ -40,6 +40,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class TranslationRegistryTest {
@@ -75,6 +76,23 @@ class TranslationRegistryTest {
     assertEquals(expected, REGISTRY.translate("test", Locale.US));
   }
 
+  @Test
+  void testTranslate_fallbackChanges() {
+    final TranslationRegistry registry = TranslationRegistry.create(Key.key("adventure", "fallback_test"));
+    final MessageFormat german = new MessageFormat("Hallo", Locale.GERMAN);
+    registry.register("hello", Locale.GERMAN, german);
+    assertEquals(german, registry.translate("hello", Locale.GERMANY)); // "de_DE"
+    assertNull(registry.translate("hello", Locale.FRANCE));
+
+    registry.defaultLocale(Locale.GERMAN);
+    assertEquals(german, registry.translate("hello", Locale.FRANCE));
+
+    final MessageFormat french = new MessageFormat("Bonjour", Locale.FRENCH);
+    registry.register("hello", Locale.FRENCH, french);
+    assertEquals(french, registry.translate("hello", Locale.FRANCE));
+    assertEquals(german, registry.translate("hello", Locale.GERMANY));
+  }
+
   @Test
   void testTranslate_escapeQuotes() {
     assertEquals(new MessageFormat("{0} and ''{1}'' are cats.", Locale.US), REGISTRY.translate("cats", Locale.US));
@@ -169,6 +187,18 @@ class TranslationRegistryTest {
     );
   }
 
+  @Test
+  void testRender_missingArgument() {
+    assertEquals(
+      Component.text()
+        .append(Component.text("kashike"))
+        .append(Component.text(" and '{1}' are cats."))
+        .build(),
+      RENDERER.render(Component.translatable("cats", Component.text("kashike")), Locale.US)
+    );
+    assertEquals(Component.text("{0} and '{1}' are cats."), RENDERER.render(Component.translatable("cats"), Locale.US));
+  }
+
   @Test
   void testUnknownTranslatableWithKnownArgsAndChildren() {
     assertEquals(
@@ -198,6 +228,21 @@ class TranslationRegistryTest {
     );
   }
 
+  @Test
+  void testRender_unchangedIsSame() {
+    final Component text = Component.text("Hello ")
+      .append(Component.text("kashike", NamedTextColor.DARK_PURPLE).hoverEvent(Component.text("a cat")));
+    assertSame(text, RENDERER.render(text, Locale.US));
+
+    final Component unknown = Component.translatable("some.unknown.key", Component.text("kashike")).append(text);
+    assertSame(unknown, RENDERER.render(unknown, Locale.US));
+
+    final Component mixed = Component.text().append(text).append(Component.translatable("test")).build();
+    final Component rendered = RENDERER.render(mixed, Locale.US);
+    assertSame(text, rendered.children().get(0));
+    assertEquals(Component.text("This is a test."), rendered.children().get(1));
+  }
+
   @Test
   void testEquality() {
     new EqualsTester()
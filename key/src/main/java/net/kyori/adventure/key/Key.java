@@ -105,10 +105,28 @@ public interface Key extends Comparable<Key>, Examinable, Namespaced, Keyed {
    */
   @SuppressWarnings("PatternValidation") // impossible to validate since the character is variable
   static @NotNull Key key(final @NotNull String string, final char character) {
-    final int index = string.indexOf(character);
-    final String namespace = index >= 1 ? string.substring(0, index) : MINECRAFT_NAMESPACE;
-    final String value = index >= 0 ? string.substring(index + 1) : string;
-    return key(namespace, value);
+    return KeyImpl.parse(string, 0, string.length(), character);
+  }
+
+  /**
+   * Creates a key from a region of a character sequence.
+   *
+   * <p>This parses the characters from {@code start} to {@code end} the same way as {@link #key(String)}, without first copying
+   * the region into a separate string.</p>
+   *
+   * @param source the source
+   * @param start the index of the first character, inclusive
+   * @param end the index of the last character, exclusive
+   * @return the key
+   * @throws IndexOutOfBoundsException if {@code start} or {@code end} are out of bounds
+   * @throws InvalidKeyException if the namespace or value contains an invalid character
+   * @since 4.18.0
+   */
+  static @NotNull Key key(final @NotNull CharSequence source, final int start, final int end) {
+    if (start < 0 || end > source.length() || start > end) {
+      throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + source.length());
+    }
+    return KeyImpl.parse(source, start, end, DEFAULT_SEPARATOR);
   }
 
   /**
@@ -32,6 +32,7 @@ import java.util.stream.Stream;
 import net.kyori.examination.ExaminableProperty;
 import org.intellij.lang.annotations.RegExp;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import static java.util.Objects.requireNonNull;
 
@@ -43,6 +44,8 @@ final class KeyImpl implements Key {
 
   private final String namespace;
   private final String value;
+  private @Nullable String string;
+  private int hash;
 
   KeyImpl(final @NotNull String namespace, final @NotNull String value) {
     checkError("namespace", namespace, value, Key.checkNamespace(namespace));
@@ -51,6 +54,84 @@ final class KeyImpl implements Key {
     this.value = requireNonNull(value, "value");
   }
 
+  // the namespace and value must already have been validated
+  private KeyImpl(final @NotNull String namespace, final @NotNull String value, final @Nullable String string) {
+    this.namespace = namespace;
+    this.value = value;
+    this.string = string;
+  }
+
+  /**
+   * Parses a key from a region of {@code source}, without copying the region first.
+   *
+   * @param source the source
+   * @param start the index of the first character, inclusive
+   * @param end the index of the last character, exclusive
+   * @param separator the character that separates the namespace from the value
+   * @return the key
+   * @throws InvalidKeyException if the namespace or value contains an invalid character
+   */
+  static @NotNull KeyImpl parse(final @NotNull CharSequence source, final int start, final int end, final char separator) {
+    final int index = indexOf(source, start, end, separator);
+    final boolean namespaced = index > start;
+    final int valueStart = index >= 0 ? index + 1 : start;
+    final boolean valid = (!namespaced || allowedInNamespace(source, start, index)) && allowedInValue(source, valueStart, end);
+    final String namespace = namespaced ? namespace(source, start, index) : MINECRAFT_NAMESPACE;
+    final String value = source.subSequence(valueStart, end).toString();
+    if (!valid) {
+      return new KeyImpl(namespace, value); // throws with a descriptive message
+    }
+    return new KeyImpl(namespace, value, null);
+  }
+
+  /**
+   * Creates a key from an already validated namespace and value.
+   *
+   * @param namespace the namespace
+   * @param value the value
+   * @param string the canonical string form, if known
+   * @return the key
+   */
+  static @NotNull KeyImpl trusted(final @NotNull String namespace, final @NotNull String value, final @Nullable String string) {
+    return new KeyImpl(namespace, value, string);
+  }
+
+  static int indexOf(final @NotNull CharSequence source, final int start, final int end, final char character) {
+    for (int i = start; i < end; i++) {
+      if (source.charAt(i) == character) return i;
+    }
+    return -1;
+  }
+
+  private static @NotNull String namespace(final @NotNull CharSequence source, final int start, final int end) {
+    final int length = MINECRAFT_NAMESPACE.length();
+    if (end - start == length) {
+      boolean minecraft = true;
+      for (int i = 0; i < length; i++) {
+        if (source.charAt(start + i) != MINECRAFT_NAMESPACE.charAt(i)) {
+          minecraft = false;
+          break;
+        }
+      }
+      if (minecraft) return MINECRAFT_NAMESPACE;
+    }
+    return source.subSequence(start, end).toString();
+  }
+
+  static boolean allowedInNamespace(final @NotNull CharSequence source, final int start, final int end) {
+    for (int i = start; i < end; i++) {
+      if (!allowedInNamespace(source.charAt(i))) return false;
+    }
+    return true;
+  }
+
+  static boolean allowedInValue(final @NotNull CharSequence source, final int start, final int end) {
+    for (int i = start; i < end; i++) {
+      if (!allowedInValue(source.charAt(i))) return false;
+    }
+    return true;
+  }
+
   private static void checkError(final String name, final String namespace, final String value, final OptionalInt index) {
     if (index.isPresent()) {
       final int indexValue = index.getAsInt();
@@ -86,7 +167,12 @@ final class KeyImpl implements Key {
 
   @Override
   public @NotNull String asString() {
-    return asString(this.namespace, this.value);
+    String string = this.string;
+    if (string == null) {
+      string = asString(this.namespace, this.value);
+      this.string = string;
+    }
+    return string;
   }
 
   private static @NotNull String asString(final @NotNull String namespace, final @NotNull String value) {
@@ -110,14 +196,19 @@ final class KeyImpl implements Key {
   public boolean equals(final Object other) {
     if (this == other) return true;
     if (!(other instanceof Key)) return false;
+    if (other instanceof KeyImpl && this.hashCode() != other.hashCode()) return false;
     final Key that = (Key) other;
     return Objects.equals(this.namespace, that.namespace()) && Objects.equals(this.value, that.value());
   }
 
   @Override
   public int hashCode() {
-    int result = this.namespace.hashCode();
-    result = (31 * result) + this.value.hashCode();
+    int result = this.hash;
+    if (result == 0) {
+      result = this.namespace.hashCode();
+      result = (31 * result) + this.value.hashCode();
+      this.hash = result;
+    }
     return result;
   }
 
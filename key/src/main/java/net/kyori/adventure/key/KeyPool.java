@@ -0,0 +1,114 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.key;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A pool of canonical {@link Key} instances.
+ *
+ * <p>Keys obtained from the same pool that are equal will usually be the same instance, which keeps memory use down when
+ * the same keys are parsed over and over (for example, while decoding network or save data), and lets the cached
+ * {@link Key#asString() string form} and hash code of each key be shared.</p>
+ *
+ * <p>Pools are bounded: once a pool is full, newly created keys may replace older ones. Pools are safe to use from
+ * multiple threads, although two threads racing on the same key may briefly receive different (but equal) instances.</p>
+ *
+ * <p>Pooling is entirely optional, and {@link Key#key(String)} and friends never use a pool.</p>
+ *
+ * @since 4.18.0
+ */
+public interface KeyPool {
+  /**
+   * Creates a key pool with the default capacity.
+   *
+   * @return a new key pool
+   * @since 4.18.0
+   */
+  static @NotNull KeyPool keyPool() {
+    return keyPool(KeyPoolImpl.DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates a key pool.
+   *
+   * @param capacity the maximum number of keys to retain, rounded up to a power of two
+   * @return a new key pool
+   * @throws IllegalArgumentException if {@code capacity} is not positive, or is more than {@code 2^30}
+   * @since 4.18.0
+   */
+  static @NotNull KeyPool keyPool(final int capacity) {
+    if (capacity <= 0 || capacity > KeyPoolImpl.MAXIMUM_CAPACITY) {
+      throw new IllegalArgumentException("capacity must be between 1 and " + KeyPoolImpl.MAXIMUM_CAPACITY + ", was " + capacity);
+    }
+    return new KeyPoolImpl(capacity);
+  }
+
+  /**
+   * Gets a pooled key, parsing {@code string} in the same way as {@link Key#key(String)}.
+   *
+   * @param string the string
+   * @return the key
+   * @throws InvalidKeyException if the namespace or value contains an invalid character
+   * @since 4.18.0
+   */
+  default @NotNull Key key(final @NotNull @KeyPattern String string) {
+    return this.key(string, 0, string.length());
+  }
+
+  /**
+   * Gets a pooled key, parsing a region of {@code source} in the same way as {@link Key#key(CharSequence, int, int)}.
+   *
+   * <p>No strings are allocated when the key is already present in the pool.</p>
+   *
+   * @param source the source
+   * @param start the index of the first character, inclusive
+   * @param end the index of the last character, exclusive
+   * @return the key
+   * @throws IndexOutOfBoundsException if {@code start} or {@code end} are out of bounds
+   * @throws InvalidKeyException if the namespace or value contains an invalid character
+   * @since 4.18.0
+   */
+  @NotNull Key key(final @NotNull CharSequence source, final int start, final int end);
+
+  /**
+   * Gets a pooled key.
+   *
+   * @param namespace the namespace
+   * @param value the value
+   * @return the key
+   * @throws InvalidKeyException if the namespace or value contains an invalid character
+   * @since 4.18.0
+   */
+  @NotNull Key key(final @NotNull @KeyPattern.Namespace String namespace, final @NotNull @KeyPattern.Value String value);
+
+  /**
+   * Gets the pooled key equal to {@code key}, adding {@code key} to the pool if there is none.
+   *
+   * @param key the key
+   * @return the pooled key
+   * @since 4.18.0
+   */
+  @NotNull Key intern(final @NotNull Key key);
+}
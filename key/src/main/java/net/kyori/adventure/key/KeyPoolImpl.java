@@ -0,0 +1,130 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.key;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A fixed-size, direct-mapped pool of keys.
+ *
+ * <p>Each key is stored in the slot selected by the hash of its {@link Key#asString() string form}, replacing whichever
+ * key was there before. A region of characters is hashed as if it were already in that canonical form, with the
+ * implicit {@code minecraft} namespace filled in, so looking up a pooled key never builds a string.</p>
+ *
+ * <p>Slots only ever hold keys whose fields are all final, and a key found in a slot is compared with the request
+ * before it is returned. Slots are therefore read and replaced without locking: a racing thread sees either key, and
+ * the worst outcome is parsing a key that was just pooled.</p>
+ */
+final class KeyPoolImpl implements KeyPool {
+  static final int DEFAULT_CAPACITY = 1024;
+  // the largest capacity whose table size, a power of two, is still an int
+  static final int MAXIMUM_CAPACITY = 1 << 30;
+  private static final String MINECRAFT_PREFIX = Key.MINECRAFT_NAMESPACE + Key.DEFAULT_SEPARATOR;
+
+  private final KeyImpl[] keys;
+  private final int mask;
+
+  KeyPoolImpl(final int capacity) {
+    final int size = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+    this.keys = new KeyImpl[size];
+    this.mask = size - 1;
+  }
+
+  @Override
+  public @NotNull Key key(final @NotNull CharSequence source, final int start, final int end) {
+    if (start < 0 || end > source.length() || start > end) {
+      throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + source.length());
+    }
+    final int index = KeyImpl.indexOf(source, start, end, Key.DEFAULT_SEPARATOR);
+    // the region is hashed as if it had been converted to its canonical "namespace:value" form
+    final int hash;
+    final int valueStart;
+    if (index > start) {
+      hash = hash(0, source, start, end);
+      valueStart = index + 1;
+    } else {
+      valueStart = index >= 0 ? index + 1 : start;
+      hash = hash(MINECRAFT_PREFIX.hashCode(), source, valueStart, end);
+    }
+    final int slot = slot(hash);
+    final KeyImpl existing = this.keys[slot];
+    if (existing != null && existing.asString().hashCode() == hash) {
+      final String string = existing.asString();
+      final boolean matches = index > start
+        ? matches(string, 0, source, start, end)
+        : string.startsWith(MINECRAFT_PREFIX) && matches(string, MINECRAFT_PREFIX.length(), source, valueStart, end);
+      if (matches) return existing;
+    }
+    final KeyImpl key = KeyImpl.parse(source, start, end, Key.DEFAULT_SEPARATOR);
+    this.keys[slot] = key;
+    return key;
+  }
+
+  @Override
+  public @NotNull Key key(final @NotNull String namespace, final @NotNull String value) {
+    final int hash = hash(31 * namespace.hashCode() + Key.DEFAULT_SEPARATOR, value, 0, value.length());
+    final int slot = slot(hash);
+    final KeyImpl existing = this.keys[slot];
+    if (existing != null && existing.asString().hashCode() == hash && existing.namespace().equals(namespace) && existing.value().equals(value)) {
+      return existing;
+    }
+    final KeyImpl key = new KeyImpl(namespace, value);
+    this.keys[slot] = key;
+    return key;
+  }
+
+  @Override
+  public @NotNull Key intern(final @NotNull Key key) {
+    if (!(key instanceof KeyImpl)) return this.key(key.namespace(), key.value());
+    final String string = key.asString();
+    final int slot = slot(string.hashCode());
+    final KeyImpl existing = this.keys[slot];
+    if (existing != null && existing.equals(key)) {
+      return existing;
+    }
+    this.keys[slot] = (KeyImpl) key;
+    return key;
+  }
+
+  private int slot(final int hash) {
+    return (hash ^ (hash >>> 16)) & this.mask;
+  }
+
+  // continues a String#hashCode() computation over a region
+  private static int hash(final int initial, final @NotNull CharSequence source, final int start, final int end) {
+    int hash = initial;
+    for (int i = start; i < end; i++) {
+      hash = 31 * hash + source.charAt(i);
+    }
+    return hash;
+  }
+
+  private static boolean matches(final @NotNull String string, final int offset, final @NotNull CharSequence source, final int start, final int end) {
+    if (string.length() - offset != end - start) return false;
+    for (int i = start, j = offset; i < end; i++, j++) {
+      if (string.charAt(j) != source.charAt(i)) return false;
+    }
+    return true;
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.key;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class KeyPoolTest {
+  @Test
+  void testCanonical() {
+    final KeyPool pool = KeyPool.keyPool();
+    final Key key = pool.key("adventure:empty");
+    assertEquals(Key.key("adventure", "empty"), key);
+    assertSame(key, pool.key("adventure:empty"));
+    assertSame(key, pool.key("adventure", "empty"));
+    assertSame(key, pool.key("<adventure:empty>", 1, 16));
+    assertSame(key, pool.intern(Key.key("adventure:empty")));
+  }
+
+  @Test
+  void testDefaultNamespace() {
+    final KeyPool pool = KeyPool.keyPool();
+    final Key key = pool.key("empty");
+    assertEquals(Key.key(Key.MINECRAFT_NAMESPACE, "empty"), key);
+    assertSame(key, pool.key(":empty"));
+    assertSame(key, pool.key("minecraft:empty"));
+    assertSame(key, pool.key(Key.MINECRAFT_NAMESPACE, "empty"));
+  }
+
+  @Test
+  void testIntern() {
+    final KeyPool pool = KeyPool.keyPool();
+    final Key key = Key.key("adventure", "empty");
+    assertSame(key, pool.intern(key));
+    assertSame(key, pool.intern(Key.key("adventure", "empty")));
+    assertNotSame(key, pool.intern(Key.key("adventure", "other")));
+  }
+
+  @Test
+  void testReplacement() {
+    final KeyPool pool = KeyPool.keyPool(1);
+    final Key first = pool.key("adventure:first");
+    for (int i = 0; i < 64; i++) {
+      assertEquals(Key.key("adventure", "key_" + i), pool.key("adventure:key_" + i));
+    }
+    assertEquals(first, pool.key("adventure:first"));
+  }
+
+  @Test
+  void testInvalid() {
+    final KeyPool pool = KeyPool.keyPool();
+    assertEquals("Thing", assertThrows(InvalidKeyException.class, () -> pool.key("Thing:abc")).keyNamespace());
+    assertEquals("Thing", assertThrows(InvalidKeyException.class, () -> pool.key("abc", "Thing")).keyValue());
+    assertThrows(IllegalArgumentException.class, () -> KeyPool.keyPool(0));
+    assertThrows(IllegalArgumentException.class, () -> KeyPool.keyPool((1 << 30) + 1));
+    assertThrows(IllegalArgumentException.class, () -> KeyPool.keyPool(Integer.MAX_VALUE));
+  }
+}
@@ -28,6 +28,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -61,6 +62,18 @@ class KeyTest {
     assertEquals("a/b", assertThrows(InvalidKeyException.class, () -> Key.key("a/b:empty")).keyNamespace());
   }
 
+  @Test
+  void testOfRegion() {
+    final String source = "[adventure:empty]";
+    assertEquals(Key.key("adventure", "empty"), Key.key(source, 1, source.length() - 1));
+    assertEquals(Key.key("empty"), Key.key(source, 11, source.length() - 1));
+    assertEquals(Key.key("empty"), Key.key(new StringBuilder("x:empty"), 1, 7));
+    assertSame(Key.MINECRAFT_NAMESPACE, Key.key("[minecraft:empty]", 1, 16).namespace());
+    assertEquals("Empty", assertThrows(InvalidKeyException.class, () -> Key.key("a:Empty", 0, 7)).keyValue());
+    assertThrows(IndexOutOfBoundsException.class, () -> Key.key(source, 5, 2));
+    assertThrows(IndexOutOfBoundsException.class, () -> Key.key(source, 0, source.length() + 1));
+  }
+
   @Test
   void testStringRepresentation() {
     assertEquals("minecraft:empty", Key.key("empty").asString());
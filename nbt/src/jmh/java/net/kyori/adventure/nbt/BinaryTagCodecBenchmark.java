@@ -0,0 +1,134 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Converts the player fixture to a plain object, either through a tree and its getters or with a codec.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BinaryTagCodecBenchmark {
+  private static final BinaryTagCodec<Item> ITEM = BinaryTagCodec.builder(Item::new)
+    .byteField("Slot", (item, value) -> item.slot = (byte) value, item -> item.slot)
+    .stringField("id", (item, value) -> item.id = value, item -> item.id)
+    .intField("count", (item, value) -> item.count = value, item -> item.count)
+    .build();
+  private static final BinaryTagCodec<Player> PLAYER = BinaryTagCodec.builder(Player::new)
+    .stringField("id", (player, value) -> player.id = value, player -> player.id)
+    .shortField("Air", (player, value) -> player.air = (short) value, player -> player.air)
+    .floatField("Health", (player, value) -> player.health = (float) value, player -> player.health)
+    .intField("XpLevel", (player, value) -> player.level = value, player -> player.level)
+    .listField("Inventory", ITEM, (player, value) -> player.inventory = value, player -> player.inventory)
+    .build();
+
+  private byte[] encoded;
+  private Player player;
+
+  @Setup(Level.Trial)
+  public void prepare() throws IOException {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    BinaryTagIO.writer().write(Fixtures.player(new Random(42)), output);
+    this.encoded = output.toByteArray();
+    this.player = PLAYER.readNamed(new DataInputStream(new ByteArrayInputStream(this.encoded)));
+  }
+
+  @Benchmark
+  public Player readTree() throws IOException {
+    final CompoundBinaryTag tag = BinaryTagIO.unlimitedReader().read(new ByteArrayInputStream(this.encoded));
+    final Player player = new Player();
+    player.id = tag.getString("id");
+    player.air = tag.getShort("Air");
+    player.health = tag.getFloat("Health");
+    player.level = tag.getInt("XpLevel");
+    final ListBinaryTag inventory = tag.getList("Inventory");
+    player.inventory = new ArrayList<>(inventory.size());
+    for (int i = 0; i < inventory.size(); i++) {
+      final CompoundBinaryTag element = inventory.getCompound(i);
+      final Item item = new Item();
+      item.slot = element.getByte("Slot");
+      item.id = element.getString("id");
+      item.count = element.getInt("count");
+      player.inventory.add(item);
+    }
+    return player;
+  }
+
+  @Benchmark
+  public Player readCodec() throws IOException {
+    return PLAYER.readNamed(new DataInputStream(new ByteArrayInputStream(this.encoded)));
+  }
+
+  @Benchmark
+  public byte[] writeCodec() throws IOException {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    PLAYER.writeNamed(this.player, new DataOutputStream(output));
+    return output.toByteArray();
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    final Options opt = new OptionsBuilder()
+      .include(BinaryTagCodecBenchmark.class.getSimpleName())
+      .forks(1)
+      .build();
+
+    new Runner(opt).run();
+  }
+
+  static final class Item {
+    byte slot;
+    String id;
+    int count;
+  }
+
+  static final class Player {
+    String id;
+    short air;
+    float health;
+    int level;
+    List<Item> inventory;
+  }
+}
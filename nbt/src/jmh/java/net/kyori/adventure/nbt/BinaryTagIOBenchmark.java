@@ -0,0 +1,107 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Reads and writes item, player and chunk entity fixtures in the binary format, with each compression type.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BinaryTagIOBenchmark {
+  private static final BinaryTagIO.Reader INTERNING = BinaryTagIO.unlimitedReader().interning();
+
+  @Param({"item", "player", "chunk"})
+  public String fixture;
+  @Param({"none", "gzip", "zlib"})
+  public String compression;
+
+  private BinaryTagIO.Compression type;
+  private CompoundBinaryTag tag;
+  private byte[] encoded;
+
+  @Setup(Level.Trial)
+  public void prepare() throws IOException {
+    this.type = BinaryTagIO.Compression.named(this.compression);
+    this.tag = Fixtures.fixture(this.fixture);
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    BinaryTagIO.writer().write(this.tag, output, this.type);
+    this.encoded = output.toByteArray();
+  }
+
+  @Benchmark
+  public byte[] write() throws IOException {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream(this.encoded.length);
+    BinaryTagIO.writer().write(this.tag, output, this.type);
+    return output.toByteArray();
+  }
+
+  @Benchmark
+  public byte[] toByteArray() throws IOException {
+    return BinaryTagIO.writer().toByteArray(this.tag);
+  }
+
+  @Benchmark
+  public int size() {
+    // an edited root sharing its subtrees with the fixture, whose sizes are cached after the first run
+    return BinaryTagIO.writer().size(this.tag.putBoolean("edited", true));
+  }
+
+  @Benchmark
+  public CompoundBinaryTag read() throws IOException {
+    return BinaryTagIO.unlimitedReader().read(new ByteArrayInputStream(this.encoded), this.type);
+  }
+
+  @Benchmark
+  public CompoundBinaryTag readInterning() throws IOException {
+    return INTERNING.read(new ByteArrayInputStream(this.encoded), this.type);
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    final Options opt = new OptionsBuilder()
+      .include(BinaryTagIOBenchmark.class.getSimpleName())
+      .forks(1)
+      .build();
+
+    new Runner(opt).run();
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Decodes deeply nested and very wide compound tags, stressing the tag type dispatch and the depth tracking.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BinaryTagReadBenchmark {
+  @Param({"deep", "wide"})
+  public String shape;
+
+  private byte[] encoded;
+
+  @Setup(Level.Trial)
+  public void prepare() throws IOException {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    BinaryTagIO.writer().write(this.shape.equals("deep") ? deep(500) : wide(20_000), output);
+    this.encoded = output.toByteArray();
+  }
+
+  // compounds nested close to the depth limit, each with a few scalars and a single-element list
+  static CompoundBinaryTag deep(final int depth) {
+    CompoundBinaryTag tag = CompoundBinaryTag.builder().putInt("leaf", 1).build();
+    for (int i = 0; i < depth; i++) {
+      tag = CompoundBinaryTag.builder()
+        .putString("name", "level" + i)
+        .putInt("index", i)
+        .put("child", tag)
+        .put("list", ListBinaryTag.builder(BinaryTagTypes.COMPOUND).add(CompoundBinaryTag.builder().putByte("b", (byte) i).build()).build())
+        .build();
+    }
+    return tag;
+  }
+
+  // a single compound with entries of every common type
+  static CompoundBinaryTag wide(final int width) {
+    final CompoundBinaryTag.Builder builder = CompoundBinaryTag.builder();
+    for (int i = 0; i < width; i++) {
+      final int kind = i % 6;
+      if (kind == 0) {
+        builder.putInt("int" + i, i);
+      } else if (kind == 1) {
+        builder.putString("string" + i, "value" + i);
+      } else if (kind == 2) {
+        builder.putDouble("double" + i, i * 0.5);
+      } else if (kind == 3) {
+        builder.putByte("byte" + i, (byte) i);
+      } else if (kind == 4) {
+        builder.putLong("long" + i, i);
+      } else {
+        builder.put("compound" + i, CompoundBinaryTag.builder().putShort("short", (short) i).putFloat("float", i).build());
+      }
+    }
+    return builder.build();
+  }
+
+  @Benchmark
+  public CompoundBinaryTag readBuffer() throws IOException {
+    return BinaryTagIO.unlimitedReader().read(ByteBuffer.wrap(this.encoded));
+  }
+
+  @Benchmark
+  public CompoundBinaryTag readStream() throws IOException {
+    return BinaryTagIO.unlimitedReader().read(new ByteArrayInputStream(this.encoded));
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    final Options opt = new OptionsBuilder()
+      .include(BinaryTagReadBenchmark.class.getSimpleName())
+      .forks(1)
+      .build();
+
+    new Runner(opt).run();
+  }
+}
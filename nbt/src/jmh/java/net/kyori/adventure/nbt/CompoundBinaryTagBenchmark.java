@@ -0,0 +1,123 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the compact array storage of small compound tags with the {@code HashMap} storage used for larger ones.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CompoundBinaryTagBenchmark {
+  @Param({"array", "hash"})
+  public String layout;
+  @Param({"2", "4", "8"})
+  public int size;
+
+  private String[] keys;
+  private CompoundBinaryTag tag;
+  private byte[] encoded;
+
+  @Setup(Level.Trial)
+  public void prepare() throws IOException {
+    this.keys = new String[this.size];
+    final Map<String, BinaryTag> tags = new LinkedHashMap<>();
+    for (int i = 0; i < this.size; i++) {
+      this.keys[i] = "key" + i;
+      tags.put(this.keys[i], IntBinaryTag.intBinaryTag(i));
+    }
+    this.tag = this.layout.equals("array")
+      ? new CompoundBinaryTagImpl(ArrayTagMap.copyOf(tags))
+      : new CompoundBinaryTagImpl(tags);
+
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    BinaryTagIO.writer().write(this.tag, output);
+    this.encoded = output.toByteArray();
+  }
+
+  @Benchmark
+  public void get(final Blackhole bh) {
+    for (final String key : this.keys) {
+      bh.consume(this.tag.get(key));
+    }
+  }
+
+  @Benchmark
+  public CompoundBinaryTag putNew() {
+    return this.tag.putInt("new", 1);
+  }
+
+  @Benchmark
+  public CompoundBinaryTag putExisting() {
+    return this.tag.putInt(this.keys[0], -1);
+  }
+
+  @Benchmark
+  public CompoundBinaryTag remove() {
+    return this.tag.remove(this.keys[0]);
+  }
+
+  @Benchmark
+  public void iterate(final Blackhole bh) {
+    for (final Map.Entry<String, ? extends BinaryTag> entry : this.tag) {
+      bh.consume(entry.getValue());
+    }
+  }
+
+  // the reader picks the layout by size, so both layouts are read the same way
+  @Benchmark
+  public CompoundBinaryTag read() throws IOException {
+    return BinaryTagIO.reader().read(new ByteArrayInputStream(this.encoded));
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    final Options opt = new OptionsBuilder()
+      .include(CompoundBinaryTagBenchmark.class.getSimpleName())
+      .forks(1)
+      .build();
+
+    new Runner(opt).run();
+  }
+}
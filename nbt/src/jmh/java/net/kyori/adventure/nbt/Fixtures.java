@@ -0,0 +1,140 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.util.Random;
+
+/**
+ * Realistic tags to benchmark with, shaped like the data Minecraft saves.
+ */
+final class Fixtures {
+  private static final String[] ITEMS = {"minecraft:diamond_sword", "minecraft:cobblestone", "minecraft:torch", "minecraft:bread", "minecraft:iron_pickaxe", "minecraft:oak_log"};
+  private static final String[] ENCHANTMENTS = {"minecraft:sharpness", "minecraft:unbreaking", "minecraft:mending", "minecraft:efficiency"};
+
+  private Fixtures() {
+  }
+
+  static CompoundBinaryTag fixture(final String name) {
+    switch (name) {
+      case "item": return item(new Random(42), 0);
+      case "player": return player(new Random(42));
+      case "chunk": return chunkEntities(new Random(42));
+      default: throw new IllegalArgumentException("Unknown fixture " + name);
+    }
+  }
+
+  // an item stack with data components
+  static CompoundBinaryTag item(final Random random, final int slot) {
+    final CompoundBinaryTag.Builder components = CompoundBinaryTag.builder()
+      .putInt("minecraft:damage", random.nextInt(1500))
+      .putString("minecraft:custom_name", "{\"text\":\"Item " + slot + "\",\"italic\":false,\"color\":\"gold\"}");
+    final CompoundBinaryTag.Builder levels = CompoundBinaryTag.builder();
+    for (int i = random.nextInt(ENCHANTMENTS.length); i < ENCHANTMENTS.length; i++) {
+      levels.putInt(ENCHANTMENTS[i], 1 + random.nextInt(5));
+    }
+    components.put("minecraft:enchantments", CompoundBinaryTag.builder()
+      .put("levels", levels.build())
+      .putByte("show_in_tooltip", (byte) 1)
+      .build());
+    components.put("minecraft:lore", ListBinaryTag.builder()
+      .add(StringBinaryTag.stringBinaryTag("{\"text\":\"Found in a dungeon\"}"))
+      .add(StringBinaryTag.stringBinaryTag("{\"text\":\"Slot " + slot + "\"}"))
+      .build());
+    return CompoundBinaryTag.builder()
+      .putByte("Slot", (byte) slot)
+      .putString("id", ITEMS[random.nextInt(ITEMS.length)])
+      .putInt("count", 1 + random.nextInt(64))
+      .put("components", components.build())
+      .build();
+  }
+
+  // a player entity with a full inventory
+  static CompoundBinaryTag player(final Random random) {
+    final ListBinaryTag.Builder<CompoundBinaryTag> inventory = ListBinaryTag.builder(BinaryTagTypes.COMPOUND);
+    for (int slot = 0; slot < 36; slot++) {
+      inventory.add(item(random, slot));
+    }
+    final ListBinaryTag.Builder<CompoundBinaryTag> attributes = ListBinaryTag.builder(BinaryTagTypes.COMPOUND);
+    for (final String attribute : new String[] {"minecraft:generic.max_health", "minecraft:generic.movement_speed", "minecraft:generic.attack_damage"}) {
+      attributes.add(CompoundBinaryTag.builder().putString("id", attribute).putDouble("base", random.nextDouble() * 20).build());
+    }
+    final ListBinaryTag.Builder<StringBinaryTag> recipes = ListBinaryTag.builder(BinaryTagTypes.STRING);
+    for (int i = 0; i < 200; i++) {
+      recipes.add(StringBinaryTag.stringBinaryTag("minecraft:recipe_" + i));
+    }
+    return entity(random, "minecraft:player")
+      .putFloat("Health", 20)
+      .putInt("XpLevel", random.nextInt(100))
+      .putFloat("XpP", random.nextFloat())
+      .putInt("playerGameType", 0)
+      .put("Inventory", inventory.build())
+      .put("attributes", attributes.build())
+      .put("recipeBook", CompoundBinaryTag.builder()
+        .put("recipes", recipes.build())
+        .putByte("isFilteringCraftable", (byte) 0)
+        .build())
+      .build();
+  }
+
+  // the entities saved with a chunk
+  static CompoundBinaryTag chunkEntities(final Random random) {
+    final ListBinaryTag.Builder<CompoundBinaryTag> entities = ListBinaryTag.builder(BinaryTagTypes.COMPOUND);
+    for (int i = 0; i < 64; i++) {
+      entities.add(entity(random, i % 4 == 0 ? "minecraft:item" : "minecraft:zombie")
+        .putShort("Fire", (short) -1)
+        .putByte("OnGround", (byte) 1)
+        .put("Item", item(random, i))
+        .build());
+    }
+    return CompoundBinaryTag.builder()
+      .putInt("DataVersion", 3953)
+      .putIntArray("Position", new int[] {random.nextInt(100), random.nextInt(100)})
+      .put("Entities", entities.build())
+      .build();
+  }
+
+  private static CompoundBinaryTag.Builder entity(final Random random, final String id) {
+    final long uuidMost = random.nextLong();
+    final long uuidLeast = random.nextLong();
+    return CompoundBinaryTag.builder()
+      .putString("id", id)
+      .putIntArray("UUID", new int[] {(int) (uuidMost >> 32), (int) uuidMost, (int) (uuidLeast >> 32), (int) uuidLeast})
+      .put("Pos", ListBinaryTag.builder()
+        .add(DoubleBinaryTag.doubleBinaryTag(random.nextDouble() * 1000))
+        .add(DoubleBinaryTag.doubleBinaryTag(64 + random.nextDouble() * 10))
+        .add(DoubleBinaryTag.doubleBinaryTag(random.nextDouble() * 1000))
+        .build())
+      .put("Motion", ListBinaryTag.builder()
+        .add(DoubleBinaryTag.doubleBinaryTag(0))
+        .add(DoubleBinaryTag.doubleBinaryTag(-0.0784000015258789))
+        .add(DoubleBinaryTag.doubleBinaryTag(0))
+        .build())
+      .put("Rotation", ListBinaryTag.builder()
+        .add(FloatBinaryTag.floatBinaryTag(random.nextFloat() * 360))
+        .add(FloatBinaryTag.floatBinaryTag(0))
+        .build())
+      .putShort("Air", (short) 300)
+      .putFloat("FallDistance", 0);
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Parses and emits SNBT for item, player and chunk entity fixtures.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TagStringIOBenchmark {
+  private static final TagStringIO PRETTY = TagStringIO.builder().indent(2).build();
+
+  @Param({"item", "player", "chunk"})
+  public String fixture;
+
+  private CompoundBinaryTag tag;
+  private String compact;
+  private String pretty;
+
+  @Setup(Level.Trial)
+  public void prepare() throws IOException {
+    this.tag = Fixtures.fixture(this.fixture);
+    this.compact = TagStringIO.get().asString(this.tag);
+    this.pretty = PRETTY.asString(this.tag);
+  }
+
+  @Benchmark
+  public CompoundBinaryTag parse() throws IOException {
+    return TagStringIO.get().asCompound(this.compact);
+  }
+
+  @Benchmark
+  public CompoundBinaryTag parsePretty() throws IOException {
+    return TagStringIO.get().asCompound(this.pretty);
+  }
+
+  @Benchmark
+  public CompoundBinaryTag parseReader() throws IOException {
+    return TagStringIO.get().asCompound(new StringReader(this.compact));
+  }
+
+  @Benchmark
+  public String emit() throws IOException {
+    return TagStringIO.get().asString(this.tag);
+  }
+
+  @Benchmark
+  public String emitPretty() throws IOException {
+    return PRETTY.asString(this.tag);
+  }
+
+  @Benchmark
+  public StringWriter emitWriter() throws IOException {
+    final StringWriter writer = new StringWriter(this.compact.length());
+    TagStringIO.get().toWriter(this.tag, writer);
+    return writer;
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    final Options opt = new OptionsBuilder()
+      .include(TagStringIOBenchmark.class.getSimpleName())
+      .forks(1)
+      .build();
+
+    new Runner(opt).run();
+  }
+}
@@ -0,0 +1,229 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Compact storage for the entries of small compound tags.
+ *
+ * <p>Entries are kept in insertion order in parallel arrays, and looked up by a linear scan over the cached key hashes.
+ * For the handful of entries most compound tags have, this is faster and far smaller than a {@link HashMap}.</p>
+ */
+final class ArrayTagMap extends PersistentTagMap {
+  static final int MAX_SIZE = 8;
+
+  private final String[] keys;
+  private final int[] hashes;
+  private final BinaryTag[] values;
+
+  private ArrayTagMap(final String[] keys, final int[] hashes, final BinaryTag[] values) {
+    this.keys = keys;
+    this.hashes = hashes;
+    this.values = values;
+  }
+
+  /**
+   * Copies entries into a new map.
+   *
+   * @param tags the entries, no more than {@link #MAX_SIZE}
+   * @return the map
+   */
+  static @NotNull ArrayTagMap copyOf(final @NotNull Map<String, ? extends BinaryTag> tags) {
+    final int size = tags.size();
+    final String[] keys = new String[size];
+    final int[] hashes = new int[size];
+    final BinaryTag[] values = new BinaryTag[size];
+    int i = 0;
+    for (final Map.Entry<String, ? extends BinaryTag> entry : tags.entrySet()) {
+      keys[i] = entry.getKey();
+      hashes[i] = keys[i].hashCode();
+      values[i] = entry.getValue();
+      i++;
+    }
+    return new ArrayTagMap(keys, hashes, values);
+  }
+
+  private int indexOf(final Object key) {
+    if (!(key instanceof String)) return -1;
+    final int hash = key.hashCode();
+    for (int i = 0; i < this.hashes.length; i++) {
+      if (this.hashes[i] == hash && this.keys[i].equals(key)) return i;
+    }
+    return -1;
+  }
+
+  @Override
+  @NotNull PersistentTagMap with(final @NotNull String key, final @NotNull BinaryTag value) {
+    final int i = this.indexOf(key);
+    if (i != -1) {
+      if (this.values[i] == value) return this;
+      final BinaryTag[] values = this.values.clone();
+      values[i] = value;
+      return new ArrayTagMap(this.keys, this.hashes, values); // keys are unchanged, and can be shared
+    }
+    final int size = this.keys.length;
+    if (size == MAX_SIZE) {
+      return HashTrieTagMap.copyOf(this).with(key, value);
+    }
+    final String[] keys = Arrays.copyOf(this.keys, size + 1);
+    final int[] hashes = Arrays.copyOf(this.hashes, size + 1);
+    final BinaryTag[] values = Arrays.copyOf(this.values, size + 1);
+    keys[size] = key;
+    hashes[size] = key.hashCode();
+    values[size] = value;
+    return new ArrayTagMap(keys, hashes, values);
+  }
+
+  @Override
+  @NotNull ArrayTagMap without(final @NotNull String key) {
+    final int i = this.indexOf(key);
+    if (i == -1) return this;
+    final int size = this.keys.length - 1;
+    final String[] keys = new String[size];
+    final int[] hashes = new int[size];
+    final BinaryTag[] values = new BinaryTag[size];
+    System.arraycopy(this.keys, 0, keys, 0, i);
+    System.arraycopy(this.hashes, 0, hashes, 0, i);
+    System.arraycopy(this.values, 0, values, 0, i);
+    System.arraycopy(this.keys, i + 1, keys, i, size - i);
+    System.arraycopy(this.hashes, i + 1, hashes, i, size - i);
+    System.arraycopy(this.values, i + 1, values, i, size - i);
+    return new ArrayTagMap(keys, hashes, values);
+  }
+
+  @Override
+  public int size() {
+    return this.keys.length;
+  }
+
+  @Override
+  public boolean containsKey(final Object key) {
+    return this.indexOf(key) != -1;
+  }
+
+  @Override
+  public @Nullable BinaryTag get(final Object key) {
+    final int i = this.indexOf(key);
+    return i == -1 ? null : this.values[i];
+  }
+
+  @Override
+  public void forEach(final BiConsumer<? super String, ? super BinaryTag> action) {
+    for (int i = 0; i < this.keys.length; i++) {
+      action.accept(this.keys[i], this.values[i]);
+    }
+  }
+
+  @Override
+  public @NotNull Set<Entry<String, BinaryTag>> entrySet() {
+    return new AbstractSet<Entry<String, BinaryTag>>() {
+      @Override
+      public @NotNull Iterator<Entry<String, BinaryTag>> iterator() {
+        return new Iterator<Entry<String, BinaryTag>>() {
+          private int next;
+
+          @Override
+          public boolean hasNext() {
+            return this.next < ArrayTagMap.this.keys.length;
+          }
+
+          @Override
+          public Entry<String, BinaryTag> next() {
+            if (!this.hasNext()) throw new NoSuchElementException();
+            final int i = this.next++;
+            return new SimpleImmutableEntry<>(ArrayTagMap.this.keys[i], ArrayTagMap.this.values[i]);
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return ArrayTagMap.this.keys.length;
+      }
+    };
+  }
+
+  /**
+   * Collects entries into storage for a compound tag, starting out with an {@link ArrayTagMap}
+   * and switching to a {@link HashMap} once there are too many entries.
+   */
+  static final class Builder {
+    private String[] keys = new String[4];
+    private int[] hashes = new int[4];
+    private BinaryTag[] values = new BinaryTag[4];
+    private int size;
+    private @Nullable Map<String, BinaryTag> overflow;
+
+    void put(final @NotNull String key, final @NotNull BinaryTag value) {
+      if (this.overflow != null) {
+        this.overflow.put(key, value);
+        return;
+      }
+      final int hash = key.hashCode();
+      for (int i = 0; i < this.size; i++) {
+        if (this.hashes[i] == hash && this.keys[i].equals(key)) {
+          this.values[i] = value;
+          return;
+        }
+      }
+      if (this.size == MAX_SIZE) {
+        this.overflow = new HashMap<>();
+        for (int i = 0; i < this.size; i++) {
+          this.overflow.put(this.keys[i], this.values[i]);
+        }
+        this.overflow.put(key, value);
+        return;
+      }
+      if (this.size == this.keys.length) {
+        this.keys = Arrays.copyOf(this.keys, MAX_SIZE);
+        this.hashes = Arrays.copyOf(this.hashes, MAX_SIZE);
+        this.values = Arrays.copyOf(this.values, MAX_SIZE);
+      }
+      this.keys[this.size] = key;
+      this.hashes[this.size] = hash;
+      this.values[this.size] = value;
+      this.size++;
+    }
+
+    @NotNull CompoundBinaryTag build() {
+      if (this.overflow != null) return new CompoundBinaryTagImpl(this.overflow);
+      if (this.size == 0) return CompoundBinaryTag.empty();
+      return new CompoundBinaryTagImpl(new ArrayTagMap(
+        Arrays.copyOf(this.keys, this.size),
+        Arrays.copyOf(this.hashes, this.size),
+        Arrays.copyOf(this.values, this.size)
+      ));
+    }
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.NotNull;
+
+import static java.util.Objects.requireNonNull;
+
+final class BatchReaderImpl implements BinaryTagIO.BatchReader {
+  private final BinaryTagIO.Reader reader;
+  private final Executor executor;
+  private final int parallelism;
+
+  BatchReaderImpl(final BinaryTagIO.Reader reader, final Executor executor, final int parallelism) {
+    BatchRun.checkParallelism(parallelism);
+    this.reader = reader;
+    this.executor = requireNonNull(executor, "executor");
+    this.parallelism = parallelism;
+  }
+
+  @Override
+  public @NotNull CompletableFuture<Void> read(final @NotNull Iterable<? extends Path> paths, final BinaryTagIO.@NotNull Compression compression, final @NotNull Consumer<? super BinaryTagIO.BatchResult<Path>> results) {
+    return BatchRun.run(this.executor, this.parallelism, paths, path -> this.reader.read(path, compression), results);
+  }
+
+  @Override
+  public <S> @NotNull CompletableFuture<Void> read(final @NotNull Iterable<? extends S> sources, final BinaryTagIO.@NotNull Opener<? super S, ? extends InputStream> opener, final BinaryTagIO.@NotNull Compression compression, final @NotNull Consumer<? super BinaryTagIO.BatchResult<S>> results) {
+    return BatchRun.run(this.executor, this.parallelism, sources, source -> {
+      try (final InputStream input = opener.open(source)) {
+        return this.reader.read(input, compression);
+      }
+    }, results);
+  }
+}
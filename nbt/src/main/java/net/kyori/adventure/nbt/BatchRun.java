@@ -0,0 +1,131 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A single run of a batch.
+ *
+ * <p>Up to {@code parallelism} workers are started on the executor. Each worker takes items one at a time until
+ * there are none left, so no more than that many items are ever in progress, and items are only taken from the
+ * iterator as they are needed.</p>
+ *
+ * @param <K> the item type
+ */
+final class BatchRun<K> {
+  private final Iterator<? extends K> items;
+  private final Task<? super K> task;
+  private final Consumer<? super BinaryTagIO.BatchResult<K>> results;
+  private final AtomicInteger workers = new AtomicInteger();
+  private final CompletableFuture<Void> future = new CompletableFuture<>();
+  private volatile @Nullable Throwable failure;
+
+  private BatchRun(final Iterator<? extends K> items, final Task<? super K> task, final Consumer<? super BinaryTagIO.BatchResult<K>> results) {
+    this.items = items;
+    this.task = task;
+    this.results = results;
+  }
+
+  static void checkParallelism(final int parallelism) {
+    if (parallelism < 1) throw new IllegalArgumentException("parallelism must be at least 1, was " + parallelism);
+  }
+
+  static <K> @NotNull CompletableFuture<Void> run(final Executor executor, final int parallelism, final Iterable<? extends K> items, final Task<? super K> task, final Consumer<? super BinaryTagIO.BatchResult<K>> results) {
+    final BatchRun<K> run = new BatchRun<>(items.iterator(), task, results);
+    run.workers.set(parallelism);
+    for (int i = 0; i < parallelism; i++) {
+      try {
+        executor.execute(run::work);
+      } catch (final RejectedExecutionException e) {
+        // workers already started stop at their next item, the rest are never started
+        run.fail(e);
+        run.finish(parallelism - i);
+        break;
+      }
+    }
+    return run.future;
+  }
+
+  private @Nullable K take() {
+    synchronized (this.items) {
+      if (this.failure == null && this.items.hasNext()) {
+        return requireNonNull(this.items.next(), "item");
+      }
+      return null;
+    }
+  }
+
+  private void work() {
+    try {
+      K item;
+      while ((item = this.take()) != null) {
+        BinaryTagIO.BatchResult<K> result;
+        try {
+          result = new BatchResultImpl<>(item, this.task.run(item), null);
+        } catch (final Exception e) {
+          result = new BatchResultImpl<>(item, null, e);
+        }
+        this.results.accept(result);
+      }
+    } catch (final Throwable t) {
+      this.fail(t);
+    } finally {
+      this.finish(1);
+    }
+  }
+
+  private void fail(final Throwable failure) {
+    synchronized (this.items) {
+      if (this.failure == null) {
+        this.failure = failure;
+      }
+    }
+  }
+
+  private void finish(final int workers) {
+    if (this.workers.addAndGet(-workers) == 0) {
+      final @Nullable Throwable failure = this.failure;
+      if (failure != null) {
+        this.future.completeExceptionally(failure);
+      } else {
+        this.future.complete(null);
+      }
+    }
+  }
+
+  @FunctionalInterface
+  interface Task<K> {
+    @NotNull CompoundBinaryTag run(final @NotNull K item) throws Exception;
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.jetbrains.annotations.NotNull;
+
+import static java.util.Objects.requireNonNull;
+
+final class BatchWriterImpl implements BinaryTagIO.BatchWriter {
+  private final BinaryTagIO.Writer writer;
+  private final Executor executor;
+  private final int parallelism;
+
+  BatchWriterImpl(final BinaryTagIO.Writer writer, final Executor executor, final int parallelism) {
+    BatchRun.checkParallelism(parallelism);
+    this.writer = writer;
+    this.executor = requireNonNull(executor, "executor");
+    this.parallelism = parallelism;
+  }
+
+  @Override
+  public @NotNull CompletableFuture<Void> write(final @NotNull Map<? extends Path, ? extends CompoundBinaryTag> tags, final BinaryTagIO.@NotNull Compression compression, final @NotNull Consumer<? super BinaryTagIO.BatchResult<Path>> results) {
+    return BatchRun.run(this.executor, this.parallelism, tags.entrySet(), (Map.Entry<? extends Path, ? extends CompoundBinaryTag> entry) -> {
+      this.writer.write(entry.getValue(), entry.getKey(), compression);
+      return entry.getValue();
+    }, result -> results.accept(new BatchResultImpl<>(result.item().getKey(), result.tag(), result.error())));
+  }
+
+  @Override
+  public <T> @NotNull CompletableFuture<Void> write(final @NotNull Iterable<? extends T> targets, final @NotNull Function<? super T, ? extends CompoundBinaryTag> tags, final BinaryTagIO.@NotNull Opener<? super T, ? extends OutputStream> opener, final BinaryTagIO.@NotNull Compression compression, final @NotNull Consumer<? super BinaryTagIO.BatchResult<T>> results) {
+    return BatchRun.run(this.executor, this.parallelism, targets, target -> {
+      final CompoundBinaryTag tag = requireNonNull(tags.apply(target), "tag");
+      try (final OutputStream output = opener.open(target)) {
+        this.writer.write(tag, output, compression);
+      }
+      return tag;
+    }, results);
+  }
+}
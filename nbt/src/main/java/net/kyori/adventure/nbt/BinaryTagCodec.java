@@ -0,0 +1,321 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A codec converting between compound tags and plain objects.
+ *
+ * <p>Codecs read their fields straight from a {@link DataInput}, without building a {@link CompoundBinaryTag} first.
+ * Entries the codec does not know about, or whose type does not match the field, are skipped over by their encoded length.
+ * Numeric fields accept entries of any numeric type, converting them like {@link NumberBinaryTag} does.</p>
+ *
+ * <p>Entries that are absent from the input leave the corresponding property of the object untouched.
+ * When writing, object-valued fields whose getter returns {@code null} are omitted.</p>
+ *
+ * @param <T> the type of object
+ * @since 4.18.0
+ */
+public interface BinaryTagCodec<T> {
+  /**
+   * Creates a builder for a codec of mutable objects.
+   *
+   * @param create creates an empty object to read into
+   * @param <T> the type of object
+   * @return a new builder
+   * @since 4.18.0
+   */
+  static <T> @NotNull Builder<T, T> builder(final @NotNull Supplier<? extends T> create) {
+    return new BinaryTagCodecImpl.BuilderImpl<>(create, Function.identity());
+  }
+
+  /**
+   * Creates a builder for a codec of objects assembled through an intermediate builder.
+   *
+   * <p>This allows reading into immutable objects: fields are set on the builder, which is then finished into the object.</p>
+   *
+   * @param create creates an empty builder to read into
+   * @param finish creates the object from a builder once all entries have been read
+   * @param <T> the type of object
+   * @param <B> the type of builder
+   * @return a new builder
+   * @since 4.18.0
+   */
+  static <T, B> @NotNull Builder<T, B> builder(final @NotNull Supplier<? extends B> create, final @NotNull Function<? super B, ? extends T> finish) {
+    return new BinaryTagCodecImpl.BuilderImpl<>(create, finish);
+  }
+
+  /**
+   * Reads an object from the payload of a compound tag.
+   *
+   * <p>The type id and name of the compound are expected to already have been read.
+   * The same size limit as {@link BinaryTagIO#reader()} applies to the data read.</p>
+   *
+   * @param input the input
+   * @return the object
+   * @throws IOException if an exception was encountered while reading, or the data is larger than the size limit
+   * @since 4.18.0
+   */
+  @NotNull T read(final @NotNull DataInput input) throws IOException;
+
+  /**
+   * Reads an object from the payload of a compound tag, with a custom size limit.
+   *
+   * <p>The type id and name of the compound are expected to already have been read.
+   * The limit applies to the data read in the same way as for {@link BinaryTagIO#reader(long)}.</p>
+   *
+   * @param input the input
+   * @param sizeLimitBytes the maximum (approximate) size of data, must be greater than {@code 0}
+   * @return the object
+   * @throws IOException if an exception was encountered while reading, or the data is larger than the size limit
+   * @throws IllegalArgumentException if {@code sizeLimitBytes} is not positive
+   * @since 4.18.0
+   */
+  @NotNull T read(final @NotNull DataInput input, final long sizeLimitBytes) throws IOException;
+
+  /**
+   * Reads an object from a named root compound tag, discarding its name.
+   *
+   * <p>The same size limit as {@link BinaryTagIO#reader()} applies to the data read.</p>
+   *
+   * @param input the input
+   * @return the object
+   * @throws IOException if an exception was encountered while reading, or the root tag is not a compound tag
+   * @since 4.18.0
+   */
+  @NotNull T readNamed(final @NotNull DataInput input) throws IOException;
+
+  /**
+   * Reads an object from a named root compound tag, discarding its name, with a custom size limit.
+   *
+   * <p>The limit applies to the data read in the same way as for {@link BinaryTagIO#reader(long)}.</p>
+   *
+   * @param input the input
+   * @param sizeLimitBytes the maximum (approximate) size of data, must be greater than {@code 0}
+   * @return the object
+   * @throws IOException if an exception was encountered while reading, or the root tag is not a compound tag
+   * @throws IllegalArgumentException if {@code sizeLimitBytes} is not positive
+   * @since 4.18.0
+   */
+  @NotNull T readNamed(final @NotNull DataInput input, final long sizeLimitBytes) throws IOException;
+
+  /**
+   * Writes an object as the payload of a compound tag.
+   *
+   * @param value the object
+   * @param output the output
+   * @throws IOException if an exception was encountered while writing
+   * @since 4.18.0
+   */
+  void write(final @NotNull T value, final @NotNull DataOutput output) throws IOException;
+
+  /**
+   * Writes an object as a root compound tag with an empty name.
+   *
+   * @param value the object
+   * @param output the output
+   * @throws IOException if an exception was encountered while writing
+   * @since 4.18.0
+   */
+  void writeNamed(final @NotNull T value, final @NotNull DataOutput output) throws IOException;
+
+  /**
+   * Reads an object from an already decoded compound tag.
+   *
+   * @param tag the tag
+   * @return the object
+   * @since 4.18.0
+   */
+  @NotNull T decode(final @NotNull CompoundBinaryTag tag);
+
+  /**
+   * Converts an object to a compound tag.
+   *
+   * @param value the object
+   * @return the tag
+   * @since 4.18.0
+   */
+  @NotNull CompoundBinaryTag encode(final @NotNull T value);
+
+  /**
+   * A builder for a {@link BinaryTagCodec}.
+   *
+   * <p>Fields are written in the order they are declared, and reading is fastest when the input has the same order.</p>
+   *
+   * @param <T> the type of object
+   * @param <B> the type of builder objects are read into
+   * @since 4.18.0
+   */
+  interface Builder<T, B> {
+    /**
+     * Adds a boolean field, stored as a byte tag.
+     *
+     * @param key the key
+     * @param setter sets the value on a builder
+     * @param getter gets the value from an object
+     * @return this builder
+     * @since 4.18.0
+     */
+    @NotNull Builder<T, B> booleanField(final @NotNull String key, final @NotNull BiConsumer<? super B, Boolean> setter, final @NotNull Predicate<? super T> getter);
+
+    /**
+     * Adds a byte field.
+     *
+     * @param key the key
+     * @param setter sets the value on a builder
+     * @param getter gets the value from an object
+     * @return this builder
+     * @since 4.18.0
+     */
+    @NotNull Builder<T, B> byteField(final @NotNull String key, final @NotNull ObjIntConsumer<? super B> setter, final @NotNull ToIntFunction<? super T> getter);
+
+    /**
+     * Adds a short field.
+     *
+     * @param key the key
+     * @param setter sets the value on a builder
+     * @param getter gets the value from an object
+     * @return this builder
+     * @since 4.18.0
+     */
+    @NotNull Builder<T, B> shortField(final @NotNull String key, final @NotNull ObjIntConsumer<? super B> setter, final @NotNull ToIntFunction<? super T> getter);
+
+    /**
+     * Adds an int field.
+     *
+     * @param key the key
+     * @param setter sets the value on a builder
+     * @param getter gets the value from an object
+     * @return this builder
+     * @since 4.18.0
+     */
+    @NotNull Builder<T, B> intField(final @NotNull String key, final @NotNull ObjIntConsumer<? super B> setter, final @NotNull ToIntFunction<? super T> getter);
+
+    /**
+     * Adds a long field.
+     *
+     * @param key the key
+     * @param setter sets the value on a builder
+     * @param getter gets the value from an object
+     * @return this builder
+     * @since 4.18.0
+     */
+    @NotNull Builder<T, B> longField(final @NotNull String key, final @NotNull ObjLongConsumer<? super B> setter, final @NotNull ToLongFunction<? super T> getter);
+
+    /**
+     * Adds a float field.
+     *
+     * @param key the key
+     * @param setter sets the value on a builder
+     * @param getter gets the value from an object
+     * @return this builder
+     * @since 4.18.0
+     */
+    @NotNull Builder<T, B> floatField(final @NotNull String key, final @NotNull ObjDoubleConsumer<? super B> setter, final @NotNull ToDoubleFunction<? super T> getter);
+
+    /**
+     * Adds a double field.
+     *
+     * @param key the key
+     * @param setter sets the value on a builder
+     * @param getter gets the value from an object
+     * @return this builder
+     * @since 4.18.0
+     */
+    @NotNull Builder<T, B> doubleField(final @NotNull String key, final @NotNull ObjDoubleConsumer<? super B> setter, final @NotNull ToDoubleFunction<? super T> getter);
+
+    /**
+     * Adds a string field.
+     *
+     * @param key the key
+     * @param setter sets the value on a builder
+     * @param getter gets the value from an object
+     * @return this builder
+     * @since 4.18.0
+     */
+    @NotNull Builder<T, B> stringField(final @NotNull String key, final @NotNull BiConsumer<? super B, String> setter, final @NotNull Function<? super T, String> getter);
+
+    /**
+     * Adds a field holding a nested compound tag, read and written by another codec.
+     *
+     * @param key the key
+     * @param codec the codec for the value
+     * @param setter sets the value on a builder
+     * @param getter gets the value from an object
+     * @param <V> the type of value
+     * @return this builder
+     * @since 4.18.0
+     */
+    <V> @NotNull Builder<T, B> field(final @NotNull String key, final @NotNull BinaryTagCodec<V> codec, final @NotNull BiConsumer<? super B, V> setter, final @NotNull Function<? super T, V> getter);
+
+    /**
+     * Adds a field holding a list of compound tags, each read and written by another codec.
+     *
+     * @param key the key
+     * @param codec the codec for the elements
+     * @param setter sets the value on a builder
+     * @param getter gets the value from an object
+     * @param <V> the type of element
+     * @return this builder
+     * @since 4.18.0
+     */
+    <V> @NotNull Builder<T, B> listField(final @NotNull String key, final @NotNull BinaryTagCodec<V> codec, final @NotNull BiConsumer<? super B, List<V>> setter, final @NotNull Function<? super T, ? extends List<? extends V>> getter);
+
+    /**
+     * Adds a field holding a tag of a specific type, kept as a tag.
+     *
+     * @param key the key
+     * @param type the type of the tag
+     * @param setter sets the value on a builder
+     * @param getter gets the value from an object
+     * @param <V> the type of tag
+     * @return this builder
+     * @since 4.18.0
+     */
+    <V extends BinaryTag> @NotNull Builder<T, B> tagField(final @NotNull String key, final @NotNull BinaryTagType<V> type, final @NotNull BiConsumer<? super B, V> setter, final @NotNull Function<? super T, V> getter);
+
+    /**
+     * Builds the codec.
+     *
+     * @return the codec
+     * @since 4.18.0
+     */
+    @NotNull BinaryTagCodec<T> build();
+  }
+}
@@ -0,0 +1,692 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UTFDataFormatException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import org.jetbrains.annotations.NotNull;
+
+import static java.util.Objects.requireNonNull;
+
+final class BinaryTagCodecImpl<T, B> implements BinaryTagCodec<T> {
+  private final Supplier<? extends B> create;
+  private final Function<? super B, ? extends T> finish;
+  private final Field<T, B>[] fields;
+
+  BinaryTagCodecImpl(final Supplier<? extends B> create, final Function<? super B, ? extends T> finish, final Field<T, B>[] fields) {
+    this.create = create;
+    this.finish = finish;
+    this.fields = fields;
+  }
+
+  @Override
+  public @NotNull T read(final @NotNull DataInput input) throws IOException {
+    return this.read0(TrackingDataInput.tracking(input, BinaryTagReaderImpl.DEFAULT_MAX_BYTES));
+  }
+
+  @Override
+  public @NotNull T read(final @NotNull DataInput input, final long sizeLimitBytes) throws IOException {
+    return this.read0(TrackingDataInput.tracking(input, BinaryTagReaderImpl.sizeLimit(sizeLimitBytes)));
+  }
+
+  @SuppressWarnings("try")
+  private @NotNull T read0(final @NotNull TrackingDataInput tracking) throws IOException {
+    final B builder = this.create.get();
+    final Field<T, B>[] fields = this.fields;
+    try (final BinaryTagScope ignored = tracking.enter()) {
+      int next = 0;
+      byte id;
+      while ((id = tracking.readByte()) != BinaryTagTypes.END.id()) {
+        final BinaryTagType<? extends BinaryTag> type = BinaryTagType.binaryTagType(id);
+        final int length = tracking.readUnsignedShort();
+        final byte[] key = length <= StringInterner.MAX_LENGTH ? tracking.scratch() : new byte[length];
+        tracking.readFully(key, 0, length);
+
+        // entries usually come in the order they were written in, so try the field after the last match first
+        Field<T, B> field = null;
+        if (next < fields.length && fields[next].matches(key, length)) {
+          field = fields[next++];
+        } else {
+          for (int i = 0; i < fields.length; i++) {
+            if (fields[i].matches(key, length)) {
+              field = fields[i];
+              next = i + 1;
+              break;
+            }
+          }
+        }
+
+        if (field == null || !field.read(builder, type, tracking)) {
+          BinaryTagWalker.skip(tracking, type);
+        }
+      }
+    }
+    return this.finish.apply(builder);
+  }
+
+  @Override
+  public @NotNull T readNamed(final @NotNull DataInput input) throws IOException {
+    return this.readNamed0(TrackingDataInput.tracking(input, BinaryTagReaderImpl.DEFAULT_MAX_BYTES));
+  }
+
+  @Override
+  public @NotNull T readNamed(final @NotNull DataInput input, final long sizeLimitBytes) throws IOException {
+    return this.readNamed0(TrackingDataInput.tracking(input, BinaryTagReaderImpl.sizeLimit(sizeLimitBytes)));
+  }
+
+  private @NotNull T readNamed0(final @NotNull TrackingDataInput tracking) throws IOException {
+    final BinaryTagType<? extends BinaryTag> type = BinaryTagType.binaryTagType(tracking.readByte());
+    if (type != BinaryTagTypes.COMPOUND) {
+      throw new IOException(String.format("Expected root tag to be a %s, was %s", BinaryTagTypes.COMPOUND, type));
+    }
+    BinaryTagWalker.skip(tracking, BinaryTagTypes.STRING); // name
+    return this.read0(tracking);
+  }
+
+  @Override
+  public void write(final @NotNull T value, final @NotNull DataOutput output) throws IOException {
+    for (final Field<T, B> field : this.fields) {
+      field.write(value, output);
+    }
+    output.writeByte(BinaryTagTypes.END.id());
+  }
+
+  @Override
+  public void writeNamed(final @NotNull T value, final @NotNull DataOutput output) throws IOException {
+    output.writeByte(BinaryTagTypes.COMPOUND.id());
+    output.writeUTF("");
+    this.write(value, output);
+  }
+
+  @Override
+  public @NotNull T decode(final @NotNull CompoundBinaryTag tag) {
+    final B builder = this.create.get();
+    for (final Field<T, B> field : this.fields) {
+      final BinaryTag value = tag.get(field.key);
+      if (value != null) {
+        field.decode(builder, value);
+      }
+    }
+    return this.finish.apply(builder);
+  }
+
+  @Override
+  public @NotNull CompoundBinaryTag encode(final @NotNull T value) {
+    final CompoundBinaryTag.Builder builder = CompoundBinaryTag.builder();
+    for (final Field<T, B> field : this.fields) {
+      field.encode(value, builder);
+    }
+    return builder.build();
+  }
+
+  static final class BuilderImpl<T, B> implements BinaryTagCodec.Builder<T, B> {
+    private final Supplier<? extends B> create;
+    private final Function<? super B, ? extends T> finish;
+    private final List<Field<T, B>> fields = new ArrayList<>();
+
+    BuilderImpl(final Supplier<? extends B> create, final Function<? super B, ? extends T> finish) {
+      this.create = requireNonNull(create, "create");
+      this.finish = requireNonNull(finish, "finish");
+    }
+
+    @Override
+    public @NotNull Builder<T, B> booleanField(final @NotNull String key, final @NotNull BiConsumer<? super B, Boolean> setter, final @NotNull Predicate<? super T> getter) {
+      requireNonNull(setter, "setter");
+      requireNonNull(getter, "getter");
+      return this.add(new IntField<>(key, BinaryTagTypes.BYTE, (builder, value) -> setter.accept(builder, value != 0), value -> getter.test(value) ? 1 : 0));
+    }
+
+    @Override
+    public @NotNull Builder<T, B> byteField(final @NotNull String key, final @NotNull ObjIntConsumer<? super B> setter, final @NotNull ToIntFunction<? super T> getter) {
+      return this.add(new IntField<>(key, BinaryTagTypes.BYTE, setter, getter));
+    }
+
+    @Override
+    public @NotNull Builder<T, B> shortField(final @NotNull String key, final @NotNull ObjIntConsumer<? super B> setter, final @NotNull ToIntFunction<? super T> getter) {
+      return this.add(new IntField<>(key, BinaryTagTypes.SHORT, setter, getter));
+    }
+
+    @Override
+    public @NotNull Builder<T, B> intField(final @NotNull String key, final @NotNull ObjIntConsumer<? super B> setter, final @NotNull ToIntFunction<? super T> getter) {
+      return this.add(new IntField<>(key, BinaryTagTypes.INT, setter, getter));
+    }
+
+    @Override
+    public @NotNull Builder<T, B> longField(final @NotNull String key, final @NotNull ObjLongConsumer<? super B> setter, final @NotNull ToLongFunction<? super T> getter) {
+      return this.add(new LongField<>(key, setter, getter));
+    }
+
+    @Override
+    public @NotNull Builder<T, B> floatField(final @NotNull String key, final @NotNull ObjDoubleConsumer<? super B> setter, final @NotNull ToDoubleFunction<? super T> getter) {
+      return this.add(new DoubleField<>(key, BinaryTagTypes.FLOAT, setter, getter));
+    }
+
+    @Override
+    public @NotNull Builder<T, B> doubleField(final @NotNull String key, final @NotNull ObjDoubleConsumer<? super B> setter, final @NotNull ToDoubleFunction<? super T> getter) {
+      return this.add(new DoubleField<>(key, BinaryTagTypes.DOUBLE, setter, getter));
+    }
+
+    @Override
+    public @NotNull Builder<T, B> stringField(final @NotNull String key, final @NotNull BiConsumer<? super B, String> setter, final @NotNull Function<? super T, String> getter) {
+      return this.add(new StringField<>(key, setter, getter));
+    }
+
+    @Override
+    public <V> @NotNull Builder<T, B> field(final @NotNull String key, final @NotNull BinaryTagCodec<V> codec, final @NotNull BiConsumer<? super B, V> setter, final @NotNull Function<? super T, V> getter) {
+      return this.add(new CodecField<>(key, codec, setter, getter));
+    }
+
+    @Override
+    public <V> @NotNull Builder<T, B> listField(final @NotNull String key, final @NotNull BinaryTagCodec<V> codec, final @NotNull BiConsumer<? super B, List<V>> setter, final @NotNull Function<? super T, ? extends List<? extends V>> getter) {
+      return this.add(new ListField<>(key, codec, setter, getter));
+    }
+
+    @Override
+    public <V extends BinaryTag> @NotNull Builder<T, B> tagField(final @NotNull String key, final @NotNull BinaryTagType<V> type, final @NotNull BiConsumer<? super B, V> setter, final @NotNull Function<? super T, V> getter) {
+      return this.add(new TagField<>(key, type, setter, getter));
+    }
+
+    private Builder<T, B> add(final Field<T, B> field) {
+      for (final Field<T, B> existing : this.fields) {
+        if (existing.key.equals(field.key)) {
+          throw new IllegalArgumentException("Duplicate field '" + field.key + "'");
+        }
+      }
+      this.fields.add(field);
+      return this;
+    }
+
+    @Override
+    public @NotNull BinaryTagCodec<T> build() {
+      @SuppressWarnings("unchecked")
+      final Field<T, B>[] fields = (Field<T, B>[]) this.fields.toArray(new Field<?, ?>[0]);
+      return new BinaryTagCodecImpl<>(this.create, this.finish, fields);
+    }
+  }
+
+  abstract static class Field<T, B> {
+    final String key;
+    final BinaryTagType<? extends BinaryTag> type;
+    private final byte[] encodedKey;
+
+    Field(final String key, final BinaryTagType<? extends BinaryTag> type) {
+      this.key = requireNonNull(key, "key");
+      this.type = type;
+      this.encodedKey = encode(key);
+    }
+
+    private static byte[] encode(final String key) {
+      final ByteArrayOutputStream bytes = new ByteArrayOutputStream(key.length() + 2);
+      try (final DataOutputStream output = new DataOutputStream(bytes)) {
+        output.writeUTF(key);
+      } catch (final UTFDataFormatException ex) {
+        throw new IllegalArgumentException("Key is too long: " + key.length() + " characters", ex);
+      } catch (final IOException ex) {
+        throw new IllegalStateException(ex);
+      }
+      return bytes.toByteArray();
+    }
+
+    // whether the first length bytes of key are the modified UTF-8 encoding of this field's key
+    final boolean matches(final byte[] key, final int length) {
+      final byte[] encoded = this.encodedKey;
+      if (encoded.length - 2 != length) {
+        return false;
+      }
+      for (int i = 0; i < length; i++) {
+        if (encoded[i + 2] != key[i]) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    // the type id and key of an entry for this field
+    final void writeHeader(final DataOutput output) throws IOException {
+      output.writeByte(this.type.id());
+      output.write(this.encodedKey);
+    }
+
+    // reads a value of the provided type, returning false without reading anything if the type is not accepted
+    abstract boolean read(final B builder, final BinaryTagType<? extends BinaryTag> type, final TrackingDataInput input) throws IOException;
+
+    abstract void write(final T value, final DataOutput output) throws IOException;
+
+    abstract void decode(final B builder, final BinaryTag tag);
+
+    abstract void encode(final T value, final CompoundBinaryTag.Builder builder);
+  }
+
+  static final class IntField<T, B> extends Field<T, B> {
+    private final ObjIntConsumer<? super B> setter;
+    private final ToIntFunction<? super T> getter;
+
+    IntField(final String key, final BinaryTagType<? extends NumberBinaryTag> type, final ObjIntConsumer<? super B> setter, final ToIntFunction<? super T> getter) {
+      super(key, type);
+      this.setter = requireNonNull(setter, "setter");
+      this.getter = requireNonNull(getter, "getter");
+    }
+
+    @Override
+    boolean read(final B builder, final BinaryTagType<? extends BinaryTag> type, final TrackingDataInput input) throws IOException {
+      final int value;
+      if (type == BinaryTagTypes.INT) {
+        value = this.convert(input.readInt());
+      } else if (type == BinaryTagTypes.BYTE) {
+        value = input.readByte();
+      } else if (type == BinaryTagTypes.SHORT) {
+        value = this.convert(input.readShort());
+      } else if (type.numeric()) {
+        value = this.convert((NumberBinaryTag) type.read(input));
+      } else {
+        return false;
+      }
+      this.setter.accept(builder, value);
+      return true;
+    }
+
+    private int convert(final int value) {
+      if (this.type == BinaryTagTypes.BYTE) {
+        return (byte) value;
+      } else if (this.type == BinaryTagTypes.SHORT) {
+        return (short) value;
+      }
+      return value;
+    }
+
+    private int convert(final NumberBinaryTag value) {
+      if (this.type == BinaryTagTypes.BYTE) {
+        return value.byteValue();
+      } else if (this.type == BinaryTagTypes.SHORT) {
+        return value.shortValue();
+      }
+      return value.intValue();
+    }
+
+    @Override
+    void write(final T value, final DataOutput output) throws IOException {
+      final int v = this.getter.applyAsInt(value);
+      this.writeHeader(output);
+      if (this.type == BinaryTagTypes.BYTE) {
+        output.writeByte(v);
+      } else if (this.type == BinaryTagTypes.SHORT) {
+        output.writeShort(v);
+      } else {
+        output.writeInt(v);
+      }
+    }
+
+    @Override
+    void decode(final B builder, final BinaryTag tag) {
+      if (tag instanceof NumberBinaryTag) {
+        this.setter.accept(builder, this.convert((NumberBinaryTag) tag));
+      }
+    }
+
+    @Override
+    void encode(final T value, final CompoundBinaryTag.Builder builder) {
+      final int v = this.getter.applyAsInt(value);
+      if (this.type == BinaryTagTypes.BYTE) {
+        builder.putByte(this.key, (byte) v);
+      } else if (this.type == BinaryTagTypes.SHORT) {
+        builder.putShort(this.key, (short) v);
+      } else {
+        builder.putInt(this.key, v);
+      }
+    }
+  }
+
+  static final class LongField<T, B> extends Field<T, B> {
+    private final ObjLongConsumer<? super B> setter;
+    private final ToLongFunction<? super T> getter;
+
+    LongField(final String key, final ObjLongConsumer<? super B> setter, final ToLongFunction<? super T> getter) {
+      super(key, BinaryTagTypes.LONG);
+      this.setter = requireNonNull(setter, "setter");
+      this.getter = requireNonNull(getter, "getter");
+    }
+
+    @Override
+    boolean read(final B builder, final BinaryTagType<? extends BinaryTag> type, final TrackingDataInput input) throws IOException {
+      if (type == BinaryTagTypes.LONG) {
+        this.setter.accept(builder, input.readLong());
+      } else if (type.numeric()) {
+        this.setter.accept(builder, ((NumberBinaryTag) type.read(input)).longValue());
+      } else {
+        return false;
+      }
+      return true;
+    }
+
+    @Override
+    void write(final T value, final DataOutput output) throws IOException {
+      final long v = this.getter.applyAsLong(value);
+      this.writeHeader(output);
+      output.writeLong(v);
+    }
+
+    @Override
+    void decode(final B builder, final BinaryTag tag) {
+      if (tag instanceof NumberBinaryTag) {
+        this.setter.accept(builder, ((NumberBinaryTag) tag).longValue());
+      }
+    }
+
+    @Override
+    void encode(final T value, final CompoundBinaryTag.Builder builder) {
+      builder.putLong(this.key, this.getter.applyAsLong(value));
+    }
+  }
+
+  static final class DoubleField<T, B> extends Field<T, B> {
+    private final ObjDoubleConsumer<? super B> setter;
+    private final ToDoubleFunction<? super T> getter;
+
+    DoubleField(final String key, final BinaryTagType<? extends NumberBinaryTag> type, final ObjDoubleConsumer<? super B> setter, final ToDoubleFunction<? super T> getter) {
+      super(key, type);
+      this.setter = requireNonNull(setter, "setter");
+      this.getter = requireNonNull(getter, "getter");
+    }
+
+    @Override
+    boolean read(final B builder, final BinaryTagType<? extends BinaryTag> type, final TrackingDataInput input) throws IOException {
+      final double value;
+      if (type == BinaryTagTypes.DOUBLE) {
+        value = this.type == BinaryTagTypes.FLOAT ? (float) input.readDouble() : input.readDouble();
+      } else if (type == BinaryTagTypes.FLOAT) {
+        value = input.readFloat();
+      } else if (type.numeric()) {
+        final NumberBinaryTag number = (NumberBinaryTag) type.read(input);
+        value = this.type == BinaryTagTypes.FLOAT ? number.floatValue() : number.doubleValue();
+      } else {
+        return false;
+      }
+      this.setter.accept(builder, value);
+      return true;
+    }
+
+    @Override
+    void write(final T value, final DataOutput output) throws IOException {
+      final double v = this.getter.applyAsDouble(value);
+      this.writeHeader(output);
+      if (this.type == BinaryTagTypes.FLOAT) {
+        output.writeFloat((float) v);
+      } else {
+        output.writeDouble(v);
+      }
+    }
+
+    @Override
+    void decode(final B builder, final BinaryTag tag) {
+      if (tag instanceof NumberBinaryTag) {
+        final NumberBinaryTag number = (NumberBinaryTag) tag;
+        this.setter.accept(builder, this.type == BinaryTagTypes.FLOAT ? number.floatValue() : number.doubleValue());
+      }
+    }
+
+    @Override
+    void encode(final T value, final CompoundBinaryTag.Builder builder) {
+      final double v = this.getter.applyAsDouble(value);
+      if (this.type == BinaryTagTypes.FLOAT) {
+        builder.putFloat(this.key, (float) v);
+      } else {
+        builder.putDouble(this.key, v);
+      }
+    }
+  }
+
+  static final class StringField<T, B> extends Field<T, B> {
+    private final BiConsumer<? super B, String> setter;
+    private final Function<? super T, String> getter;
+
+    StringField(final String key, final BiConsumer<? super B, String> setter, final Function<? super T, String> getter) {
+      super(key, BinaryTagTypes.STRING);
+      this.setter = requireNonNull(setter, "setter");
+      this.getter = requireNonNull(getter, "getter");
+    }
+
+    @Override
+    boolean read(final B builder, final BinaryTagType<? extends BinaryTag> type, final TrackingDataInput input) throws IOException {
+      if (type != BinaryTagTypes.STRING) {
+        return false;
+      }
+      this.setter.accept(builder, TrackingDataInput.readString(input));
+      return true;
+    }
+
+    @Override
+    void write(final T value, final DataOutput output) throws IOException {
+      final String v = this.getter.apply(value);
+      if (v != null) {
+        this.writeHeader(output);
+        output.writeUTF(v);
+      }
+    }
+
+    @Override
+    void decode(final B builder, final BinaryTag tag) {
+      if (tag instanceof StringBinaryTag) {
+        this.setter.accept(builder, ((StringBinaryTag) tag).value());
+      }
+    }
+
+    @Override
+    void encode(final T value, final CompoundBinaryTag.Builder builder) {
+      final String v = this.getter.apply(value);
+      if (v != null) {
+        builder.putString(this.key, v);
+      }
+    }
+  }
+
+  static final class CodecField<T, B, V> extends Field<T, B> {
+    private final BinaryTagCodec<V> codec;
+    private final BiConsumer<? super B, V> setter;
+    private final Function<? super T, V> getter;
+
+    CodecField(final String key, final BinaryTagCodec<V> codec, final BiConsumer<? super B, V> setter, final Function<? super T, V> getter) {
+      super(key, BinaryTagTypes.COMPOUND);
+      this.codec = requireNonNull(codec, "codec");
+      this.setter = requireNonNull(setter, "setter");
+      this.getter = requireNonNull(getter, "getter");
+    }
+
+    @Override
+    boolean read(final B builder, final BinaryTagType<? extends BinaryTag> type, final TrackingDataInput input) throws IOException {
+      if (type != BinaryTagTypes.COMPOUND) {
+        return false;
+      }
+      this.setter.accept(builder, this.codec.read(input));
+      return true;
+    }
+
+    @Override
+    void write(final T value, final DataOutput output) throws IOException {
+      final V v = this.getter.apply(value);
+      if (v != null) {
+        this.writeHeader(output);
+        this.codec.write(v, output);
+      }
+    }
+
+    @Override
+    void decode(final B builder, final BinaryTag tag) {
+      if (tag instanceof CompoundBinaryTag) {
+        this.setter.accept(builder, this.codec.decode((CompoundBinaryTag) tag));
+      }
+    }
+
+    @Override
+    void encode(final T value, final CompoundBinaryTag.Builder builder) {
+      final V v = this.getter.apply(value);
+      if (v != null) {
+        builder.put(this.key, this.codec.encode(v));
+      }
+    }
+  }
+
+  static final class ListField<T, B, V> extends Field<T, B> {
+    private final BinaryTagCodec<V> codec;
+    private final BiConsumer<? super B, List<V>> setter;
+    private final Function<? super T, ? extends List<? extends V>> getter;
+
+    ListField(final String key, final BinaryTagCodec<V> codec, final BiConsumer<? super B, List<V>> setter, final Function<? super T, ? extends List<? extends V>> getter) {
+      super(key, BinaryTagTypes.LIST);
+      this.codec = requireNonNull(codec, "codec");
+      this.setter = requireNonNull(setter, "setter");
+      this.getter = requireNonNull(getter, "getter");
+    }
+
+    @Override
+    @SuppressWarnings("try")
+    boolean read(final B builder, final BinaryTagType<? extends BinaryTag> type, final TrackingDataInput input) throws IOException {
+      if (type != BinaryTagTypes.LIST) {
+        return false;
+      }
+      final BinaryTagType<? extends BinaryTag> elementType = BinaryTagType.binaryTagType(input.readByte());
+      final int length = input.readInt();
+      try (final BinaryTagScope ignored = input.enter(length * 8L)) {
+        if (elementType == BinaryTagTypes.COMPOUND) {
+          final List<V> values = new ArrayList<>(length);
+          for (int i = 0; i < length; i++) {
+            values.add(this.codec.read(input));
+          }
+          this.setter.accept(builder, values);
+        } else if (length <= 0) {
+          this.setter.accept(builder, new ArrayList<>());
+        } else {
+          // the header has been consumed already, so the elements are skipped here rather than by the caller
+          for (int i = 0; i < length; i++) {
+            BinaryTagWalker.skip(input, elementType);
+          }
+        }
+      }
+      return true;
+    }
+
+    @Override
+    void write(final T value, final DataOutput output) throws IOException {
+      final List<? extends V> v = this.getter.apply(value);
+      if (v != null) {
+        this.writeHeader(output);
+        output.writeByte(v.isEmpty() ? BinaryTagTypes.END.id() : BinaryTagTypes.COMPOUND.id());
+        output.writeInt(v.size());
+        for (final V element : v) {
+          this.codec.write(element, output);
+        }
+      }
+    }
+
+    @Override
+    void decode(final B builder, final BinaryTag tag) {
+      if (tag instanceof ListBinaryTag) {
+        final ListBinaryTag list = (ListBinaryTag) tag;
+        if (list.elementType() == BinaryTagTypes.COMPOUND) {
+          final List<V> values = new ArrayList<>(list.size());
+          for (int i = 0; i < list.size(); i++) {
+            values.add(this.codec.decode(list.getCompound(i)));
+          }
+          this.setter.accept(builder, values);
+        } else if (list.size() == 0) {
+          this.setter.accept(builder, new ArrayList<>());
+        }
+      }
+    }
+
+    @Override
+    void encode(final T value, final CompoundBinaryTag.Builder builder) {
+      final List<? extends V> v = this.getter.apply(value);
+      if (v != null) {
+        final List<BinaryTag> tags = new ArrayList<>(v.size());
+        for (final V element : v) {
+          tags.add(this.codec.encode(element));
+        }
+        builder.put(this.key, tags.isEmpty() ? ListBinaryTag.empty() : ListBinaryTag.listBinaryTag(BinaryTagTypes.COMPOUND, Collections.unmodifiableList(tags)));
+      }
+    }
+  }
+
+  static final class TagField<T, B, V extends BinaryTag> extends Field<T, B> {
+    private final BiConsumer<? super B, V> setter;
+    private final Function<? super T, V> getter;
+
+    TagField(final String key, final BinaryTagType<V> type, final BiConsumer<? super B, V> setter, final Function<? super T, V> getter) {
+      super(key, requireNonNull(type, "type"));
+      this.setter = requireNonNull(setter, "setter");
+      this.getter = requireNonNull(getter, "getter");
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    boolean read(final B builder, final BinaryTagType<? extends BinaryTag> type, final TrackingDataInput input) throws IOException {
+      if (type != this.type) {
+        return false;
+      }
+      this.setter.accept(builder, (V) type.read(input));
+      return true;
+    }
+
+    @Override
+    void write(final T value, final DataOutput output) throws IOException {
+      final V v = this.getter.apply(value);
+      if (v != null) {
+        this.writeHeader(output);
+        BinaryTagType.writeUntyped(this.type, v, output);
+      }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    void decode(final B builder, final BinaryTag tag) {
+      if (tag.type() == this.type) {
+        this.setter.accept(builder, (V) tag);
+      }
+    }
+
+    @Override
+    void encode(final T value, final CompoundBinaryTag.Builder builder) {
+      final V v = this.getter.apply(value);
+      if (v != null) {
+        builder.put(this.key, v);
+      }
+    }
+  }
+}
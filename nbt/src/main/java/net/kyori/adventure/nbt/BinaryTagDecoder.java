@@ -0,0 +1,201 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.io.DataInput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Decodes the built-in tag types.
+ *
+ * <p>Values are dispatched on their type id in a single recursive-descent loop, instead of through the reader of
+ * every {@link BinaryTagType}, so that the call sites stay monomorphic. Nesting levels are entered and exited on the
+ * {@link TrackingDataInput} directly, still enforcing its depth and size limits.</p>
+ */
+final class BinaryTagDecoder {
+  private static final byte END = 0;
+  private static final byte BYTE = 1;
+  private static final byte SHORT = 2;
+  private static final byte INT = 3;
+  private static final byte LONG = 4;
+  private static final byte FLOAT = 5;
+  private static final byte DOUBLE = 6;
+  private static final byte BYTE_ARRAY = 7;
+  private static final byte STRING = 8;
+  private static final byte LIST = 9;
+  private static final byte COMPOUND = 10;
+  private static final byte INT_ARRAY = 11;
+  private static final byte LONG_ARRAY = 12;
+
+  private BinaryTagDecoder() {
+  }
+
+  /**
+   * Reads the payload of a tag.
+   *
+   * @param id the type id of the tag
+   * @param input the input
+   * @return the tag
+   * @throws IOException if an exception was encountered while reading
+   * @throws IllegalArgumentException if the type id is not known
+   */
+  static @NotNull BinaryTag read(final byte id, final @NotNull DataInput input) throws IOException {
+    switch (id) {
+      case BYTE: return ByteBinaryTagImpl.of(input.readByte());
+      case SHORT: return ShortBinaryTagImpl.of(input.readShort());
+      case INT: return IntBinaryTagImpl.of(input.readInt());
+      case LONG: return LongBinaryTag.longBinaryTag(input.readLong());
+      case FLOAT: return FloatBinaryTag.floatBinaryTag(input.readFloat());
+      case DOUBLE: return DoubleBinaryTag.doubleBinaryTag(input.readDouble());
+      case STRING: return StringBinaryTag.stringBinaryTag(TrackingDataInput.readString(input));
+      case COMPOUND: return readCompound(input);
+      case LIST: return readList(input);
+      case BYTE_ARRAY: return readByteArray(input);
+      case INT_ARRAY: return readIntArray(input);
+      case LONG_ARRAY: return readLongArray(input);
+      case END: return EndBinaryTag.endBinaryTag();
+      default: return BinaryTagType.binaryTagType(id).read(input); // throws for unknown ids
+    }
+  }
+
+  /**
+   * Reads the payload of a compound tag.
+   *
+   * @param input the input
+   * @return the tag
+   * @throws IOException if an exception was encountered while reading
+   */
+  static @NotNull CompoundBinaryTag readCompound(final @NotNull DataInput input) throws IOException {
+    final @Nullable TrackingDataInput tracking = tracking(input);
+    if (tracking != null) tracking.enter(0);
+    final ArrayTagMap.Builder tags = new ArrayTagMap.Builder();
+    byte id;
+    while ((id = input.readByte()) != END) {
+      final String key = TrackingDataInput.readString(input);
+      tags.put(key, read(id, input));
+    }
+    // a failed read abandons its input, so levels only need to be exited on success
+    if (tracking != null) tracking.exit();
+    return tags.build();
+  }
+
+  /**
+   * Reads the payload of a list tag.
+   *
+   * @param input the input
+   * @return the tag
+   * @throws IOException if an exception was encountered while reading
+   */
+  static @NotNull ListBinaryTag readList(final @NotNull DataInput input) throws IOException {
+    final byte id = input.readByte();
+    final BinaryTagType<? extends BinaryTag> type = BinaryTagType.binaryTagType(id);
+    final int length = input.readInt();
+    final @Nullable TrackingDataInput tracking = tracking(input);
+    if (tracking != null) {
+      tracking.enter(length * 8L);
+      tracking.require(length); // every element takes at least one byte
+    }
+    final ListBinaryTag result;
+    final @Nullable PackedTagList packed = length > 0 ? PackedTagList.read(type, length, input) : null;
+    if (packed != null) {
+      result = new ListBinaryTagImpl(type, packed);
+    } else {
+      final List<BinaryTag> tags = new ArrayList<>(length);
+      for (int i = 0; i < length; i++) {
+        tags.add(read(id, input));
+      }
+      result = ListBinaryTag.listBinaryTag(type, tags);
+    }
+    if (tracking != null) tracking.exit();
+    return result;
+  }
+
+  /**
+   * Reads the payload of a byte array tag.
+   *
+   * @param input the input
+   * @return the tag
+   * @throws IOException if an exception was encountered while reading
+   */
+  static @NotNull ByteArrayBinaryTag readByteArray(final @NotNull DataInput input) throws IOException {
+    final int length = input.readInt();
+    final @Nullable TrackingDataInput tracking = tracking(input);
+    if (tracking != null) {
+      tracking.enter(length);
+      tracking.require(length);
+    }
+    final byte[] value = new byte[length];
+    input.readFully(value);
+    if (tracking != null) tracking.exit();
+    return ByteArrayBinaryTag.byteArrayBinaryTag(value);
+  }
+
+  /**
+   * Reads the payload of an int array tag.
+   *
+   * @param input the input
+   * @return the tag
+   * @throws IOException if an exception was encountered while reading
+   */
+  static @NotNull IntArrayBinaryTag readIntArray(final @NotNull DataInput input) throws IOException {
+    final int length = input.readInt();
+    final @Nullable TrackingDataInput tracking = tracking(input);
+    if (tracking != null) {
+      tracking.enter(length * 4L);
+      tracking.require(length * 4L);
+    }
+    final int[] value = new int[length];
+    BulkIO.readInts(input, value);
+    if (tracking != null) tracking.exit();
+    return IntArrayBinaryTag.intArrayBinaryTag(value);
+  }
+
+  /**
+   * Reads the payload of a long array tag.
+   *
+   * @param input the input
+   * @return the tag
+   * @throws IOException if an exception was encountered while reading
+   */
+  static @NotNull LongArrayBinaryTag readLongArray(final @NotNull DataInput input) throws IOException {
+    final int length = input.readInt();
+    final @Nullable TrackingDataInput tracking = tracking(input);
+    if (tracking != null) {
+      tracking.enter(length * 8L);
+      tracking.require(length * 8L);
+    }
+    final long[] value = new long[length];
+    BulkIO.readLongs(input, value);
+    if (tracking != null) tracking.exit();
+    return LongArrayBinaryTag.longArrayBinaryTag(value);
+  }
+
+  private static @Nullable TrackingDataInput tracking(final DataInput input) {
+    return input instanceof TrackingDataInput ? (TrackingDataInput) input : null;
+  }
+}
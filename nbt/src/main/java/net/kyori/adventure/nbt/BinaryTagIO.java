@@ -28,13 +28,19 @@ import java.io.DataOutput;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.util.Map;
-import java.util.zip.DeflaterOutputStream;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
-import java.util.zip.InflaterInputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.zip.Deflater;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Range;
+
+import static java.util.Objects.requireNonNull;
 
 /**
  * Serialization operations for binary tags.
@@ -83,10 +89,7 @@ public final class BinaryTagIO {
    * @since 4.4.0
    */
   public static @NotNull Reader reader(final long sizeLimitBytes) {
-    if (sizeLimitBytes <= 0) {
-      throw new IllegalArgumentException("The size limit must be greater than zero");
-    }
-    return new BinaryTagReaderImpl(sizeLimitBytes);
+    return new BinaryTagReaderImpl(BinaryTagReaderImpl.sizeLimit(sizeLimitBytes));
   }
 
   /**
@@ -245,6 +248,69 @@ public final class BinaryTagIO {
    * @since 4.4.0
    */
   public interface Reader {
+    /**
+     * Creates a reader that only reads the parts of a binary tag selected by {@code paths}.
+     *
+     * <p>A path is a sequence of compound keys separated by {@code .}, such as {@code Pos} or {@code Data.Player.Health}.
+     * A key may be followed by {@code []} to select into every element of a list, such as {@code Inventory[].id}.
+     * Keys containing {@code .}, {@code [} or {@code "} may be quoted with {@code "}.</p>
+     *
+     * <p>Compounds and lists along a selected path are kept, even when nothing inside of them matched.
+     * Everything else is skipped in the input without being decoded. The projection also applies when
+     * {@link #visit(DataInput, BinaryTagVisitor) visiting} tags, in which case unselected values are never reported.</p>
+     *
+     * <p>The returned reader replaces any projection of this reader, is not {@link #lazy() lazy}, and keeps the size limit and {@link #interning() interning} of this reader.</p>
+     *
+     * @param paths the paths to read
+     * @return a projecting reader
+     * @throws IllegalArgumentException if a path is malformed
+     * @since 4.18.0
+     */
+    @NotNull Reader project(final @NotNull String@NotNull... paths);
+
+    /**
+     * Creates a reader that only reads the parts of a binary tag selected by {@code paths}.
+     *
+     * @param paths the paths to read
+     * @return a projecting reader
+     * @throws IllegalArgumentException if a path is malformed
+     * @see #project(String...)
+     * @since 4.18.0
+     */
+    @NotNull Reader project(final @NotNull Iterable<String> paths);
+
+    /**
+     * Creates a reader that decodes the entries of compound tags only once they are accessed.
+     *
+     * <p>The structure of the input is still fully validated while reading, but only the encoded
+     * form of every compound tag is kept. Entries are decoded on demand, such as by {@link CompoundBinaryTag#get(String)},
+     * and nested compound tags are read lazily as well.</p>
+     *
+     * <p>When a lazily read compound tag that has not been modified is written again, its encoded
+     * form is copied to the output as it is. This makes passing tags through, or re-saving them after
+     * changing a few entries, much cheaper than decoding and encoding them entirely.</p>
+     *
+     * <p>The returned reader does not have a {@link #project(String...) projection}, and keeps the size limit and {@link #interning() interning} of this reader.</p>
+     *
+     * @return a lazy reader
+     * @since 4.18.0
+     */
+    @NotNull Reader lazy();
+
+    /**
+     * Creates a reader that shares the strings it reads through a bounded pool.
+     *
+     * <p>Compound keys and short string values are looked up in the pool by their encoded bytes,
+     * so strings that repeat across many tags, such as {@code id} or {@code minecraft:stone}, are only decoded and allocated once.
+     * The pool is shared by all interning readers and holds a fixed number of strings, replacing older strings as new ones are read.</p>
+     *
+     * <p>The returned reader keeps the projection, laziness and size limit of this reader.</p>
+     *
+     * @return an interning reader
+     * @since 4.18.0
+     */
+    @NotNull Reader interning();
+
     /**
      * Reads a binary tag from {@code path}.
      *
@@ -315,6 +381,25 @@ public final class BinaryTagIO {
      */
     @NotNull CompoundBinaryTag read(final @NotNull DataInput input) throws IOException;
 
+    /**
+     * Reads a binary tag from {@code buffer}.
+     *
+     * <p>Reading starts at the position of the buffer, and may not go past its limit.
+     * Once the tag has been read, the position of the buffer is moved to the end of the tag.</p>
+     *
+     * <p>The buffer is read directly, so this is the most efficient way to read tags that are already in memory.
+     * This includes direct buffers and files mapped with {@link java.nio.channels.FileChannel#map}, for example to read
+     * many tags out of a single region-style file.</p>
+     *
+     * <p>The root name field is discarded.</p>
+     *
+     * @param buffer the buffer
+     * @return a binary tag
+     * @throws IOException if an exception was encountered while reading the tag
+     * @since 4.18.0
+     */
+    @NotNull CompoundBinaryTag read(final @NotNull ByteBuffer buffer) throws IOException;
+
     /**
      * Reads a binary tag from {@code path}.
      *
@@ -390,6 +475,23 @@ public final class BinaryTagIO {
      */
     @NotNull CompoundBinaryTag readNameless(final @NotNull DataInput input) throws IOException;
 
+    /**
+     * Reads a binary tag from {@code buffer}.
+     *
+     * <p>Reading starts at the position of the buffer, and may not go past its limit.
+     * Once the tag has been read, the position of the buffer is moved to the end of the tag.</p>
+     *
+     * <p>Doesn't read a root name from the {@link ByteBuffer} at all, to match the wire protocol in modern game versions.</p>
+     *
+     * @param buffer the buffer
+     * @return a binary tag
+     * @throws IOException if an exception was encountered while reading the tag
+     * @see #read(ByteBuffer)
+     * @since 4.18.0
+     * @sinceMinecraft 1.20.2
+     */
+    @NotNull CompoundBinaryTag readNameless(final @NotNull ByteBuffer buffer) throws IOException;
+
     /**
      * Reads a binary tag, with a name, from {@code path}.
      *
@@ -449,6 +551,179 @@ public final class BinaryTagIO {
      * @since 4.4.0
      */
     Map.@NotNull Entry<String, CompoundBinaryTag> readNamed(final @NotNull DataInput input) throws IOException;
+
+    /**
+     * Reads a binary tag, with a name, from {@code buffer}.
+     *
+     * <p>Reading starts at the position of the buffer, and may not go past its limit.
+     * Once the tag has been read, the position of the buffer is moved to the end of the tag.</p>
+     *
+     * @param buffer the buffer
+     * @return a binary tag
+     * @throws IOException if an exception was encountered while reading the tag
+     * @see #read(ByteBuffer)
+     * @since 4.18.0
+     */
+    Map.@NotNull Entry<String, CompoundBinaryTag> readNamed(final @NotNull ByteBuffer buffer) throws IOException;
+
+    /**
+     * Reads a binary tag from {@code path}, reporting its contents to {@code visitor} instead of building a tree.
+     *
+     * <p>This is the equivalent of passing {@code Compression#NONE} as the second parameter to {@link #visit(Path, Compression, BinaryTagVisitor)}.</p>
+     *
+     * <p>The root name field is discarded.</p>
+     *
+     * @param path the path
+     * @param visitor the visitor
+     * @throws IOException if an exception was encountered while reading the tag
+     * @since 4.18.0
+     */
+    default void visit(final @NotNull Path path, final @NotNull BinaryTagVisitor visitor) throws IOException {
+      this.visit(path, Compression.NONE, visitor);
+    }
+
+    /**
+     * Reads a binary tag from {@code path} with a {@code compression} type, reporting its contents to {@code visitor} instead of building a tree.
+     *
+     * <p>The root name field is discarded.</p>
+     *
+     * @param path the path
+     * @param compression the compression type
+     * @param visitor the visitor
+     * @throws IOException if an exception was encountered while reading the tag
+     * @since 4.18.0
+     */
+    void visit(final @NotNull Path path, final @NotNull Compression compression, final @NotNull BinaryTagVisitor visitor) throws IOException;
+
+    /**
+     * Reads a binary tag from {@code input}, reporting its contents to {@code visitor} instead of building a tree.
+     *
+     * <p>This is the equivalent of passing {@code Compression#NONE} as the second parameter to {@link #visit(InputStream, Compression, BinaryTagVisitor)}.</p>
+     *
+     * <p>The root name field is discarded.</p>
+     *
+     * @param input the input stream
+     * @param visitor the visitor
+     * @throws IOException if an exception was encountered while reading the tag
+     * @since 4.18.0
+     */
+    default void visit(final @NotNull InputStream input, final @NotNull BinaryTagVisitor visitor) throws IOException {
+      this.visit(input, Compression.NONE, visitor);
+    }
+
+    /**
+     * Reads a binary tag from {@code input} with a {@code compression} type, reporting its contents to {@code visitor} instead of building a tree.
+     *
+     * <p>The root name field is discarded.</p>
+     *
+     * @param input the input stream
+     * @param compression the compression type
+     * @param visitor the visitor
+     * @throws IOException if an exception was encountered while reading the tag
+     * @since 4.18.0
+     */
+    void visit(final @NotNull InputStream input, final @NotNull Compression compression, final @NotNull BinaryTagVisitor visitor) throws IOException;
+
+    /**
+     * Reads a binary tag from {@code input}, reporting its contents to {@code visitor} instead of building a tree.
+     *
+     * <p>Values the visitor is not interested in are skipped without being decoded.
+     * The size limit of this reader still applies to skipped values.</p>
+     *
+     * <p>The root name field is discarded.</p>
+     *
+     * @param input the input
+     * @param visitor the visitor
+     * @throws IOException if an exception was encountered while reading the tag
+     * @since 4.18.0
+     */
+    void visit(final @NotNull DataInput input, final @NotNull BinaryTagVisitor visitor) throws IOException;
+
+    /**
+     * Reads a binary tag from {@code path}, reporting its contents to {@code visitor} instead of building a tree.
+     *
+     * <p>This is the equivalent of passing {@code Compression#NONE} as the second parameter to {@link #visitNameless(Path, Compression, BinaryTagVisitor)}.</p>
+     *
+     * <p>Doesn't read a root name from the {@link Path} at all, to match the wire protocol in modern game versions.</p>
+     *
+     * @param path the path
+     * @param visitor the visitor
+     * @throws IOException if an exception was encountered while reading the tag
+     * @since 4.18.0
+     */
+    default void visitNameless(final @NotNull Path path, final @NotNull BinaryTagVisitor visitor) throws IOException {
+      this.visitNameless(path, Compression.NONE, visitor);
+    }
+
+    /**
+     * Reads a binary tag from {@code path} with a {@code compression} type, reporting its contents to {@code visitor} instead of building a tree.
+     *
+     * <p>Doesn't read a root name from the {@link Path} at all, to match the wire protocol in modern game versions.</p>
+     *
+     * @param path the path
+     * @param compression the compression type
+     * @param visitor the visitor
+     * @throws IOException if an exception was encountered while reading the tag
+     * @since 4.18.0
+     */
+    void visitNameless(final @NotNull Path path, final @NotNull Compression compression, final @NotNull BinaryTagVisitor visitor) throws IOException;
+
+    /**
+     * Reads a binary tag from {@code input}, reporting its contents to {@code visitor} instead of building a tree.
+     *
+     * <p>This is the equivalent of passing {@code Compression#NONE} as the second parameter to {@link #visitNameless(InputStream, Compression, BinaryTagVisitor)}.</p>
+     *
+     * <p>Doesn't read a root name from the {@link InputStream} at all, to match the wire protocol in modern game versions.</p>
+     *
+     * @param input the input stream
+     * @param visitor the visitor
+     * @throws IOException if an exception was encountered while reading the tag
+     * @since 4.18.0
+     */
+    default void visitNameless(final @NotNull InputStream input, final @NotNull BinaryTagVisitor visitor) throws IOException {
+      this.visitNameless(input, Compression.NONE, visitor);
+    }
+
+    /**
+     * Reads a binary tag from {@code input} with a {@code compression} type, reporting its contents to {@code visitor} instead of building a tree.
+     *
+     * <p>Doesn't read a root name from the {@link InputStream} at all, to match the wire protocol in modern game versions.</p>
+     *
+     * @param input the input stream
+     * @param compression the compression type
+     * @param visitor the visitor
+     * @throws IOException if an exception was encountered while reading the tag
+     * @since 4.18.0
+     */
+    void visitNameless(final @NotNull InputStream input, final @NotNull Compression compression, final @NotNull BinaryTagVisitor visitor) throws IOException;
+
+    /**
+     * Reads a binary tag from {@code input}, reporting its contents to {@code visitor} instead of building a tree.
+     *
+     * <p>Values the visitor is not interested in are skipped without being decoded.
+     * The size limit of this reader still applies to skipped values.</p>
+     *
+     * <p>Doesn't read a root name from the {@link DataInput} at all, to match the wire protocol in modern game versions.</p>
+     *
+     * @param input the input
+     * @param visitor the visitor
+     * @throws IOException if an exception was encountered while reading the tag
+     * @since 4.18.0
+     */
+    void visitNameless(final @NotNull DataInput input, final @NotNull BinaryTagVisitor visitor) throws IOException;
+
+    /**
+     * Creates a batch reader, reading many binary tags in parallel with this reader.
+     *
+     * @param executor the executor to read on
+     * @param parallelism the maximum number of tags to read at once
+     * @return a batch reader
+     * @throws IllegalArgumentException if {@code parallelism} is less than {@code 1}
+     * @since 4.18.0
+     */
+    default @NotNull BatchReader batch(final @NotNull Executor executor, final int parallelism) {
+      return new BatchReaderImpl(this, executor, parallelism);
+    }
   }
 
   /**
@@ -661,6 +936,230 @@ public final class BinaryTagIO {
      * @since 4.4.0
      */
     void writeNamed(final Map.@NotNull Entry<String, CompoundBinaryTag> tag, final @NotNull DataOutput output) throws IOException;
+
+    /**
+     * Gets the number of bytes {@link #write(CompoundBinaryTag, DataOutput)} would write for a tag, including the empty root name.
+     *
+     * <p>The sizes of compound and list tags are cached, so measuring a tag that shares most of its subtrees with a
+     * previously measured tag only visits the parts that changed.</p>
+     *
+     * @param tag the tag
+     * @return the encoded size in bytes
+     * @throws ArithmeticException if the encoded size is larger than {@link Integer#MAX_VALUE}
+     * @since 4.18.0
+     */
+    int size(final @NotNull CompoundBinaryTag tag);
+
+    /**
+     * Gets the number of bytes {@link #writeNameless(CompoundBinaryTag, DataOutput)} would write for a tag.
+     *
+     * @param tag the tag
+     * @return the encoded size in bytes
+     * @throws ArithmeticException if the encoded size is larger than {@link Integer#MAX_VALUE}
+     * @since 4.18.0
+     */
+    int sizeNameless(final @NotNull CompoundBinaryTag tag);
+
+    /**
+     * Writes a binary tag into a buffer, starting at its position.
+     *
+     * <p>An empty root name is written. The tag is measured first, and nothing is written if the buffer does not
+     * have {@link #size(CompoundBinaryTag)} bytes remaining. The position of the buffer is advanced past the tag.</p>
+     *
+     * @param tag the tag to write
+     * @param buffer the buffer
+     * @throws IOException if an exception was encountered while writing the tag
+     * @throws java.nio.BufferOverflowException if the buffer does not have enough space remaining
+     * @since 4.18.0
+     */
+    void write(final @NotNull CompoundBinaryTag tag, final @NotNull ByteBuffer buffer) throws IOException;
+
+    /**
+     * Writes a binary tag into a buffer, starting at its position, without a root name.
+     *
+     * <p>The tag is measured first, and nothing is written if the buffer does not have
+     * {@link #sizeNameless(CompoundBinaryTag)} bytes remaining. The position of the buffer is advanced past the tag.</p>
+     *
+     * @param tag the tag to write
+     * @param buffer the buffer
+     * @throws IOException if an exception was encountered while writing the tag
+     * @throws java.nio.BufferOverflowException if the buffer does not have enough space remaining
+     * @since 4.18.0
+     */
+    void writeNameless(final @NotNull CompoundBinaryTag tag, final @NotNull ByteBuffer buffer) throws IOException;
+
+    /**
+     * Writes a binary tag into an array of exactly its encoded size.
+     *
+     * <p>An empty root name is written.</p>
+     *
+     * @param tag the tag to write
+     * @return the encoded tag
+     * @throws IOException if an exception was encountered while writing the tag, or the encoded tag is larger than an array can hold
+     * @since 4.18.0
+     */
+    byte@NotNull[] toByteArray(final @NotNull CompoundBinaryTag tag) throws IOException;
+
+    /**
+     * Creates a batch writer, writing many binary tags in parallel with this writer.
+     *
+     * @param executor the executor to write on
+     * @param parallelism the maximum number of tags to write at once
+     * @return a batch writer
+     * @throws IllegalArgumentException if {@code parallelism} is less than {@code 1}
+     * @since 4.18.0
+     */
+    default @NotNull BatchWriter batch(final @NotNull Executor executor, final int parallelism) {
+      return new BatchWriterImpl(this, executor, parallelism);
+    }
+  }
+
+  /**
+   * Reads many binary tags in parallel.
+   *
+   * <p>Sources are read on the executor of the batch, with no more than its parallelism in progress at once.
+   * Sources are only taken from the given {@link Iterable} as they are about to be read, and every result is handed
+   * to the result consumer rather than being kept, so memory use stays bounded no matter how many sources there are.</p>
+   *
+   * <p>A source that cannot be read does not stop the batch. Its error is reported in its {@link BatchResult}.</p>
+   *
+   * @since 4.18.0
+   */
+  public interface BatchReader {
+    /**
+     * Reads a binary tag from each of {@code paths}.
+     *
+     * <p>The root name fields are discarded.</p>
+     *
+     * @param paths the paths
+     * @param compression the compression type
+     * @param results a consumer of the results, which may be called concurrently
+     * @return a future completed once every path has been read, or completed exceptionally if the
+     *     result consumer failed or the executor rejected the batch
+     * @since 4.18.0
+     */
+    @NotNull CompletableFuture<Void> read(final @NotNull Iterable<? extends Path> paths, final @NotNull Compression compression, final @NotNull Consumer<? super BatchResult<Path>> results);
+
+    /**
+     * Reads a binary tag from an input stream opened for each of {@code sources}.
+     *
+     * <p>The streams are closed once read. The root name fields are discarded.</p>
+     *
+     * @param sources the sources
+     * @param opener the function opening an input stream for a source
+     * @param compression the compression type
+     * @param results a consumer of the results, which may be called concurrently
+     * @param <S> the source type
+     * @return a future completed once every source has been read, or completed exceptionally if the
+     *     result consumer failed or the executor rejected the batch
+     * @since 4.18.0
+     */
+    <S> @NotNull CompletableFuture<Void> read(final @NotNull Iterable<? extends S> sources, final @NotNull Opener<? super S, ? extends InputStream> opener, final @NotNull Compression compression, final @NotNull Consumer<? super BatchResult<S>> results);
+  }
+
+  /**
+   * Writes many binary tags in parallel.
+   *
+   * <p>Targets are written on the executor of the batch, with no more than its parallelism in progress at once.
+   * The tag for a target is only requested once it is about to be written.</p>
+   *
+   * <p>A target that cannot be written does not stop the batch. Its error is reported in its {@link BatchResult}.</p>
+   *
+   * @since 4.18.0
+   */
+  public interface BatchWriter {
+    /**
+     * Writes binary tags to paths.
+     *
+     * <p>Empty root names are written.</p>
+     *
+     * @param tags the tags to write, by path
+     * @param compression the compression type
+     * @param results a consumer of the results, which may be called concurrently
+     * @return a future completed once every tag has been written, or completed exceptionally if the
+     *     result consumer failed or the executor rejected the batch
+     * @since 4.18.0
+     */
+    @NotNull CompletableFuture<Void> write(final @NotNull Map<? extends Path, ? extends CompoundBinaryTag> tags, final @NotNull Compression compression, final @NotNull Consumer<? super BatchResult<Path>> results);
+
+    /**
+     * Writes a binary tag to an output stream opened for each of {@code targets}.
+     *
+     * <p>The streams are closed once written. Empty root names are written.</p>
+     *
+     * @param targets the targets
+     * @param tags the function providing the tag to write for a target
+     * @param opener the function opening an output stream for a target
+     * @param compression the compression type
+     * @param results a consumer of the results, which may be called concurrently
+     * @param <T> the target type
+     * @return a future completed once every tag has been written, or completed exceptionally if the
+     *     result consumer failed or the executor rejected the batch
+     * @since 4.18.0
+     */
+    <T> @NotNull CompletableFuture<Void> write(final @NotNull Iterable<? extends T> targets, final @NotNull Function<? super T, ? extends CompoundBinaryTag> tags, final @NotNull Opener<? super T, ? extends OutputStream> opener, final @NotNull Compression compression, final @NotNull Consumer<? super BatchResult<T>> results);
+  }
+
+  /**
+   * The outcome of reading or writing one item of a batch.
+   *
+   * @param <K> the type of the item
+   * @since 4.18.0
+   */
+  public interface BatchResult<K> {
+    /**
+     * Gets the item, such as the path that was read or written.
+     *
+     * @return the item
+     * @since 4.18.0
+     */
+    @NotNull K item();
+
+    /**
+     * Gets the tag that was read or written.
+     *
+     * @return the tag, or {@code null} if the item failed
+     * @since 4.18.0
+     */
+    @Nullable CompoundBinaryTag tag();
+
+    /**
+     * Gets the error the item failed with.
+     *
+     * @return the error, or {@code null} if the item succeeded
+     * @since 4.18.0
+     */
+    @Nullable Exception error();
+
+    /**
+     * Gets whether the item succeeded.
+     *
+     * @return {@code true} if the item succeeded
+     * @since 4.18.0
+     */
+    default boolean successful() {
+      return this.error() == null;
+    }
+  }
+
+  /**
+   * Opens a stream for an item of a batch.
+   *
+   * @param <K> the type of the item
+   * @param <S> the type of the stream
+   * @since 4.18.0
+   */
+  @FunctionalInterface
+  public interface Opener<K, S> {
+    /**
+     * Opens a stream.
+     *
+     * @param item the item
+     * @return a stream, which will be closed by the batch
+     * @throws IOException if the stream could not be opened
+     * @since 4.18.0
+     */
+    @NotNull S open(final @NotNull K item) throws IOException;
   }
 
   /**
@@ -695,46 +1194,133 @@ public final class BinaryTagIO {
      *
      * @since 4.4.0
      */
-    public static final Compression GZIP = new Compression() {
-      @Override
-      @NotNull InputStream decompress(final @NotNull InputStream is) throws IOException {
-        return new GZIPInputStream(is);
-      }
-
-      @Override
-      @NotNull OutputStream compress(final @NotNull OutputStream os) throws IOException {
-        return new GZIPOutputStream(os);
-      }
-
-      @Override
-      public String toString() {
-        return "Compression.GZIP";
-      }
-    };
+    public static final Compression GZIP = new DeflateCompression(true, Deflater.DEFAULT_COMPRESSION, DeflateCompression.DEFAULT_BUFFER_SIZE, "Compression.GZIP");
     /**
      * <a href="https://en.wikipedia.org/wiki/Zlib">ZLIB</a> compression.
      *
      * @since 4.6.0
      */
-    public static final Compression ZLIB = new Compression() {
-      @Override
-      @NotNull InputStream decompress(final @NotNull InputStream is) {
-        return new InflaterInputStream(is);
-      }
+    public static final Compression ZLIB = new DeflateCompression(false, Deflater.DEFAULT_COMPRESSION, DeflateCompression.DEFAULT_BUFFER_SIZE, "Compression.ZLIB");
 
-      @Override
-      @NotNull OutputStream compress(final @NotNull OutputStream os) {
-        return new DeflaterOutputStream(os);
-      }
+    /**
+     * Creates a <a href="https://en.wikipedia.org/wiki/Gzip">GZIP</a> compression type with a custom level and buffer size.
+     *
+     * <p>Lower levels trade compression ratio for speed. The level only affects compression, data compressed at any level can be read by any GZIP compression type.</p>
+     *
+     * @param level the compression level, from {@code 0} (no compression) to {@code 9} (best compression), or {@code -1} for the default level
+     * @param bufferSize the size of the buffer used when compressing and decompressing, in bytes
+     * @return a compression type
+     * @throws IllegalArgumentException if the level or buffer size is out of range
+     * @since 4.18.0
+     */
+    public static @NotNull Compression gzip(final @Range(from = -1, to = 9) int level, final @Range(from = 1, to = Integer.MAX_VALUE) int bufferSize) {
+      return new DeflateCompression(true, level, bufferSize);
+    }
 
-      @Override
-      public String toString() {
-        return "Compression.ZLIB";
-      }
-    };
+    /**
+     * Creates a <a href="https://en.wikipedia.org/wiki/Zlib">ZLIB</a> compression type with a custom level and buffer size.
+     *
+     * <p>Lower levels trade compression ratio for speed. The level only affects compression, data compressed at any level can be read by any ZLIB compression type.</p>
+     *
+     * @param level the compression level, from {@code 0} (no compression) to {@code 9} (best compression), or {@code -1} for the default level
+     * @param bufferSize the size of the buffer used when compressing and decompressing, in bytes
+     * @return a compression type
+     * @throws IllegalArgumentException if the level or buffer size is out of range
+     * @since 4.18.0
+     */
+    public static @NotNull Compression zlib(final @Range(from = -1, to = 9) int level, final @Range(from = 1, to = Integer.MAX_VALUE) int bufferSize) {
+      return new DeflateCompression(false, level, bufferSize);
+    }
+
+    /**
+     * Creates a compression type backed by a custom codec.
+     *
+     * @param name the name of the compression type
+     * @param codec the codec
+     * @return a compression type
+     * @since 4.18.0
+     */
+    public static @NotNull Compression compression(final @NotNull String name, final @NotNull Codec codec) {
+      return new CodecCompression(requireNonNull(name, "name"), requireNonNull(codec, "codec"));
+    }
+
+    /**
+     * Gets a compression type by name.
+     *
+     * <p>The built-in types are named {@code none}, {@code gzip} and {@code zlib}.
+     * Other types are looked up from the {@link Provider}s available through {@link java.util.ServiceLoader}.</p>
+     *
+     * @param name the name
+     * @return the compression type, or {@code null} if there is no compression type with the name
+     * @since 4.18.0
+     */
+    public static @Nullable Compression named(final @NotNull String name) {
+      return CodecCompression.lookup(requireNonNull(name, "name"));
+    }
 
     abstract @NotNull InputStream decompress(final @NotNull InputStream is) throws IOException;
 
     abstract @NotNull OutputStream compress(final @NotNull OutputStream os) throws IOException;
+
+    /**
+     * A codec wrapping streams to compress and decompress them.
+     *
+     * <p>Codecs allow adding compression formats that are not built in,
+     * such as faster formats to use when saving data frequently.</p>
+     *
+     * @see #compression(String, Codec)
+     * @since 4.18.0
+     */
+    public interface Codec {
+      /**
+       * Wraps a stream to decompress the data read from it.
+       *
+       * <p>Closing the returned stream must close {@code input}.</p>
+       *
+       * @param input the compressed input
+       * @return a stream of decompressed data
+       * @throws IOException if an exception occurs while reading from {@code input}
+       * @since 4.18.0
+       */
+      @NotNull InputStream decompress(final @NotNull InputStream input) throws IOException;
+
+      /**
+       * Wraps a stream to compress the data written to it.
+       *
+       * <p>Closing the returned stream must finish the compressed data and close {@code output}.</p>
+       *
+       * @param output the compressed output
+       * @return a stream accepting data to compress
+       * @throws IOException if an exception occurs while writing to {@code output}
+       * @since 4.18.0
+       */
+      @NotNull OutputStream compress(final @NotNull OutputStream output) throws IOException;
+    }
+
+    /**
+     * A service providing a named compression type.
+     *
+     * <p>Providers are discovered with {@link java.util.ServiceLoader} the first time an unknown name is passed to {@link #named(String)}.
+     * When several providers share a name, the first one found is used.</p>
+     *
+     * @since 4.18.0
+     */
+    public interface Provider {
+      /**
+       * Gets the name of the provided compression type.
+       *
+       * @return the name
+       * @since 4.18.0
+       */
+      @NotNull String name();
+
+      /**
+       * Gets the provided compression type.
+       *
+       * @return the compression type
+       * @since 4.18.0
+       */
+      @NotNull Compression compression();
+    }
   }
 }
@@ -0,0 +1,240 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A structural difference between two compound or list tags.
+ *
+ * <p>Patches only describe the entries and elements that changed. Subtrees that are the same instance, or that are
+ * equal, are skipped without being described, so patching a large tag that only changed in one nested value is cheap
+ * both in time and in encoded size.</p>
+ *
+ * <p>A patch can be applied to any tag with a compatible structure, though it is normally applied to a tag equal to the
+ * one it was computed from, which then produces a tag equal to the target. Entries and elements the patch does not touch
+ * are kept as the same instances.</p>
+ *
+ * @param <T> the type of tag the patch applies to
+ * @since 4.18.0
+ */
+public interface BinaryTagPatch<T extends BinaryTag> {
+  /**
+   * Computes the patch turning one compound tag into another.
+   *
+   * @param from the original tag
+   * @param to the target tag
+   * @return a patch
+   * @since 4.18.0
+   */
+  static @NotNull BinaryTagPatch<CompoundBinaryTag> diff(final @NotNull CompoundBinaryTag from, final @NotNull CompoundBinaryTag to) {
+    return BinaryTagPatchImpl.CompoundPatch.diff(from, to);
+  }
+
+  /**
+   * Computes the patch turning one list tag into another.
+   *
+   * @param from the original tag
+   * @param to the target tag
+   * @return a patch
+   * @since 4.18.0
+   */
+  static @NotNull BinaryTagPatch<ListBinaryTag> diff(final @NotNull ListBinaryTag from, final @NotNull ListBinaryTag to) {
+    return BinaryTagPatchImpl.ListPatch.diff(from, to);
+  }
+
+  /**
+   * Reads a compound tag patch written by {@link #write(DataOutput)}.
+   *
+   * <p>The same size limit as {@link BinaryTagIO#reader()} applies to the data read.</p>
+   *
+   * @param input the input
+   * @return the patch
+   * @throws IOException if an exception was encountered while reading, or the input does not hold a compound tag patch
+   * @since 4.18.0
+   */
+  static @NotNull BinaryTagPatch<CompoundBinaryTag> read(final @NotNull DataInput input) throws IOException {
+    return BinaryTagPatchImpl.read(input, BinaryTagTypes.COMPOUND, BinaryTagReaderImpl.DEFAULT_MAX_BYTES);
+  }
+
+  /**
+   * Reads a compound tag patch written by {@link #write(DataOutput)}, with a custom size limit.
+   *
+   * <p>The limit applies to the data read in the same way as for {@link BinaryTagIO#reader(long)}.</p>
+   *
+   * @param input the input
+   * @param sizeLimitBytes the maximum (approximate) size of data, must be greater than {@code 0}
+   * @return the patch
+   * @throws IOException if an exception was encountered while reading, or the input does not hold a compound tag patch
+   * @throws IllegalArgumentException if {@code sizeLimitBytes} is not positive
+   * @since 4.18.0
+   */
+  static @NotNull BinaryTagPatch<CompoundBinaryTag> read(final @NotNull DataInput input, final long sizeLimitBytes) throws IOException {
+    return BinaryTagPatchImpl.read(input, BinaryTagTypes.COMPOUND, BinaryTagReaderImpl.sizeLimit(sizeLimitBytes));
+  }
+
+  /**
+   * Reads a compound tag patch written by {@link #write(OutputStream, BinaryTagIO.Compression)}.
+   *
+   * <p>The same size limit as {@link BinaryTagIO#reader()} applies to the uncompressed data.
+   * The stream is not closed afterwards.</p>
+   *
+   * @param input the input stream
+   * @param compression the compression type of the input
+   * @return the patch
+   * @throws IOException if an exception was encountered while reading, or the input does not hold a compound tag patch
+   * @since 4.18.0
+   */
+  static @NotNull BinaryTagPatch<CompoundBinaryTag> read(final @NotNull InputStream input, final BinaryTagIO.@NotNull Compression compression) throws IOException {
+    return BinaryTagPatchImpl.read(input, compression, BinaryTagTypes.COMPOUND, BinaryTagReaderImpl.DEFAULT_MAX_BYTES);
+  }
+
+  /**
+   * Reads a compound tag patch written by {@link #write(OutputStream, BinaryTagIO.Compression)}, with a custom size limit.
+   *
+   * <p>The limit applies to the uncompressed data in the same way as for {@link BinaryTagIO#reader(long)}.
+   * The stream is not closed afterwards.</p>
+   *
+   * @param input the input stream
+   * @param compression the compression type of the input
+   * @param sizeLimitBytes the maximum (approximate) size of uncompressed data, must be greater than {@code 0}
+   * @return the patch
+   * @throws IOException if an exception was encountered while reading, or the input does not hold a compound tag patch
+   * @throws IllegalArgumentException if {@code sizeLimitBytes} is not positive
+   * @since 4.18.0
+   */
+  static @NotNull BinaryTagPatch<CompoundBinaryTag> read(final @NotNull InputStream input, final BinaryTagIO.@NotNull Compression compression, final long sizeLimitBytes) throws IOException {
+    return BinaryTagPatchImpl.read(input, compression, BinaryTagTypes.COMPOUND, BinaryTagReaderImpl.sizeLimit(sizeLimitBytes));
+  }
+
+  /**
+   * Reads a list tag patch written by {@link #write(DataOutput)}.
+   *
+   * <p>The same size limit as {@link BinaryTagIO#reader()} applies to the data read.</p>
+   *
+   * @param input the input
+   * @return the patch
+   * @throws IOException if an exception was encountered while reading, or the input does not hold a list tag patch
+   * @since 4.18.0
+   */
+  static @NotNull BinaryTagPatch<ListBinaryTag> readList(final @NotNull DataInput input) throws IOException {
+    return BinaryTagPatchImpl.read(input, BinaryTagTypes.LIST, BinaryTagReaderImpl.DEFAULT_MAX_BYTES);
+  }
+
+  /**
+   * Reads a list tag patch written by {@link #write(DataOutput)}, with a custom size limit.
+   *
+   * <p>The limit applies to the data read in the same way as for {@link BinaryTagIO#reader(long)}.</p>
+   *
+   * @param input the input
+   * @param sizeLimitBytes the maximum (approximate) size of data, must be greater than {@code 0}
+   * @return the patch
+   * @throws IOException if an exception was encountered while reading, or the input does not hold a list tag patch
+   * @throws IllegalArgumentException if {@code sizeLimitBytes} is not positive
+   * @since 4.18.0
+   */
+  static @NotNull BinaryTagPatch<ListBinaryTag> readList(final @NotNull DataInput input, final long sizeLimitBytes) throws IOException {
+    return BinaryTagPatchImpl.read(input, BinaryTagTypes.LIST, BinaryTagReaderImpl.sizeLimit(sizeLimitBytes));
+  }
+
+  /**
+   * Reads a list tag patch written by {@link #write(OutputStream, BinaryTagIO.Compression)}.
+   *
+   * <p>The same size limit as {@link BinaryTagIO#reader()} applies to the uncompressed data.
+   * The stream is not closed afterwards.</p>
+   *
+   * @param input the input stream
+   * @param compression the compression type of the input
+   * @return the patch
+   * @throws IOException if an exception was encountered while reading, or the input does not hold a list tag patch
+   * @since 4.18.0
+   */
+  static @NotNull BinaryTagPatch<ListBinaryTag> readList(final @NotNull InputStream input, final BinaryTagIO.@NotNull Compression compression) throws IOException {
+    return BinaryTagPatchImpl.read(input, compression, BinaryTagTypes.LIST, BinaryTagReaderImpl.DEFAULT_MAX_BYTES);
+  }
+
+  /**
+   * Reads a list tag patch written by {@link #write(OutputStream, BinaryTagIO.Compression)}, with a custom size limit.
+   *
+   * <p>The limit applies to the uncompressed data in the same way as for {@link BinaryTagIO#reader(long)}.
+   * The stream is not closed afterwards.</p>
+   *
+   * @param input the input stream
+   * @param compression the compression type of the input
+   * @param sizeLimitBytes the maximum (approximate) size of uncompressed data, must be greater than {@code 0}
+   * @return the patch
+   * @throws IOException if an exception was encountered while reading, or the input does not hold a list tag patch
+   * @throws IllegalArgumentException if {@code sizeLimitBytes} is not positive
+   * @since 4.18.0
+   */
+  static @NotNull BinaryTagPatch<ListBinaryTag> readList(final @NotNull InputStream input, final BinaryTagIO.@NotNull Compression compression, final long sizeLimitBytes) throws IOException {
+    return BinaryTagPatchImpl.read(input, compression, BinaryTagTypes.LIST, BinaryTagReaderImpl.sizeLimit(sizeLimitBytes));
+  }
+
+  /**
+   * Gets whether this patch has no changes.
+   *
+   * @return if this patch is empty
+   * @since 4.18.0
+   */
+  boolean isEmpty();
+
+  /**
+   * Applies this patch to a tag.
+   *
+   * @param tag the tag to patch
+   * @return the patched tag
+   * @throws IllegalArgumentException if the structure of the tag does not match the patch
+   * @since 4.18.0
+   */
+  @NotNull T apply(final @NotNull T tag);
+
+  /**
+   * Writes this patch in the binary format.
+   *
+   * <p>Values are encoded like they are by {@link BinaryTagIO.Writer}.</p>
+   *
+   * @param output the output
+   * @throws IOException if an exception was encountered while writing
+   * @since 4.18.0
+   */
+  void write(final @NotNull DataOutput output) throws IOException;
+
+  /**
+   * Writes this patch in the binary format, compressed.
+   *
+   * <p>The stream is not closed afterwards.</p>
+   *
+   * @param output the output stream
+   * @param compression the compression type to use
+   * @throws IOException if an exception was encountered while writing
+   * @since 4.18.0
+   */
+  void write(final @NotNull OutputStream output, final BinaryTagIO.@NotNull Compression compression) throws IOException;
+}
@@ -0,0 +1,381 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static net.kyori.adventure.nbt.IOStreamUtil.closeShield;
+
+/*
+ * Patches are encoded as the type id of the tag they apply to, followed by their body.
+ *
+ * A compound patch body is a sequence of entries terminated by an END byte, each being an operation byte, the key,
+ * and the change for the key unless the operation is REMOVE.
+ * A list patch body is the element type id, the new size of the list (or -1 if it is unchanged), the number of changed
+ * elements, and for each changed element in ascending order an operation byte, the index, and the change.
+ *
+ * A change is either a SET with a type id and payload, or the body of a nested compound or list patch.
+ */
+abstract class BinaryTagPatchImpl<T extends BinaryTag> implements BinaryTagPatch<T> {
+  private static final byte END = 0;
+  private static final byte SET = 1;
+  private static final byte REMOVE = 2;
+  private static final byte PATCH_COMPOUND = 3;
+  private static final byte PATCH_LIST = 4;
+
+  abstract @NotNull BinaryTagType<T> type();
+
+  abstract void writeBody(final @NotNull DataOutput output) throws IOException;
+
+  @Override
+  public void write(final @NotNull DataOutput output) throws IOException {
+    output.writeByte(this.type().id());
+    this.writeBody(output);
+  }
+
+  @Override
+  public void write(final @NotNull OutputStream output, final BinaryTagIO.@NotNull Compression compression) throws IOException {
+    try (final DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(compression.compress(closeShield(output))))) {
+      this.write(dos);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  static <T extends BinaryTag> @NotNull BinaryTagPatch<T> read(final @NotNull DataInput input, final @NotNull BinaryTagType<T> type, final long maxBytes) throws IOException {
+    final TrackingDataInput tracking = TrackingDataInput.tracking(input, maxBytes);
+    final BinaryTagType<? extends BinaryTag> actual = BinaryTagType.binaryTagType(tracking.readByte());
+    if (actual != type) {
+      throw new IOException(String.format("Expected a patch for a %s, was %s", type, actual));
+    }
+    return (BinaryTagPatch<T>) (type == BinaryTagTypes.COMPOUND ? CompoundPatch.read(tracking) : ListPatch.read(tracking));
+  }
+
+  static <T extends BinaryTag> @NotNull BinaryTagPatch<T> read(final @NotNull InputStream input, final BinaryTagIO.@NotNull Compression compression, final @NotNull BinaryTagType<T> type, final long maxBytes) throws IOException {
+    try (final DataInputStream dis = new DataInputStream(new BufferedInputStream(compression.decompress(closeShield(input))))) {
+      return read(dis, type, maxBytes);
+    }
+  }
+
+  // whether two tags are equal, trying identity and the cached hashes of compounds and lists before a full comparison
+  static boolean same(final BinaryTag a, final BinaryTag b) {
+    return a == b || (a.hashCode() == b.hashCode() && a.equals(b));
+  }
+
+  // a patch turning a into b, or null if b should replace a entirely
+  private static @Nullable BinaryTagPatchImpl<?> diff(final BinaryTag a, final BinaryTag b) {
+    if (a instanceof CompoundBinaryTag && b instanceof CompoundBinaryTag) {
+      return CompoundPatch.diff((CompoundBinaryTag) a, (CompoundBinaryTag) b);
+    } else if (a instanceof ListBinaryTag && b instanceof ListBinaryTag) {
+      final ListBinaryTag from = (ListBinaryTag) a;
+      final ListBinaryTag to = (ListBinaryTag) b;
+      // when no element can be kept, sending the whole list is smaller than a patch setting every element
+      if (from.elementType() == to.elementType() && from.size() != 0) {
+        return ListPatch.diff(from, to);
+      }
+    }
+    return null;
+  }
+
+  private static byte operation(final Object change) {
+    if (change instanceof CompoundPatch) {
+      return PATCH_COMPOUND;
+    } else if (change instanceof ListPatch) {
+      return PATCH_LIST;
+    }
+    return SET;
+  }
+
+  private static void writeChange(final Object change, final DataOutput output) throws IOException {
+    if (change instanceof BinaryTagPatchImpl<?>) {
+      ((BinaryTagPatchImpl<?>) change).writeBody(output);
+    } else {
+      final BinaryTag tag = (BinaryTag) change;
+      output.writeByte(tag.type().id());
+      BinaryTagType.writeUntyped(tag.type(), tag, output);
+    }
+  }
+
+  private static Object readChange(final byte operation, final TrackingDataInput input) throws IOException {
+    switch (operation) {
+      case SET: return BinaryTagType.binaryTagType(input.readByte()).read(input);
+      case PATCH_COMPOUND: return CompoundPatch.read(input);
+      case PATCH_LIST: return ListPatch.read(input);
+      default: throw new IOException("Unknown patch operation " + operation);
+    }
+  }
+
+  private static BinaryTag applyChange(final Object change, final @Nullable BinaryTag existing, final Object location) {
+    if (change instanceof CompoundPatch) {
+      if (!(existing instanceof CompoundBinaryTag)) {
+        throw new IllegalArgumentException("Expected a compound tag at " + location + ", but found " + existing);
+      }
+      return ((CompoundPatch) change).apply((CompoundBinaryTag) existing);
+    } else if (change instanceof ListPatch) {
+      if (!(existing instanceof ListBinaryTag)) {
+        throw new IllegalArgumentException("Expected a list tag at " + location + ", but found " + existing);
+      }
+      return ((ListPatch) change).apply((ListBinaryTag) existing);
+    }
+    return (BinaryTag) change;
+  }
+
+  static final class CompoundPatch extends BinaryTagPatchImpl<CompoundBinaryTag> {
+    private static final CompoundPatch EMPTY = new CompoundPatch(new String[0], new Object[0]);
+    private final String[] keys;
+    private final Object[] changes; // a tag to set, a nested patch, or null to remove the entry
+
+    private CompoundPatch(final String[] keys, final Object[] changes) {
+      this.keys = keys;
+      this.changes = changes;
+    }
+
+    static @NotNull CompoundPatch diff(final @NotNull CompoundBinaryTag from, final @NotNull CompoundBinaryTag to) {
+      if (from == to) {
+        return EMPTY;
+      }
+      final ArrayList<String> keys = new ArrayList<>();
+      final ArrayList<Object> changes = new ArrayList<>();
+      for (final String key : from.keySet()) {
+        if (to.get(key) == null) {
+          keys.add(key);
+          changes.add(null);
+        }
+      }
+      for (final Map.Entry<String, ? extends BinaryTag> entry : to) {
+        final BinaryTag a = from.get(entry.getKey());
+        final BinaryTag b = entry.getValue();
+        if (a == null || !same(a, b)) {
+          final @Nullable BinaryTagPatchImpl<?> nested = a == null ? null : BinaryTagPatchImpl.diff(a, b);
+          keys.add(entry.getKey());
+          changes.add(nested != null ? nested : b);
+        }
+      }
+      return keys.isEmpty() ? EMPTY : new CompoundPatch(keys.toArray(new String[0]), changes.toArray());
+    }
+
+    @SuppressWarnings("try")
+    static @NotNull CompoundPatch read(final @NotNull TrackingDataInput input) throws IOException {
+      final ArrayList<String> keys = new ArrayList<>();
+      final ArrayList<Object> changes = new ArrayList<>();
+      try (final BinaryTagScope ignored = input.enter()) {
+        byte operation;
+        while ((operation = input.readByte()) != END) {
+          keys.add(TrackingDataInput.readString(input));
+          changes.add(operation == REMOVE ? null : readChange(operation, input));
+        }
+      }
+      return keys.isEmpty() ? EMPTY : new CompoundPatch(keys.toArray(new String[0]), changes.toArray());
+    }
+
+    @Override
+    @NotNull BinaryTagType<CompoundBinaryTag> type() {
+      return BinaryTagTypes.COMPOUND;
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return this.keys.length == 0;
+    }
+
+    @Override
+    public @NotNull CompoundBinaryTag apply(final @NotNull CompoundBinaryTag tag) {
+      CompoundBinaryTag result = tag;
+      for (int i = 0; i < this.keys.length; i++) {
+        final String key = this.keys[i];
+        final Object change = this.changes[i];
+        if (change == null) {
+          result = result.remove(key);
+        } else {
+          result = result.put(key, applyChange(change, result.get(key), key));
+        }
+      }
+      return result;
+    }
+
+    @Override
+    void writeBody(final @NotNull DataOutput output) throws IOException {
+      for (int i = 0; i < this.keys.length; i++) {
+        final Object change = this.changes[i];
+        if (change == null) {
+          output.writeByte(REMOVE);
+          output.writeUTF(this.keys[i]);
+        } else {
+          output.writeByte(operation(change));
+          output.writeUTF(this.keys[i]);
+          writeChange(change, output);
+        }
+      }
+      output.writeByte(END);
+    }
+  }
+
+  static final class ListPatch extends BinaryTagPatchImpl<ListBinaryTag> {
+    private static final int[] NO_INDICES = new int[0];
+    private final BinaryTagType<? extends BinaryTag> elementType;
+    private final int size; // the new size, or -1 to keep the size and element type of the patched list
+    private final int[] indices;
+    private final Object[] changes; // a tag to set, or a nested patch
+
+    private ListPatch(final BinaryTagType<? extends BinaryTag> elementType, final int size, final int[] indices, final Object[] changes) {
+      this.elementType = elementType;
+      this.size = size;
+      this.indices = indices;
+      this.changes = changes;
+    }
+
+    static @NotNull ListPatch diff(final @NotNull ListBinaryTag from, final @NotNull ListBinaryTag to) {
+      final boolean compatible = from.elementType() == to.elementType();
+      final int size = compatible && from.size() == to.size() ? -1 : to.size();
+      if (from == to) {
+        return new ListPatch(to.elementType(), size, NO_INDICES, new Object[0]);
+      }
+      final int shared = compatible ? Math.min(from.size(), to.size()) : 0;
+      final ArrayList<Integer> indices = new ArrayList<>();
+      final ArrayList<Object> changes = new ArrayList<>();
+      for (int i = 0; i < shared; i++) {
+        final BinaryTag a = from.get(i);
+        final BinaryTag b = to.get(i);
+        if (!same(a, b)) {
+          final @Nullable BinaryTagPatchImpl<?> nested = BinaryTagPatchImpl.diff(a, b);
+          indices.add(i);
+          changes.add(nested != null ? nested : b);
+        }
+      }
+      for (int i = shared; i < to.size(); i++) {
+        indices.add(i);
+        changes.add(to.get(i));
+      }
+      final int[] indexArray = new int[indices.size()];
+      for (int i = 0; i < indexArray.length; i++) {
+        indexArray[i] = indices.get(i);
+      }
+      return new ListPatch(to.elementType(), size, indexArray, changes.toArray());
+    }
+
+    @SuppressWarnings("try")
+    static @NotNull ListPatch read(final @NotNull TrackingDataInput input) throws IOException {
+      final BinaryTagType<? extends BinaryTag> elementType = BinaryTagType.binaryTagType(input.readByte());
+      final int size = input.readInt();
+      final int count = input.readInt();
+      if (size < -1 || count < 0 || (size >= 0 && count > size)) {
+        throw new IOException("Invalid list patch of " + count + " changes for a list of size " + size);
+      }
+      int[] indices = NO_INDICES;
+      Object[] changes = new Object[0];
+      try (final BinaryTagScope ignored = input.enter(count * 8L)) {
+        for (int i = 0; i < count; i++) {
+          final byte operation = input.readByte();
+          final int index = input.readInt();
+          if (index < 0 || (i > 0 && index <= indices[i - 1]) || (size >= 0 && index >= size)) {
+            throw new IOException("Invalid index " + index + " in list patch");
+          }
+          if (i == indices.length) {
+            // the count has not been read from trusted data, so storage grows with the changes actually read
+            final int capacity = (int) Math.min(count, Math.max(i * 2L, 16));
+            indices = Arrays.copyOf(indices, capacity);
+            changes = Arrays.copyOf(changes, capacity);
+          }
+          indices[i] = index;
+          changes[i] = readChange(operation, input);
+        }
+      }
+      return new ListPatch(elementType, size, indices, changes);
+    }
+
+    @Override
+    @NotNull BinaryTagType<ListBinaryTag> type() {
+      return BinaryTagTypes.LIST;
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return this.size < 0 && this.indices.length == 0;
+    }
+
+    @Override
+    public @NotNull ListBinaryTag apply(final @NotNull ListBinaryTag tag) {
+      final int size = this.size < 0 ? tag.size() : this.size;
+      final BinaryTagType<? extends BinaryTag> elementType = this.size < 0 ? tag.elementType() : this.elementType;
+      if (size == tag.size() && elementType == tag.elementType()) {
+        // modify in place, keeping the structure of the list
+        ListBinaryTag result = tag;
+        for (int i = 0; i < this.indices.length; i++) {
+          final int index = this.indices[i];
+          if (index >= size) {
+            throw new IllegalArgumentException("List has " + size + " elements, but the patch changes index " + index);
+          }
+          result = result.set(index, this.element(i, result.get(index), elementType), null);
+        }
+        return result;
+      }
+
+      final ArrayList<BinaryTag> tags = new ArrayList<>(size);
+      int change = 0;
+      for (int index = 0; index < size; index++) {
+        if (change < this.indices.length && this.indices[change] == index) {
+          tags.add(this.element(change++, index < tag.size() ? tag.get(index) : null, elementType));
+        } else if (index < tag.size() && tag.elementType() == elementType) {
+          tags.add(tag.get(index));
+        } else {
+          throw new IllegalArgumentException("Cannot keep element " + index + " of " + tag + " in a list of " + size + " " + elementType + " elements");
+        }
+      }
+      return ListBinaryTag.listBinaryTag(elementType, tags);
+    }
+
+    private BinaryTag element(final int change, final @Nullable BinaryTag existing, final BinaryTagType<? extends BinaryTag> elementType) {
+      final BinaryTag element = applyChange(this.changes[change], existing, this.indices[change]);
+      if (element.type() != elementType) {
+        throw new IllegalArgumentException("Expected an element of type " + elementType + " at index " + this.indices[change] + ", but found " + element.type());
+      }
+      return element;
+    }
+
+    @Override
+    void writeBody(final @NotNull DataOutput output) throws IOException {
+      output.writeByte(this.elementType.id());
+      output.writeInt(this.size);
+      output.writeInt(this.indices.length);
+      for (int i = 0; i < this.indices.length; i++) {
+        final Object change = this.changes[i];
+        output.writeByte(operation(change));
+        output.writeInt(this.indices[i]);
+        writeChange(change, output);
+      }
+    }
+  }
+}
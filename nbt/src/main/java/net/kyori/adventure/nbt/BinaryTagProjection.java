@@ -0,0 +1,147 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A compiled set of key paths selecting parts of a binary tag.
+ *
+ * <p>A path is a sequence of compound keys separated by {@code .}, where a key may be followed by {@code []}
+ * to select every element of a list. Keys containing {@code .}, {@code [} or {@code "} may be quoted with {@code "}.</p>
+ */
+final class BinaryTagProjection {
+  // selects a value entirely
+  static final BinaryTagProjection ALL = new BinaryTagProjection();
+
+  private final Map<String, BinaryTagProjection> keys = new HashMap<>();
+  private @Nullable BinaryTagProjection elements;
+
+  private BinaryTagProjection() {
+  }
+
+  static @NotNull BinaryTagProjection parse(final @NotNull Iterable<String> paths) {
+    final BinaryTagProjection root = new BinaryTagProjection();
+    for (final String path : paths) {
+      root.add(path);
+    }
+    return root;
+  }
+
+  /**
+   * Gets the projection for the value of a compound entry.
+   *
+   * @param key the key
+   * @return the projection, or {@code null} if the entry is not selected
+   */
+  @Nullable BinaryTagProjection entry(final @NotNull String key) {
+    if (this == ALL) return ALL;
+    return this.keys.get(key);
+  }
+
+  /**
+   * Gets the projection for the elements of a list.
+   *
+   * @return the projection, or {@code null} if the elements are not selected
+   */
+  @Nullable BinaryTagProjection elements() {
+    if (this == ALL) return ALL;
+    return this.elements;
+  }
+
+  /**
+   * Gets whether anything in a value of the provided type can be selected by this projection.
+   *
+   * @param type the type
+   * @return whether the value can be selected
+   */
+  boolean selects(final @NotNull BinaryTagType<? extends BinaryTag> type) {
+    if (this == ALL) return true;
+    if (type == BinaryTagTypes.COMPOUND) return !this.keys.isEmpty();
+    if (type == BinaryTagTypes.LIST) return this.elements != null;
+    return false;
+  }
+
+  private void add(final String path) {
+    BinaryTagProjection node = this;
+    final int length = path.length();
+    int index = 0;
+    while (true) {
+      // key
+      final String key;
+      if (index < length && path.charAt(index) == '"') {
+        final int end = path.indexOf('"', index + 1);
+        if (end == -1) throw new IllegalArgumentException("Unterminated quoted key in path '" + path + "'");
+        key = path.substring(index + 1, end);
+        index = end + 1;
+      } else {
+        final int start = index;
+        while (index < length && path.charAt(index) != '.' && path.charAt(index) != '[') {
+          if (path.charAt(index) == '"') throw new IllegalArgumentException("Unexpected '\"' at index " + index + " in path '" + path + "'");
+          index++;
+        }
+        if (index == start) throw new IllegalArgumentException("Empty key at index " + index + " in path '" + path + "'");
+        key = path.substring(start, index);
+      }
+      if (node == ALL) return; // a parent has already been selected entirely
+      node = node.child(key, index == length);
+
+      // list elements
+      while (index < length && path.charAt(index) == '[') {
+        if (index + 1 >= length || path.charAt(index + 1) != ']') {
+          throw new IllegalArgumentException("Expected ']' at index " + (index + 1) + " in path '" + path + "'");
+        }
+        index += 2;
+        if (node == ALL) return;
+        node = node.elements(index == length);
+      }
+
+      if (index == length) return;
+      if (path.charAt(index) != '.') {
+        throw new IllegalArgumentException("Expected '.' at index " + index + " in path '" + path + "'");
+      }
+      index++;
+    }
+  }
+
+  private BinaryTagProjection child(final String key, final boolean all) {
+    if (all) {
+      this.keys.put(key, ALL);
+      return ALL;
+    }
+    return this.keys.computeIfAbsent(key, k -> new BinaryTagProjection());
+  }
+
+  private BinaryTagProjection elements(final boolean all) {
+    if (all) {
+      this.elements = ALL;
+    } else if (this.elements == null) {
+      this.elements = new BinaryTagProjection();
+    }
+    return this.elements;
+  }
+}
@@ -28,26 +28,76 @@ import java.io.DataInput;
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.AbstractMap;
+import java.util.Arrays;
 import java.util.Map;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import static net.kyori.adventure.nbt.IOStreamUtil.closeShield;
 
 @SuppressWarnings("DuplicatedCode")
 final class BinaryTagReaderImpl implements BinaryTagIO.Reader {
-  private final long maxBytes;
+  static final long DEFAULT_MAX_BYTES = 0x20_00a;
   static final BinaryTagIO.Reader UNLIMITED = new BinaryTagReaderImpl(-1L);
-  static final BinaryTagIO.Reader DEFAULT_LIMIT = new BinaryTagReaderImpl(0x20_00a);
+  static final BinaryTagIO.Reader DEFAULT_LIMIT = new BinaryTagReaderImpl(DEFAULT_MAX_BYTES);
+  private final long maxBytes;
+  private final BinaryTagProjection projection;
+  private final boolean lazy;
+  private final @Nullable StringInterner interner;
+
+  // validates a size limit given to a public method
+  static long sizeLimit(final long sizeLimitBytes) {
+    if (sizeLimitBytes <= 0) {
+      throw new IllegalArgumentException("The size limit must be greater than zero");
+    }
+    return sizeLimitBytes;
+  }
 
   BinaryTagReaderImpl(final long maxBytes) {
+    this(maxBytes, BinaryTagProjection.ALL, false, null);
+  }
+
+  private BinaryTagReaderImpl(final long maxBytes, final BinaryTagProjection projection, final boolean lazy, final @Nullable StringInterner interner) {
     this.maxBytes = maxBytes;
+    this.projection = projection;
+    this.lazy = lazy;
+    this.interner = interner;
+  }
+
+  @Override
+  public BinaryTagIO.@NotNull Reader lazy() {
+    return new BinaryTagReaderImpl(this.maxBytes, BinaryTagProjection.ALL, true, this.interner);
+  }
+
+  @Override
+  public BinaryTagIO.@NotNull Reader interning() {
+    return this.interning(StringInterner.SHARED);
+  }
+
+  @NotNull BinaryTagReaderImpl interning(final @NotNull StringInterner interner) {
+    return new BinaryTagReaderImpl(this.maxBytes, this.projection, this.lazy, interner);
+  }
+
+  @Override
+  public BinaryTagIO.@NotNull Reader project(final @NotNull String@NotNull... paths) {
+    return this.project(Arrays.asList(paths));
+  }
+
+  @Override
+  public BinaryTagIO.@NotNull Reader project(final @NotNull Iterable<String> paths) {
+    return new BinaryTagReaderImpl(this.maxBytes, BinaryTagProjection.parse(paths), false, this.interner);
   }
 
   @Override
   public @NotNull CompoundBinaryTag read(final @NotNull Path path, final BinaryTagIO.@NotNull Compression compression) throws IOException {
+    if (this.canReadFully(path, compression)) {
+      return this.read(ByteBuffer.wrap(Files.readAllBytes(path)));
+    }
     try (final InputStream is = Files.newInputStream(path)) {
       return this.read(is, compression);
     }
@@ -65,21 +115,62 @@ final class BinaryTagReaderImpl implements BinaryTagIO.Reader {
     return this.read(input, true);
   }
 
-  private @NotNull CompoundBinaryTag read(@NotNull DataInput input, final boolean named) throws IOException {
-    if (!(input instanceof TrackingDataInput)) {
-      input = new TrackingDataInput(input, this.maxBytes);
+  @Override
+  public @NotNull CompoundBinaryTag read(final @NotNull ByteBuffer buffer) throws IOException {
+    final ByteBufferDataInput input = new ByteBufferDataInput(buffer, this.maxBytes);
+    final CompoundBinaryTag tag = this.read(input, true);
+    ((Buffer) buffer).position(input.position());
+    return tag;
+  }
+
+  private @NotNull CompoundBinaryTag read(final @NotNull DataInput input, final boolean named) throws IOException {
+    return this.readCompound(this.readRoot(input, named));
+  }
+
+  private @NotNull CompoundBinaryTag readCompound(final @NotNull DataInput input) throws IOException {
+    if (this.lazy) {
+      return this.readLazily(input);
+    } else if (this.projection == BinaryTagProjection.ALL) {
+      return BinaryTagTypes.COMPOUND.read(input);
+    }
+    final BinaryTagTreeBuilder builder = new BinaryTagTreeBuilder();
+    BinaryTagWalker.walkCompound(input, builder, this.projection);
+    return builder.compound();
+  }
+
+  // validates the structure of a compound without decoding it, and keeps its encoded form
+  private @NotNull CompoundBinaryTag readLazily(final @NotNull DataInput input) throws IOException {
+    final byte[] encoded;
+    if (input instanceof ByteBufferDataInput) {
+      final ByteBufferDataInput buffer = (ByteBufferDataInput) input;
+      final int start = buffer.position();
+      BinaryTagWalker.skip(buffer, BinaryTagTypes.COMPOUND);
+      encoded = buffer.copy(start, buffer.position());
+    } else {
+      final CapturingDataInput capturing = new CapturingDataInput(input instanceof TrackingDataInput.Delegating ? ((TrackingDataInput.Delegating) input).input() : input, this.maxBytes);
+      BinaryTagWalker.skip(capturing, BinaryTagTypes.COMPOUND);
+      encoded = capturing.captured();
     }
+    if (encoded.length == 1) return CompoundBinaryTag.empty(); // only an end tag
+    return new CompoundBinaryTagImpl(new LazyTagMap(encoded, 0, encoded.length));
+  }
 
+  // reads the header of the root tag, returning the input to read its contents from
+  private @NotNull DataInput readRoot(final @NotNull DataInput untracked, final boolean named) throws IOException {
+    final DataInput input = TrackingDataInput.tracking(untracked, this.maxBytes).interner(this.interner);
     final BinaryTagType<? extends BinaryTag> type = BinaryTagType.binaryTagType(input.readByte());
     requireCompound(type);
     if (named) {
       input.skipBytes(input.readUnsignedShort()); // read empty name
     }
-    return BinaryTagTypes.COMPOUND.read(input);
+    return input;
   }
 
   @Override
   public @NotNull CompoundBinaryTag readNameless(final @NotNull Path path, final BinaryTagIO.@NotNull Compression compression) throws IOException {
+    if (this.canReadFully(path, compression)) {
+      return this.readNameless(ByteBuffer.wrap(Files.readAllBytes(path)));
+    }
     try (final InputStream is = Files.newInputStream(path)) {
       return this.readNameless(is, compression);
     }
@@ -97,8 +188,19 @@ final class BinaryTagReaderImpl implements BinaryTagIO.Reader {
     return this.read(input, false);
   }
 
+  @Override
+  public @NotNull CompoundBinaryTag readNameless(final @NotNull ByteBuffer buffer) throws IOException {
+    final ByteBufferDataInput input = new ByteBufferDataInput(buffer, this.maxBytes);
+    final CompoundBinaryTag tag = this.read(input, false);
+    ((Buffer) buffer).position(input.position());
+    return tag;
+  }
+
   @Override
   public Map.@NotNull Entry<String, CompoundBinaryTag> readNamed(final @NotNull Path path, final BinaryTagIO.@NotNull Compression compression) throws IOException {
+    if (this.canReadFully(path, compression)) {
+      return this.readNamed(ByteBuffer.wrap(Files.readAllBytes(path)));
+    }
     try (final InputStream is = Files.newInputStream(path)) {
       return this.readNamed(is, compression);
     }
@@ -112,11 +214,66 @@ final class BinaryTagReaderImpl implements BinaryTagIO.Reader {
   }
 
   @Override
-  public Map.@NotNull Entry<String, CompoundBinaryTag> readNamed(final @NotNull DataInput input) throws IOException {
+  public Map.@NotNull Entry<String, CompoundBinaryTag> readNamed(final @NotNull DataInput untracked) throws IOException {
+    // only track the input when needed to intern strings, as named reads have never been limited in size
+    final DataInput input = this.interner != null ? TrackingDataInput.tracking(untracked, this.maxBytes).interner(this.interner) : untracked;
     final BinaryTagType<? extends BinaryTag> type = BinaryTagType.binaryTagType(input.readByte());
     requireCompound(type);
     final String name = input.readUTF();
-    return new AbstractMap.SimpleImmutableEntry<>(name, BinaryTagTypes.COMPOUND.read(input));
+    return new AbstractMap.SimpleImmutableEntry<>(name, this.readCompound(input));
+  }
+
+  @Override
+  public Map.@NotNull Entry<String, CompoundBinaryTag> readNamed(final @NotNull ByteBuffer buffer) throws IOException {
+    final ByteBufferDataInput input = new ByteBufferDataInput(buffer, this.maxBytes);
+    final Map.Entry<String, CompoundBinaryTag> tag = this.readNamed((DataInput) input);
+    ((Buffer) buffer).position(input.position());
+    return tag;
+  }
+
+  // uncompressed files within the size limit are read into memory at once, and then read directly
+  private boolean canReadFully(final Path path, final BinaryTagIO.Compression compression) throws IOException {
+    if (compression != BinaryTagIO.Compression.NONE) return false;
+    final long size = Files.size(path);
+    return size <= Integer.MAX_VALUE && (this.maxBytes <= 0 || size <= this.maxBytes);
+  }
+
+  @Override
+  public void visit(final @NotNull Path path, final BinaryTagIO.@NotNull Compression compression, final @NotNull BinaryTagVisitor visitor) throws IOException {
+    try (final InputStream is = Files.newInputStream(path)) {
+      this.visit(is, compression, visitor);
+    }
+  }
+
+  @Override
+  public void visit(final @NotNull InputStream input, final BinaryTagIO.@NotNull Compression compression, final @NotNull BinaryTagVisitor visitor) throws IOException {
+    try (final DataInputStream dis = new DataInputStream(new BufferedInputStream(compression.decompress(closeShield(input))))) {
+      this.visit((DataInput) dis, visitor);
+    }
+  }
+
+  @Override
+  public void visit(final @NotNull DataInput input, final @NotNull BinaryTagVisitor visitor) throws IOException {
+    BinaryTagWalker.walkCompound(this.readRoot(input, true), visitor, this.projection);
+  }
+
+  @Override
+  public void visitNameless(final @NotNull Path path, final BinaryTagIO.@NotNull Compression compression, final @NotNull BinaryTagVisitor visitor) throws IOException {
+    try (final InputStream is = Files.newInputStream(path)) {
+      this.visitNameless(is, compression, visitor);
+    }
+  }
+
+  @Override
+  public void visitNameless(final @NotNull InputStream input, final BinaryTagIO.@NotNull Compression compression, final @NotNull BinaryTagVisitor visitor) throws IOException {
+    try (final DataInputStream dis = new DataInputStream(new BufferedInputStream(compression.decompress(closeShield(input))))) {
+      this.visitNameless((DataInput) dis, visitor);
+    }
+  }
+
+  @Override
+  public void visitNameless(final @NotNull DataInput input, final @NotNull BinaryTagVisitor visitor) throws IOException {
+    BinaryTagWalker.walkCompound(this.readRoot(input, false), visitor, this.projection);
   }
 
   private static void requireCompound(final BinaryTagType<? extends BinaryTag> type) throws IOException {
@@ -0,0 +1,133 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Computes the encoded size of tags.
+ *
+ * <p>Compound and list tags cache their size, so that subtrees shared between tags are only measured once.</p>
+ */
+final class BinaryTagSize {
+  private BinaryTagSize() {
+  }
+
+  /**
+   * Gets the encoded size of every tag of a type, if it is fixed.
+   *
+   * @param type the type
+   * @return the size in bytes, or {@code -1} if it depends on the tag
+   */
+  static int fixed(final @NotNull BinaryTagType<? extends BinaryTag> type) {
+    if (type == BinaryTagTypes.BYTE) {
+      return Byte.BYTES;
+    } else if (type == BinaryTagTypes.SHORT) {
+      return Short.BYTES;
+    } else if (type == BinaryTagTypes.INT || type == BinaryTagTypes.FLOAT) {
+      return Integer.BYTES;
+    } else if (type == BinaryTagTypes.LONG || type == BinaryTagTypes.DOUBLE) {
+      return Long.BYTES;
+    } else if (type == BinaryTagTypes.END) {
+      return 0;
+    }
+    return -1;
+  }
+
+  /**
+   * Gets the size of the encoded payload of a tag, excluding its type id.
+   *
+   * @param tag the tag
+   * @return the size in bytes
+   * @throws ArithmeticException if the size does not fit in an {@code int}
+   */
+  static int payload(final @NotNull BinaryTag tag) {
+    if (tag instanceof CompoundBinaryTagImpl) {
+      return ((CompoundBinaryTagImpl) tag).encodedSize();
+    } else if (tag instanceof ListBinaryTagImpl) {
+      return ((ListBinaryTagImpl) tag).encodedSize();
+    }
+    final BinaryTagType<? extends BinaryTag> type = tag.type();
+    final int fixed = fixed(type);
+    if (fixed >= 0) {
+      return fixed;
+    } else if (type == BinaryTagTypes.STRING) {
+      return Short.BYTES + ModifiedUTF8.encodedLength(((StringBinaryTag) tag).value());
+    } else if (type == BinaryTagTypes.BYTE_ARRAY) {
+      return Math.addExact(Integer.BYTES, ((ByteArrayBinaryTag) tag).size());
+    } else if (type == BinaryTagTypes.INT_ARRAY) {
+      return Math.toIntExact(Integer.BYTES + (long) ((IntArrayBinaryTag) tag).size() * Integer.BYTES);
+    } else if (type == BinaryTagTypes.LONG_ARRAY) {
+      return Math.toIntExact(Integer.BYTES + (long) ((LongArrayBinaryTag) tag).size() * Long.BYTES);
+    } else if (tag instanceof CompoundBinaryTag) {
+      return compound((CompoundBinaryTag) tag);
+    } else if (tag instanceof ListBinaryTag) {
+      return list((ListBinaryTag) tag);
+    }
+    throw new IllegalArgumentException("Unknown tag type " + type);
+  }
+
+  /**
+   * Measures the encoded payload of a compound tag, including its end tag.
+   *
+   * @param tag the tag
+   * @return the size in bytes
+   * @throws ArithmeticException if the size does not fit in an {@code int}
+   */
+  static int compound(final @NotNull CompoundBinaryTag tag) {
+    long size = 1; // end tag
+    for (final Map.Entry<String, ? extends BinaryTag> entry : tag) {
+      final BinaryTag value = entry.getValue();
+      if (value == null) {
+        continue;
+      } else if (value.type() == BinaryTagTypes.END) {
+        size++; // written without a key, see BinaryTagTypes.COMPOUND
+      } else {
+        size += 1L + Short.BYTES + ModifiedUTF8.encodedLength(entry.getKey()) + payload(value);
+      }
+    }
+    return Math.toIntExact(size);
+  }
+
+  /**
+   * Measures the encoded payload of a list tag, including its element type and length.
+   *
+   * @param tag the tag
+   * @return the size in bytes
+   * @throws ArithmeticException if the size does not fit in an {@code int}
+   */
+  static int list(final @NotNull ListBinaryTag tag) {
+    long size = 1 + Integer.BYTES;
+    final int fixed = fixed(tag.elementType());
+    if (fixed >= 0) {
+      size += (long) fixed * tag.size();
+    } else {
+      for (final BinaryTag element : tag) {
+        size += payload(element);
+      }
+    }
+    return Math.toIntExact(size);
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A visitor building binary tags from the values it visits.
+ */
+final class BinaryTagTreeBuilder implements BinaryTagVisitor {
+  private final Deque<Frame> frames = new ArrayDeque<>();
+  private @Nullable BinaryTag result;
+
+  @NotNull CompoundBinaryTag compound() {
+    if (!(this.result instanceof CompoundBinaryTag)) {
+      throw new IllegalStateException("No compound tag has been visited");
+    }
+    return (CompoundBinaryTag) this.result;
+  }
+
+  @Override
+  public void visitCompound() {
+    this.frames.push(new Frame(new ArrayTagMap.Builder(), null, BinaryTagTypes.COMPOUND));
+  }
+
+  @Override
+  public @NotNull Result visitEntry(final @NotNull String key, final @NotNull BinaryTagType<? extends BinaryTag> type) {
+    this.frames.element().key = key;
+    return Result.CONTINUE;
+  }
+
+  @Override
+  public void visitList(final @NotNull BinaryTagType<? extends BinaryTag> elementType, final int size) {
+    this.frames.push(new Frame(null, new ArrayList<>(size), elementType));
+  }
+
+  @Override
+  public void visitEnd() {
+    final Frame frame = this.frames.pop();
+    if (frame.compound != null) {
+      this.add(frame.compound.build());
+    } else if (frame.list != null) {
+      if (frame.list.isEmpty()) {
+        this.add(ListBinaryTag.empty());
+      } else {
+        final @Nullable PackedTagList packed = PackedTagList.pack(frame.type, frame.list);
+        this.add(new ListBinaryTagImpl(frame.type, packed != null ? packed : frame.list));
+      }
+    }
+  }
+
+  @Override
+  public void visitByte(final byte value) {
+    this.add(ByteBinaryTag.byteBinaryTag(value));
+  }
+
+  @Override
+  public void visitShort(final short value) {
+    this.add(ShortBinaryTag.shortBinaryTag(value));
+  }
+
+  @Override
+  public void visitInt(final int value) {
+    this.add(IntBinaryTag.intBinaryTag(value));
+  }
+
+  @Override
+  public void visitLong(final long value) {
+    this.add(LongBinaryTag.longBinaryTag(value));
+  }
+
+  @Override
+  public void visitFloat(final float value) {
+    this.add(FloatBinaryTag.floatBinaryTag(value));
+  }
+
+  @Override
+  public void visitDouble(final double value) {
+    this.add(DoubleBinaryTag.doubleBinaryTag(value));
+  }
+
+  @Override
+  public void visitString(final @NotNull String value) {
+    this.add(StringBinaryTag.stringBinaryTag(value));
+  }
+
+  @Override
+  public void visitByteArray(final byte@NotNull[] value) {
+    this.add(new ByteArrayBinaryTagImpl(value));
+  }
+
+  @Override
+  public void visitIntArray(final int@NotNull[] value) {
+    this.add(new IntArrayBinaryTagImpl(value));
+  }
+
+  @Override
+  public void visitLongArray(final long@NotNull[] value) {
+    this.add(new LongArrayBinaryTagImpl(value));
+  }
+
+  private void add(final BinaryTag tag) {
+    final @Nullable Frame frame = this.frames.peek();
+    if (frame == null) {
+      this.result = tag;
+    } else if (frame.compound != null) {
+      frame.compound.put(frame.key, tag);
+    } else if (frame.list != null) {
+      frame.list.add(tag);
+    }
+  }
+
+  static final class Frame {
+    final @Nullable ArrayTagMap.Builder compound;
+    final @Nullable List<BinaryTag> list;
+    final BinaryTagType<? extends BinaryTag> type;
+    @Nullable String key;
+
+    Frame(final @Nullable ArrayTagMap.Builder compound, final @Nullable List<BinaryTag> list, final BinaryTagType<? extends BinaryTag> type) {
+      this.compound = compound;
+      this.list = list;
+      this.type = type;
+    }
+  }
+}
@@ -26,8 +26,6 @@ package net.kyori.adventure.nbt;
 import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.function.Predicate;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
@@ -40,7 +38,7 @@ import org.jetbrains.annotations.Nullable;
  * @since 4.0.0
  */
 public abstract class BinaryTagType<T extends BinaryTag> implements Predicate<BinaryTagType<? extends BinaryTag>> {
-  private static final List<BinaryTagType<? extends BinaryTag>> TYPES = new ArrayList<>();
+  private static final BinaryTagType<? extends BinaryTag>[] TYPES = new BinaryTagType<?>[16]; // indexed by id
 
   /**
    * Gets the id.
@@ -78,9 +76,9 @@ public abstract class BinaryTagType<T extends BinaryTag> implements Predicate<Bi
   }
 
   static @NotNull BinaryTagType<? extends BinaryTag> binaryTagType(final byte id) {
-    for (int i = 0; i < TYPES.size(); i++) {
-      final BinaryTagType<? extends BinaryTag> type = TYPES.get(i);
-      if (type.id() == id) {
+    if (id >= 0 && id < TYPES.length) {
+      final BinaryTagType<? extends BinaryTag> type = TYPES[id];
+      if (type != null) {
         return type;
       }
     }
@@ -102,7 +100,7 @@ public abstract class BinaryTagType<T extends BinaryTag> implements Predicate<Bi
   }
 
   private static <T extends BinaryTag, Y extends BinaryTagType<T>> Y register(final Y type) {
-    TYPES.add(type);
+    TYPES[type.id()] = type;
     return type;
   }
 
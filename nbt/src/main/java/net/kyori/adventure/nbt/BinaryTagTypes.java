@@ -23,9 +23,6 @@
  */
 package net.kyori.adventure.nbt;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 /**
@@ -81,15 +78,7 @@ public final class BinaryTagTypes {
    *
    * @since 4.0.0
    */
-  @SuppressWarnings("try")
-  public static final BinaryTagType<ByteArrayBinaryTag> BYTE_ARRAY = BinaryTagType.register(ByteArrayBinaryTag.class, (byte) 7, input -> {
-    final int length = input.readInt();
-    try (final BinaryTagScope ignored = TrackingDataInput.enter(input, length)) {
-      final byte[] value = new byte[length];
-      input.readFully(value);
-      return ByteArrayBinaryTag.byteArrayBinaryTag(value);
-    }
-  }, (tag, output) -> {
+  public static final BinaryTagType<ByteArrayBinaryTag> BYTE_ARRAY = BinaryTagType.register(ByteArrayBinaryTag.class, (byte) 7, BinaryTagDecoder::readByteArray, (tag, output) -> {
     final byte[] value = ByteArrayBinaryTagImpl.value(tag);
     output.writeInt(value.length);
     output.write(value);
@@ -99,27 +88,19 @@ public final class BinaryTagTypes {
    *
    * @since 4.0.0
    */
-  public static final BinaryTagType<StringBinaryTag> STRING = BinaryTagType.register(StringBinaryTag.class, (byte) 8, input -> StringBinaryTag.stringBinaryTag(input.readUTF()), (tag, output) -> output.writeUTF(tag.value()));
+  public static final BinaryTagType<StringBinaryTag> STRING = BinaryTagType.register(StringBinaryTag.class, (byte) 8, input -> StringBinaryTag.stringBinaryTag(TrackingDataInput.readString(input)), (tag, output) -> output.writeUTF(tag.value()));
   /**
    * {@link ListBinaryTag}.
    *
    * @since 4.0.0
    */
-  @SuppressWarnings("try")
-  public static final BinaryTagType<ListBinaryTag> LIST = BinaryTagType.register(ListBinaryTag.class, (byte) 9, input -> {
-    final BinaryTagType<? extends BinaryTag> type = BinaryTagType.binaryTagType(input.readByte());
-    final int length = input.readInt();
-    try (final BinaryTagScope ignored = TrackingDataInput.enter(input, length * 8L)) {
-      final List<BinaryTag> tags = new ArrayList<>(length);
-      for (int i = 0; i < length; i++) {
-        tags.add(type.read(input));
-      }
-      return ListBinaryTag.listBinaryTag(type, tags);
-    }
-  }, (tag, output) -> {
+  public static final BinaryTagType<ListBinaryTag> LIST = BinaryTagType.register(ListBinaryTag.class, (byte) 9, BinaryTagDecoder::readList, (tag, output) -> {
     output.writeByte(tag.elementType().id());
     final int size = tag.size();
     output.writeInt(size);
+    if (tag instanceof ListBinaryTagImpl && ((ListBinaryTagImpl) tag).writePacked(output)) {
+      return; // numbers are written without creating tags for them
+    }
     for (final BinaryTag item : tag) {
       BinaryTagType.writeUntyped(item.type(), item, output);
     }
@@ -129,19 +110,10 @@ public final class BinaryTagTypes {
    *
    * @since 4.0.0
    */
-  @SuppressWarnings("try")
-  public static final BinaryTagType<CompoundBinaryTag> COMPOUND = BinaryTagType.register(CompoundBinaryTag.class, (byte) 10, input -> {
-    try (final BinaryTagScope ignored = TrackingDataInput.enter(input)) {
-      final Map<String, BinaryTag> tags = new HashMap<>();
-      BinaryTagType<? extends BinaryTag> type;
-      while ((type = BinaryTagType.binaryTagType(input.readByte())) != BinaryTagTypes.END) {
-        final String key = input.readUTF();
-        final BinaryTag tag = type.read(input);
-        tags.put(key, tag);
-      }
-      return new CompoundBinaryTagImpl(tags);
+  public static final BinaryTagType<CompoundBinaryTag> COMPOUND = BinaryTagType.register(CompoundBinaryTag.class, (byte) 10, BinaryTagDecoder::readCompound, (tag, output) -> {
+    if (tag instanceof CompoundBinaryTagImpl && ((CompoundBinaryTagImpl) tag).writeEncoded(output)) {
+      return; // unmodified lazy tags are copied as they are
     }
-  }, (tag, output) -> {
     for (final Map.Entry<String, ? extends BinaryTag> entry : tag) {
       final BinaryTag value = entry.getValue();
       if (value != null) {
@@ -161,23 +133,10 @@ public final class BinaryTagTypes {
    * @since 4.0.0
    * @sinceMinecraft 1.2.1
    */
-  @SuppressWarnings("try")
-  public static final BinaryTagType<IntArrayBinaryTag> INT_ARRAY = BinaryTagType.register(IntArrayBinaryTag.class, (byte) 11, input -> {
-    final int length = input.readInt();
-    try (final BinaryTagScope ignored = TrackingDataInput.enter(input, length * 4L)) {
-      final int[] value = new int[length];
-      for (int i = 0; i < length; i++) {
-        value[i] = input.readInt();
-      }
-      return IntArrayBinaryTag.intArrayBinaryTag(value);
-    }
-  }, (tag, output) -> {
+  public static final BinaryTagType<IntArrayBinaryTag> INT_ARRAY = BinaryTagType.register(IntArrayBinaryTag.class, (byte) 11, BinaryTagDecoder::readIntArray, (tag, output) -> {
     final int[] value = IntArrayBinaryTagImpl.value(tag);
-    final int length = value.length;
-    output.writeInt(length);
-    for (int i = 0; i < length; i++) {
-      output.writeInt(value[i]);
-    }
+    output.writeInt(value.length);
+    BulkIO.writeInts(output, value);
   });
   /**
    * {@link LongArrayBinaryTag}.
@@ -185,23 +144,10 @@ public final class BinaryTagTypes {
    * @since 4.0.0
    * @sinceMinecraft 1.12
    */
-  @SuppressWarnings("try")
-  public static final BinaryTagType<LongArrayBinaryTag> LONG_ARRAY = BinaryTagType.register(LongArrayBinaryTag.class, (byte) 12, input -> {
-    final int length = input.readInt();
-    try (final BinaryTagScope ignored = TrackingDataInput.enter(input, length * 8L)) {
-      final long[] value = new long[length];
-      for (int i = 0; i < length; i++) {
-        value[i] = input.readLong();
-      }
-      return LongArrayBinaryTag.longArrayBinaryTag(value);
-    }
-  }, (tag, output) -> {
+  public static final BinaryTagType<LongArrayBinaryTag> LONG_ARRAY = BinaryTagType.register(LongArrayBinaryTag.class, (byte) 12, BinaryTagDecoder::readLongArray, (tag, output) -> {
     final long[] value = LongArrayBinaryTagImpl.value(tag);
-    final int length = value.length;
-    output.writeInt(length);
-    for (int i = 0; i < length; i++) {
-      output.writeLong(value[i]);
-    }
+    output.writeInt(value.length);
+    BulkIO.writeLongs(output, value);
   });
 
   private BinaryTagTypes() {
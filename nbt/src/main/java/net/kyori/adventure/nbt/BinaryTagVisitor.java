@@ -0,0 +1,216 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A visitor receiving binary tags as they are read from a stream.
+ *
+ * <p>Visitors are driven by {@link BinaryTagIO.Reader#visit(java.io.DataInput, BinaryTagVisitor)} and friends,
+ * which walk the encoded data without building any {@link CompoundBinaryTag} or {@link ListBinaryTag} trees.
+ * Before every compound entry and list element is read, the visitor is asked whether it is interested in the value.
+ * Values that are {@link Result#SKIP skipped} are passed over by their encoded length without being decoded.</p>
+ *
+ * <p>The events for a compound are {@link #visitCompound()}, followed by a {@link #visitEntry(String, BinaryTagType)} for
+ * every entry (and the events of its value, unless skipped), followed by {@link #visitEnd()}.
+ * Lists are reported the same way, with {@link #visitList(BinaryTagType, int)} and {@link #visitElement(int, BinaryTagType)}.</p>
+ *
+ * @since 4.18.0
+ */
+public interface BinaryTagVisitor {
+  /**
+   * Called when a compound tag is entered.
+   *
+   * @since 4.18.0
+   */
+  default void visitCompound() {
+  }
+
+  /**
+   * Called for every entry of a compound tag, before its value is read.
+   *
+   * @param key the key of the entry
+   * @param type the type of the entry's value
+   * @return whether the value should be read, skipped, or the whole read should stop
+   * @since 4.18.0
+   */
+  default @NotNull Result visitEntry(final @NotNull String key, final @NotNull BinaryTagType<? extends BinaryTag> type) {
+    return Result.CONTINUE;
+  }
+
+  /**
+   * Called when a list tag is entered.
+   *
+   * @param elementType the element type
+   * @param size the number of elements
+   * @since 4.18.0
+   */
+  default void visitList(final @NotNull BinaryTagType<? extends BinaryTag> elementType, final int size) {
+  }
+
+  /**
+   * Called for every element of a list tag, before it is read.
+   *
+   * @param index the index of the element
+   * @param type the type of the element
+   * @return whether the element should be read, skipped, or the whole read should stop
+   * @since 4.18.0
+   */
+  default @NotNull Result visitElement(final int index, final @NotNull BinaryTagType<? extends BinaryTag> type) {
+    return Result.CONTINUE;
+  }
+
+  /**
+   * Called when the current compound or list tag has been fully read.
+   *
+   * @since 4.18.0
+   */
+  default void visitEnd() {
+  }
+
+  /**
+   * Visits a byte value.
+   *
+   * @param value the value
+   * @since 4.18.0
+   */
+  default void visitByte(final byte value) {
+  }
+
+  /**
+   * Visits a short value.
+   *
+   * @param value the value
+   * @since 4.18.0
+   */
+  default void visitShort(final short value) {
+  }
+
+  /**
+   * Visits an int value.
+   *
+   * @param value the value
+   * @since 4.18.0
+   */
+  default void visitInt(final int value) {
+  }
+
+  /**
+   * Visits a long value.
+   *
+   * @param value the value
+   * @since 4.18.0
+   */
+  default void visitLong(final long value) {
+  }
+
+  /**
+   * Visits a float value.
+   *
+   * @param value the value
+   * @since 4.18.0
+   */
+  default void visitFloat(final float value) {
+  }
+
+  /**
+   * Visits a double value.
+   *
+   * @param value the value
+   * @since 4.18.0
+   */
+  default void visitDouble(final double value) {
+  }
+
+  /**
+   * Visits a string value.
+   *
+   * @param value the value
+   * @since 4.18.0
+   */
+  default void visitString(final @NotNull String value) {
+  }
+
+  /**
+   * Visits a byte array value.
+   *
+   * <p>The array is owned by the visitor.</p>
+   *
+   * @param value the value
+   * @since 4.18.0
+   */
+  default void visitByteArray(final byte@NotNull[] value) {
+  }
+
+  /**
+   * Visits an int array value.
+   *
+   * <p>The array is owned by the visitor.</p>
+   *
+   * @param value the value
+   * @since 4.18.0
+   */
+  default void visitIntArray(final int@NotNull[] value) {
+  }
+
+  /**
+   * Visits a long array value.
+   *
+   * <p>The array is owned by the visitor.</p>
+   *
+   * @param value the value
+   * @since 4.18.0
+   */
+  default void visitLongArray(final long@NotNull[] value) {
+  }
+
+  /**
+   * The outcome of visiting a compound entry or list element.
+   *
+   * @since 4.18.0
+   */
+  enum Result {
+    /**
+     * Read the value and report it to the visitor.
+     *
+     * @since 4.18.0
+     */
+    CONTINUE,
+    /**
+     * Skip over the value without decoding it.
+     *
+     * @since 4.18.0
+     */
+    SKIP,
+    /**
+     * Stop reading immediately.
+     *
+     * <p>No further events are reported, and the remaining input is left unread.</p>
+     *
+     * @since 4.18.0
+     */
+    STOP;
+  }
+}
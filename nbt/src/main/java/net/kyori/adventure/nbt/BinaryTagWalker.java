@@ -0,0 +1,197 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.io.DataInput;
+import java.io.IOException;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Drives a {@link BinaryTagVisitor} over encoded binary tags, without building a tree.
+ */
+final class BinaryTagWalker {
+  private final DataInput input;
+  private final BinaryTagVisitor visitor;
+  private boolean stopped;
+
+  private BinaryTagWalker(final DataInput input, final BinaryTagVisitor visitor) {
+    this.input = input;
+    this.visitor = visitor;
+  }
+
+  static void walkCompound(final @NotNull DataInput input, final @NotNull BinaryTagVisitor visitor, final @NotNull BinaryTagProjection projection) throws IOException {
+    new BinaryTagWalker(input, visitor).compound(projection);
+  }
+
+  private void value(final BinaryTagType<? extends BinaryTag> type, final BinaryTagProjection projection) throws IOException {
+    if (type == BinaryTagTypes.COMPOUND) {
+      this.compound(projection);
+    } else if (type == BinaryTagTypes.LIST) {
+      this.list(projection);
+    } else if (type == BinaryTagTypes.STRING) {
+      this.visitor.visitString(TrackingDataInput.readString(this.input));
+    } else if (type == BinaryTagTypes.BYTE) {
+      this.visitor.visitByte(this.input.readByte());
+    } else if (type == BinaryTagTypes.SHORT) {
+      this.visitor.visitShort(this.input.readShort());
+    } else if (type == BinaryTagTypes.INT) {
+      this.visitor.visitInt(this.input.readInt());
+    } else if (type == BinaryTagTypes.LONG) {
+      this.visitor.visitLong(this.input.readLong());
+    } else if (type == BinaryTagTypes.FLOAT) {
+      this.visitor.visitFloat(this.input.readFloat());
+    } else if (type == BinaryTagTypes.DOUBLE) {
+      this.visitor.visitDouble(this.input.readDouble());
+    } else if (type == BinaryTagTypes.BYTE_ARRAY) {
+      this.visitor.visitByteArray(ByteArrayBinaryTagImpl.value(BinaryTagTypes.BYTE_ARRAY.read(this.input)));
+    } else if (type == BinaryTagTypes.INT_ARRAY) {
+      this.visitor.visitIntArray(IntArrayBinaryTagImpl.value(BinaryTagTypes.INT_ARRAY.read(this.input)));
+    } else if (type == BinaryTagTypes.LONG_ARRAY) {
+      this.visitor.visitLongArray(LongArrayBinaryTagImpl.value(BinaryTagTypes.LONG_ARRAY.read(this.input)));
+    }
+  }
+
+  @SuppressWarnings("try")
+  private void compound(final BinaryTagProjection projection) throws IOException {
+    try (final BinaryTagScope ignored = TrackingDataInput.enter(this.input)) {
+      this.visitor.visitCompound();
+      BinaryTagType<? extends BinaryTag> type;
+      while ((type = BinaryTagType.binaryTagType(this.input.readByte())) != BinaryTagTypes.END) {
+        final String key = TrackingDataInput.readString(this.input);
+        final BinaryTagProjection entry = projection.entry(key);
+        if (entry == null || !entry.selects(type)) {
+          skip(this.input, type);
+        } else if (!this.accept(this.visitor.visitEntry(key, type), type, entry)) {
+          return;
+        }
+      }
+      this.visitor.visitEnd();
+    }
+  }
+
+  @SuppressWarnings("try")
+  private void list(final BinaryTagProjection projection) throws IOException {
+    final BinaryTagType<? extends BinaryTag> type = BinaryTagType.binaryTagType(this.input.readByte());
+    final int length = this.input.readInt();
+    try (final BinaryTagScope ignored = TrackingDataInput.enter(this.input, length * 8L)) {
+      this.visitor.visitList(type, length);
+      final BinaryTagProjection elements = projection.elements();
+      if (elements == null || !elements.selects(type)) {
+        skipElements(this.input, type, length);
+      } else {
+        for (int i = 0; i < length; i++) {
+          if (!this.accept(this.visitor.visitElement(i, type), type, elements)) return;
+        }
+      }
+      this.visitor.visitEnd();
+    }
+  }
+
+  // returns false if the walk has been stopped
+  private boolean accept(final BinaryTagVisitor.Result result, final BinaryTagType<? extends BinaryTag> type, final BinaryTagProjection projection) throws IOException {
+    switch (result) {
+      case CONTINUE:
+        this.value(type, projection);
+        return !this.stopped;
+      case SKIP:
+        skip(this.input, type);
+        return true;
+      default:
+        this.stopped = true;
+        return false;
+    }
+  }
+
+  /**
+   * Skips over the encoded value of a tag of the provided type.
+   *
+   * @param input the input
+   * @param type the type of the tag to skip
+   * @throws IOException if an exception was encountered while skipping
+   */
+  @SuppressWarnings("try")
+  static void skip(final @NotNull DataInput input, final @NotNull BinaryTagType<? extends BinaryTag> type) throws IOException {
+    final int size = BinaryTagSize.fixed(type);
+    if (size > 0) {
+      skipFully(input, size);
+    } else if (type == BinaryTagTypes.STRING) {
+      skipFully(input, input.readUnsignedShort());
+    } else if (type == BinaryTagTypes.COMPOUND) {
+      try (final BinaryTagScope ignored = TrackingDataInput.enter(input)) {
+        BinaryTagType<? extends BinaryTag> entryType;
+        while ((entryType = BinaryTagType.binaryTagType(input.readByte())) != BinaryTagTypes.END) {
+          skipFully(input, input.readUnsignedShort()); // key
+          skip(input, entryType);
+        }
+      }
+    } else if (type == BinaryTagTypes.LIST) {
+      final BinaryTagType<? extends BinaryTag> elementType = BinaryTagType.binaryTagType(input.readByte());
+      final int length = input.readInt();
+      try (final BinaryTagScope ignored = TrackingDataInput.enter(input, length * 8L)) {
+        skipElements(input, elementType, length);
+      }
+    } else if (type == BinaryTagTypes.BYTE_ARRAY) {
+      skipArray(input, 1);
+    } else if (type == BinaryTagTypes.INT_ARRAY) {
+      skipArray(input, Integer.BYTES);
+    } else if (type == BinaryTagTypes.LONG_ARRAY) {
+      skipArray(input, Long.BYTES);
+    }
+  }
+
+  private static void skipElements(final DataInput input, final BinaryTagType<? extends BinaryTag> type, final int length) throws IOException {
+    final int size = BinaryTagSize.fixed(type);
+    if (size > 0) {
+      skipFully(input, (long) length * size);
+    } else {
+      for (int i = 0; i < length; i++) {
+        skip(input, type);
+      }
+    }
+  }
+
+  @SuppressWarnings("try")
+  private static void skipArray(final DataInput input, final int elementSize) throws IOException {
+    final int size = input.readInt();
+    if (size < 0) throw new IOException("Invalid array length " + size);
+    final long length = (long) size * elementSize;
+    try (final BinaryTagScope ignored = TrackingDataInput.enter(input, length)) {
+      skipFully(input, length);
+    }
+  }
+
+  private static void skipFully(final DataInput input, final long length) throws IOException {
+    long remaining = length;
+    while (remaining > 0) {
+      final int skipped = input.skipBytes((int) Math.min(remaining, Integer.MAX_VALUE));
+      if (skipped > 0) {
+        remaining -= skipped;
+      } else {
+        // skipBytes may give up before the end of the input, so fall back to reading
+        input.readByte();
+        remaining--;
+      }
+    }
+  }
+}
@@ -28,6 +28,9 @@ import java.io.DataOutput;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.Buffer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Map;
@@ -57,6 +60,62 @@ final class BinaryTagWriterImpl implements BinaryTagIO.Writer {
     this.write(tag, output, true);
   }
 
+  @Override
+  public int size(final @NotNull CompoundBinaryTag tag) {
+    return this.size(tag, true);
+  }
+
+  @Override
+  public int sizeNameless(final @NotNull CompoundBinaryTag tag) {
+    return this.size(tag, false);
+  }
+
+  private int size(final @NotNull CompoundBinaryTag tag, final boolean named) {
+    return Math.addExact(named ? 1 + Short.BYTES : 1, BinaryTagSize.payload(tag));
+  }
+
+  @Override
+  public void write(final @NotNull CompoundBinaryTag tag, final @NotNull ByteBuffer buffer) throws IOException {
+    this.write(tag, buffer, true);
+  }
+
+  @Override
+  public void writeNameless(final @NotNull CompoundBinaryTag tag, final @NotNull ByteBuffer buffer) throws IOException {
+    this.write(tag, buffer, false);
+  }
+
+  private void write(final @NotNull CompoundBinaryTag tag, final @NotNull ByteBuffer buffer, final boolean named) throws IOException {
+    final int size;
+    try {
+      size = this.size(tag, named);
+    } catch (final ArithmeticException e) {
+      throw new BufferOverflowException(); // no buffer can hold more than Integer.MAX_VALUE bytes
+    }
+    if (buffer.remaining() < size) {
+      throw new BufferOverflowException();
+    }
+    final ByteBufferDataOutput output = new ByteBufferDataOutput(buffer);
+    this.write(tag, output, named);
+    ((Buffer) buffer).position(output.position());
+  }
+
+  @Override
+  public byte@NotNull[] toByteArray(final @NotNull CompoundBinaryTag tag) throws IOException {
+    return this.encode(tag, true);
+  }
+
+  private byte@NotNull[] encode(final @NotNull CompoundBinaryTag tag, final boolean named) throws IOException {
+    final int size;
+    try {
+      size = this.size(tag, named);
+    } catch (final ArithmeticException e) {
+      throw new IOException("The encoded tag is larger than the maximum array size", e);
+    }
+    final byte[] encoded = new byte[size];
+    this.write(tag, new ByteBufferDataOutput(ByteBuffer.wrap(encoded)), named);
+    return encoded;
+  }
+
   private void write(final @NotNull CompoundBinaryTag tag, final @NotNull DataOutput output, final boolean named) throws IOException {
     output.writeByte(BinaryTagTypes.COMPOUND.id());
     if (named) {
@@ -0,0 +1,256 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Reads and writes arrays of numbers in bulk.
+ *
+ * <p>Instead of going through {@link DataInput} and {@link DataOutput} one number at a time, the encoded
+ * big-endian bytes are copied in chunks and converted through a buffer view. Buffers are read from and written to directly.</p>
+ */
+final class BulkIO {
+  private static final int CHUNK_SIZE = 8192;
+
+  private BulkIO() {
+  }
+
+  private static byte[] chunk(final long length) {
+    return new byte[(int) Math.min(length, CHUNK_SIZE)];
+  }
+
+  /**
+   * Reads shorts.
+   *
+   * @param input the input
+   * @param values the array to fill
+   * @throws IOException if an exception was encountered while reading
+   */
+  static void readShorts(final DataInput input, final short[] values) throws IOException {
+    if (input instanceof ByteBufferDataInput) {
+      ((ByteBufferDataInput) input).view((long) values.length * Short.BYTES).asShortBuffer().get(values);
+      return;
+    }
+    final byte[] chunk = chunk((long) values.length * Short.BYTES);
+    final int perChunk = chunk.length / Short.BYTES;
+    for (int offset = 0; offset < values.length; offset += perChunk) {
+      final int count = Math.min(perChunk, values.length - offset);
+      input.readFully(chunk, 0, count * Short.BYTES);
+      ByteBuffer.wrap(chunk).asShortBuffer().get(values, offset, count);
+    }
+  }
+
+  /**
+   * Writes shorts.
+   *
+   * @param output the output
+   * @param values the values
+   * @throws IOException if an exception was encountered while writing
+   */
+  static void writeShorts(final DataOutput output, final short[] values) throws IOException {
+    if (output instanceof ByteBufferDataOutput) {
+      ((ByteBufferDataOutput) output).view(values.length * Short.BYTES).asShortBuffer().put(values);
+      return;
+    }
+    final byte[] chunk = chunk((long) values.length * Short.BYTES);
+    final int perChunk = chunk.length / Short.BYTES;
+    for (int offset = 0; offset < values.length; offset += perChunk) {
+      final int count = Math.min(perChunk, values.length - offset);
+      ByteBuffer.wrap(chunk).asShortBuffer().put(values, offset, count);
+      output.write(chunk, 0, count * Short.BYTES);
+    }
+  }
+
+  /**
+   * Reads ints.
+   *
+   * @param input the input
+   * @param values the array to fill
+   * @throws IOException if an exception was encountered while reading
+   */
+  static void readInts(final DataInput input, final int[] values) throws IOException {
+    if (input instanceof ByteBufferDataInput) {
+      ((ByteBufferDataInput) input).view((long) values.length * Integer.BYTES).asIntBuffer().get(values);
+      return;
+    }
+    final byte[] chunk = chunk((long) values.length * Integer.BYTES);
+    final int perChunk = chunk.length / Integer.BYTES;
+    for (int offset = 0; offset < values.length; offset += perChunk) {
+      final int count = Math.min(perChunk, values.length - offset);
+      input.readFully(chunk, 0, count * Integer.BYTES);
+      ByteBuffer.wrap(chunk).asIntBuffer().get(values, offset, count);
+    }
+  }
+
+  /**
+   * Writes ints.
+   *
+   * @param output the output
+   * @param values the values
+   * @throws IOException if an exception was encountered while writing
+   */
+  static void writeInts(final DataOutput output, final int[] values) throws IOException {
+    if (output instanceof ByteBufferDataOutput) {
+      ((ByteBufferDataOutput) output).view(values.length * Integer.BYTES).asIntBuffer().put(values);
+      return;
+    }
+    final byte[] chunk = chunk((long) values.length * Integer.BYTES);
+    final int perChunk = chunk.length / Integer.BYTES;
+    for (int offset = 0; offset < values.length; offset += perChunk) {
+      final int count = Math.min(perChunk, values.length - offset);
+      ByteBuffer.wrap(chunk).asIntBuffer().put(values, offset, count);
+      output.write(chunk, 0, count * Integer.BYTES);
+    }
+  }
+
+  /**
+   * Reads longs.
+   *
+   * @param input the input
+   * @param values the array to fill
+   * @throws IOException if an exception was encountered while reading
+   */
+  static void readLongs(final DataInput input, final long[] values) throws IOException {
+    if (input instanceof ByteBufferDataInput) {
+      ((ByteBufferDataInput) input).view((long) values.length * Long.BYTES).asLongBuffer().get(values);
+      return;
+    }
+    final byte[] chunk = chunk((long) values.length * Long.BYTES);
+    final int perChunk = chunk.length / Long.BYTES;
+    for (int offset = 0; offset < values.length; offset += perChunk) {
+      final int count = Math.min(perChunk, values.length - offset);
+      input.readFully(chunk, 0, count * Long.BYTES);
+      ByteBuffer.wrap(chunk).asLongBuffer().get(values, offset, count);
+    }
+  }
+
+  /**
+   * Writes longs.
+   *
+   * @param output the output
+   * @param values the values
+   * @throws IOException if an exception was encountered while writing
+   */
+  static void writeLongs(final DataOutput output, final long[] values) throws IOException {
+    if (output instanceof ByteBufferDataOutput) {
+      ((ByteBufferDataOutput) output).view(values.length * Long.BYTES).asLongBuffer().put(values);
+      return;
+    }
+    final byte[] chunk = chunk((long) values.length * Long.BYTES);
+    final int perChunk = chunk.length / Long.BYTES;
+    for (int offset = 0; offset < values.length; offset += perChunk) {
+      final int count = Math.min(perChunk, values.length - offset);
+      ByteBuffer.wrap(chunk).asLongBuffer().put(values, offset, count);
+      output.write(chunk, 0, count * Long.BYTES);
+    }
+  }
+
+  /**
+   * Reads floats.
+   *
+   * @param input the input
+   * @param values the array to fill
+   * @throws IOException if an exception was encountered while reading
+   */
+  static void readFloats(final DataInput input, final float[] values) throws IOException {
+    if (input instanceof ByteBufferDataInput) {
+      ((ByteBufferDataInput) input).view((long) values.length * Float.BYTES).asFloatBuffer().get(values);
+      return;
+    }
+    final byte[] chunk = chunk((long) values.length * Float.BYTES);
+    final int perChunk = chunk.length / Float.BYTES;
+    for (int offset = 0; offset < values.length; offset += perChunk) {
+      final int count = Math.min(perChunk, values.length - offset);
+      input.readFully(chunk, 0, count * Float.BYTES);
+      ByteBuffer.wrap(chunk).asFloatBuffer().get(values, offset, count);
+    }
+  }
+
+  /**
+   * Writes floats.
+   *
+   * @param output the output
+   * @param values the values
+   * @throws IOException if an exception was encountered while writing
+   */
+  static void writeFloats(final DataOutput output, final float[] values) throws IOException {
+    if (output instanceof ByteBufferDataOutput) {
+      ((ByteBufferDataOutput) output).view(values.length * Float.BYTES).asFloatBuffer().put(values);
+      return;
+    }
+    final byte[] chunk = chunk((long) values.length * Float.BYTES);
+    final int perChunk = chunk.length / Float.BYTES;
+    for (int offset = 0; offset < values.length; offset += perChunk) {
+      final int count = Math.min(perChunk, values.length - offset);
+      ByteBuffer.wrap(chunk).asFloatBuffer().put(values, offset, count);
+      output.write(chunk, 0, count * Float.BYTES);
+    }
+  }
+
+  /**
+   * Reads doubles.
+   *
+   * @param input the input
+   * @param values the array to fill
+   * @throws IOException if an exception was encountered while reading
+   */
+  static void readDoubles(final DataInput input, final double[] values) throws IOException {
+    if (input instanceof ByteBufferDataInput) {
+      ((ByteBufferDataInput) input).view((long) values.length * Double.BYTES).asDoubleBuffer().get(values);
+      return;
+    }
+    final byte[] chunk = chunk((long) values.length * Double.BYTES);
+    final int perChunk = chunk.length / Double.BYTES;
+    for (int offset = 0; offset < values.length; offset += perChunk) {
+      final int count = Math.min(perChunk, values.length - offset);
+      input.readFully(chunk, 0, count * Double.BYTES);
+      ByteBuffer.wrap(chunk).asDoubleBuffer().get(values, offset, count);
+    }
+  }
+
+  /**
+   * Writes doubles.
+   *
+   * @param output the output
+   * @param values the values
+   * @throws IOException if an exception was encountered while writing
+   */
+  static void writeDoubles(final DataOutput output, final double[] values) throws IOException {
+    if (output instanceof ByteBufferDataOutput) {
+      ((ByteBufferDataOutput) output).view(values.length * Double.BYTES).asDoubleBuffer().put(values);
+      return;
+    }
+    final byte[] chunk = chunk((long) values.length * Double.BYTES);
+    final int perChunk = chunk.length / Double.BYTES;
+    for (int offset = 0; offset < values.length; offset += perChunk) {
+      final int count = Math.min(perChunk, values.length - offset);
+      ByteBuffer.wrap(chunk).asDoubleBuffer().put(values, offset, count);
+      output.write(chunk, 0, count * Double.BYTES);
+    }
+  }
+}
@@ -54,13 +54,7 @@ public interface ByteBinaryTag extends NumberBinaryTag {
    * @since 4.14.0
    */
   static @NotNull ByteBinaryTag byteBinaryTag(final byte value) {
-    if (value == 0) {
-      return ZERO;
-    } else if (value == 1) {
-      return ONE;
-    } else {
-      return new ByteBinaryTagImpl(value);
-    }
+    return ByteBinaryTagImpl.of(value);
   }
 
   /**
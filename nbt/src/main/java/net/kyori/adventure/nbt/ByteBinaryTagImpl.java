@@ -37,6 +37,10 @@ final class ByteBinaryTagImpl extends AbstractBinaryTag implements ByteBinaryTag
     this.value = value;
   }
 
+  static ByteBinaryTag of(final byte value) {
+    return Cache.VALUES[value & 0xff];
+  }
+
   @Override
   public byte value() {
     return this.value;
@@ -89,4 +93,15 @@ final class ByteBinaryTagImpl extends AbstractBinaryTag implements ByteBinaryTag
   public @NotNull Stream<? extends ExaminableProperty> examinableProperties() {
     return Stream.of(ExaminableProperty.of("value", this.value));
   }
+
+  // a holder, as the cache needs ByteBinaryTag.ZERO and ONE to be initialized first
+  private static final class Cache {
+    static final ByteBinaryTag[] VALUES = new ByteBinaryTag[256];
+
+    static {
+      for (int i = Byte.MIN_VALUE; i <= Byte.MAX_VALUE; i++) {
+        VALUES[i & 0xff] = i == 0 ? ZERO : i == 1 ? ONE : new ByteBinaryTagImpl((byte) i);
+      }
+    }
+  }
 }
@@ -0,0 +1,238 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A {@link java.io.DataInput} reading directly from a {@link ByteBuffer}.
+ *
+ * <p>All reads are absolute and bounds-checked against the limit of the buffer, so the buffer itself is never modified.</p>
+ */
+final class ByteBufferDataInput extends TrackingDataInput {
+  private final ByteBuffer buffer;
+  private final int start;
+  private final int limit;
+  private int position;
+  private @Nullable ByteBuffer bulk; // for reading into arrays
+
+  ByteBufferDataInput(final ByteBuffer buffer, final long maxLength) {
+    super(maxLength);
+    this.buffer = buffer.order() == ByteOrder.BIG_ENDIAN ? buffer : buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+    this.start = buffer.position();
+    this.limit = buffer.limit();
+    this.position = this.start;
+  }
+
+  /**
+   * Gets the index of the next byte to be read from the buffer.
+   *
+   * @return the position
+   */
+  int position() {
+    return this.position;
+  }
+
+  /**
+   * Copies bytes out of the buffer.
+   *
+   * @param from the index of the first byte, inclusive
+   * @param to the index of the last byte, exclusive
+   * @return the bytes
+   */
+  byte[] copy(final int from, final int to) {
+    final byte[] bytes = new byte[to - from];
+    if (this.buffer.hasArray()) {
+      System.arraycopy(this.buffer.array(), this.buffer.arrayOffset() + from, bytes, 0, bytes.length);
+    } else {
+      final ByteBuffer view = this.buffer.duplicate();
+      ((Buffer) view).position(from);
+      view.get(bytes);
+    }
+    return bytes;
+  }
+
+  /**
+   * Reserves the next bytes of the buffer, and gets a view of them.
+   *
+   * @param length the number of bytes
+   * @return a big-endian view of the bytes
+   * @throws EOFException if there are not enough bytes left
+   */
+  ByteBuffer view(final long length) throws EOFException {
+    this.require(length);
+    final int index = this.advance((int) length);
+    final ByteBuffer view = this.buffer.duplicate();
+    ((Buffer) view).limit(index + (int) length);
+    ((Buffer) view).position(index);
+    return view.slice().order(ByteOrder.BIG_ENDIAN);
+  }
+
+  @Override
+  void require(final long length) throws EOFException {
+    if (length > this.limit - this.position) {
+      throw new EOFException("Tried to read " + length + " bytes at position " + this.position + ", but only " + (this.limit - this.position) + " were available");
+    }
+  }
+
+  @Override
+  long counter() {
+    return this.position - this.start;
+  }
+
+  // reserve the next n bytes, returning the index of the first one
+  private int advance(final int n) throws EOFException {
+    final int index = this.position;
+    if (n > this.limit - index) {
+      throw new EOFException("Tried to read " + n + " bytes at position " + index + ", but only " + (this.limit - index) + " were available");
+    }
+    this.position = index + n;
+    return index;
+  }
+
+  @Override
+  public void readFully(final byte@NotNull[] array) throws IOException {
+    this.readFully(array, 0, array.length);
+  }
+
+  @Override
+  public void readFully(final byte@NotNull[] array, final int off, final int len) throws IOException {
+    final int index = this.advance(len);
+    if (this.buffer.hasArray()) {
+      System.arraycopy(this.buffer.array(), this.buffer.arrayOffset() + index, array, off, len);
+    } else {
+      if (this.bulk == null) {
+        this.bulk = this.buffer.duplicate();
+      }
+      ((Buffer) this.bulk).position(index);
+      this.bulk.get(array, off, len);
+    }
+  }
+
+  @Override
+  public int skipBytes(final int n) {
+    final int skipped = Math.max(0, Math.min(n, this.limit - this.position));
+    this.position += skipped;
+    return skipped;
+  }
+
+  @Override
+  public boolean readBoolean() throws IOException {
+    return this.buffer.get(this.advance(Byte.BYTES)) != 0;
+  }
+
+  @Override
+  public byte readByte() throws IOException {
+    return this.buffer.get(this.advance(Byte.BYTES));
+  }
+
+  @Override
+  public int readUnsignedByte() throws IOException {
+    return this.buffer.get(this.advance(Byte.BYTES)) & 0xff;
+  }
+
+  @Override
+  public short readShort() throws IOException {
+    return this.buffer.getShort(this.advance(Short.BYTES));
+  }
+
+  @Override
+  public int readUnsignedShort() throws IOException {
+    return this.buffer.getShort(this.advance(Short.BYTES)) & 0xffff;
+  }
+
+  @Override
+  public char readChar() throws IOException {
+    return this.buffer.getChar(this.advance(Character.BYTES));
+  }
+
+  @Override
+  public int readInt() throws IOException {
+    return this.buffer.getInt(this.advance(Integer.BYTES));
+  }
+
+  @Override
+  public long readLong() throws IOException {
+    return this.buffer.getLong(this.advance(Long.BYTES));
+  }
+
+  @Override
+  public float readFloat() throws IOException {
+    return this.buffer.getFloat(this.advance(Float.BYTES));
+  }
+
+  @Override
+  public double readDouble() throws IOException {
+    return this.buffer.getDouble(this.advance(Double.BYTES));
+  }
+
+  @Override
+  public @Nullable String readLine() throws IOException {
+    if (this.position >= this.limit) {
+      return null;
+    }
+    final StringBuilder line = new StringBuilder();
+    while (this.position < this.limit) {
+      final char c = (char) (this.buffer.get(this.position++) & 0xff);
+      if (c == '\n') {
+        break;
+      } else if (c == '\r') {
+        if (this.position < this.limit && this.buffer.get(this.position) == '\n') {
+          this.position++;
+        }
+        break;
+      }
+      line.append(c);
+    }
+    return line.toString();
+  }
+
+  @Override
+  public @NotNull String readUTF() throws IOException {
+    final int length = this.readUnsignedShort();
+    return ModifiedUTF8.decode(this.buffer, this.advance(length), length);
+  }
+
+  @Override
+  String readInterned(final StringInterner interner) throws IOException {
+    final int length = this.readUnsignedShort();
+    final int index = this.advance(length);
+    if (length > StringInterner.MAX_LENGTH) {
+      return ModifiedUTF8.decode(this.buffer, index, length);
+    } else if (this.buffer.hasArray()) {
+      return interner.intern(this.buffer.array(), this.buffer.arrayOffset() + index, length);
+    }
+    final byte[] bytes = this.scratch();
+    for (int i = 0; i < length; i++) {
+      bytes[i] = this.buffer.get(index + i);
+    }
+    return interner.intern(bytes, 0, length);
+  }
+}
@@ -0,0 +1,166 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.UTFDataFormatException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A {@link DataOutput} writing directly into a {@link ByteBuffer}.
+ *
+ * <p>The buffer is expected to have been sized for the output in advance, so writing past its limit fails with a
+ * {@link java.nio.BufferOverflowException} rather than growing it. Strings are encoded in a single pass.</p>
+ */
+final class ByteBufferDataOutput implements DataOutput {
+  private static final int MAX_UTF_LENGTH = 65535;
+  private final ByteBuffer buffer;
+
+  ByteBufferDataOutput(final ByteBuffer buffer) {
+    this.buffer = buffer.order() == ByteOrder.BIG_ENDIAN ? buffer : buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+  }
+
+  /**
+   * Gets the index of the next byte to be written to the buffer.
+   *
+   * @return the position
+   */
+  int position() {
+    return this.buffer.position();
+  }
+
+  /**
+   * Reserves the next bytes of the buffer, and gets a view of them.
+   *
+   * @param length the number of bytes
+   * @return a big-endian view of the bytes
+   */
+  ByteBuffer view(final int length) {
+    final ByteBuffer view = this.buffer.slice().order(ByteOrder.BIG_ENDIAN);
+    ((Buffer) view).limit(length);
+    ((Buffer) this.buffer).position(this.buffer.position() + length);
+    return view;
+  }
+
+  @Override
+  public void write(final int b) {
+    this.buffer.put((byte) b);
+  }
+
+  @Override
+  public void write(final byte@NotNull[] b) {
+    this.buffer.put(b);
+  }
+
+  @Override
+  public void write(final byte@NotNull[] b, final int off, final int len) {
+    this.buffer.put(b, off, len);
+  }
+
+  @Override
+  public void writeBoolean(final boolean v) {
+    this.buffer.put((byte) (v ? 1 : 0));
+  }
+
+  @Override
+  public void writeByte(final int v) {
+    this.buffer.put((byte) v);
+  }
+
+  @Override
+  public void writeShort(final int v) {
+    this.buffer.putShort((short) v);
+  }
+
+  @Override
+  public void writeChar(final int v) {
+    this.buffer.putChar((char) v);
+  }
+
+  @Override
+  public void writeInt(final int v) {
+    this.buffer.putInt(v);
+  }
+
+  @Override
+  public void writeLong(final long v) {
+    this.buffer.putLong(v);
+  }
+
+  @Override
+  public void writeFloat(final float v) {
+    this.buffer.putFloat(v);
+  }
+
+  @Override
+  public void writeDouble(final double v) {
+    this.buffer.putDouble(v);
+  }
+
+  @Override
+  public void writeBytes(final @NotNull String s) {
+    for (int i = 0; i < s.length(); i++) {
+      this.buffer.put((byte) s.charAt(i));
+    }
+  }
+
+  @Override
+  public void writeChars(final @NotNull String s) {
+    for (int i = 0; i < s.length(); i++) {
+      this.buffer.putChar(s.charAt(i));
+    }
+  }
+
+  @Override
+  public void writeUTF(final @NotNull String s) throws IOException {
+    // the length is only known once the string has been encoded, so it is filled in afterwards
+    final ByteBuffer buffer = this.buffer;
+    final int start = buffer.position();
+    ((Buffer) buffer).position(start + 2);
+    final int length = s.length();
+    for (int i = 0; i < length; i++) {
+      final char c = s.charAt(i);
+      if (c < 0x80 && c != 0) {
+        buffer.put((byte) c);
+      } else if (c < 0x800) {
+        buffer.put((byte) (0xc0 | (c >> 6)));
+        buffer.put((byte) (0x80 | (c & 0x3f)));
+      } else {
+        buffer.put((byte) (0xe0 | (c >> 12)));
+        buffer.put((byte) (0x80 | ((c >> 6) & 0x3f)));
+        buffer.put((byte) (0x80 | (c & 0x3f)));
+      }
+    }
+    final int encoded = buffer.position() - start - 2;
+    if (encoded > MAX_UTF_LENGTH) {
+      ((Buffer) buffer).position(start);
+      throw new UTFDataFormatException("encoded string too long: " + encoded + " bytes");
+    }
+    buffer.putShort(start, (short) encoded);
+  }
+}
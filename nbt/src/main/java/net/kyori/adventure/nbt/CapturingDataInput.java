@@ -0,0 +1,185 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.io.DataInput;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A {@link DataInput} that keeps a copy of every byte it reads or skips.
+ */
+final class CapturingDataInput extends TrackingDataInput {
+  private final DataInput input;
+  private byte[] captured = new byte[256];
+  private int size; // the number of bytes read from the wrapped input
+  private int position; // the number of bytes read from this input, which is one less than size after a lone carriage return
+
+  CapturingDataInput(final DataInput input, final long maxLength) {
+    super(maxLength);
+    this.input = input;
+  }
+
+  /**
+   * Gets a copy of the bytes read so far.
+   *
+   * @return the captured bytes
+   */
+  byte[] captured() {
+    return Arrays.copyOf(this.captured, this.position);
+  }
+
+  @Override
+  long counter() {
+    return this.position;
+  }
+
+  // read the next n bytes into the capture buffer, returning the index of the first one
+  private int capture(final int n) throws IOException {
+    final int index = this.position;
+    final int missing = n - (this.size - index);
+    if (missing > 0) {
+      if (missing > this.captured.length - this.size) {
+        final long required = (long) this.size + missing;
+        if (required > Integer.MAX_VALUE - 8) {
+          throw new IOException("Cannot capture more than " + (Integer.MAX_VALUE - 8) + " bytes");
+        }
+        this.captured = Arrays.copyOf(this.captured, (int) Math.min(Math.max(required, this.captured.length * 2L), Integer.MAX_VALUE - 8));
+      }
+      this.input.readFully(this.captured, this.size, missing);
+      this.size += missing;
+    }
+    this.position = index + n;
+    return index;
+  }
+
+  @Override
+  public void readFully(final byte@NotNull[] array) throws IOException {
+    this.readFully(array, 0, array.length);
+  }
+
+  @Override
+  public void readFully(final byte@NotNull[] array, final int off, final int len) throws IOException {
+    System.arraycopy(this.captured, this.capture(len), array, off, len);
+  }
+
+  @Override
+  public int skipBytes(final int n) throws IOException {
+    this.capture(n);
+    return n;
+  }
+
+  @Override
+  public boolean readBoolean() throws IOException {
+    return this.readByte() != 0;
+  }
+
+  @Override
+  public byte readByte() throws IOException {
+    return this.captured[this.capture(Byte.BYTES)];
+  }
+
+  @Override
+  public int readUnsignedByte() throws IOException {
+    return this.readByte() & 0xff;
+  }
+
+  @Override
+  public short readShort() throws IOException {
+    final int index = this.capture(Short.BYTES);
+    return (short) ((this.captured[index] << 8) | (this.captured[index + 1] & 0xff));
+  }
+
+  @Override
+  public int readUnsignedShort() throws IOException {
+    return this.readShort() & 0xffff;
+  }
+
+  @Override
+  public char readChar() throws IOException {
+    return (char) this.readShort();
+  }
+
+  @Override
+  public int readInt() throws IOException {
+    final int index = this.capture(Integer.BYTES);
+    return ((this.captured[index] & 0xff) << 24)
+      | ((this.captured[index + 1] & 0xff) << 16)
+      | ((this.captured[index + 2] & 0xff) << 8)
+      | (this.captured[index + 3] & 0xff);
+  }
+
+  @Override
+  public long readLong() throws IOException {
+    return ((long) this.readInt() << 32) | (this.readInt() & 0xffffffffL);
+  }
+
+  @Override
+  public float readFloat() throws IOException {
+    return Float.intBitsToFloat(this.readInt());
+  }
+
+  @Override
+  public double readDouble() throws IOException {
+    return Double.longBitsToDouble(this.readLong());
+  }
+
+  @Override
+  public @Nullable String readLine() throws IOException {
+    final StringBuilder line = new StringBuilder();
+    while (true) {
+      final int c;
+      try {
+        c = this.readUnsignedByte();
+      } catch (final EOFException e) {
+        return line.length() == 0 ? null : line.toString();
+      }
+      if (c == '\n') {
+        break;
+      } else if (c == '\r') {
+        try {
+          if (this.captured[this.capture(Byte.BYTES)] != '\n') {
+            this.position--; // already captured, but left for the next read
+          }
+        } catch (final EOFException ignored) {
+          // the line ends with the input
+        }
+        break;
+      }
+      line.append((char) c);
+    }
+    return line.toString();
+  }
+
+  @Override
+  public @NotNull String readUTF() throws IOException {
+    final int length = this.readUnsignedShort();
+    final int index = this.capture(length);
+    return ModifiedUTF8.decode(ByteBuffer.wrap(this.captured), index, length);
+  }
+}
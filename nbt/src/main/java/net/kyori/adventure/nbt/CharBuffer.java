@@ -23,15 +23,43 @@
  */
 package net.kyori.adventure.nbt;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import org.jetbrains.annotations.Nullable;
+
 /**
  * A character buffer designed to be inspected by a parser.
+ *
+ * <p>Characters are read from the source into a window as they are needed, and are discarded once the parser has moved past them.
+ * The window only grows to hold the longest token being looked at, so large documents can be parsed with bounded memory.</p>
+ *
+ * <p>Exceptions thrown by a {@link Reader} source are rethrown wrapped in an {@link UncheckedIOException}.</p>
  */
 final class CharBuffer {
-  private final CharSequence sequence;
-  private int index;
+  private static final int MIN_WINDOW = 16;
+  private static final int MAX_WINDOW = 8192;
+
+  private final @Nullable Reader reader;
+  private final @Nullable CharSequence sequence;
+  private int sequenceIndex;
+  private boolean exhausted;
+  private char[] window;
+  private int limit; // number of characters in the window
+  private int index; // position of the current character in the window
+  private int discarded; // number of characters dropped from the start of the window
 
   CharBuffer(final CharSequence sequence) {
+    this.reader = null;
     this.sequence = sequence;
+    this.window = new char[Math.max(MIN_WINDOW, Math.min(MAX_WINDOW, sequence.length()))];
+  }
+
+  CharBuffer(final Reader reader) {
+    this.reader = reader;
+    this.sequence = null;
+    this.window = new char[MAX_WINDOW];
   }
 
   /**
@@ -40,11 +68,14 @@ final class CharBuffer {
    * @return The current character
    */
   public char peek() {
-    return this.sequence.charAt(this.index);
+    return this.peek(0);
   }
 
   public char peek(final int offset) {
-    return this.sequence.charAt(this.index + offset);
+    if (!this.fill(offset)) {
+      throw new StringIndexOutOfBoundsException("Position " + (this.position() + offset) + " is past the end of the input");
+    }
+    return this.window[this.index + offset];
   }
 
   /**
@@ -53,7 +84,9 @@ final class CharBuffer {
    * @return current character
    */
   public char take() {
-    return this.sequence.charAt(this.index++);
+    final char result = this.peek();
+    this.index++;
+    return result;
   }
 
   public boolean advance() {
@@ -61,12 +94,37 @@ final class CharBuffer {
     return this.hasMore();
   }
 
+  /**
+   * Advance past several characters which have already been {@link #peek(int) peeked} at.
+   *
+   * @param count the number of characters
+   */
+  public void skip(final int count) {
+    this.index += count;
+  }
+
   public boolean hasMore() {
-    return this.index < this.sequence.length();
+    return this.fill(0);
   }
 
   public boolean hasMore(final int offset) {
-    return this.index + offset < this.sequence.length();
+    return this.fill(offset);
+  }
+
+  /**
+   * Gets the characters of the window.
+   *
+   * <p>The current character is at {@link #windowIndex()}. Characters that have been peeked at
+   * stay valid until the next call that peeks further ahead.</p>
+   *
+   * @return the window
+   */
+  char[] window() {
+    return this.window;
+  }
+
+  int windowIndex() {
+    return this.index;
   }
 
   /**
@@ -76,24 +134,33 @@ final class CharBuffer {
    * @return the string starting at the current position (inclusive) and going until the location of {@code until}, exclusive
    * @throws StringTagParseException if {@code until} is not present in the remaining string
    */
-  public CharSequence takeUntil(char until) throws StringTagParseException {
+  public String takeUntil(final char until) throws StringTagParseException {
+    final int length = this.lengthUntil(until);
+    final String result = new String(this.window, this.index, length);
+    this.index += length + 1;
+    return result;
+  }
+
+  /**
+   * Search for the provided token, without advancing.
+   *
+   * <p>Afterwards, the characters up to the token can be read from the {@link #window()}.</p>
+   *
+   * @param until case-insensitive token
+   * @return the number of characters before {@code until}
+   * @throws StringTagParseException if {@code until} is not present in the remaining string
+   */
+  public int lengthUntil(char until) throws StringTagParseException {
     until = Character.toLowerCase(until);
-    int endIdx = -1;
-    for (int idx = this.index; idx < this.sequence.length(); ++idx) {
-      if (this.sequence.charAt(idx) == Tokens.ESCAPE_MARKER) {
-        idx++;
-      } else if (Character.toLowerCase(this.sequence.charAt(idx)) == until) {
-        endIdx = idx;
-        break;
+    for (int offset = 0; this.fill(offset); ++offset) {
+      final char c = this.window[this.index + offset];
+      if (c == Tokens.ESCAPE_MARKER) {
+        offset++;
+      } else if (Character.toLowerCase(c) == until) {
+        return offset;
       }
     }
-    if (endIdx == -1) {
-      throw this.makeError("No occurrence of " + until + " was found");
-    }
-
-    final CharSequence result = this.sequence.subSequence(this.index, endIdx);
-    this.index = endIdx + 1;
-    return result;
+    throw this.makeError("No occurrence of " + until + " was found");
   }
 
   /**
@@ -140,6 +207,56 @@ final class CharBuffer {
   }
 
   public StringTagParseException makeError(final String message) {
-    return new StringTagParseException(message, this.sequence, this.index);
+    return new StringTagParseException(message, new String(this.window, 0, this.limit), this.position());
+  }
+
+  private int position() {
+    return this.discarded + this.index;
+  }
+
+  // makes sure the character at index + offset is in the window, returning false if the input ends before it
+  private boolean fill(final int offset) {
+    while (this.index + offset >= this.limit) {
+      if (this.exhausted) return false;
+      if (this.limit == this.window.length) {
+        if (this.index > 0) {
+          System.arraycopy(this.window, this.index, this.window, 0, this.limit - this.index);
+          this.discarded += this.index;
+          this.limit -= this.index;
+          this.index = 0;
+        } else {
+          this.window = Arrays.copyOf(this.window, this.window.length * 2);
+        }
+      }
+      final int read = this.read(this.limit, this.window.length - this.limit);
+      if (read < 0) {
+        this.exhausted = true;
+      } else {
+        this.limit += read;
+      }
+    }
+    return true;
+  }
+
+  private int read(final int offset, final int length) {
+    if (this.reader != null) {
+      try {
+        return this.reader.read(this.window, offset, length);
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+    final CharSequence sequence = this.sequence;
+    final int count = Math.min(length, sequence.length() - this.sequenceIndex);
+    if (count <= 0) return -1;
+    if (sequence instanceof String) {
+      ((String) sequence).getChars(this.sequenceIndex, this.sequenceIndex + count, this.window, offset);
+    } else {
+      for (int i = 0; i < count; i++) {
+        this.window[offset + i] = sequence.charAt(this.sequenceIndex + i);
+      }
+    }
+    this.sequenceIndex += count;
+    return count;
   }
 }
@@ -0,0 +1,93 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A compression type backed by a {@link BinaryTagIO.Compression.Codec}.
+ */
+final class CodecCompression extends BinaryTagIO.Compression {
+  private final String name;
+  private final Codec codec;
+
+  CodecCompression(final @NotNull String name, final @NotNull Codec codec) {
+    this.name = name;
+    this.codec = codec;
+  }
+
+  static @Nullable BinaryTagIO.Compression lookup(final @NotNull String name) {
+    switch (name) {
+      case "none": return NONE;
+      case "gzip": return GZIP;
+      case "zlib": return ZLIB;
+      default: return Providers.PROVIDED.get(name);
+    }
+  }
+
+  @Override
+  @NotNull InputStream decompress(final @NotNull InputStream is) throws IOException {
+    return this.codec.decompress(is);
+  }
+
+  @Override
+  @NotNull OutputStream compress(final @NotNull OutputStream os) throws IOException {
+    return this.codec.compress(os);
+  }
+
+  @Override
+  public String toString() {
+    return "Compression." + this.name;
+  }
+
+  // loaded on first lookup of a name that is not built in
+  private static final class Providers {
+    static final Map<String, BinaryTagIO.Compression> PROVIDED = load();
+
+    private static Map<String, BinaryTagIO.Compression> load() {
+      final Map<String, BinaryTagIO.Compression> provided = new HashMap<>();
+      final Iterator<Provider> it = ServiceLoader.load(Provider.class, Provider.class.getClassLoader()).iterator();
+      while (true) {
+        final Provider provider;
+        try {
+          if (!it.hasNext()) break;
+          provider = it.next();
+        } catch (final ServiceConfigurationError e) {
+          continue; // a provider that cannot be loaded is skipped, the loader moves on to the next one
+        }
+        provided.putIfAbsent(provider.name(), provider.compression());
+      }
+      return provided;
+    }
+  }
+}
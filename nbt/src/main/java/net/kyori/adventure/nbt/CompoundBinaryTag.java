@@ -23,7 +23,6 @@
  */
 package net.kyori.adventure.nbt;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import org.jetbrains.annotations.NotNull;
@@ -56,7 +55,7 @@ public interface CompoundBinaryTag extends BinaryTag, CompoundTagSetter<Compound
    */
   static @NotNull CompoundBinaryTag from(final @NotNull Map<String, ? extends BinaryTag> tags) {
     if (tags.isEmpty()) return empty();
-    return new CompoundBinaryTagImpl(new HashMap<>(tags)); // explicitly copy
+    return CompoundBinaryTagImpl.copyOf(tags);
   }
 
   /**
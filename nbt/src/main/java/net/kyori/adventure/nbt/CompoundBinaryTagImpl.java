@@ -23,6 +23,8 @@
  */
 package net.kyori.adventure.nbt;
 
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -41,11 +43,48 @@ import static java.util.Objects.requireNonNull;
 final class CompoundBinaryTagImpl extends AbstractBinaryTag implements CompoundBinaryTag {
   static final CompoundBinaryTag EMPTY = new CompoundBinaryTagImpl(Collections.emptyMap());
   private final Map<String, BinaryTag> tags;
-  private final int hashCode;
+  private int hashCode; // computed on demand, as lazy tags would otherwise have to decode everything
+  private int encodedSize; // computed on demand, see BinaryTagSize
 
   CompoundBinaryTagImpl(final Map<String, BinaryTag> tags) {
-    this.tags = Collections.unmodifiableMap(tags);
-    this.hashCode = tags.hashCode();
+    this.tags = tags instanceof LazyTagMap || tags instanceof PersistentTagMap ? tags : Collections.unmodifiableMap(tags);
+  }
+
+  /**
+   * Creates a compound tag from a copy of {@code tags}, picking the storage by size.
+   *
+   * @param tags the tags
+   * @return a compound tag
+   */
+  static @NotNull CompoundBinaryTag copyOf(final @NotNull Map<String, ? extends BinaryTag> tags) {
+    if (tags.isEmpty()) return EMPTY;
+    if (tags.size() <= ArrayTagMap.MAX_SIZE) return new CompoundBinaryTagImpl(ArrayTagMap.copyOf(tags));
+    return new CompoundBinaryTagImpl(new HashMap<>(tags));
+  }
+
+  /**
+   * Writes the encoded form of this tag, if it was read lazily.
+   *
+   * @param output the output
+   * @return {@code true} if the tag was written
+   * @throws IOException if an exception was encountered while writing
+   */
+  boolean writeEncoded(final DataOutput output) throws IOException {
+    if (this.tags instanceof LazyTagMap) {
+      ((LazyTagMap) this.tags).write(output);
+      return true;
+    }
+    return false;
+  }
+
+  // the size of the encoded payload, which lazy tags already know
+  int encodedSize() {
+    int size = this.encodedSize;
+    if (size == 0) {
+      size = this.tags instanceof LazyTagMap ? ((LazyTagMap) this.tags).encodedLength() : BinaryTagSize.compound(this);
+      this.encodedSize = size;
+    }
+    return size;
   }
 
   public boolean contains(final @NotNull String key, final @NotNull BinaryTagType<?> type) {
@@ -70,34 +109,37 @@ final class CompoundBinaryTagImpl extends AbstractBinaryTag implements CompoundB
 
   @Override
   public @NotNull CompoundBinaryTag put(final @NotNull String key, final @NotNull BinaryTag tag) {
-    return this.edit(map -> map.put(key, tag));
+    return this.with(this.persistentTags().with(key, tag));
   }
 
   @Override
   public @NotNull CompoundBinaryTag put(final @NotNull CompoundBinaryTag tag) {
-    return this.edit(map -> {
-      for (final String key : tag.keySet()) {
-        map.put(key, tag.get(key));
-      }
-    });
+    PersistentTagMap tags = this.persistentTags();
+    for (final String key : tag.keySet()) {
+      tags = tags.with(key, tag.get(key));
+    }
+    return this.with(tags);
   }
 
   @Override
   public @NotNull CompoundBinaryTag put(final @NotNull Map<String, ? extends BinaryTag> tags) {
-    return this.edit(map -> map.putAll(tags));
+    PersistentTagMap newTags = this.persistentTags();
+    for (final Map.Entry<String, ? extends BinaryTag> entry : tags.entrySet()) {
+      newTags = newTags.with(entry.getKey(), entry.getValue());
+    }
+    return this.with(newTags);
   }
 
   @Override
   public @NotNull CompoundBinaryTag remove(final @NotNull String key, final @Nullable Consumer<? super BinaryTag> removed) {
-    if (!this.tags.containsKey(key)) {
+    final @Nullable BinaryTag tag = this.tags.get(key);
+    if (tag == null) {
       return this;
     }
-    return this.edit(map -> {
-      final BinaryTag tag = map.remove(key);
-      if (removed != null) {
-        removed.accept(tag);
-      }
-    });
+    if (removed != null) {
+      removed.accept(tag);
+    }
+    return this.with(this.persistentTags().without(key));
   }
 
   @Override
@@ -231,10 +273,13 @@ final class CompoundBinaryTagImpl extends AbstractBinaryTag implements CompoundB
     return defaultValue;
   }
 
-  private CompoundBinaryTag edit(final Consumer<Map<String, BinaryTag>> consumer) {
-    final Map<String, BinaryTag> tags = new HashMap<>(this.tags);
-    consumer.accept(tags);
-    return new CompoundBinaryTagImpl(new HashMap<>(tags)); // explicitly copy
+  // tags that were read or built are copied into persistent storage on the first edit, and shared after that
+  private PersistentTagMap persistentTags() {
+    return PersistentTagMap.copyOf(this.tags);
+  }
+
+  private CompoundBinaryTag with(final PersistentTagMap tags) {
+    return tags == this.tags ? this : new CompoundBinaryTagImpl(tags);
   }
 
   @Override
@@ -244,7 +289,12 @@ final class CompoundBinaryTagImpl extends AbstractBinaryTag implements CompoundB
 
   @Override
   public int hashCode() {
-    return this.hashCode;
+    int hashCode = this.hashCode;
+    if (hashCode == 0) {
+      hashCode = this.tags.hashCode();
+      this.hashCode = hashCode;
+    }
+    return hashCode;
   }
 
   @Override
@@ -23,7 +23,7 @@
  */
 package net.kyori.adventure.nbt;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.function.Consumer;
 import org.jetbrains.annotations.NotNull;
@@ -34,7 +34,7 @@ final class CompoundTagBuilder implements CompoundBinaryTag.Builder {
 
   private Map<String, BinaryTag> tags() {
     if (this.tags == null) {
-      this.tags = new HashMap<>();
+      this.tags = new LinkedHashMap<>(); // small compounds keep the order entries were added in
     }
     return this.tags;
   }
@@ -74,6 +74,6 @@ final class CompoundTagBuilder implements CompoundBinaryTag.Builder {
   @Override
   public @NotNull CompoundBinaryTag build() {
     if (this.tags == null) return CompoundBinaryTag.empty();
-    return new CompoundBinaryTagImpl(new HashMap<>(this.tags)); // explicitly copy
+    return CompoundBinaryTagImpl.copyOf(this.tags);
   }
 }
@@ -0,0 +1,106 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * GZIP and ZLIB compression, reusing one {@link Inflater} and {@link Deflater} per thread.
+ */
+final class DeflateCompression extends BinaryTagIO.Compression {
+  static final int DEFAULT_BUFFER_SIZE = 8192;
+  private static final int MIN_LEVEL = Deflater.DEFAULT_COMPRESSION;
+  private static final int MAX_LEVEL = Deflater.BEST_COMPRESSION;
+
+  private static final ThreadLocalPool<Inflater> GZIP_INFLATERS = inflaters(true);
+  private static final ThreadLocalPool<Inflater> ZLIB_INFLATERS = inflaters(false);
+  // a single deflater per thread and format, its level is set each time it is acquired
+  private static final ThreadLocalPool<Deflater> GZIP_DEFLATERS = deflaters(true);
+  private static final ThreadLocalPool<Deflater> ZLIB_DEFLATERS = deflaters(false);
+
+  private final boolean gzip;
+  private final int level;
+  private final int bufferSize;
+  private final String name;
+
+  DeflateCompression(final boolean gzip, final int level, final int bufferSize, final @NotNull String name) {
+    if (level < MIN_LEVEL || level > MAX_LEVEL) throw new IllegalArgumentException("Compression level must be between " + MIN_LEVEL + " and " + MAX_LEVEL + ", was " + level);
+    if (bufferSize < 1) throw new IllegalArgumentException("Buffer size must be positive, was " + bufferSize);
+    this.gzip = gzip;
+    this.level = level;
+    this.bufferSize = bufferSize;
+    this.name = name;
+  }
+
+  DeflateCompression(final boolean gzip, final int level, final int bufferSize) {
+    this(gzip, level, bufferSize, "Compression." + (gzip ? "gzip" : "zlib") + "(level=" + level + ", bufferSize=" + bufferSize + ")");
+  }
+
+  @Override
+  @NotNull InputStream decompress(final @NotNull InputStream is) throws IOException {
+    final ThreadLocalPool<Inflater> pool = this.gzip ? GZIP_INFLATERS : ZLIB_INFLATERS;
+    final Inflater inflater = pool.acquire();
+    try {
+      return this.gzip
+        ? new GZIPInflaterInputStream(is, inflater, this.bufferSize, pool)
+        : new PooledInflaterInputStream(is, inflater, this.bufferSize, pool);
+    } catch (final IOException | RuntimeException e) {
+      pool.release(inflater);
+      throw e;
+    }
+  }
+
+  @Override
+  @NotNull OutputStream compress(final @NotNull OutputStream os) throws IOException {
+    final ThreadLocalPool<Deflater> pool = this.gzip ? GZIP_DEFLATERS : ZLIB_DEFLATERS;
+    final Deflater deflater = pool.acquire();
+    try {
+      deflater.setLevel(this.level); // applied from the start of the stream, as the deflater has been reset
+      return this.gzip
+        ? new GZIPDeflaterOutputStream(os, deflater, this.bufferSize, pool)
+        : new PooledDeflaterOutputStream(os, deflater, this.bufferSize, pool);
+    } catch (final IOException | RuntimeException e) {
+      pool.release(deflater);
+      throw e;
+    }
+  }
+
+  @Override
+  public String toString() {
+    return this.name;
+  }
+
+  private static ThreadLocalPool<Inflater> inflaters(final boolean nowrap) {
+    return new ThreadLocalPool<>(() -> new Inflater(nowrap), Inflater::reset, Inflater::end);
+  }
+
+  private static ThreadLocalPool<Deflater> deflaters(final boolean nowrap) {
+    return new ThreadLocalPool<>(() -> new Deflater(Deflater.DEFAULT_COMPRESSION, nowrap), Deflater::reset, Deflater::end);
+  }
+}
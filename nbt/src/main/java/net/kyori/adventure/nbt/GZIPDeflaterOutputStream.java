@@ -0,0 +1,75 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * A GZIP output stream using a pooled {@link Deflater}.
+ *
+ * <p>The deflater must have been created without the zlib wrapper.</p>
+ */
+final class GZIPDeflaterOutputStream extends PooledDeflaterOutputStream {
+  private static final byte[] HEADER = {
+    (byte) 0x1f, (byte) 0x8b, // magic
+    Deflater.DEFLATED, // compression method
+    0, // flags
+    0, 0, 0, 0, // modification time
+    0, // extra flags
+    0 // operating system
+  };
+
+  private final CRC32 crc = new CRC32();
+
+  GZIPDeflaterOutputStream(final OutputStream out, final Deflater deflater, final int bufferSize, final ThreadLocalPool<Deflater> pool) throws IOException {
+    super(out, deflater, bufferSize, pool);
+    out.write(HEADER);
+  }
+
+  @Override
+  public synchronized void write(final byte[] b, final int off, final int len) throws IOException {
+    super.write(b, off, len);
+    this.crc.update(b, off, len);
+  }
+
+  @Override
+  public void finish() throws IOException {
+    if (this.def.finished()) return;
+    super.finish();
+    final byte[] trailer = new byte[8];
+    writeInt(trailer, 0, (int) this.crc.getValue());
+    writeInt(trailer, 4, (int) this.def.getBytesRead());
+    this.out.write(trailer);
+  }
+
+  private static void writeInt(final byte[] buffer, final int offset, final int value) {
+    buffer[offset] = (byte) value;
+    buffer[offset + 1] = (byte) (value >> 8);
+    buffer[offset + 2] = (byte) (value >> 16);
+    buffer[offset + 3] = (byte) (value >> 24);
+  }
+}
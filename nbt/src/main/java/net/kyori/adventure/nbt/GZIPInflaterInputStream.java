@@ -0,0 +1,163 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+import static net.kyori.adventure.nbt.IOStreamUtil.closeShield;
+
+/**
+ * A GZIP input stream using a pooled {@link Inflater}.
+ *
+ * <p>{@link java.util.zip.GZIPInputStream} always allocates its own inflater, so the member format is handled here instead.
+ * Concatenated members are read as a single stream, and trailing garbage after a member is ignored.</p>
+ */
+final class GZIPInflaterInputStream extends PooledInflaterInputStream {
+  private static final int MAGIC = 0x8b1f;
+  private static final int DEFLATED = 8;
+  private static final int FHCRC = 2;
+  private static final int FEXTRA = 4;
+  private static final int FNAME = 8;
+  private static final int FCOMMENT = 16;
+  private static final int TRAILER_SIZE = 8;
+  private static final int MIN_HEADER_SIZE = 10;
+  // a header, at least two bytes of deflated data and a trailer, the same as GZIPInputStream requires
+  private static final int MIN_MEMBER_SIZE = MIN_HEADER_SIZE + 2 + TRAILER_SIZE;
+
+  private final CRC32 crc = new CRC32();
+  private boolean eos;
+
+  GZIPInflaterInputStream(final InputStream in, final Inflater inflater, final int bufferSize, final ThreadLocalPool<Inflater> pool) throws IOException {
+    super(in, inflater, bufferSize, pool);
+    this.readHeader(in);
+  }
+
+  @Override
+  public int read(final byte[] b, final int off, final int len) throws IOException {
+    if (this.eos) return -1;
+    final int read = super.read(b, off, len);
+    if (read == -1) {
+      if (this.readTrailer()) {
+        this.eos = true;
+      } else {
+        return this.read(b, off, len);
+      }
+    } else {
+      this.crc.update(b, off, read);
+    }
+    return read;
+  }
+
+  @Override
+  public int available() throws IOException {
+    return this.eos ? 0 : super.available();
+  }
+
+  // returns the number of header bytes read
+  private int readHeader(final InputStream input) throws IOException {
+    final CheckedInputStream in = new CheckedInputStream(input, this.crc);
+    this.crc.reset();
+    if (readUShort(in) != MAGIC) throw new ZipException("Not in GZIP format");
+    if (readUByte(in) != DEFLATED) throw new ZipException("Unsupported compression method");
+    final int flags = readUByte(in);
+    skipBytes(in, 6); // modification time, extra flags, operating system
+    int size = MIN_HEADER_SIZE;
+    if ((flags & FEXTRA) == FEXTRA) {
+      final int length = readUShort(in);
+      skipBytes(in, length);
+      size += length + 2;
+    }
+    if ((flags & FNAME) == FNAME) {
+      do {
+        size++;
+      } while (readUByte(in) != 0);
+    }
+    if ((flags & FCOMMENT) == FCOMMENT) {
+      do {
+        size++;
+      } while (readUByte(in) != 0);
+    }
+    if ((flags & FHCRC) == FHCRC) {
+      final int expected = (int) this.crc.getValue() & 0xffff;
+      if (readUShort(in) != expected) throw new ZipException("Corrupt GZIP header");
+      size += 2;
+    }
+    this.crc.reset();
+    return size;
+  }
+
+  // returns true if the end of the stream has been reached, or false if another member follows
+  private boolean readTrailer() throws IOException {
+    InputStream in = this.in;
+    final int remaining = this.inf.getRemaining();
+    if (remaining > 0) {
+      in = new SequenceInputStream(new ByteArrayInputStream(this.buf, this.len - remaining, remaining), closeShield(in));
+    }
+    if (readUInt(in) != this.crc.getValue() || readUInt(in) != (this.inf.getBytesWritten() & 0xffffffffL)) {
+      throw new ZipException("Corrupt GZIP trailer");
+    }
+    if (this.in.available() > 0 || remaining > TRAILER_SIZE + MIN_MEMBER_SIZE) {
+      final int header;
+      try {
+        header = TRAILER_SIZE + this.readHeader(in);
+      } catch (final IOException e) {
+        return true;
+      }
+      this.inf.reset();
+      if (remaining > header) {
+        this.inf.setInput(this.buf, this.len - remaining + header, remaining - header);
+      }
+      return false;
+    }
+    return true;
+  }
+
+  private static int readUByte(final InputStream in) throws IOException {
+    final int b = in.read();
+    if (b == -1) throw new EOFException();
+    return b;
+  }
+
+  private static int readUShort(final InputStream in) throws IOException {
+    return readUByte(in) | (readUByte(in) << 8);
+  }
+
+  private static long readUInt(final InputStream in) throws IOException {
+    return readUShort(in) | ((long) readUShort(in) << 16);
+  }
+
+  private static void skipBytes(final InputStream in, final int count) throws IOException {
+    for (int i = 0; i < count; i++) {
+      readUByte(in);
+    }
+  }
+}
@@ -0,0 +1,328 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Storage for the entries of larger compound tags, as a hash array mapped trie.
+ *
+ * <p>Every node consumes five bits of the key hash and holds up to 32 slots, each one either an entry or a child node.
+ * Adding, replacing or removing an entry copies only the nodes on the path to it, and shares everything else.
+ * Keys with the same hash end up together in a collision node once all bits are used up.</p>
+ */
+final class HashTrieTagMap extends PersistentTagMap {
+  private static final int BITS = 5;
+  private static final int MASK = (1 << BITS) - 1;
+  private static final int MAX_SHIFT = 30;
+  private static final Object[] NO_SLOTS = new Object[0];
+
+  private final Node root;
+  private final int size;
+
+  private HashTrieTagMap(final Node root, final int size) {
+    this.root = root;
+    this.size = size;
+  }
+
+  /**
+   * Copies entries into a new map.
+   *
+   * @param tags the entries
+   * @return the map
+   */
+  static @NotNull HashTrieTagMap copyOf(final @NotNull Map<String, ? extends BinaryTag> tags) {
+    HashTrieTagMap map = new HashTrieTagMap(new BitmapNode(0, NO_SLOTS), 0);
+    for (final Map.Entry<String, ? extends BinaryTag> entry : tags.entrySet()) {
+      map = map.with(entry.getKey(), entry.getValue());
+    }
+    return map;
+  }
+
+  @Override
+  @NotNull HashTrieTagMap with(final @NotNull String key, final @NotNull BinaryTag value) {
+    final @Nullable BinaryTag existing = this.get(key);
+    if (existing == value) return this;
+    final Node root = (Node) this.root.put(0, new Leaf(key, value));
+    return new HashTrieTagMap(root, existing == null ? this.size + 1 : this.size);
+  }
+
+  @Override
+  @NotNull PersistentTagMap without(final @NotNull String key) {
+    if (!this.containsKey(key)) return this;
+    final @Nullable Object root = this.root.remove(0, key.hashCode(), key);
+    final HashTrieTagMap map = new HashTrieTagMap(root instanceof Node ? (Node) root : new BitmapNode(0, NO_SLOTS), this.size - 1);
+    return map.size <= ArrayTagMap.MAX_SIZE ? ArrayTagMap.copyOf(map) : map;
+  }
+
+  @Override
+  public int size() {
+    return this.size;
+  }
+
+  @Override
+  public boolean containsKey(final Object key) {
+    return this.get(key) != null;
+  }
+
+  @Override
+  public @Nullable BinaryTag get(final Object key) {
+    if (!(key instanceof String)) return null;
+    final int hash = key.hashCode();
+    Node node = this.root;
+    for (int shift = 0; ; shift += BITS) {
+      final @Nullable Object slot = node.find(shift, hash, (String) key);
+      if (slot instanceof Leaf) {
+        return ((Leaf) slot).getValue();
+      } else if (slot == null) {
+        return null;
+      }
+      node = (Node) slot;
+    }
+  }
+
+  @Override
+  public @NotNull Set<Entry<String, BinaryTag>> entrySet() {
+    return new AbstractSet<Entry<String, BinaryTag>>() {
+      @Override
+      public @NotNull Iterator<Entry<String, BinaryTag>> iterator() {
+        return new LeafIterator(HashTrieTagMap.this.root);
+      }
+
+      @Override
+      public int size() {
+        return HashTrieTagMap.this.size;
+      }
+    };
+  }
+
+  static final class Leaf extends SimpleImmutableEntry<String, BinaryTag> {
+    private static final long serialVersionUID = -1420185418457549357L;
+    final int hash;
+
+    Leaf(final String key, final BinaryTag value) {
+      super(key, value);
+      this.hash = key.hashCode();
+    }
+
+    boolean matches(final int hash, final String key) {
+      return this.hash == hash && this.getKey().equals(key);
+    }
+  }
+
+  abstract static class Node {
+    final Object[] slots;
+
+    Node(final Object[] slots) {
+      this.slots = slots;
+    }
+
+    // the matching leaf, a child node to continue in, or null if the key is absent
+    abstract @Nullable Object find(final int shift, final int hash, final String key);
+
+    // adds or replaces a leaf, returning the new node
+    abstract @NotNull Object put(final int shift, final Leaf leaf);
+
+    // removes a key, which must be present, returning the new node,
+    // a single remaining leaf to be inlined into the parent, or null if nothing remains
+    abstract @Nullable Object remove(final int shift, final int hash, final String key);
+  }
+
+  static final class BitmapNode extends Node {
+    private final int bitmap;
+
+    BitmapNode(final int bitmap, final Object[] slots) {
+      super(slots);
+      this.bitmap = bitmap;
+    }
+
+    private int index(final int bit) {
+      return Integer.bitCount(this.bitmap & (bit - 1));
+    }
+
+    @Override
+    @Nullable Object find(final int shift, final int hash, final String key) {
+      final int bit = 1 << ((hash >>> shift) & MASK);
+      if ((this.bitmap & bit) == 0) return null;
+      final Object slot = this.slots[this.index(bit)];
+      if (slot instanceof Leaf) {
+        return ((Leaf) slot).matches(hash, key) ? slot : null;
+      }
+      return slot;
+    }
+
+    @Override
+    @NotNull Object put(final int shift, final Leaf leaf) {
+      final int bit = 1 << ((leaf.hash >>> shift) & MASK);
+      final int index = this.index(bit);
+      if ((this.bitmap & bit) == 0) {
+        final Object[] slots = new Object[this.slots.length + 1];
+        System.arraycopy(this.slots, 0, slots, 0, index);
+        slots[index] = leaf;
+        System.arraycopy(this.slots, index, slots, index + 1, this.slots.length - index);
+        return new BitmapNode(this.bitmap | bit, slots);
+      }
+      final Object slot = this.slots[index];
+      final Object replacement;
+      if (slot instanceof Leaf) {
+        final Leaf existing = (Leaf) slot;
+        replacement = existing.matches(leaf.hash, leaf.getKey()) ? leaf : merge(shift + BITS, existing, leaf);
+      } else {
+        replacement = ((Node) slot).put(shift + BITS, leaf);
+      }
+      final Object[] slots = this.slots.clone();
+      slots[index] = replacement;
+      return new BitmapNode(this.bitmap, slots);
+    }
+
+    private static Node merge(final int shift, final Leaf a, final Leaf b) {
+      if (shift > MAX_SHIFT) {
+        return new CollisionNode(new Object[] {a, b});
+      }
+      final int ia = (a.hash >>> shift) & MASK;
+      final int ib = (b.hash >>> shift) & MASK;
+      if (ia == ib) {
+        return new BitmapNode(1 << ia, new Object[] {merge(shift + BITS, a, b)});
+      }
+      return new BitmapNode((1 << ia) | (1 << ib), ia < ib ? new Object[] {a, b} : new Object[] {b, a});
+    }
+
+    @Override
+    @Nullable Object remove(final int shift, final int hash, final String key) {
+      final int bit = 1 << ((hash >>> shift) & MASK);
+      final int index = this.index(bit);
+      final Object slot = this.slots[index];
+      final @Nullable Object replacement = slot instanceof Leaf ? null : ((Node) slot).remove(shift + BITS, hash, key);
+      if (replacement != null) {
+        if (shift > 0 && this.slots.length == 1 && replacement instanceof Leaf) {
+          return replacement;
+        }
+        final Object[] slots = this.slots.clone();
+        slots[index] = replacement;
+        return new BitmapNode(this.bitmap, slots);
+      }
+      if (this.slots.length == 1) return null;
+      final Object[] slots = new Object[this.slots.length - 1];
+      System.arraycopy(this.slots, 0, slots, 0, index);
+      System.arraycopy(this.slots, index + 1, slots, index, slots.length - index);
+      if (shift > 0 && slots.length == 1 && slots[0] instanceof Leaf) {
+        return slots[0];
+      }
+      return new BitmapNode(this.bitmap & ~bit, slots);
+    }
+  }
+
+  static final class CollisionNode extends Node {
+    CollisionNode(final Object[] slots) {
+      super(slots);
+    }
+
+    @Override
+    @Nullable Object find(final int shift, final int hash, final String key) {
+      for (final Object slot : this.slots) {
+        if (((Leaf) slot).matches(hash, key)) return slot;
+      }
+      return null;
+    }
+
+    @Override
+    @NotNull Object put(final int shift, final Leaf leaf) {
+      for (int i = 0; i < this.slots.length; i++) {
+        if (((Leaf) this.slots[i]).matches(leaf.hash, leaf.getKey())) {
+          final Object[] slots = this.slots.clone();
+          slots[i] = leaf;
+          return new CollisionNode(slots);
+        }
+      }
+      final Object[] slots = Arrays.copyOf(this.slots, this.slots.length + 1);
+      slots[this.slots.length] = leaf;
+      return new CollisionNode(slots);
+    }
+
+    @Override
+    @Nullable Object remove(final int shift, final int hash, final String key) {
+      for (int i = 0; i < this.slots.length; i++) {
+        if (((Leaf) this.slots[i]).matches(hash, key)) {
+          if (this.slots.length == 2) return this.slots[1 - i];
+          final Object[] slots = new Object[this.slots.length - 1];
+          System.arraycopy(this.slots, 0, slots, 0, i);
+          System.arraycopy(this.slots, i + 1, slots, i, slots.length - i);
+          return new CollisionNode(slots);
+        }
+      }
+      return this;
+    }
+  }
+
+  static final class LeafIterator implements Iterator<Entry<String, BinaryTag>> {
+    private final Object[][] slots = new Object[MAX_SHIFT / BITS + 2][];
+    private final int[] indexes = new int[MAX_SHIFT / BITS + 2];
+    private int depth;
+    private @Nullable Leaf next;
+
+    LeafIterator(final Node root) {
+      this.slots[0] = root.slots;
+      this.advance();
+    }
+
+    private void advance() {
+      while (this.depth >= 0) {
+        final Object[] slots = this.slots[this.depth];
+        if (this.indexes[this.depth] == slots.length) {
+          this.depth--;
+          continue;
+        }
+        final Object slot = slots[this.indexes[this.depth]++];
+        if (slot instanceof Leaf) {
+          this.next = (Leaf) slot;
+          return;
+        }
+        this.depth++;
+        this.slots[this.depth] = ((Node) slot).slots;
+        this.indexes[this.depth] = 0;
+      }
+      this.next = null;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return this.next != null;
+    }
+
+    @Override
+    public Entry<String, BinaryTag> next() {
+      final @Nullable Leaf next = this.next;
+      if (next == null) throw new NoSuchElementException();
+      this.advance();
+      return next;
+    }
+  }
+}
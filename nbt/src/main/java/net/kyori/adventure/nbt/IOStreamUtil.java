@@ -47,6 +47,11 @@ final class IOStreamUtil {
       public int read(final byte[] b, final int off, final int len) throws IOException {
         return stream.read(b, off, len);
       }
+
+      @Override
+      public int available() throws IOException {
+        return stream.available();
+      }
     };
   }
 
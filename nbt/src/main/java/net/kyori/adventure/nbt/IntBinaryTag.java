@@ -40,7 +40,7 @@ public interface IntBinaryTag extends NumberBinaryTag {
    * @since 4.14.0
    */
   static @NotNull IntBinaryTag intBinaryTag(final int value) {
-    return new IntBinaryTagImpl(value);
+    return IntBinaryTagImpl.of(value);
   }
 
   /**
@@ -54,7 +54,7 @@ public interface IntBinaryTag extends NumberBinaryTag {
   @Deprecated
   @ApiStatus.ScheduledForRemoval(inVersion = "5.0.0")
   static @NotNull IntBinaryTag of(final int value) {
-    return new IntBinaryTagImpl(value);
+    return IntBinaryTagImpl.of(value);
   }
 
   @Override
@@ -31,12 +31,30 @@ import org.jetbrains.annotations.Nullable;
 
 @Debug.Renderer(text = "String.valueOf(this.value) + \"i\"", hasChildren = "false")
 final class IntBinaryTagImpl extends AbstractBinaryTag implements IntBinaryTag {
+  // small values, such as counts, slots and damage, are common enough to share
+  private static final int CACHE_LOW = -128;
+  private static final int CACHE_HIGH = 1023;
+  private static final IntBinaryTagImpl[] CACHE = new IntBinaryTagImpl[CACHE_HIGH - CACHE_LOW + 1];
+
+  static {
+    for (int i = 0; i < CACHE.length; i++) {
+      CACHE[i] = new IntBinaryTagImpl(CACHE_LOW + i);
+    }
+  }
+
   private final int value;
 
   IntBinaryTagImpl(final int value) {
     this.value = value;
   }
 
+  static IntBinaryTag of(final int value) {
+    if (value >= CACHE_LOW && value <= CACHE_HIGH) {
+      return CACHE[value - CACHE_LOW];
+    }
+    return new IntBinaryTagImpl(value);
+  }
+
   @Override
   public int value() {
     return this.value;
@@ -0,0 +1,223 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The entries of a compound tag, decoded from their encoded form only when they are accessed.
+ *
+ * <p>The encoded form is the payload of a compound tag, including the trailing end tag.</p>
+ */
+final class LazyTagMap extends AbstractMap<String, BinaryTag> {
+  private final byte[] data;
+  private final int offset;
+  private final int length;
+  private volatile @Nullable Index index;
+
+  LazyTagMap(final byte[] data, final int offset, final int length) {
+    this.data = data;
+    this.offset = offset;
+    this.length = length;
+  }
+
+  /**
+   * Writes the encoded form of these entries.
+   *
+   * @param output the output
+   * @throws IOException if an exception was encountered while writing
+   */
+  void write(final @NotNull DataOutput output) throws IOException {
+    output.write(this.data, this.offset, this.length);
+  }
+
+  /**
+   * Gets the length of the encoded form of these entries.
+   *
+   * @return the length in bytes
+   */
+  int encodedLength() {
+    return this.length;
+  }
+
+  private Index index() {
+    Index index = this.index;
+    if (index == null) {
+      try {
+        index = new Index(this.data, this.offset, this.length);
+      } catch (final IOException ex) {
+        throw new UncheckedIOException(ex); // the data has already been validated while reading
+      }
+      this.index = index;
+    }
+    return index;
+  }
+
+  @Override
+  public int size() {
+    return this.index().keys.length;
+  }
+
+  @Override
+  public boolean containsKey(final Object key) {
+    return this.index().find(key) != -1;
+  }
+
+  @Override
+  public @Nullable BinaryTag get(final Object key) {
+    final Index index = this.index();
+    final int i = index.find(key);
+    return i == -1 ? null : index.value(this.data, i);
+  }
+
+  @Override
+  public @NotNull Set<String> keySet() {
+    return Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(this.index().keys)));
+  }
+
+  @Override
+  public @NotNull Set<Entry<String, BinaryTag>> entrySet() {
+    final Index index = this.index();
+    return new AbstractSet<Entry<String, BinaryTag>>() {
+      @Override
+      public @NotNull Iterator<Entry<String, BinaryTag>> iterator() {
+        return new Iterator<Entry<String, BinaryTag>>() {
+          private int next;
+
+          @Override
+          public boolean hasNext() {
+            return this.next < index.keys.length;
+          }
+
+          @Override
+          public Entry<String, BinaryTag> next() {
+            if (!this.hasNext()) throw new NoSuchElementException();
+            final int i = this.next++;
+            return new SimpleImmutableEntry<>(index.keys[i], index.value(LazyTagMap.this.data, i));
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return index.keys.length;
+      }
+    };
+  }
+
+  static final class Index {
+    final String[] keys;
+    private final BinaryTagType<? extends BinaryTag>[] types;
+    private final int[] starts;
+    private final int[] ends;
+    private final @Nullable Map<String, Integer> positions;
+    // decoded values, racy but benign: values are immutable, and decoding twice yields equal values
+    private final BinaryTag[] values;
+
+    Index(final byte[] data, final int offset, final int length) throws IOException {
+      final ByteBufferDataInput input = new ByteBufferDataInput(ByteBuffer.wrap(data, offset, length), -1L);
+      final Map<String, Integer> positions = new HashMap<>();
+      String[] keys = new String[8];
+      BinaryTagType<? extends BinaryTag>[] types = new BinaryTagType<?>[8];
+      int[] starts = new int[8];
+      int[] ends = new int[8];
+      int size = 0;
+      BinaryTagType<? extends BinaryTag> type;
+      while ((type = BinaryTagType.binaryTagType(input.readByte())) != BinaryTagTypes.END) {
+        final String key = input.readUTF();
+        final int start = input.position();
+        BinaryTagWalker.skip(input, type);
+        final Integer existing = positions.get(key);
+        final int i;
+        if (existing != null) {
+          i = existing; // later entries replace earlier ones, just like when reading eagerly
+        } else {
+          if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            types = Arrays.copyOf(types, size * 2);
+            starts = Arrays.copyOf(starts, size * 2);
+            ends = Arrays.copyOf(ends, size * 2);
+          }
+          i = size++;
+          positions.put(key, i);
+        }
+        keys[i] = key;
+        types[i] = type;
+        starts[i] = start;
+        ends[i] = input.position();
+      }
+      this.keys = Arrays.copyOf(keys, size);
+      this.types = Arrays.copyOf(types, size);
+      this.starts = Arrays.copyOf(starts, size);
+      this.ends = Arrays.copyOf(ends, size);
+      this.positions = size > 8 ? positions : null;
+      this.values = new BinaryTag[size];
+    }
+
+    int find(final Object key) {
+      if (this.positions != null) {
+        final Integer i = this.positions.get(key);
+        return i == null ? -1 : i;
+      }
+      for (int i = 0; i < this.keys.length; i++) {
+        if (this.keys[i].equals(key)) return i;
+      }
+      return -1;
+    }
+
+    BinaryTag value(final byte[] data, final int i) {
+      BinaryTag value = this.values[i];
+      if (value == null) {
+        final BinaryTagType<? extends BinaryTag> type = this.types[i];
+        if (type == BinaryTagTypes.COMPOUND) {
+          // nested compounds stay lazy
+          value = new CompoundBinaryTagImpl(new LazyTagMap(data, this.starts[i], this.ends[i] - this.starts[i]));
+        } else {
+          try {
+            value = type.read(new ByteBufferDataInput(ByteBuffer.wrap(data, this.starts[i], this.ends[i] - this.starts[i]), -1L));
+          } catch (final IOException ex) {
+            throw new UncheckedIOException(ex); // the data has already been validated while reading
+          }
+        }
+        this.values[i] = value;
+      }
+      return value;
+    }
+  }
+}
@@ -100,7 +100,8 @@ public interface ListBinaryTag extends ListTagSetter<ListBinaryTag, BinaryTag>,
   static @NotNull ListBinaryTag listBinaryTag(final @NotNull BinaryTagType<? extends BinaryTag> type, final @NotNull List<BinaryTag> tags) {
     if (tags.isEmpty()) return empty();
     if (type == BinaryTagTypes.END) throw new IllegalArgumentException("Cannot create a list of " + BinaryTagTypes.END);
-    return new ListBinaryTagImpl(type, new ArrayList<>(tags)); // explicitly copy
+    final @Nullable PackedTagList packed = PackedTagList.pack(type, tags);
+    return new ListBinaryTagImpl(type, packed != null ? packed : new ArrayList<>(tags)); // explicitly copy
   }
 
   /**
@@ -551,6 +552,74 @@ public interface ListBinaryTag extends ListTagSetter<ListBinaryTag, BinaryTag>,
     return defaultValue;
   }
 
+  /**
+   * Gets every element as an int.
+   *
+   * <p>Elements are converted like {@link #getInt(int)} does, and are read without creating tags
+   * when the elements are ints.</p>
+   *
+   * @return a new array of the values
+   * @since 4.18.0
+   */
+  default int@NotNull[] toIntArray() {
+    final int[] values = new int[this.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = this.getInt(i);
+    }
+    return values;
+  }
+
+  /**
+   * Gets every element as a long.
+   *
+   * <p>Elements are converted like {@link #getLong(int)} does, and are read without creating tags
+   * when the elements are longs.</p>
+   *
+   * @return a new array of the values
+   * @since 4.18.0
+   */
+  default long@NotNull[] toLongArray() {
+    final long[] values = new long[this.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = this.getLong(i);
+    }
+    return values;
+  }
+
+  /**
+   * Gets every element as a float.
+   *
+   * <p>Elements are converted like {@link #getFloat(int)} does, and are read without creating tags
+   * when the elements are floats.</p>
+   *
+   * @return a new array of the values
+   * @since 4.18.0
+   */
+  default float@NotNull[] toFloatArray() {
+    final float[] values = new float[this.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = this.getFloat(i);
+    }
+    return values;
+  }
+
+  /**
+   * Gets every element as a double.
+   *
+   * <p>Elements are converted like {@link #getDouble(int)} does, and are read without creating tags
+   * when the elements are doubles.</p>
+   *
+   * @return a new array of the values
+   * @since 4.18.0
+   */
+  default double@NotNull[] toDoubleArray() {
+    final double[] values = new double[this.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = this.getDouble(i);
+    }
+    return values;
+  }
+
   /**
    * Creates a stream of the tags contained within this list.
    *
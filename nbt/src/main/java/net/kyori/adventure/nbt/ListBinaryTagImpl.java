@@ -23,7 +23,8 @@
  */
 package net.kyori.adventure.nbt;
 
-import java.util.ArrayList;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
@@ -43,12 +44,12 @@ final class ListBinaryTagImpl extends AbstractBinaryTag implements ListBinaryTag
   static final ListBinaryTag EMPTY = new ListBinaryTagImpl(BinaryTagTypes.END, Collections.emptyList());
   private final List<BinaryTag> tags;
   private final BinaryTagType<? extends BinaryTag> elementType;
-  private final int hashCode;
+  private int hashCode; // computed on demand, so that edits do not have to visit every element
+  private int encodedSize; // computed on demand, see BinaryTagSize
 
   ListBinaryTagImpl(final BinaryTagType<? extends BinaryTag> elementType, final List<BinaryTag> tags) {
-    this.tags = Collections.unmodifiableList(tags);
+    this.tags = tags instanceof TagVector || tags instanceof PackedTagList ? tags : Collections.unmodifiableList(tags);
     this.elementType = elementType;
-    this.hashCode = tags.hashCode();
   }
 
   @Override
@@ -68,22 +69,22 @@ final class ListBinaryTagImpl extends AbstractBinaryTag implements ListBinaryTag
 
   @Override
   public @NotNull ListBinaryTag set(final int index, final @NotNull BinaryTag newTag, final @Nullable Consumer<? super BinaryTag> removed) {
-    return this.edit(tags -> {
-      final BinaryTag oldTag = tags.set(index, newTag);
-      if (removed != null) {
-        removed.accept(oldTag);
-      }
-    }, newTag.type());
+    final TagVector tags = this.vector();
+    final BinaryTag oldTag = tags.get(index);
+    if (removed != null) {
+      removed.accept(oldTag);
+    }
+    return this.with(tags.with(index, newTag), newTag.type());
   }
 
   @Override
   public @NotNull ListBinaryTag remove(final int index, final @Nullable Consumer<? super BinaryTag> removed) {
-    return this.edit(tags -> {
-      final BinaryTag oldTag = tags.remove(index);
-      if (removed != null) {
-        removed.accept(oldTag);
-      }
-    }, null);
+    final TagVector tags = this.vector();
+    final BinaryTag oldTag = tags.get(index);
+    if (removed != null) {
+      removed.accept(oldTag);
+    }
+    return this.with(tags.without(index), null);
   }
 
   @Override
@@ -92,7 +93,7 @@ final class ListBinaryTagImpl extends AbstractBinaryTag implements ListBinaryTag
     if (this.elementType != BinaryTagTypes.END) {
       mustBeSameType(tag, this.elementType);
     }
-    return this.edit(tags -> tags.add(tag), tag.type());
+    return this.with(this.vector().appended(tag), tag.type());
   }
 
   @Override
@@ -101,11 +102,116 @@ final class ListBinaryTagImpl extends AbstractBinaryTag implements ListBinaryTag
       return this;
     }
     final BinaryTagType<?> type = ListBinaryTagImpl.mustBeSameType(tagsToAdd);
-    return this.edit(tags -> {
-      for (final BinaryTag tag : tagsToAdd) {
-        tags.add(tag);
-      }
-    }, type);
+    TagVector tags = this.vector();
+    for (final BinaryTag tag : tagsToAdd) {
+      tags = tags.appended(tag);
+    }
+    return this.with(tags, type);
+  }
+
+  @Override
+  public byte getByte(final @Range(from = 0, to = Integer.MAX_VALUE) int index, final byte defaultValue) {
+    if (this.tags instanceof PackedTagList.OfByte) {
+      return ((PackedTagList.OfByte) this.tags).values[index];
+    }
+    return ListBinaryTag.super.getByte(index, defaultValue);
+  }
+
+  @Override
+  public short getShort(final @Range(from = 0, to = Integer.MAX_VALUE) int index, final short defaultValue) {
+    if (this.tags instanceof PackedTagList.OfShort) {
+      return ((PackedTagList.OfShort) this.tags).values[index];
+    }
+    return ListBinaryTag.super.getShort(index, defaultValue);
+  }
+
+  @Override
+  public int getInt(final @Range(from = 0, to = Integer.MAX_VALUE) int index, final int defaultValue) {
+    if (this.tags instanceof PackedTagList.OfInt) {
+      return ((PackedTagList.OfInt) this.tags).values[index];
+    }
+    return ListBinaryTag.super.getInt(index, defaultValue);
+  }
+
+  @Override
+  public long getLong(final @Range(from = 0, to = Integer.MAX_VALUE) int index, final long defaultValue) {
+    if (this.tags instanceof PackedTagList.OfLong) {
+      return ((PackedTagList.OfLong) this.tags).values[index];
+    }
+    return ListBinaryTag.super.getLong(index, defaultValue);
+  }
+
+  @Override
+  public float getFloat(final @Range(from = 0, to = Integer.MAX_VALUE) int index, final float defaultValue) {
+    if (this.tags instanceof PackedTagList.OfFloat) {
+      return ((PackedTagList.OfFloat) this.tags).values[index];
+    }
+    return ListBinaryTag.super.getFloat(index, defaultValue);
+  }
+
+  @Override
+  public double getDouble(final @Range(from = 0, to = Integer.MAX_VALUE) int index, final double defaultValue) {
+    if (this.tags instanceof PackedTagList.OfDouble) {
+      return ((PackedTagList.OfDouble) this.tags).values[index];
+    }
+    return ListBinaryTag.super.getDouble(index, defaultValue);
+  }
+
+  @Override
+  public int@NotNull[] toIntArray() {
+    if (this.tags instanceof PackedTagList.OfInt) {
+      return ((PackedTagList.OfInt) this.tags).values.clone();
+    }
+    return ListBinaryTag.super.toIntArray();
+  }
+
+  @Override
+  public long@NotNull[] toLongArray() {
+    if (this.tags instanceof PackedTagList.OfLong) {
+      return ((PackedTagList.OfLong) this.tags).values.clone();
+    }
+    return ListBinaryTag.super.toLongArray();
+  }
+
+  @Override
+  public float@NotNull[] toFloatArray() {
+    if (this.tags instanceof PackedTagList.OfFloat) {
+      return ((PackedTagList.OfFloat) this.tags).values.clone();
+    }
+    return ListBinaryTag.super.toFloatArray();
+  }
+
+  @Override
+  public double@NotNull[] toDoubleArray() {
+    if (this.tags instanceof PackedTagList.OfDouble) {
+      return ((PackedTagList.OfDouble) this.tags).values.clone();
+    }
+    return ListBinaryTag.super.toDoubleArray();
+  }
+
+  /**
+   * Writes the elements of this tag, if they are packed.
+   *
+   * @param output the output
+   * @return {@code true} if the elements were written
+   * @throws IOException if an exception was encountered while writing
+   */
+  boolean writePacked(final DataOutput output) throws IOException {
+    if (this.tags instanceof PackedTagList) {
+      ((PackedTagList) this.tags).write(output);
+      return true;
+    }
+    return false;
+  }
+
+  // the size of the encoded payload
+  int encodedSize() {
+    int size = this.encodedSize;
+    if (size == 0) {
+      size = BinaryTagSize.list(this);
+      this.encodedSize = size;
+    }
+    return size;
   }
 
   // An end tag cannot be an element in a list tag
@@ -135,15 +241,18 @@ final class ListBinaryTagImpl extends AbstractBinaryTag implements ListBinaryTag
     }
   }
 
-  private ListBinaryTag edit(final Consumer<List<BinaryTag>> consumer, final @Nullable BinaryTagType<? extends BinaryTag> maybeElementType) {
-    final List<BinaryTag> tags = new ArrayList<>(this.tags);
-    consumer.accept(tags);
+  // tags that were read or built are copied into a vector on the first edit, and shared after that
+  private TagVector vector() {
+    return TagVector.copyOf(this.tags);
+  }
+
+  private ListBinaryTag with(final TagVector tags, final @Nullable BinaryTagType<? extends BinaryTag> maybeElementType) {
     BinaryTagType<? extends BinaryTag> elementType = this.elementType;
     // set the type if it has not yet been set
     if (maybeElementType != null && elementType == BinaryTagTypes.END) {
       elementType = maybeElementType;
     }
-    return new ListBinaryTagImpl(elementType, new ArrayList<>(tags)); // explicitly copy
+    return new ListBinaryTagImpl(elementType, tags);
   }
 
   @Override
@@ -189,7 +298,12 @@ final class ListBinaryTagImpl extends AbstractBinaryTag implements ListBinaryTag
 
   @Override
   public int hashCode() {
-    return this.hashCode;
+    int hashCode = this.hashCode;
+    if (hashCode == 0) {
+      hashCode = this.tags.hashCode();
+      this.hashCode = hashCode;
+    }
+    return hashCode;
   }
 
   @Override
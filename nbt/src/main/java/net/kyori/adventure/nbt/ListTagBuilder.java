@@ -67,6 +67,7 @@ final class ListTagBuilder<T extends BinaryTag> implements ListBinaryTag.Builder
   @Override
   public @NotNull ListBinaryTag build() {
     if (this.tags == null) return ListBinaryTag.empty();
-    return new ListBinaryTagImpl(this.elementType, new ArrayList<>(this.tags)); // explicitly copy
+    final @Nullable PackedTagList packed = PackedTagList.pack(this.elementType, this.tags);
+    return new ListBinaryTagImpl(this.elementType, packed != null ? packed : new ArrayList<>(this.tags)); // explicitly copy
   }
 }
@@ -0,0 +1,134 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Utilities for the modified UTF-8 encoding used by {@link java.io.DataInput#readUTF()} and {@link java.io.DataOutput#writeUTF(String)}.
+ */
+final class ModifiedUTF8 {
+  private ModifiedUTF8() {
+  }
+
+  /**
+   * Gets the number of bytes needed to encode a string, excluding the length prefix.
+   *
+   * @param string the string
+   * @return the encoded length
+   */
+  static int encodedLength(final String string) {
+    final int length = string.length();
+    int encoded = length;
+    for (int i = 0; i < length; i++) {
+      final char c = string.charAt(i);
+      if (c >= 0x80 || c == 0) {
+        encoded += c >= 0x800 ? 2 : 1;
+      }
+    }
+    return encoded;
+  }
+
+  /**
+   * Decodes a string from {@code length} bytes of {@code buffer} starting at {@code offset}, without changing the position of the buffer.
+   *
+   * @param buffer the buffer
+   * @param offset the offset of the first byte
+   * @param length the number of encoded bytes
+   * @return the decoded string
+   * @throws UTFDataFormatException if the bytes are not valid modified UTF-8
+   */
+  static String decode(final ByteBuffer buffer, final int offset, final int length) throws UTFDataFormatException {
+    if (buffer.hasArray()) {
+      return decode(buffer.array(), buffer.arrayOffset() + offset, length);
+    }
+    final byte[] bytes = new byte[length];
+    for (int i = 0; i < length; i++) {
+      bytes[i] = buffer.get(offset + i);
+    }
+    return decode(bytes, 0, length);
+  }
+
+  /**
+   * Decodes a string from {@code length} bytes of {@code bytes} starting at {@code offset}.
+   *
+   * @param bytes the bytes
+   * @param offset the offset of the first byte
+   * @param length the number of encoded bytes
+   * @return the decoded string
+   * @throws UTFDataFormatException if the bytes are not valid modified UTF-8
+   */
+  static String decode(final byte[] bytes, final int offset, final int length) throws UTFDataFormatException {
+    final int end = offset + length;
+    int index = offset;
+    while (index < end && bytes[index] >= 0) {
+      index++;
+    }
+    if (index == end) {
+      // only ascii characters, which can be copied as they are
+      return new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+    }
+
+    final char[] chars = new char[length];
+    int count = 0;
+    for (int i = offset; i < index; i++) {
+      chars[count++] = (char) bytes[i];
+    }
+    while (index < end) {
+      final int c = bytes[index] & 0xff;
+      switch (c >> 4) {
+        case 0: case 1: case 2: case 3: case 4: case 5: case 6: case 7:
+          // 0xxxxxxx
+          chars[count++] = (char) c;
+          index++;
+          break;
+        case 12: case 13: {
+          // 110x xxxx 10xx xxxx
+          if (index + 2 > end) throw new UTFDataFormatException("malformed input: partial character at end");
+          final int c2 = bytes[index + 1];
+          if ((c2 & 0xc0) != 0x80) throw new UTFDataFormatException("malformed input around byte " + (index - offset + 1));
+          chars[count++] = (char) (((c & 0x1f) << 6) | (c2 & 0x3f));
+          index += 2;
+          break;
+        }
+        case 14: {
+          // 1110 xxxx 10xx xxxx 10xx xxxx
+          if (index + 3 > end) throw new UTFDataFormatException("malformed input: partial character at end");
+          final int c2 = bytes[index + 1];
+          final int c3 = bytes[index + 2];
+          if ((c2 & 0xc0) != 0x80 || (c3 & 0xc0) != 0x80) throw new UTFDataFormatException("malformed input around byte " + (index - offset + 2));
+          chars[count++] = (char) (((c & 0x0f) << 12) | ((c2 & 0x3f) << 6) | (c3 & 0x3f));
+          index += 3;
+          break;
+        }
+        default:
+          // 10xx xxxx, 1111 xxxx
+          throw new UTFDataFormatException("malformed input around byte " + (index - offset));
+      }
+    }
+    return new String(chars, 0, count);
+  }
+}
@@ -0,0 +1,350 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Storage for the elements of a list of numbers, as a primitive array.
+ *
+ * <p>Tags are only created when elements are requested as tags, and the values can be read directly instead.</p>
+ */
+abstract class PackedTagList extends AbstractList<BinaryTag> implements RandomAccess {
+  /**
+   * Reads the elements of a list, if the element type can be packed.
+   *
+   * @param type the element type
+   * @param length the number of elements, more than zero
+   * @param input the input
+   * @return the elements, or {@code null} if the element type cannot be packed
+   * @throws IOException if an exception was encountered while reading
+   */
+  static @Nullable PackedTagList read(final @NotNull BinaryTagType<? extends BinaryTag> type, final int length, final @NotNull DataInput input) throws IOException {
+    if (type == BinaryTagTypes.BYTE) {
+      TrackingDataInput.require(input, (long) length * Byte.BYTES);
+      final byte[] values = new byte[length];
+      input.readFully(values);
+      return new OfByte(values);
+    } else if (type == BinaryTagTypes.SHORT) {
+      TrackingDataInput.require(input, (long) length * Short.BYTES);
+      final short[] values = new short[length];
+      BulkIO.readShorts(input, values);
+      return new OfShort(values);
+    } else if (type == BinaryTagTypes.INT) {
+      TrackingDataInput.require(input, (long) length * Integer.BYTES);
+      final int[] values = new int[length];
+      BulkIO.readInts(input, values);
+      return new OfInt(values);
+    } else if (type == BinaryTagTypes.LONG) {
+      TrackingDataInput.require(input, (long) length * Long.BYTES);
+      final long[] values = new long[length];
+      BulkIO.readLongs(input, values);
+      return new OfLong(values);
+    } else if (type == BinaryTagTypes.FLOAT) {
+      TrackingDataInput.require(input, (long) length * Float.BYTES);
+      final float[] values = new float[length];
+      BulkIO.readFloats(input, values);
+      return new OfFloat(values);
+    } else if (type == BinaryTagTypes.DOUBLE) {
+      TrackingDataInput.require(input, (long) length * Double.BYTES);
+      final double[] values = new double[length];
+      BulkIO.readDoubles(input, values);
+      return new OfDouble(values);
+    }
+    return null;
+  }
+
+  /**
+   * Copies the elements of a list, if they can be packed.
+   *
+   * @param type the element type
+   * @param tags the elements
+   * @return the elements, or {@code null} if they cannot be packed
+   */
+  static @Nullable PackedTagList pack(final @NotNull BinaryTagType<? extends BinaryTag> type, final @NotNull List<? extends BinaryTag> tags) {
+    if (!type.numeric()) return null;
+    final int size = tags.size();
+    for (int i = 0; i < size; i++) {
+      if (tags.get(i).type() != type) return null; // the element type is not checked when creating a list
+    }
+    if (type == BinaryTagTypes.BYTE) {
+      final byte[] values = new byte[size];
+      for (int i = 0; i < size; i++) {
+        values[i] = ((ByteBinaryTag) tags.get(i)).value();
+      }
+      return new OfByte(values);
+    } else if (type == BinaryTagTypes.SHORT) {
+      final short[] values = new short[size];
+      for (int i = 0; i < size; i++) {
+        values[i] = ((ShortBinaryTag) tags.get(i)).value();
+      }
+      return new OfShort(values);
+    } else if (type == BinaryTagTypes.INT) {
+      final int[] values = new int[size];
+      for (int i = 0; i < size; i++) {
+        values[i] = ((IntBinaryTag) tags.get(i)).value();
+      }
+      return new OfInt(values);
+    } else if (type == BinaryTagTypes.LONG) {
+      final long[] values = new long[size];
+      for (int i = 0; i < size; i++) {
+        values[i] = ((LongBinaryTag) tags.get(i)).value();
+      }
+      return new OfLong(values);
+    } else if (type == BinaryTagTypes.FLOAT) {
+      final float[] values = new float[size];
+      for (int i = 0; i < size; i++) {
+        values[i] = ((FloatBinaryTag) tags.get(i)).value();
+      }
+      return new OfFloat(values);
+    } else if (type == BinaryTagTypes.DOUBLE) {
+      final double[] values = new double[size];
+      for (int i = 0; i < size; i++) {
+        values[i] = ((DoubleBinaryTag) tags.get(i)).value();
+      }
+      return new OfDouble(values);
+    }
+    return null;
+  }
+
+  /**
+   * Writes the elements.
+   *
+   * @param output the output
+   * @throws IOException if an exception was encountered while writing
+   */
+  abstract void write(final @NotNull DataOutput output) throws IOException;
+
+  static final class OfByte extends PackedTagList {
+    final byte[] values;
+
+    OfByte(final byte[] values) {
+      this.values = values;
+    }
+
+    @Override
+    public ByteBinaryTag get(final int index) {
+      return ByteBinaryTag.byteBinaryTag(this.values[index]);
+    }
+
+    @Override
+    public int size() {
+      return this.values.length;
+    }
+
+    @Override
+    void write(final @NotNull DataOutput output) throws IOException {
+      output.write(this.values);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+      if (other instanceof OfByte) return Arrays.equals(this.values, ((OfByte) other).values);
+      return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+      return Arrays.hashCode(this.values); // the same as hashing every tag
+    }
+  }
+
+  static final class OfShort extends PackedTagList {
+    final short[] values;
+
+    OfShort(final short[] values) {
+      this.values = values;
+    }
+
+    @Override
+    public ShortBinaryTag get(final int index) {
+      return ShortBinaryTag.shortBinaryTag(this.values[index]);
+    }
+
+    @Override
+    public int size() {
+      return this.values.length;
+    }
+
+    @Override
+    void write(final @NotNull DataOutput output) throws IOException {
+      BulkIO.writeShorts(output, this.values);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+      if (other instanceof OfShort) return Arrays.equals(this.values, ((OfShort) other).values);
+      return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+      return Arrays.hashCode(this.values); // the same as hashing every tag
+    }
+  }
+
+  static final class OfInt extends PackedTagList {
+    final int[] values;
+
+    OfInt(final int[] values) {
+      this.values = values;
+    }
+
+    @Override
+    public IntBinaryTag get(final int index) {
+      return IntBinaryTag.intBinaryTag(this.values[index]);
+    }
+
+    @Override
+    public int size() {
+      return this.values.length;
+    }
+
+    @Override
+    void write(final @NotNull DataOutput output) throws IOException {
+      BulkIO.writeInts(output, this.values);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+      if (other instanceof OfInt) return Arrays.equals(this.values, ((OfInt) other).values);
+      return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+      return Arrays.hashCode(this.values); // the same as hashing every tag
+    }
+  }
+
+  static final class OfLong extends PackedTagList {
+    final long[] values;
+
+    OfLong(final long[] values) {
+      this.values = values;
+    }
+
+    @Override
+    public LongBinaryTag get(final int index) {
+      return LongBinaryTag.longBinaryTag(this.values[index]);
+    }
+
+    @Override
+    public int size() {
+      return this.values.length;
+    }
+
+    @Override
+    void write(final @NotNull DataOutput output) throws IOException {
+      BulkIO.writeLongs(output, this.values);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+      if (other instanceof OfLong) return Arrays.equals(this.values, ((OfLong) other).values);
+      return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+      return Arrays.hashCode(this.values); // the same as hashing every tag
+    }
+  }
+
+  static final class OfFloat extends PackedTagList {
+    final float[] values;
+
+    OfFloat(final float[] values) {
+      this.values = values;
+    }
+
+    @Override
+    public FloatBinaryTag get(final int index) {
+      return FloatBinaryTag.floatBinaryTag(this.values[index]);
+    }
+
+    @Override
+    public int size() {
+      return this.values.length;
+    }
+
+    @Override
+    void write(final @NotNull DataOutput output) throws IOException {
+      BulkIO.writeFloats(output, this.values);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+      if (other instanceof OfFloat) return Arrays.equals(this.values, ((OfFloat) other).values);
+      return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+      return Arrays.hashCode(this.values); // the same as hashing every tag
+    }
+  }
+
+  static final class OfDouble extends PackedTagList {
+    final double[] values;
+
+    OfDouble(final double[] values) {
+      this.values = values;
+    }
+
+    @Override
+    public DoubleBinaryTag get(final int index) {
+      return DoubleBinaryTag.doubleBinaryTag(this.values[index]);
+    }
+
+    @Override
+    public int size() {
+      return this.values.length;
+    }
+
+    @Override
+    void write(final @NotNull DataOutput output) throws IOException {
+      BulkIO.writeDoubles(output, this.values);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+      if (other instanceof OfDouble) return Arrays.equals(this.values, ((OfDouble) other).values);
+      return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+      return Arrays.hashCode(this.values); // the same as hashing every tag
+    }
+  }
+}
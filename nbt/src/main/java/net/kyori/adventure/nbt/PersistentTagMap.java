@@ -0,0 +1,62 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.util.AbstractMap;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Immutable storage for the entries of a compound tag, which can be edited without copying everything.
+ */
+abstract class PersistentTagMap extends AbstractMap<String, BinaryTag> {
+  /**
+   * Copies entries into new storage, picking the kind of storage by size.
+   *
+   * @param tags the entries
+   * @return the storage
+   */
+  static @NotNull PersistentTagMap copyOf(final @NotNull Map<String, ? extends BinaryTag> tags) {
+    if (tags instanceof PersistentTagMap) return (PersistentTagMap) tags;
+    if (tags.size() <= ArrayTagMap.MAX_SIZE) return ArrayTagMap.copyOf(tags);
+    return HashTrieTagMap.copyOf(tags);
+  }
+
+  /**
+   * Gets storage with an entry added or replaced.
+   *
+   * @param key the key
+   * @param value the value
+   * @return storage with the entry, or this storage if it already had it
+   */
+  abstract @NotNull PersistentTagMap with(final @NotNull String key, final @NotNull BinaryTag value);
+
+  /**
+   * Gets storage with an entry removed.
+   *
+   * @param key the key
+   * @return storage without the entry, or this storage if it did not have it
+   */
+  abstract @NotNull PersistentTagMap without(final @NotNull String key);
+}
@@ -31,12 +31,29 @@ import org.jetbrains.annotations.Nullable;
 
 @Debug.Renderer(text = "String.valueOf(this.value) + \"s\"", hasChildren = "false")
 final class ShortBinaryTagImpl extends AbstractBinaryTag implements ShortBinaryTag {
+  private static final int CACHE_LOW = -128;
+  private static final int CACHE_HIGH = 1023;
+  private static final ShortBinaryTagImpl[] CACHE = new ShortBinaryTagImpl[CACHE_HIGH - CACHE_LOW + 1];
+
+  static {
+    for (int i = 0; i < CACHE.length; i++) {
+      CACHE[i] = new ShortBinaryTagImpl((short) (CACHE_LOW + i));
+    }
+  }
+
   private final short value;
 
   ShortBinaryTagImpl(final short value) {
     this.value = value;
   }
 
+  static ShortBinaryTag of(final short value) {
+    if (value >= CACHE_LOW && value <= CACHE_HIGH) {
+      return CACHE[value - CACHE_LOW];
+    }
+    return new ShortBinaryTagImpl(value);
+  }
+
   @Override
   public short value() {
     return this.value;
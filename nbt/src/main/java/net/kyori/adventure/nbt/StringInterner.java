@@ -0,0 +1,100 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.io.UTFDataFormatException;
+import java.util.Arrays;
+
+/**
+ * A bounded pool of strings, looked up by their modified UTF-8 encoding.
+ *
+ * <p>Strings are found without decoding them first, so reading a string that is already pooled allocates nothing.
+ * The pool is a fixed size table where each string has a single slot, and a new string replaces whatever was in its slot.
+ * Slots are read and written without locking. Their entries are immutable, so a racing reader at worst misses a string.</p>
+ */
+final class StringInterner {
+  /**
+   * The longest encoded string that will be pooled, in bytes.
+   */
+  static final int MAX_LENGTH = 64;
+  // the largest capacity whose table size, a power of two, is still an int
+  private static final int MAX_CAPACITY = 1 << 30;
+  static final StringInterner SHARED = new StringInterner(4096);
+
+  private final Entry[] entries;
+  private final int mask;
+
+  StringInterner(final int capacity) {
+    if (capacity <= 0 || capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException("capacity must be between 1 and " + MAX_CAPACITY + ", was " + capacity);
+    }
+    final int size = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+    this.entries = new Entry[size];
+    this.mask = size - 1;
+  }
+
+  /**
+   * Gets a pooled string from its encoded form, decoding and pooling it if it is not present.
+   *
+   * @param bytes the bytes
+   * @param offset the offset of the first byte
+   * @param length the number of encoded bytes, at most {@link #MAX_LENGTH}
+   * @return the string
+   * @throws UTFDataFormatException if the bytes are not valid modified UTF-8
+   */
+  String intern(final byte[] bytes, final int offset, final int length) throws UTFDataFormatException {
+    int hash = 1;
+    for (int i = offset, end = offset + length; i < end; i++) {
+      hash = 31 * hash + bytes[i];
+    }
+    final int slot = (hash ^ (hash >>> 16)) & this.mask;
+    final Entry entry = this.entries[slot];
+    if (entry != null && entry.hash == hash && entry.matches(bytes, offset, length)) {
+      return entry.value;
+    }
+    final String value = ModifiedUTF8.decode(bytes, offset, length);
+    this.entries[slot] = new Entry(hash, Arrays.copyOfRange(bytes, offset, offset + length), value);
+    return value;
+  }
+
+  private static final class Entry {
+    final int hash;
+    final byte[] encoded;
+    final String value;
+
+    Entry(final int hash, final byte[] encoded, final String value) {
+      this.hash = hash;
+      this.encoded = encoded;
+      this.value = value;
+    }
+
+    boolean matches(final byte[] bytes, final int offset, final int length) {
+      if (this.encoded.length != length) return false;
+      for (int i = 0; i < length; i++) {
+        if (this.encoded[i] != bytes[offset + i]) return false;
+      }
+      return true;
+    }
+  }
+}
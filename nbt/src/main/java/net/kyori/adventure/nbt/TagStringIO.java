@@ -24,6 +24,8 @@
 package net.kyori.adventure.nbt;
 
 import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.io.Writer;
 import java.util.Arrays;
 import org.jetbrains.annotations.NotNull;
@@ -78,17 +80,71 @@ public final class TagStringIO {
    * @since 4.0.0
    */
   public CompoundBinaryTag asCompound(final String input) throws IOException {
+    return this.read(new CharBuffer(input), TagStringReader::compound);
+  }
+
+  /**
+   * Read a compound tag structure from a reader.
+   *
+   * <p>The input is read in small chunks as it is parsed, so large documents do not need to be loaded into a string first.
+   * The whole remaining input must be a single compound tag, optionally followed by whitespace.</p>
+   *
+   * <p>The provided {@link Reader} will remain open after reading a tag.</p>
+   *
+   * @param input Input data
+   * @return the compound tag
+   * @throws IOException on any IO or syntax errors
+   * @since 4.18.0
+   */
+  public @NotNull CompoundBinaryTag asCompound(final @NotNull Reader input) throws IOException {
+    return this.read(new CharBuffer(input), TagStringReader::compound);
+  }
+
+  /**
+   * Read the string into a tag of any type.
+   *
+   * <p>Scalars such as {@code 1b} or {@code "text"}, lists and arrays can be read without wrapping them in a compound.</p>
+   *
+   * <p>When working with untrusted input (such as from the network), users should be careful
+   * to validate that the {@code input} string is of a reasonable size.</p>
+   *
+   * @param input Input data
+   * @return the tag
+   * @throws IOException on any syntax errors
+   * @since 4.18.0
+   */
+  public @NotNull BinaryTag asTag(final @NotNull String input) throws IOException {
+    return this.read(new CharBuffer(input), TagStringReader::tag);
+  }
+
+  /**
+   * Read a tag of any type from a reader.
+   *
+   * <p>The whole remaining input must be a single tag, optionally followed by whitespace.
+   * The provided {@link Reader} will remain open after reading a tag.</p>
+   *
+   * @param input Input data
+   * @return the tag
+   * @throws IOException on any IO or syntax errors
+   * @since 4.18.0
+   */
+  public @NotNull BinaryTag asTag(final @NotNull Reader input) throws IOException {
+    return this.read(new CharBuffer(input), TagStringReader::tag);
+  }
+
+  private <T extends BinaryTag> T read(final CharBuffer buffer, final Parse<T> parse) throws IOException {
     try {
-      final CharBuffer buffer = new CharBuffer(input);
       final TagStringReader parser = new TagStringReader(buffer);
       parser.legacy(this.acceptLegacy);
-      final CompoundBinaryTag tag = parser.compound();
+      final T tag = parse.parse(parser);
       if (buffer.skipWhitespace().hasMore()) {
-        throw new IOException("Document had trailing content after first CompoundTag");
+        throw new IOException("Document had trailing content after first tag");
       }
       return tag;
     } catch (final StringTagParseException ex) {
       throw new IOException(ex);
+    } catch (final UncheckedIOException ex) { // thrown by the buffer when reading from a Reader fails
+      throw ex.getCause();
     }
   }
 
@@ -101,11 +157,20 @@ public final class TagStringIO {
    * @since 4.0.0
    */
   public String asString(final CompoundBinaryTag input) throws IOException {
+    return this.asString((BinaryTag) input);
+  }
+
+  /**
+   * Get a string representation of a tag of any type.
+   *
+   * @param input tag to serialize
+   * @return serialized form
+   * @throws IOException if any errors occur writing to string
+   * @since 4.18.0
+   */
+  public @NotNull String asString(final @NotNull BinaryTag input) throws IOException {
     final StringBuilder sb = new StringBuilder();
-    try (final TagStringWriter emit = new TagStringWriter(sb, this.indent)) {
-      emit.legacy(this.emitLegacy);
-      emit.writeTag(input);
-    }
+    this.toAppendable(input, sb);
     return sb.toString();
   }
 
@@ -120,12 +185,46 @@ public final class TagStringIO {
    * @since 4.0.0
    */
   public void toWriter(final CompoundBinaryTag input, final Writer dest) throws IOException {
+    this.toAppendable(input, dest);
+  }
+
+  /**
+   * Writes a tag of any type in string format.
+   *
+   * <p>The provided {@link Writer} will remain open after writing a tag.</p>
+   *
+   * @param input Tag to write
+   * @param dest Writer to write to
+   * @throws IOException if any IO errors occur while writing
+   * @since 4.18.0
+   */
+  public void toWriter(final @NotNull BinaryTag input, final @NotNull Writer dest) throws IOException {
+    this.toAppendable(input, dest);
+  }
+
+  /**
+   * Writes a tag in string format to an appendable, such as a {@link StringBuilder}.
+   *
+   * <p>Tokens are appended as they are produced, without building intermediate strings.
+   * If {@code dest} is a {@link Writer}, it will be flushed and remain open after writing a tag.</p>
+   *
+   * @param input Tag to write
+   * @param dest Appendable to write to
+   * @throws IOException if any errors occur while appending
+   * @since 4.18.0
+   */
+  public void toAppendable(final @NotNull BinaryTag input, final @NotNull Appendable dest) throws IOException {
     try (final TagStringWriter emit = new TagStringWriter(dest, this.indent)) {
       emit.legacy(this.emitLegacy);
       emit.writeTag(input);
     }
   }
 
+  @FunctionalInterface
+  private interface Parse<T extends BinaryTag> {
+    T parse(final TagStringReader reader) throws StringTagParseException;
+  }
+
   /**
    * Builder for a SNBT I/O handler.
    *
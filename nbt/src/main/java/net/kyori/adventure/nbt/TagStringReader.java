@@ -23,8 +23,7 @@
  */
 package net.kyori.adventure.nbt;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 
@@ -67,7 +66,7 @@ final class TagStringReader {
     }
     while (this.buffer.hasMore()) {
       if (prefixedIndex) {
-        this.buffer.takeUntil(':');
+        this.buffer.skip(this.buffer.lengthUntil(':') + 1);
       }
 
       final BinaryTag next = this.tag();
@@ -109,21 +108,23 @@ final class TagStringReader {
       return EMPTY_BYTE_ARRAY;
     }
 
-    final List<Byte> bytes = new ArrayList<>();
+    byte[] bytes = new byte[16];
+    int size = 0;
     while (this.buffer.hasMore()) {
-      final CharSequence value = this.buffer.skipWhitespace().takeUntil(Tokens.TYPE_BYTE);
+      final int length = this.buffer.skipWhitespace().lengthUntil(Tokens.TYPE_BYTE);
+      final int start = this.buffer.windowIndex();
+      if (size == bytes.length) {
+        bytes = Arrays.copyOf(bytes, size * 2);
+      }
       try {
-        bytes.add(Byte.valueOf(value.toString()));
+        bytes[size++] = (byte) parseLong(this.buffer.window(), start, start + length, Byte.MIN_VALUE, Byte.MAX_VALUE);
       } catch (final NumberFormatException ex) {
         throw this.buffer.makeError("All elements of a byte array must be bytes!");
       }
+      this.buffer.skip(length + 1);
 
       if (this.separatorOrCompleteWith(Tokens.ARRAY_END)) {
-        final byte[] result = new byte[bytes.size()];
-        for (int i = 0; i < bytes.size(); ++i) { // todo yikes, let's do less boxing
-          result[i] = bytes.get(i);
-        }
-        return result;
+        return Arrays.copyOf(bytes, size);
       }
     }
     throw this.buffer.makeError("Reached end of document without array close");
@@ -155,12 +156,14 @@ final class TagStringReader {
 
     final LongStream.Builder longs = LongStream.builder();
     while (this.buffer.hasMore()) {
-      final CharSequence value = this.buffer.skipWhitespace().takeUntil(Tokens.TYPE_LONG);
+      final int length = this.buffer.skipWhitespace().lengthUntil(Tokens.TYPE_LONG);
+      final int start = this.buffer.windowIndex();
       try {
-        longs.add(Long.parseLong(value.toString()));
+        longs.add(parseLong(this.buffer.window(), start, start + length, Long.MIN_VALUE, Long.MAX_VALUE));
       } catch (final NumberFormatException ex) {
         throw this.buffer.makeError("All elements of a long array must be longs!");
       }
+      this.buffer.skip(length + 1);
 
       if (this.separatorOrCompleteWith(Tokens.ARRAY_END)) {
         return longs.build().toArray();
@@ -174,7 +177,17 @@ final class TagStringReader {
     final char starChar = this.buffer.peek();
     try {
       if (starChar == Tokens.SINGLE_QUOTE || starChar == Tokens.DOUBLE_QUOTE) {
-        return unescape(this.buffer.takeUntil(this.buffer.take()).toString());
+        return unescape(this.buffer.takeUntil(this.buffer.take()));
+      }
+
+      int length = 0;
+      while (this.buffer.hasMore(length) && Tokens.id(this.buffer.peek(length))) {
+        length++;
+      }
+      if (!this.acceptLegacy || !this.buffer.hasMore(length) || this.buffer.peek(length) == Tokens.COMPOUND_KEY_TERMINATOR) {
+        final String key = new String(this.buffer.window(), this.buffer.windowIndex(), length);
+        this.buffer.skip(length);
+        return key;
       }
 
       final StringBuilder builder = new StringBuilder();
@@ -206,7 +219,10 @@ final class TagStringReader {
       throw this.buffer.makeError("Exceeded maximum allowed depth of " + MAX_DEPTH + " when reading tag");
     }
     try {
-      final char startToken = this.buffer.skipWhitespace().peek();
+      if (!this.buffer.skipWhitespace().hasMore()) {
+        throw this.buffer.makeError("Expected a tag but got EOF");
+      }
+      final char startToken = this.buffer.peek();
       switch (startToken) {
         case Tokens.COMPOUND_BEGIN:
           return this.compound();
@@ -222,7 +238,7 @@ final class TagStringReader {
         case Tokens.DOUBLE_QUOTE:
           // definitely a string tag
           this.buffer.advance();
-          return StringBinaryTag.stringBinaryTag(unescape(this.buffer.takeUntil(startToken).toString()));
+          return StringBinaryTag.stringBinaryTag(unescape(this.buffer.takeUntil(startToken)));
         default: // scalar
           return this.scalar();
       }
@@ -239,8 +255,27 @@ final class TagStringReader {
    * @return a parsed tag
    */
   private BinaryTag scalar() {
+    int length = 0;
+    while (this.buffer.hasMore(length)) {
+      final char current = this.buffer.peek(length);
+      if (current == '\\') {
+        return this.escapedScalar(length);
+      } else if (!Tokens.id(current)) {
+        break;
+      }
+      length++;
+    }
+    // parse straight from the window, which holds the whole value after peeking at it
+    final int start = this.buffer.windowIndex();
+    this.buffer.skip(length);
+    return scalar(this.buffer.window(), start, start + length);
+  }
+
+  // the slow path for scalars containing escapes, given the length of the value before the first escape
+  private BinaryTag escapedScalar(final int unescapedLength) {
     final StringBuilder builder = new StringBuilder();
-    int noLongerNumericAt = -1;
+    builder.append(this.buffer.window(), this.buffer.windowIndex(), unescapedLength);
+    this.buffer.skip(unescapedLength);
     while (this.buffer.hasMore()) {
       char current = this.buffer.peek();
       if (current == '\\') { // escape -- we are significantly more lenient than original format at the moment
@@ -252,33 +287,42 @@ final class TagStringReader {
         break;
       }
       builder.append(current);
-      if (noLongerNumericAt == -1 && !Tokens.numeric(current)) {
-        noLongerNumericAt = builder.length();
+    }
+    final char[] chars = new char[builder.length()];
+    builder.getChars(0, chars.length, chars, 0);
+    return scalar(chars, 0, chars.length);
+  }
+
+  private static BinaryTag scalar(final char[] chars, final int start, final int end) {
+    final int length = end - start;
+    int noLongerNumericAt = -1;
+    for (int i = start; i < end; i++) {
+      if (!Tokens.numeric(chars[i])) {
+        noLongerNumericAt = i - start + 1;
+        break;
       }
     }
 
-    final int length = builder.length();
-    final String built = builder.toString();
     if (noLongerNumericAt == length && length > 1) {
-      final char last = built.charAt(length - 1);
+      final char last = chars[end - 1];
       try {
         switch (Character.toLowerCase(last)) { // try to read and return as a number
           case Tokens.TYPE_BYTE:
-            return ByteBinaryTag.byteBinaryTag(Byte.parseByte(built.substring(0, length - 1)));
+            return ByteBinaryTag.byteBinaryTag((byte) parseLong(chars, start, end - 1, Byte.MIN_VALUE, Byte.MAX_VALUE));
           case Tokens.TYPE_SHORT:
-            return ShortBinaryTag.shortBinaryTag(Short.parseShort(built.substring(0, length - 1)));
+            return ShortBinaryTag.shortBinaryTag((short) parseLong(chars, start, end - 1, Short.MIN_VALUE, Short.MAX_VALUE));
           case Tokens.TYPE_INT:
-            return IntBinaryTag.intBinaryTag(Integer.parseInt(built.substring(0, length - 1)));
+            return IntBinaryTag.intBinaryTag((int) parseLong(chars, start, end - 1, Integer.MIN_VALUE, Integer.MAX_VALUE));
           case Tokens.TYPE_LONG:
-            return LongBinaryTag.longBinaryTag(Long.parseLong(built.substring(0, length - 1)));
+            return LongBinaryTag.longBinaryTag(parseLong(chars, start, end - 1, Long.MIN_VALUE, Long.MAX_VALUE));
           case Tokens.TYPE_FLOAT:
-            final float floatValue = Float.parseFloat(built.substring(0, length - 1));
+            final float floatValue = Float.parseFloat(new String(chars, start, length - 1));
             if (Float.isFinite(floatValue)) { // don't accept NaN and Infinity
               return FloatBinaryTag.floatBinaryTag(floatValue);
             }
             break;
           case Tokens.TYPE_DOUBLE:
-            final double doubleValue = Double.parseDouble(built.substring(0, length - 1));
+            final double doubleValue = Double.parseDouble(new String(chars, start, length - 1));
             if (Double.isFinite(doubleValue)) { // don't accept NaN and Infinity
               return DoubleBinaryTag.doubleBinaryTag(doubleValue);
             }
@@ -288,26 +332,80 @@ final class TagStringReader {
         // not a numeric tag of the appropriate type
       }
     } else if (noLongerNumericAt == -1) { // if we run out of content without an explicit value separator, then we're either an integer or string tag -- all others have a character at the end
+      boolean decimal = false;
+      for (int i = start; i < end && !decimal; i++) {
+        decimal = chars[i] == '.' || chars[i] == 'e' || chars[i] == 'E';
+      }
       try {
-        return IntBinaryTag.intBinaryTag(Integer.parseInt(built));
+        if (!decimal) {
+          return IntBinaryTag.intBinaryTag((int) parseLong(chars, start, end, Integer.MIN_VALUE, Integer.MAX_VALUE));
+        }
       } catch (final NumberFormatException ex) {
-        if (built.indexOf('.') != -1) { // see if we have an unsuffixed double; always needs a dot
-          try {
-            return DoubleBinaryTag.doubleBinaryTag(Double.parseDouble(built));
-          } catch (final NumberFormatException ex2) {
-            // ignore
-          }
+        // not an int
+      }
+      final String value = new String(chars, start, length);
+      if (value.indexOf('.') != -1) { // see if we have an unsuffixed double; always needs a dot
+        try {
+          return DoubleBinaryTag.doubleBinaryTag(Double.parseDouble(value));
+        } catch (final NumberFormatException ex2) {
+          // ignore
         }
       }
+      return StringBinaryTag.stringBinaryTag(value);
     }
 
-    if (built.equalsIgnoreCase(Tokens.LITERAL_TRUE)) {
+    if (equalsIgnoreCase(chars, start, end, Tokens.LITERAL_TRUE)) {
       return ByteBinaryTag.ONE;
-    } else if (built.equalsIgnoreCase(Tokens.LITERAL_FALSE)) {
+    } else if (equalsIgnoreCase(chars, start, end, Tokens.LITERAL_FALSE)) {
       return ByteBinaryTag.ZERO;
     }
-    return StringBinaryTag.stringBinaryTag(built);
+    return StringBinaryTag.stringBinaryTag(new String(chars, start, length));
+  }
 
+  /**
+   * Parses a decimal integer in the same way as {@link Long#parseLong(String)}, without creating a string.
+   *
+   * @param chars the characters
+   * @param start the index of the first character
+   * @param end the index after the last character
+   * @param min the smallest value allowed
+   * @param max the largest value allowed
+   * @return the value
+   * @throws NumberFormatException if the characters are not an integer in the range
+   */
+  private static long parseLong(final char[] chars, final int start, final int end, final long min, final long max) {
+    int i = start;
+    boolean negative = false;
+    if (i < end && (chars[i] == '-' || chars[i] == '+')) {
+      negative = chars[i] == '-';
+      i++;
+    }
+    if (i == end) throw new NumberFormatException("No digits");
+    // accumulate negatively, as the negative range is larger
+    final long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+    final long multiplyLimit = limit / 10;
+    long result = 0;
+    for (; i < end; i++) {
+      final int digit = chars[i] - '0';
+      if (digit < 0 || digit > 9 || result < multiplyLimit) throw new NumberFormatException("Not a number");
+      result *= 10;
+      if (result < limit + digit) throw new NumberFormatException("Out of range");
+      result -= digit;
+    }
+    final long value = negative ? result : -result;
+    if (value < min || value > max) throw new NumberFormatException("Out of range");
+    return value;
+  }
+
+  private static boolean equalsIgnoreCase(final char[] chars, final int start, final int end, final String literal) {
+    if (end - start != literal.length()) return false;
+    for (int i = start; i < end; i++) {
+      final char a = chars[i];
+      final char b = literal.charAt(i - start);
+      // the same comparison as String#equalsIgnoreCase
+      if (a != b && Character.toUpperCase(a) != Character.toUpperCase(b) && Character.toLowerCase(a) != Character.toLowerCase(b)) return false;
+    }
+    return true;
   }
 
   private boolean separatorOrCompleteWith(final char endCharacter) throws StringTagParseException {
@@ -35,6 +35,7 @@ import java.util.Map;
 final class TagStringWriter implements AutoCloseable {
   private final Appendable out;
   private final String indent; // TODO: pretty-printing
+  private final char[] digits = new char[20]; // the longest long, Long.MIN_VALUE
   private int level;
   /**
    * Whether a {@link Tokens#VALUE_SEPARATOR} needs to be printed before the beginning of the next object.
@@ -69,17 +70,29 @@ final class TagStringWriter implements AutoCloseable {
     } else if (type == BinaryTagTypes.STRING) {
       return this.value(((StringBinaryTag) tag).value(), Tokens.EOF);
     } else if (type == BinaryTagTypes.BYTE) {
-      return this.value(Byte.toString(((ByteBinaryTag) tag).value()), Tokens.TYPE_BYTE);
+      return this.value(((ByteBinaryTag) tag).value(), Tokens.TYPE_BYTE);
     } else if (type == BinaryTagTypes.SHORT) {
-      return this.value(Short.toString(((ShortBinaryTag) tag).value()), Tokens.TYPE_SHORT);
+      return this.value(((ShortBinaryTag) tag).value(), Tokens.TYPE_SHORT);
     } else if (type == BinaryTagTypes.INT) {
-      return this.value(Integer.toString(((IntBinaryTag) tag).value()), Tokens.TYPE_INT);
+      return this.value(((IntBinaryTag) tag).value(), Tokens.TYPE_INT);
     } else if (type == BinaryTagTypes.LONG) {
-      return this.value(Long.toString(((LongBinaryTag) tag).value()), Character.toUpperCase(Tokens.TYPE_LONG)); // special-case
+      return this.value(((LongBinaryTag) tag).value(), Character.toUpperCase(Tokens.TYPE_LONG)); // special-case
     } else if (type == BinaryTagTypes.FLOAT) {
-      return this.value(Float.toString(((FloatBinaryTag) tag).value()), Tokens.TYPE_FLOAT);
+      final float value = ((FloatBinaryTag) tag).value();
+      if (this.out instanceof StringBuilder) {
+        ((StringBuilder) this.out).append(value);
+      } else {
+        this.out.append(Float.toString(value));
+      }
+      return this.suffix(Tokens.TYPE_FLOAT);
     } else if (type == BinaryTagTypes.DOUBLE) {
-      return this.value(Double.toString(((DoubleBinaryTag) tag).value()), Tokens.TYPE_DOUBLE);
+      final double value = ((DoubleBinaryTag) tag).value();
+      if (this.out instanceof StringBuilder) {
+        ((StringBuilder) this.out).append(value);
+      } else {
+        this.out.append(Double.toString(value));
+      }
+      return this.suffix(Tokens.TYPE_DOUBLE);
     } else {
       throw new IOException("Unknown tag type: " + type);
       // unknown!
@@ -106,7 +119,7 @@ final class TagStringWriter implements AutoCloseable {
         this.newlineIndent();
       }
       if (this.legacy) {
-        this.out.append(String.valueOf(idx++));
+        this.appendNumber(idx++);
         this.appendSeparator(Tokens.COMPOUND_KEY_TERMINATOR);
       }
 
@@ -126,7 +139,7 @@ final class TagStringWriter implements AutoCloseable {
     final byte[] value = ByteArrayBinaryTagImpl.value(tag);
     for (int i = 0, length = value.length; i < length; i++) {
       this.printAndResetSeparator(true);
-      this.value(Byte.toString(value[i]), byteArrayType);
+      this.value(value[i], byteArrayType);
     }
     this.endArray();
     return this;
@@ -142,7 +155,7 @@ final class TagStringWriter implements AutoCloseable {
     final int[] value = IntArrayBinaryTagImpl.value(tag);
     for (int i = 0, length = value.length; i < length; i++) {
       this.printAndResetSeparator(true);
-      this.value(Integer.toString(value[i]), Tokens.TYPE_INT);
+      this.value(value[i], Tokens.TYPE_INT);
     }
     this.endArray();
     return this;
@@ -157,7 +170,7 @@ final class TagStringWriter implements AutoCloseable {
     final long[] value = LongArrayBinaryTagImpl.value(tag);
     for (int i = 0, length = value.length; i < length; i++) {
       this.printAndResetSeparator(true);
-      this.value(Long.toString(value[i]), Tokens.TYPE_LONG);
+      this.value(value[i], Tokens.TYPE_LONG);
     }
     this.endArray();
     return this;
@@ -201,6 +214,19 @@ final class TagStringWriter implements AutoCloseable {
     return this;
   }
 
+  public TagStringWriter value(final long value, final char valueType) throws IOException {
+    this.appendNumber(value);
+    return this.suffix(valueType);
+  }
+
+  private TagStringWriter suffix(final char valueType) throws IOException {
+    if (valueType != Tokens.TYPE_INT) {
+      this.out.append(valueType);
+    }
+    this.needsSeparator = true;
+    return this;
+  }
+
   public TagStringWriter beginList() throws IOException {
     this.printAndResetSeparator(false);
     this.level++;
@@ -245,23 +271,59 @@ final class TagStringWriter implements AutoCloseable {
     }
     if (requireQuotes) { // TODO: single quotes
       this.out.append(Tokens.DOUBLE_QUOTE);
-      this.out.append(escape(content, Tokens.DOUBLE_QUOTE));
+      this.appendEscaped(content, Tokens.DOUBLE_QUOTE);
       this.out.append(Tokens.DOUBLE_QUOTE);
     } else {
       this.out.append(content);
     }
   }
 
-  private static String escape(final String content, final char quoteChar) {
-    final StringBuilder output = new StringBuilder(content.length());
-    for (int i = 0; i < content.length(); ++i) {
+  // appends the runs between characters needing an escape directly, without building an escaped copy
+  private void appendEscaped(final String content, final char quoteChar) throws IOException {
+    int start = 0;
+    for (int i = 0, length = content.length(); i < length; ++i) {
       final char c = content.charAt(i);
       if (c == quoteChar || c == '\\') {
-        output.append(Tokens.ESCAPE_MARKER);
+        this.appendRange(content, start, i);
+        this.out.append(Tokens.ESCAPE_MARKER);
+        start = i;
+      }
+    }
+    this.appendRange(content, start, content.length());
+  }
+
+  private void appendRange(final String content, final int start, final int end) throws IOException {
+    if (start == 0 && end == content.length()) {
+      this.out.append(content);
+    } else if (this.out instanceof Writer) {
+      ((Writer) this.out).write(content, start, end - start); // Writer#append would copy the range into a new string
+    } else {
+      this.out.append(content, start, end);
+    }
+  }
+
+  private void appendNumber(final long value) throws IOException {
+    if (this.out instanceof StringBuilder) {
+      ((StringBuilder) this.out).append(value);
+      return;
+    }
+    final char[] digits = this.digits;
+    int position = digits.length;
+    long remaining = value;
+    do {
+      digits[--position] = (char) ('0' + Math.abs(remaining % 10));
+      remaining /= 10;
+    } while (remaining != 0);
+    if (value < 0) {
+      digits[--position] = '-';
+    }
+    if (this.out instanceof Writer) {
+      ((Writer) this.out).write(digits, position, digits.length - position);
+    } else {
+      for (int i = position; i < digits.length; i++) {
+        this.out.append(digits[i]);
       }
-      output.append(c);
     }
-    return output.toString();
   }
 
   private void printAndResetSeparator(final boolean pad) throws IOException {
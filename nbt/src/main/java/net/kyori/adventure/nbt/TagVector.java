@@ -0,0 +1,271 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Immutable storage for the elements of a list tag, as a persistent vector.
+ *
+ * <p>Elements are kept in a trie of 32-element arrays, with the last (up to 32) elements in a separate tail array.
+ * Appending, replacing and removing the last element copy only the arrays on the path to it, and share everything else.</p>
+ */
+final class TagVector extends AbstractList<BinaryTag> implements RandomAccess {
+  private static final int BITS = 5;
+  private static final int WIDTH = 1 << BITS;
+  private static final int MASK = WIDTH - 1;
+  private static final Object[] EMPTY_NODE = new Object[WIDTH];
+  static final TagVector EMPTY = new TagVector(0, BITS, EMPTY_NODE, new Object[0]);
+
+  private final int size;
+  private final int shift;
+  private final Object[] root;
+  private final Object[] tail;
+
+  private TagVector(final int size, final int shift, final Object[] root, final Object[] tail) {
+    this.size = size;
+    this.shift = shift;
+    this.root = root;
+    this.tail = tail;
+  }
+
+  /**
+   * Copies elements into a new vector.
+   *
+   * @param tags the elements
+   * @return the vector
+   */
+  static @NotNull TagVector copyOf(final @NotNull Collection<? extends BinaryTag> tags) {
+    if (tags instanceof TagVector) return (TagVector) tags;
+    final int size = tags.size();
+    if (size == 0) return EMPTY;
+    final Object[] elements = tags.toArray();
+    // everything but the last (possibly partial) chunk goes in the trie
+    final int tailOffset = ((size - 1) >>> BITS) << BITS;
+    Object[] nodes = new Object[tailOffset >>> BITS];
+    for (int i = 0; i < nodes.length; i++) {
+      nodes[i] = Arrays.copyOfRange(elements, i << BITS, (i + 1) << BITS);
+    }
+    int shift = BITS;
+    while (nodes.length > WIDTH) {
+      final Object[] parents = new Object[(nodes.length + MASK) >>> BITS];
+      for (int i = 0; i < parents.length; i++) {
+        parents[i] = Arrays.copyOfRange(nodes, i << BITS, (i + 1) << BITS);
+      }
+      nodes = parents;
+      shift += BITS;
+    }
+    return new TagVector(size, shift, Arrays.copyOf(nodes, WIDTH), Arrays.copyOfRange(elements, tailOffset, size));
+  }
+
+  private int tailOffset() {
+    return this.size < WIDTH ? 0 : ((this.size - 1) >>> BITS) << BITS;
+  }
+
+  private Object[] arrayFor(final int index) {
+    if (index >= this.tailOffset()) return this.tail;
+    Object[] node = this.root;
+    for (int level = this.shift; level > 0; level -= BITS) {
+      node = (Object[]) node[(index >>> level) & MASK];
+    }
+    return node;
+  }
+
+  @Override
+  public BinaryTag get(final int index) {
+    if (index < 0 || index >= this.size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+    return (BinaryTag) this.arrayFor(index)[index & MASK];
+  }
+
+  @Override
+  public int size() {
+    return this.size;
+  }
+
+  /**
+   * Gets a vector with an element appended.
+   *
+   * @param tag the element
+   * @return a vector with the element
+   */
+  @NotNull TagVector appended(final @NotNull BinaryTag tag) {
+    final int tailSize = this.size - this.tailOffset();
+    if (tailSize < WIDTH) {
+      final Object[] tail = Arrays.copyOf(this.tail, tailSize + 1);
+      tail[tailSize] = tag;
+      return new TagVector(this.size + 1, this.shift, this.root, tail);
+    }
+    // the tail is full, and moves into the trie
+    final Object[] root;
+    int shift = this.shift;
+    if ((this.size >>> BITS) > (1 << this.shift)) {
+      root = new Object[WIDTH];
+      root[0] = this.root;
+      root[1] = newPath(this.shift, this.tail);
+      shift += BITS;
+    } else {
+      root = this.pushTail(this.shift, this.root, this.tail);
+    }
+    return new TagVector(this.size + 1, shift, root, new Object[] {tag});
+  }
+
+  private Object[] pushTail(final int level, final Object[] parent, final Object[] tail) {
+    final int index = ((this.size - 1) >>> level) & MASK;
+    final Object[] node = parent.clone();
+    if (level == BITS) {
+      node[index] = tail;
+    } else {
+      final Object[] child = (Object[]) parent[index];
+      node[index] = child != null ? this.pushTail(level - BITS, child, tail) : newPath(level - BITS, tail);
+    }
+    return node;
+  }
+
+  private static Object[] newPath(final int level, final Object[] node) {
+    if (level == 0) return node;
+    final Object[] path = new Object[WIDTH];
+    path[0] = newPath(level - BITS, node);
+    return path;
+  }
+
+  /**
+   * Gets a vector with an element replaced.
+   *
+   * @param index the index
+   * @param tag the element
+   * @return a vector with the element
+   */
+  @NotNull TagVector with(final int index, final @NotNull BinaryTag tag) {
+    if (index < 0 || index >= this.size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+    if (index >= this.tailOffset()) {
+      final Object[] tail = this.tail.clone();
+      tail[index & MASK] = tag;
+      return new TagVector(this.size, this.shift, this.root, tail);
+    }
+    return new TagVector(this.size, this.shift, with(this.shift, this.root, index, tag), this.tail);
+  }
+
+  private static Object[] with(final int level, final Object[] parent, final int index, final BinaryTag tag) {
+    final Object[] node = parent.clone();
+    if (level == 0) {
+      node[index & MASK] = tag;
+    } else {
+      final int child = (index >>> level) & MASK;
+      node[child] = with(level - BITS, (Object[]) parent[child], index, tag);
+    }
+    return node;
+  }
+
+  /**
+   * Gets a vector with an element removed.
+   *
+   * <p>Removing the last element is cheap, while removing any other element rebuilds the vector.</p>
+   *
+   * @param index the index
+   * @return a vector without the element
+   */
+  @NotNull TagVector without(final int index) {
+    if (index < 0 || index >= this.size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+    if (index == this.size - 1) return this.withoutLast();
+    final BinaryTag[] elements = this.toArray(new BinaryTag[this.size]);
+    System.arraycopy(elements, index + 1, elements, index, elements.length - index - 1);
+    return copyOf(Arrays.asList(elements).subList(0, elements.length - 1));
+  }
+
+  private TagVector withoutLast() {
+    if (this.size == 1) return EMPTY;
+    final int tailSize = this.size - this.tailOffset();
+    if (tailSize > 1) {
+      return new TagVector(this.size - 1, this.shift, this.root, Arrays.copyOf(this.tail, tailSize - 1));
+    }
+    // the tail is empty now, so the last array of the trie becomes the tail
+    final Object[] tail = this.arrayFor(this.size - 2);
+    Object[] root = this.popTail(this.shift, this.root);
+    int shift = this.shift;
+    if (root == null) {
+      root = EMPTY_NODE;
+    }
+    if (shift > BITS && root[1] == null) {
+      root = (Object[]) root[0];
+      shift -= BITS;
+    }
+    return new TagVector(this.size - 1, shift, root, tail);
+  }
+
+  private Object[] popTail(final int level, final Object[] parent) {
+    final int index = ((this.size - 2) >>> level) & MASK;
+    if (level > BITS) {
+      final Object[] child = this.popTail(level - BITS, (Object[]) parent[index]);
+      if (child == null && index == 0) return null;
+      final Object[] node = parent.clone();
+      node[index] = child;
+      return node;
+    } else if (index == 0) {
+      return null;
+    }
+    final Object[] node = parent.clone();
+    node[index] = null;
+    return node;
+  }
+
+  @Override
+  public @NotNull Iterator<BinaryTag> iterator() {
+    return new Iterator<BinaryTag>() {
+      private int index;
+      private Object[] array = TagVector.this.tail;
+
+      @Override
+      public boolean hasNext() {
+        return this.index < TagVector.this.size;
+      }
+
+      @Override
+      public BinaryTag next() {
+        if (!this.hasNext()) throw new NoSuchElementException();
+        if ((this.index & MASK) == 0) {
+          this.array = TagVector.this.arrayFor(this.index);
+        }
+        return (BinaryTag) this.array[this.index++ & MASK];
+      }
+    };
+  }
+
+  @Override
+  public void forEach(final Consumer<? super BinaryTag> action) {
+    for (int i = 0; i < this.size; i += WIDTH) {
+      final Object[] array = this.arrayFor(i);
+      final int length = Math.min(WIDTH, this.size - i);
+      for (int j = 0; j < length; j++) {
+        action.accept((BinaryTag) array[j]);
+      }
+    }
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Keeps at most one idle instance of an expensive object per thread.
+ *
+ * <p>An instance is removed from the pool while it is in use, so nested users on the same thread get a fresh instance.
+ * Instances released while the pool already holds one are disposed of.</p>
+ *
+ * @param <T> the pooled type
+ */
+final class ThreadLocalPool<T> {
+  private final ThreadLocal<T> idle = new ThreadLocal<>();
+  private final Supplier<T> factory;
+  private final Consumer<T> reset;
+  private final Consumer<T> dispose;
+
+  ThreadLocalPool(final @NotNull Supplier<T> factory, final @NotNull Consumer<T> reset, final @NotNull Consumer<T> dispose) {
+    this.factory = factory;
+    this.reset = reset;
+    this.dispose = dispose;
+  }
+
+  @NotNull T acquire() {
+    final T value = this.idle.get();
+    if (value != null) {
+      this.idle.set(null);
+      return value;
+    }
+    return this.factory.get();
+  }
+
+  void release(final @NotNull T value) {
+    if (this.idle.get() == null) {
+      this.reset.accept(value);
+      this.idle.set(value);
+    } else {
+      this.dispose.accept(value);
+    }
+  }
+}
@@ -28,18 +28,24 @@ import java.io.IOException;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-final class TrackingDataInput implements DataInput, BinaryTagScope {
+abstract class TrackingDataInput implements DataInput, BinaryTagScope {
   private static final int MAX_DEPTH = 512;
-  private final DataInput input;
   private final long maxLength;
-  private long counter;
   private int depth;
+  private @Nullable StringInterner interner;
+  private byte@Nullable[] scratch;
 
-  TrackingDataInput(final DataInput input, final long maxLength) {
-    this.input = input;
+  TrackingDataInput(final long maxLength) {
     this.maxLength = maxLength;
   }
 
+  static TrackingDataInput tracking(final DataInput input, final long maxLength) {
+    if (input instanceof TrackingDataInput) {
+      return (TrackingDataInput) input;
+    }
+    return new Delegating(input, maxLength);
+  }
+
   public static BinaryTagScope enter(final DataInput input) throws IOException {
     if (input instanceof TrackingDataInput) {
       return ((TrackingDataInput) input).enter();
@@ -56,8 +62,67 @@ final class TrackingDataInput implements DataInput, BinaryTagScope {
     }
   }
 
-  public DataInput input() {
-    return this.input;
+  /**
+   * Checks that an input has enough bytes left for a value, before storage is allocated for it.
+   *
+   * <p>Only inputs that know how many bytes remain can check this, other inputs are limited by their maximum length instead.</p>
+   *
+   * @param input the input
+   * @param length the minimum number of bytes the value takes
+   * @throws IOException if there are not enough bytes left
+   */
+  static void require(final DataInput input, final long length) throws IOException {
+    if (input instanceof TrackingDataInput) {
+      ((TrackingDataInput) input).require(length);
+    }
+  }
+
+  // checks that at least the next length bytes can be read, when the number of remaining bytes is known
+  void require(final long length) throws IOException {
+  }
+
+  /**
+   * Reads a string, taking it from the interner of the input if there is one.
+   *
+   * @param input the input
+   * @return the string
+   * @throws IOException if an exception occurs while reading
+   */
+  static String readString(final DataInput input) throws IOException {
+    if (input instanceof TrackingDataInput) {
+      final TrackingDataInput tracking = (TrackingDataInput) input;
+      if (tracking.interner != null) {
+        return tracking.readInterned(tracking.interner);
+      }
+    }
+    return input.readUTF();
+  }
+
+  // sets the interner used for compound keys and string values
+  TrackingDataInput interner(final @Nullable StringInterner interner) {
+    this.interner = interner;
+    return this;
+  }
+
+  // reads a string like readUTF, without decoding it when it is already interned
+  String readInterned(final StringInterner interner) throws IOException {
+    final int length = this.readUnsignedShort();
+    if (length > StringInterner.MAX_LENGTH) {
+      final byte[] bytes = new byte[length];
+      this.readFully(bytes);
+      return ModifiedUTF8.decode(bytes, 0, length);
+    }
+    final byte[] bytes = this.scratch();
+    this.readFully(bytes, 0, length);
+    return interner.intern(bytes, 0, length);
+  }
+
+  // a buffer large enough for any interned string
+  final byte[] scratch() {
+    if (this.scratch == null) {
+      this.scratch = new byte[StringInterner.MAX_LENGTH];
+    }
+    return this.scratch;
   }
 
   // enter a nesting level that pre-allocates storage
@@ -80,107 +145,130 @@ final class TrackingDataInput implements DataInput, BinaryTagScope {
   }
 
   private void ensureMaxLength(final long expected) throws IOException {
-    if (this.maxLength > 0 && this.counter + expected > this.maxLength) {
+    if (this.maxLength > 0 && this.counter() + expected > this.maxLength) {
       throw new IOException("The read NBT was longer than the maximum allowed size of " + this.maxLength + " bytes!");
     }
   }
 
-  @Override
-  public void readFully(final byte@NotNull[] array) throws IOException {
-    this.counter += array.length;
-    this.input.readFully(array);
-  }
+  // the (approximate) number of bytes read so far
+  abstract long counter();
 
   @Override
-  public void readFully(final byte@NotNull[] array, final int off, final int len) throws IOException {
-    this.counter += len;
-    this.input.readFully(array, off, len);
+  public void close() throws IOException {
+    this.exit();
   }
 
-  @Override
-  public int skipBytes(final int n) throws IOException {
-    return this.input.skipBytes(n);
-  }
+  static final class Delegating extends TrackingDataInput {
+    private final DataInput input;
+    private long counter;
 
-  @Override
-  public boolean readBoolean() throws IOException {
-    this.counter++;
-    return this.input.readBoolean();
-  }
+    Delegating(final DataInput input, final long maxLength) {
+      super(maxLength);
+      this.input = input;
+    }
 
-  @Override
-  public byte readByte() throws IOException {
-    this.counter++;
-    return this.input.readByte();
-  }
+    public DataInput input() {
+      return this.input;
+    }
 
-  @Override
-  public int readUnsignedByte() throws IOException {
-    this.counter++;
-    return this.input.readUnsignedByte();
-  }
+    @Override
+    long counter() {
+      return this.counter;
+    }
 
-  @Override
-  public short readShort() throws IOException {
-    this.counter += (Short.SIZE / Byte.SIZE);
-    return this.input.readShort();
-  }
+    @Override
+    public void readFully(final byte@NotNull[] array) throws IOException {
+      this.counter += array.length;
+      this.input.readFully(array);
+    }
 
-  @Override
-  public int readUnsignedShort() throws IOException {
-    this.counter += (Short.SIZE / Byte.SIZE);
-    return this.input.readUnsignedShort();
-  }
+    @Override
+    public void readFully(final byte@NotNull[] array, final int off, final int len) throws IOException {
+      this.counter += len;
+      this.input.readFully(array, off, len);
+    }
 
-  @Override
-  public char readChar() throws IOException {
-    this.counter += (Character.SIZE / Byte.SIZE);
-    return this.input.readChar();
-  }
+    @Override
+    public int skipBytes(final int n) throws IOException {
+      final int skipped = this.input.skipBytes(n);
+      this.counter += skipped;
+      return skipped;
+    }
 
-  @Override
-  public int readInt() throws IOException {
-    this.counter += (Integer.SIZE / Byte.SIZE);
-    return this.input.readInt();
-  }
+    @Override
+    public boolean readBoolean() throws IOException {
+      this.counter++;
+      return this.input.readBoolean();
+    }
 
-  @Override
-  public long readLong() throws IOException {
-    this.counter += (Long.SIZE / Byte.SIZE);
-    return this.input.readLong();
-  }
+    @Override
+    public byte readByte() throws IOException {
+      this.counter++;
+      return this.input.readByte();
+    }
 
-  @Override
-  public float readFloat() throws IOException {
-    this.counter += (Float.SIZE / Byte.SIZE);
-    return this.input.readFloat();
-  }
+    @Override
+    public int readUnsignedByte() throws IOException {
+      this.counter++;
+      return this.input.readUnsignedByte();
+    }
 
-  @Override
-  public double readDouble() throws IOException {
-    this.counter += (Double.SIZE / Byte.SIZE);
-    return this.input.readDouble();
-  }
+    @Override
+    public short readShort() throws IOException {
+      this.counter += (Short.SIZE / Byte.SIZE);
+      return this.input.readShort();
+    }
 
-  @Override
-  public @Nullable String readLine() throws IOException {
-    final @Nullable String result = this.input.readLine();
-    if (result != null) {
-      this.counter += result.length() + 1;
+    @Override
+    public int readUnsignedShort() throws IOException {
+      this.counter += (Short.SIZE / Byte.SIZE);
+      return this.input.readUnsignedShort();
     }
-    return result;
-  }
 
-  @Override
-  public @NotNull String readUTF() throws IOException {
-    final String result = this.input.readUTF();
-    this.counter += (result.length() * 2L) + 2; // not entirely accurate, but the closest we can get without doing implementation details
-    return result;
-  }
+    @Override
+    public char readChar() throws IOException {
+      this.counter += (Character.SIZE / Byte.SIZE);
+      return this.input.readChar();
+    }
 
-  @Override
-  public void close() throws IOException {
-    this.exit();
-  }
+    @Override
+    public int readInt() throws IOException {
+      this.counter += (Integer.SIZE / Byte.SIZE);
+      return this.input.readInt();
+    }
 
+    @Override
+    public long readLong() throws IOException {
+      this.counter += (Long.SIZE / Byte.SIZE);
+      return this.input.readLong();
+    }
+
+    @Override
+    public float readFloat() throws IOException {
+      this.counter += (Float.SIZE / Byte.SIZE);
+      return this.input.readFloat();
+    }
+
+    @Override
+    public double readDouble() throws IOException {
+      this.counter += (Double.SIZE / Byte.SIZE);
+      return this.input.readDouble();
+    }
+
+    @Override
+    public @Nullable String readLine() throws IOException {
+      final @Nullable String result = this.input.readLine();
+      if (result != null) {
+        this.counter += result.length() + 1;
+      }
+      return result;
+    }
+
+    @Override
+    public @NotNull String readUTF() throws IOException {
+      final String result = this.input.readUTF();
+      this.counter += (result.length() * 2L) + 2; // not entirely accurate, but the closest we can get without doing implementation details
+      return result;
+    }
+  }
 }
@@ -0,0 +1,264 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BinaryTagCodecTest {
+  private static final BinaryTagCodec<Item> ITEM = BinaryTagCodec.builder(Item::new)
+    .stringField("id", (item, value) -> item.id = value, item -> item.id)
+    .byteField("Count", (item, value) -> item.count = (byte) value, item -> item.count)
+    .build();
+  private static final BinaryTagCodec<Player> PLAYER = BinaryTagCodec.<Player, Player>builder(Player::new, player -> player)
+    .stringField("Name", (player, value) -> player.name = value, player -> player.name)
+    .intField("XpLevel", (player, value) -> player.level = value, player -> player.level)
+    .longField("Seed", (player, value) -> player.seed = value, player -> player.seed)
+    .floatField("Health", (player, value) -> player.health = (float) value, player -> player.health)
+    .doubleField("Speed", (player, value) -> player.speed = value, player -> player.speed)
+    .booleanField("OnGround", (player, value) -> player.onGround = value, player -> player.onGround)
+    .shortField("Air", (player, value) -> player.air = (short) value, player -> player.air)
+    .field("SelectedItem", ITEM, (player, value) -> player.selected = value, player -> player.selected)
+    .listField("Inventory", ITEM, (player, value) -> player.inventory = value, player -> player.inventory)
+    .tagField("Pos", BinaryTagTypes.LIST, (player, value) -> player.pos = value, player -> player.pos)
+    .build();
+
+  private static Player player() {
+    final Player player = new Player();
+    player.name = "kashike";
+    player.level = 30;
+    player.seed = 42L;
+    player.health = 19.5f;
+    player.speed = 0.1;
+    player.onGround = true;
+    player.air = 300;
+    player.selected = new Item("minecraft:torch", (byte) 64);
+    player.inventory = Arrays.asList(new Item("minecraft:dirt", (byte) 3), new Item("minecraft:stone", (byte) 1));
+    player.pos = ListBinaryTag.builder(BinaryTagTypes.DOUBLE)
+      .add(DoubleBinaryTag.doubleBinaryTag(1.5))
+      .add(DoubleBinaryTag.doubleBinaryTag(64))
+      .build();
+    return player;
+  }
+
+  private static byte[] write(final CompoundBinaryTag tag) throws IOException {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    BinaryTagIO.writer().write(tag, output);
+    return output.toByteArray();
+  }
+
+  private static DataInputStream input(final byte[] bytes) {
+    return new DataInputStream(new ByteArrayInputStream(bytes));
+  }
+
+  @Test
+  void testRoundTrip() throws IOException {
+    final Player player = player();
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    PLAYER.writeNamed(player, new DataOutputStream(bytes));
+
+    // the output is a regular named compound tag
+    final CompoundBinaryTag tag = BinaryTagIO.reader().read(new ByteArrayInputStream(bytes.toByteArray()));
+    assertEquals(PLAYER.encode(player), tag);
+    assertEquals("kashike", tag.getString("Name"));
+    assertEquals(2, tag.getList("Inventory").size());
+
+    assertEquals(player, PLAYER.readNamed(input(bytes.toByteArray())));
+    assertEquals(player, PLAYER.decode(tag));
+  }
+
+  @Test
+  void testUnknownKeysAreSkipped() throws IOException {
+    final CompoundBinaryTag tag = PLAYER.encode(player()).put(CompoundBinaryTag.builder()
+      .putIntArray("Data", new int[] {1, 2, 3})
+      .put("Nested", CompoundBinaryTag.builder().putString("Name", "not the name").build())
+      .put("Items", ListBinaryTag.builder(BinaryTagTypes.COMPOUND).add(CompoundBinaryTag.empty()).build())
+      .putString("Other", "value")
+      .build());
+    assertEquals(player(), PLAYER.readNamed(input(write(tag))));
+  }
+
+  @Test
+  void testMismatchedTypesAreSkipped() throws IOException {
+    final CompoundBinaryTag tag = CompoundBinaryTag.builder()
+      .putInt("Name", 5)
+      .putString("XpLevel", "30")
+      .put("Inventory", ListBinaryTag.builder(BinaryTagTypes.STRING).add(StringBinaryTag.stringBinaryTag("a")).build())
+      .putString("SelectedItem", "minecraft:torch")
+      .put("Pos", IntArrayBinaryTag.intArrayBinaryTag(1, 2))
+      .putLong("Seed", 7L)
+      .build();
+    final Player player = PLAYER.readNamed(input(write(tag)));
+    assertNull(player.name);
+    assertEquals(0, player.level);
+    assertNull(player.inventory);
+    assertNull(player.selected);
+    assertNull(player.pos);
+    assertEquals(7L, player.seed);
+    assertEquals(player, PLAYER.decode(tag));
+  }
+
+  @Test
+  void testNumericCoercion() throws IOException {
+    final CompoundBinaryTag tag = CompoundBinaryTag.builder()
+      .putLong("XpLevel", 1L << 32 | 12)
+      .putByte("Seed", (byte) -1)
+      .putDouble("Health", 2.5)
+      .putInt("Speed", 3)
+      .putInt("OnGround", 1)
+      .putInt("Air", 70000)
+      .build();
+    final Player player = PLAYER.readNamed(input(write(tag)));
+    assertEquals(12, player.level);
+    assertEquals(-1L, player.seed);
+    assertEquals(2.5f, player.health);
+    assertEquals(3.0, player.speed);
+    assertTrue(player.onGround);
+    assertEquals((short) 70000, player.air);
+    assertEquals(player, PLAYER.decode(tag));
+  }
+
+  @Test
+  void testOutOfOrderAndEmpty() throws IOException {
+    final CompoundBinaryTag tag = CompoundBinaryTag.builder()
+      .put("Inventory", ListBinaryTag.empty())
+      .putString("Name", "Notch")
+      .build();
+    final Player player = PLAYER.readNamed(input(write(tag)));
+    assertEquals("Notch", player.name);
+    assertEquals(new ArrayList<>(), player.inventory);
+  }
+
+  @Test
+  void testNullValuesAreOmitted() {
+    final CompoundBinaryTag tag = PLAYER.encode(new Player());
+    assertEquals(6, tag.size());
+    assertNull(tag.get("Name"));
+    assertNull(tag.get("Inventory"));
+  }
+
+  @Test
+  void testSizeLimit() throws IOException {
+    final byte[] bytes = write(CompoundBinaryTag.builder()
+      .putString("id", "minecraft:stone")
+      .putByteArray("Data", new byte[200_000])
+      .build());
+    assertThrows(IOException.class, () -> ITEM.readNamed(input(bytes)));
+    assertThrows(IOException.class, () -> ITEM.readNamed(input(bytes), 1024));
+    assertEquals("minecraft:stone", ITEM.readNamed(input(bytes), 1_000_000).id);
+    assertEquals("minecraft:stone", ITEM.readNamed(input(bytes), Long.MAX_VALUE).id);
+    final DataInputStream payload = input(bytes);
+    payload.skipBytes(3); // type id and empty name
+    assertEquals("minecraft:stone", ITEM.read(payload, 1_000_000).id);
+    assertThrows(IllegalArgumentException.class, () -> ITEM.read(input(bytes), 0));
+  }
+
+  @Test
+  void testNotACompound() {
+    assertThrows(IOException.class, () -> PLAYER.readNamed(input(new byte[] {BinaryTagTypes.LIST.id(), 0, 0, 0, 0, 0, 0, 0})));
+  }
+
+  @Test
+  void testDuplicateKey() {
+    assertThrows(IllegalArgumentException.class, () -> BinaryTagCodec.builder(Item::new)
+      .stringField("id", (item, value) -> item.id = value, item -> item.id)
+      .byteField("id", (item, value) -> item.count = (byte) value, item -> item.count));
+  }
+
+  static final class Item {
+    String id;
+    byte count;
+
+    Item() {
+    }
+
+    Item(final String id, final byte count) {
+      this.id = id;
+      this.count = count;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+      if (!(other instanceof Item)) {
+        return false;
+      }
+      final Item that = (Item) other;
+      return this.count == that.count && Objects.equals(this.id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(this.id, this.count);
+    }
+  }
+
+  static final class Player {
+    String name;
+    int level;
+    long seed;
+    float health;
+    double speed;
+    boolean onGround;
+    short air;
+    Item selected;
+    List<Item> inventory;
+    ListBinaryTag pos;
+
+    @Override
+    public boolean equals(final Object other) {
+      if (!(other instanceof Player)) {
+        return false;
+      }
+      final Player that = (Player) other;
+      return Objects.equals(this.name, that.name)
+        && this.level == that.level
+        && this.seed == that.seed
+        && this.health == that.health
+        && this.speed == that.speed
+        && this.onGround == that.onGround
+        && this.air == that.air
+        && Objects.equals(this.selected, that.selected)
+        && Objects.equals(this.inventory, that.inventory)
+        && Objects.equals(this.pos, that.pos);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(this.name, this.level, this.seed);
+    }
+  }
+}
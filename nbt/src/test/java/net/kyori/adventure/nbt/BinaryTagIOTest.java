@@ -25,10 +25,52 @@ package net.kyori.adventure.nbt;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UTFDataFormatException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
+import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import static net.kyori.adventure.nbt.IOStreamUtil.closeShield;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class BinaryTagIOTest {
   @Test
@@ -70,4 +112,559 @@ class BinaryTagIOTest {
     BinaryTagIO.writer().writeNameless(tag, output);
     assertEquals(tag, BinaryTagIO.reader().readNameless(new ByteArrayInputStream(output.toByteArray())));
   }
+
+  @Test
+  void testProjectedRead() throws IOException {
+    final CompoundBinaryTag tag = CompoundBinaryTag.builder()
+      .putString("id", "minecraft:player")
+      .put("Inventory", ListBinaryTag.builder()
+        .add(CompoundBinaryTag.builder().putString("id", "minecraft:dirt").putByte("Count", (byte) 3).build())
+        .add(CompoundBinaryTag.builder().putString("id", "minecraft:torch").putByte("Count", (byte) 64).build())
+        .build())
+      .put("Pos", ListBinaryTag.builder()
+        .add(DoubleBinaryTag.doubleBinaryTag(1))
+        .add(DoubleBinaryTag.doubleBinaryTag(2))
+        .add(DoubleBinaryTag.doubleBinaryTag(3))
+        .build())
+      .put("Data", CompoundBinaryTag.builder()
+        .putInt("a", 1)
+        .putInt("b", 2)
+        .build())
+      .putIntArray("Skipped", new int[] {1, 2, 3})
+      .build();
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    BinaryTagIO.writer().write(tag, output);
+
+    final CompoundBinaryTag expected = CompoundBinaryTag.builder()
+      .put("Inventory", ListBinaryTag.builder()
+        .add(CompoundBinaryTag.builder().putString("id", "minecraft:dirt").build())
+        .add(CompoundBinaryTag.builder().putString("id", "minecraft:torch").build())
+        .build())
+      .put("Pos", tag.getList("Pos"))
+      .put("Data", CompoundBinaryTag.builder().putInt("b", 2).build())
+      .build();
+    final BinaryTagIO.Reader reader = BinaryTagIO.reader().project("Inventory[].id", "Pos", "Data.b", "Missing.key", "id.nothing");
+    assertEquals(expected, reader.read(new ByteArrayInputStream(output.toByteArray())));
+  }
+
+  @Test
+  void testProjectionPathParsing() {
+    assertThrows(IllegalArgumentException.class, () -> BinaryTagIO.reader().project("a..b"));
+    assertThrows(IllegalArgumentException.class, () -> BinaryTagIO.reader().project("a[.b"));
+    assertThrows(IllegalArgumentException.class, () -> BinaryTagIO.reader().project("\"a.b"));
+    assertThrows(IllegalArgumentException.class, () -> BinaryTagIO.reader().project("a[]b"));
+    assertDoesNotThrow(() -> BinaryTagIO.reader().project("\"a.b\".c[][]", "d", "d.e"));
+  }
+
+  @Test
+  void testReadByteBuffer() throws IOException {
+    final CompoundBinaryTag first = CompoundBinaryTag.builder()
+      .putString("name", "test")
+      .putString("unicode", "\u0000 caf\u00e9 \u2603 \ud83d\ude00")
+      .putLongArray("longs", new long[] {1, -2, Long.MAX_VALUE})
+      .putByteArray("bytes", new byte[] {1, 2, 3})
+      .build();
+    final CompoundBinaryTag second = CompoundBinaryTag.builder()
+      .putDouble("value", 12.5)
+      .build();
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    output.write(0xff); // padding before the first tag
+    BinaryTagIO.writer().write(first, output);
+    BinaryTagIO.writer().writeNameless(second, output);
+    final byte[] bytes = output.toByteArray();
+
+    final ByteBuffer heap = ByteBuffer.wrap(bytes);
+    heap.position(1);
+    assertEquals(first, BinaryTagIO.reader().read(heap));
+    assertEquals(second, BinaryTagIO.reader().readNameless(heap));
+    assertFalse(heap.hasRemaining());
+
+    final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).order(ByteOrder.LITTLE_ENDIAN);
+    direct.put(bytes).flip();
+    direct.position(1);
+    assertEquals(first, BinaryTagIO.reader().read(direct));
+    assertEquals(second, BinaryTagIO.reader().readNameless(direct));
+    assertFalse(direct.hasRemaining());
+  }
+
+  @Test
+  void testReadByteBufferBounds() throws IOException {
+    final CompoundBinaryTag tag = CompoundBinaryTag.builder()
+      .putString("name", "test")
+      .build();
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    BinaryTagIO.writer().write(tag, output);
+    final ByteBuffer buffer = ByteBuffer.wrap(output.toByteArray());
+    buffer.limit(buffer.limit() - 1);
+    assertThrows(EOFException.class, () -> BinaryTagIO.reader().read(buffer));
+    assertEquals(0, buffer.position());
+  }
+
+  @Test
+  void testReadPath(@TempDir final Path directory) throws IOException {
+    final CompoundBinaryTag tag = CompoundBinaryTag.builder()
+      .putString("name", "test")
+      .build();
+    final Path file = directory.resolve("test.dat");
+    BinaryTagIO.writer().write(tag, file);
+    assertEquals(tag, BinaryTagIO.reader().read(file));
+    assertThrows(IOException.class, () -> BinaryTagIO.reader(1).read(file));
+  }
+
+  @Test
+  void testLazyRead() throws IOException {
+    final CompoundBinaryTag tag = CompoundBinaryTag.builder()
+      .putString("name", "test")
+      .put("nested", CompoundBinaryTag.builder()
+        .putInt("a", 1)
+        .putIntArray("b", new int[] {1, 2, 3})
+        .put("c", ListBinaryTag.builder().add(StringBinaryTag.stringBinaryTag("x")).build())
+        .build())
+      .put("empty", CompoundBinaryTag.empty())
+      .build();
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    BinaryTagIO.writer().write(tag, output);
+    final byte[] bytes = output.toByteArray();
+
+    final CompoundBinaryTag fromStream = BinaryTagIO.reader().lazy().read(new ByteArrayInputStream(bytes));
+    final CompoundBinaryTag fromBuffer = BinaryTagIO.reader().lazy().read(ByteBuffer.wrap(bytes));
+    for (final CompoundBinaryTag lazy : new CompoundBinaryTag[] {fromStream, fromBuffer}) {
+      assertEquals(1, lazy.getCompound("nested").getInt("a"));
+      assertEquals(tag.keySet(), lazy.keySet());
+      assertEquals(tag, lazy);
+      assertEquals(lazy, tag);
+      assertEquals(tag.hashCode(), lazy.hashCode());
+
+      // unmodified tags are written as they were read
+      final ByteArrayOutputStream rewritten = new ByteArrayOutputStream();
+      BinaryTagIO.writer().write(lazy, rewritten);
+      assertArrayEquals(bytes, rewritten.toByteArray());
+
+      final CompoundBinaryTag modified = lazy.putString("name", "modified");
+      final ByteArrayOutputStream modifiedOutput = new ByteArrayOutputStream();
+      BinaryTagIO.writer().write(modified, modifiedOutput);
+      assertEquals(tag.putString("name", "modified"), BinaryTagIO.reader().read(new ByteArrayInputStream(modifiedOutput.toByteArray())));
+    }
+  }
+
+  @Test
+  void testLazyReadValidates() throws IOException {
+    final CompoundBinaryTag tag = CompoundBinaryTag.builder()
+      .putByteArray("big", new byte[4096])
+      .build();
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    BinaryTagIO.writer().write(tag, output);
+    final byte[] bytes = output.toByteArray();
+    assertThrows(IOException.class, () -> BinaryTagIO.reader(1024).lazy().read(new ByteArrayInputStream(bytes)));
+    assertThrows(EOFException.class, () -> BinaryTagIO.reader().lazy().read(ByteBuffer.wrap(bytes, 0, bytes.length - 1)));
+  }
+
+  @Test
+  void testCapturingReadLine() throws IOException {
+    final byte[] bytes = "first\r\nsecond\rthird\n\nlast".getBytes(StandardCharsets.ISO_8859_1);
+    final DataInputStream expected = new DataInputStream(new ByteArrayInputStream(bytes));
+    final CapturingDataInput capturing = new CapturingDataInput(new DataInputStream(new ByteArrayInputStream(bytes)), -1);
+    String line;
+    do {
+      line = expected.readLine();
+      assertEquals(line, capturing.readLine());
+    } while (line != null);
+    assertArrayEquals(bytes, capturing.captured());
+  }
+
+  @Test
+  void testLargeArrays() throws IOException {
+    final long[] longs = new long[5000];
+    final int[] ints = new int[5000];
+    for (int i = 0; i < longs.length; i++) {
+      longs[i] = i * 0x0102030405060708L;
+      ints[i] = i * 0x01020304;
+    }
+    final CompoundBinaryTag tag = CompoundBinaryTag.builder()
+      .putLongArray("longs", longs)
+      .putIntArray("ints", ints)
+      .put("doubles", ListBinaryTag.empty().add(DoubleBinaryTag.doubleBinaryTag(0.5d)).add(DoubleBinaryTag.doubleBinaryTag(-2d)))
+      .build();
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    BinaryTagIO.writer().write(tag, output);
+    final byte[] bytes = output.toByteArray();
+
+    assertEquals(tag, BinaryTagIO.reader().read(new ByteArrayInputStream(bytes)));
+    assertEquals(tag, BinaryTagIO.reader().read(ByteBuffer.wrap(bytes)));
+    final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+    direct.put(bytes).flip();
+    assertArrayEquals(longs, BinaryTagIO.reader().read(direct).getLongArray("longs"));
+  }
+
+  @Test
+  void testArrayLengthLimitedUpFront() {
+    // a long array claiming far more elements than the data holds
+    final byte[] bytes = {10, 0, 0, 12, 0, 1, 'a', 0x7f, 0, 0, 0, 0, 0, 0, 0};
+    assertThrows(IOException.class, () -> BinaryTagIO.reader(1024).read(new ByteArrayInputStream(bytes)));
+    assertThrows(IOException.class, () -> BinaryTagIO.reader(1024).read(ByteBuffer.wrap(bytes)));
+  }
+
+  @Test
+  void testArrayLengthCheckedAgainstBuffer() {
+    // without a size limit, the remaining bytes of a buffer are checked before storage is allocated
+    final byte[][] inputs = {
+      {10, 0, 0, 12, 0, 0, 0x7f, (byte) 0xff, (byte) 0xff, (byte) 0xff, 0, 0, 0}, // long array
+      {10, 0, 0, 11, 0, 0, 0x7f, (byte) 0xff, (byte) 0xff, (byte) 0xff, 0, 0, 0}, // int array
+      {10, 0, 0, 7, 0, 0, 0x7f, (byte) 0xff, (byte) 0xff, (byte) 0xff, 0, 0, 0}, // byte array
+      {10, 0, 0, 9, 0, 0, 4, 0x7f, (byte) 0xff, (byte) 0xff, (byte) 0xff, 0, 0}, // list of longs
+      {10, 0, 0, 9, 0, 0, 10, 0x7f, (byte) 0xff, (byte) 0xff, (byte) 0xff, 0, 0}, // list of compounds
+    };
+    for (final byte[] bytes : inputs) {
+      assertThrows(EOFException.class, () -> BinaryTagIO.unlimitedReader().read(ByteBuffer.wrap(bytes)));
+    }
+  }
+
+  @Test
+  void testBatchReadWrite(@TempDir final Path directory) throws Exception {
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      final Map<Path, CompoundBinaryTag> tags = new HashMap<>();
+      for (int i = 0; i < 50; i++) {
+        tags.put(directory.resolve(i + ".dat"), CompoundBinaryTag.builder().putInt("index", i).build());
+      }
+      final Map<Path, BinaryTagIO.BatchResult<Path>> written = new ConcurrentHashMap<>();
+      BinaryTagIO.writer().batch(executor, 4).write(tags, BinaryTagIO.Compression.GZIP, result -> written.put(result.item(), result)).get();
+      assertEquals(tags.size(), written.size());
+      assertTrue(written.values().stream().allMatch(BinaryTagIO.BatchResult::successful));
+
+      final List<Path> paths = new ArrayList<>(tags.keySet());
+      final Path missing = directory.resolve("missing.dat");
+      paths.add(missing);
+      final Map<Path, BinaryTagIO.BatchResult<Path>> read = new ConcurrentHashMap<>();
+      BinaryTagIO.reader().batch(executor, 3).read(paths, BinaryTagIO.Compression.GZIP, result -> read.put(result.item(), result)).get();
+      assertEquals(paths.size(), read.size());
+      for (final Map.Entry<Path, CompoundBinaryTag> entry : tags.entrySet()) {
+        assertEquals(entry.getValue(), read.get(entry.getKey()).tag());
+      }
+      assertFalse(read.get(missing).successful());
+      assertTrue(read.get(missing).error() instanceof IOException);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void testBatchLimitsParallelism() throws Exception {
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      final AtomicInteger active = new AtomicInteger();
+      final AtomicInteger maxActive = new AtomicInteger();
+      final List<Integer> sources = new ArrayList<>();
+      for (int i = 0; i < 40; i++) {
+        sources.add(i);
+      }
+      final ByteArrayOutputStream output = new ByteArrayOutputStream();
+      BinaryTagIO.writer().write(CompoundBinaryTag.builder().putString("name", "test").build(), output);
+      final byte[] bytes = output.toByteArray();
+      final AtomicInteger successes = new AtomicInteger();
+      BinaryTagIO.reader().batch(executor, 2).read(sources, source -> {
+        maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+        try {
+          Thread.sleep(1);
+        } catch (final InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        active.decrementAndGet();
+        return new ByteArrayInputStream(bytes);
+      }, BinaryTagIO.Compression.NONE, result -> {
+        if (result.successful()) successes.incrementAndGet();
+      }).get();
+      assertEquals(sources.size(), successes.get());
+      assertTrue(maxActive.get() <= 2);
+      assertThrows(IllegalArgumentException.class, () -> BinaryTagIO.reader().batch(executor, 0));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void testBatchRejectedByExecutor() {
+    final List<Runnable> accepted = new ArrayList<>();
+    final AtomicInteger submitted = new AtomicInteger();
+    final CompletableFuture<Void> future = BinaryTagIO.reader().batch(command -> {
+      if (submitted.getAndIncrement() > 0) throw new RejectedExecutionException();
+      accepted.add(command);
+    }, 4).read(Collections.singletonList(0), source -> new ByteArrayInputStream(new byte[0]), BinaryTagIO.Compression.NONE, result -> {
+    });
+    assertEquals(2, submitted.get()); // no more workers are submitted after the first rejection
+    assertFalse(future.isDone()); // the accepted worker has not finished yet
+    accepted.get(0).run();
+    final ExecutionException thrown = assertThrows(ExecutionException.class, future::get);
+    assertTrue(thrown.getCause() instanceof RejectedExecutionException);
+  }
+
+  @Test
+  void testCompressionLevelsAndBufferSizes() throws IOException {
+    final CompoundBinaryTag tag = compressible();
+    for (final int level : new int[] {-1, 0, 1, 9}) {
+      for (final int bufferSize : new int[] {1, 64, 8192}) {
+        final BinaryTagIO.Compression gzip = BinaryTagIO.Compression.gzip(level, bufferSize);
+        final BinaryTagIO.Compression zlib = BinaryTagIO.Compression.zlib(level, bufferSize);
+        final byte[] gzipped = write(tag, gzip);
+        final byte[] zlibbed = write(tag, zlib);
+        // pooled deflaters must be reset between uses
+        assertArrayEquals(gzipped, write(tag, gzip));
+        assertArrayEquals(zlibbed, write(tag, zlib));
+        assertEquals(tag, BinaryTagIO.reader().read(new ByteArrayInputStream(gzipped), gzip));
+        assertEquals(tag, BinaryTagIO.reader().read(new ByteArrayInputStream(zlibbed), zlib));
+        assertEquals(tag, BinaryTagIO.reader().read(new GZIPInputStream(new ByteArrayInputStream(gzipped))));
+        assertEquals(tag, BinaryTagIO.reader().read(new InflaterInputStream(new ByteArrayInputStream(zlibbed))));
+      }
+    }
+    assertThrows(IllegalArgumentException.class, () -> BinaryTagIO.Compression.gzip(10, 512));
+    assertThrows(IllegalArgumentException.class, () -> BinaryTagIO.Compression.zlib(-2, 512));
+    assertThrows(IllegalArgumentException.class, () -> BinaryTagIO.Compression.gzip(1, 0));
+  }
+
+  @Test
+  void testReadGZIPFromOtherWriters() throws IOException {
+    final CompoundBinaryTag tag = compressible();
+    final byte[] raw = write(tag, BinaryTagIO.Compression.NONE);
+
+    final ByteArrayOutputStream single = new ByteArrayOutputStream();
+    try (final GZIPOutputStream output = new GZIPOutputStream(single)) {
+      output.write(raw);
+    }
+    assertEquals(tag, BinaryTagIO.reader().read(new ByteArrayInputStream(single.toByteArray()), BinaryTagIO.Compression.GZIP));
+
+    // a stream made of several members is read as one
+    final ByteArrayOutputStream concatenated = new ByteArrayOutputStream();
+    final int half = raw.length / 2;
+    try (final GZIPOutputStream output = new GZIPOutputStream(closeShield(concatenated))) {
+      output.write(raw, 0, half);
+    }
+    try (final GZIPOutputStream output = new GZIPOutputStream(concatenated)) {
+      output.write(raw, half, raw.length - half);
+    }
+    assertEquals(tag, BinaryTagIO.reader().read(new ByteArrayInputStream(concatenated.toByteArray()), BinaryTagIO.Compression.gzip(-1, 16)));
+
+    final byte[] corrupt = single.toByteArray();
+    corrupt[corrupt.length - 5]++;
+    try (final InputStream input = BinaryTagIO.Compression.GZIP.decompress(new ByteArrayInputStream(corrupt))) {
+      assertThrows(ZipException.class, () -> {
+        while (input.read() != -1) {
+          // read to the end to check the trailer
+        }
+      });
+    }
+  }
+
+  @Test
+  void testReadGZIPLikeGZIPInputStream() throws IOException {
+    final byte[] raw = write(compressible(), BinaryTagIO.Compression.NONE);
+    final ByteArrayOutputStream member = new ByteArrayOutputStream();
+    try (final GZIPOutputStream output = new GZIPOutputStream(member)) {
+      output.write(raw);
+    }
+    final byte[] single = member.toByteArray();
+    // concatenated members, and members followed by bytes that are not a member
+    for (int members = 1; members <= 2; members++) {
+      for (int trailing = 0; trailing <= 32; trailing++) {
+        final ByteArrayOutputStream data = new ByteArrayOutputStream();
+        for (int i = 0; i < members; i++) {
+          data.write(single);
+        }
+        for (int i = 0; i < trailing; i++) {
+          data.write(0x1f);
+        }
+        final byte[] input = data.toByteArray();
+        for (final int bufferSize : new int[] {16, 8192}) {
+          final byte[] expected = readFully(new GZIPInputStream(new ByteArrayInputStream(input), bufferSize));
+          assertArrayEquals(expected, readFully(BinaryTagIO.Compression.gzip(-1, bufferSize).decompress(new ByteArrayInputStream(input))));
+        }
+      }
+    }
+  }
+
+  private static byte[] readFully(final InputStream input) throws IOException {
+    try (final InputStream in = input) {
+      final ByteArrayOutputStream output = new ByteArrayOutputStream();
+      final byte[] buffer = new byte[256];
+      int read;
+      while ((read = in.read(buffer)) != -1) {
+        output.write(buffer, 0, read);
+      }
+      return output.toByteArray();
+    }
+  }
+
+  @Test
+  void testCustomCompression() throws IOException {
+    final BinaryTagIO.Compression inverted = BinaryTagIO.Compression.compression("inverted", new BinaryTagIO.Compression.Codec() {
+      @Override
+      public @NotNull InputStream decompress(final @NotNull InputStream input) {
+        return new FilterInputStream(input) {
+          @Override
+          public int read() throws IOException {
+            final int b = super.read();
+            return b == -1 ? -1 : ~b & 0xff;
+          }
+
+          @Override
+          public int read(final byte@NotNull[] b, final int off, final int len) throws IOException {
+            final int read = super.read(b, off, len);
+            for (int i = 0; i < read; i++) {
+              b[off + i] = (byte) ~b[off + i];
+            }
+            return read;
+          }
+        };
+      }
+
+      @Override
+      public @NotNull OutputStream compress(final @NotNull OutputStream output) {
+        return new FilterOutputStream(output) {
+          @Override
+          public void write(final int b) throws IOException {
+            super.write(~b);
+          }
+        };
+      }
+    });
+    final CompoundBinaryTag tag = compressible();
+    final byte[] raw = write(tag, BinaryTagIO.Compression.NONE);
+    final byte[] inverse = write(tag, inverted);
+    assertEquals(raw.length, inverse.length);
+    assertEquals((byte) ~raw[0], inverse[0]);
+    assertEquals(tag, BinaryTagIO.reader().read(new ByteArrayInputStream(inverse), inverted));
+    assertEquals("Compression.inverted", inverted.toString());
+
+    assertSame(BinaryTagIO.Compression.NONE, BinaryTagIO.Compression.named("none"));
+    assertSame(BinaryTagIO.Compression.GZIP, BinaryTagIO.Compression.named("gzip"));
+    assertSame(BinaryTagIO.Compression.ZLIB, BinaryTagIO.Compression.named("zlib"));
+    assertNull(BinaryTagIO.Compression.named("missing"));
+  }
+
+  @Test
+  void testInterningRead() throws IOException {
+    final String longValue = String.join("", Collections.nCopies(20, "caf\u00e9 \u2603 "));
+    final ListBinaryTag.Builder<CompoundBinaryTag> items = ListBinaryTag.builder(BinaryTagTypes.COMPOUND);
+    for (int i = 0; i < 10; i++) {
+      items.add(CompoundBinaryTag.builder()
+        .putString("id", "minecraft:stone")
+        .putString("n\u00e4me", "\u2603")
+        .putString("description", longValue)
+        .putInt("count", i)
+        .build());
+    }
+    final CompoundBinaryTag tag = CompoundBinaryTag.builder().put("items", items.build()).build();
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    BinaryTagIO.writer().write(tag, output);
+    final byte[] bytes = output.toByteArray();
+
+    // a pool of its own, as other tests may replace strings in the shared pool
+    final BinaryTagIO.Reader reader = ((BinaryTagReaderImpl) BinaryTagIO.reader()).interning(new StringInterner(4096));
+    final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+    direct.put(bytes).flip();
+    for (final CompoundBinaryTag read : new CompoundBinaryTag[] {
+      reader.read(new ByteArrayInputStream(bytes)),
+      reader.read(ByteBuffer.wrap(bytes)),
+      reader.read(direct),
+      reader.readNamed((DataInput) new DataInputStream(new ByteArrayInputStream(bytes))).getValue(),
+      reader.project("items[].id").read(new ByteArrayInputStream(bytes))
+    }) {
+      final ListBinaryTag list = read.getList("items");
+      final CompoundBinaryTag first = list.getCompound(0);
+      final CompoundBinaryTag second = list.getCompound(1);
+      assertSame(first.keySet().iterator().next(), second.keySet().iterator().next());
+      assertSame(first.getString("id"), second.getString("id"));
+      if (first.size() > 1) {
+        assertEquals(tag, read);
+        assertSame(first.getString("n\u00e4me"), second.getString("n\u00e4me"));
+      }
+    }
+    assertEquals(tag, BinaryTagIO.reader().interning().read(new ByteArrayInputStream(bytes)));
+    assertThrows(IllegalArgumentException.class, () -> new StringInterner((1 << 30) + 1));
+  }
+
+  @Test
+  void testSmallNumbersShared() throws IOException {
+    assertSame(ByteBinaryTag.ZERO, ByteBinaryTag.byteBinaryTag((byte) 0));
+    assertSame(ByteBinaryTag.ONE, ByteBinaryTag.byteBinaryTag((byte) 1));
+    assertSame(ByteBinaryTag.byteBinaryTag((byte) -128), ByteBinaryTag.byteBinaryTag((byte) -128));
+    assertSame(ShortBinaryTag.shortBinaryTag((short) 1023), ShortBinaryTag.shortBinaryTag((short) 1023));
+    assertSame(IntBinaryTag.intBinaryTag(-128), IntBinaryTag.intBinaryTag(-128));
+    assertEquals(IntBinaryTag.intBinaryTag(1024), IntBinaryTag.intBinaryTag(1024));
+    assertEquals(ShortBinaryTag.shortBinaryTag(Short.MIN_VALUE).value(), Short.MIN_VALUE);
+    assertEquals(IntBinaryTag.intBinaryTag(Integer.MAX_VALUE).value(), Integer.MAX_VALUE);
+
+    final CompoundBinaryTag tag = CompoundBinaryTag.builder().putInt("a", 64).putInt("b", 64).build();
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    BinaryTagIO.writer().write(tag, output);
+    final CompoundBinaryTag read = BinaryTagIO.reader().read(new ByteArrayInputStream(output.toByteArray()));
+    assertSame(read.get("a"), read.get("b"));
+  }
+
+  @Test
+  void testSizeAndByteBuffer() throws IOException {
+    final CompoundBinaryTag tag = CompoundBinaryTag.builder()
+      .putString("ascii", "hello")
+      .putString("utf\u00e9", "\u0000 \u00e9 \u20ac \ud83d\ude00")
+      .put("packed", ListBinaryTag.builder(BinaryTagTypes.INT).add(IntBinaryTag.intBinaryTag(1)).add(IntBinaryTag.intBinaryTag(2)).build())
+      .put("list", ListBinaryTag.builder(BinaryTagTypes.STRING).add(StringBinaryTag.stringBinaryTag("a")).build())
+      .put("empty", ListBinaryTag.empty())
+      .put("nested", compressible())
+      .putByteArray("bytes", new byte[] {1, 2, 3})
+      .putLongArray("longs", new long[] {1, 2})
+      .build();
+    final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    BinaryTagIO.writer().write(tag, (DataOutput) new DataOutputStream(stream));
+    final byte[] expected = stream.toByteArray();
+
+    assertEquals(expected.length, BinaryTagIO.writer().size(tag));
+    assertEquals(expected.length - 2, BinaryTagIO.writer().sizeNameless(tag));
+    assertArrayEquals(expected, BinaryTagIO.writer().toByteArray(tag));
+    assertArrayEquals(expected, write(tag, BinaryTagIO.Compression.NONE));
+
+    // lazily read tags know their size, and edited copies are measured again
+    final CompoundBinaryTag lazy = BinaryTagIO.reader().lazy().read(ByteBuffer.wrap(expected));
+    assertEquals(expected.length, BinaryTagIO.writer().size(lazy));
+    final CompoundBinaryTag edited = lazy.putString("ascii", "hello!");
+    assertEquals(expected.length + 1, BinaryTagIO.writer().size(edited));
+    assertEquals(edited, BinaryTagIO.reader().read(ByteBuffer.wrap(BinaryTagIO.writer().toByteArray(edited))));
+
+    for (final ByteBuffer buffer : new ByteBuffer[] {ByteBuffer.allocate(expected.length + 4), ByteBuffer.allocateDirect(expected.length + 4).order(ByteOrder.LITTLE_ENDIAN)}) {
+      buffer.putInt(42);
+      BinaryTagIO.writer().write(tag, buffer);
+      assertEquals(0, buffer.remaining());
+      buffer.flip();
+      assertEquals(42, buffer.getInt()); // the byte order of the buffer is left alone
+      final byte[] actual = new byte[expected.length];
+      buffer.get(actual);
+      assertArrayEquals(expected, actual);
+    }
+
+    final ByteBuffer small = ByteBuffer.allocate(expected.length - 1);
+    assertThrows(BufferOverflowException.class, () -> BinaryTagIO.writer().write(tag, small));
+    assertEquals(0, small.position());
+
+    final ByteBuffer nameless = ByteBuffer.allocate(expected.length - 2);
+    BinaryTagIO.writer().writeNameless(tag, nameless);
+    assertEquals(tag, BinaryTagIO.reader().readNameless(ByteBuffer.wrap(nameless.array())));
+
+    final StringBuilder tooLong = new StringBuilder();
+    for (int i = 0; i < 65536; i++) {
+      tooLong.append('a');
+    }
+    assertThrows(UTFDataFormatException.class, () -> BinaryTagIO.writer().toByteArray(CompoundBinaryTag.builder().putString("a", tooLong.toString()).build()));
+  }
+
+  private static CompoundBinaryTag compressible() {
+    final CompoundBinaryTag.Builder builder = CompoundBinaryTag.builder();
+    for (int i = 0; i < 500; i++) {
+      builder.putString("key" + i, "value " + (i % 7));
+    }
+    return builder.putIntArray("ints", new int[2048]).build();
+  }
+
+  private static byte[] write(final CompoundBinaryTag tag, final BinaryTagIO.Compression compression) throws IOException {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    BinaryTagIO.writer().write(tag, output, compression);
+    return output.toByteArray();
+  }
 }
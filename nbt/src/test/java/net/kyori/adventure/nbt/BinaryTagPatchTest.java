@@ -0,0 +1,202 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BinaryTagPatchTest {
+  private static CompoundBinaryTag item(final String id, final int count) {
+    return CompoundBinaryTag.builder()
+      .putString("id", id)
+      .putInt("count", count)
+      .put("components", CompoundBinaryTag.builder().putInt("minecraft:damage", 3).build())
+      .build();
+  }
+
+  private static final CompoundBinaryTag ENTITY = CompoundBinaryTag.builder()
+    .putString("id", "minecraft:player")
+    .putFloat("Health", 20)
+    .put("Inventory", ListBinaryTag.builder(BinaryTagTypes.COMPOUND)
+      .add(item("minecraft:dirt", 3))
+      .add(item("minecraft:stone", 64))
+      .add(item("minecraft:torch", 12))
+      .build())
+    .put("Pos", ListBinaryTag.builder(BinaryTagTypes.DOUBLE)
+      .add(DoubleBinaryTag.doubleBinaryTag(1.5))
+      .add(DoubleBinaryTag.doubleBinaryTag(64))
+      .add(DoubleBinaryTag.doubleBinaryTag(-3.25))
+      .build())
+    .putLongArray("Seeds", new long[] {1, 2, 3})
+    .build();
+
+  private static <T extends BinaryTag> byte[] write(final BinaryTagPatch<T> patch) throws IOException {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    patch.write(new DataOutputStream(output));
+    return output.toByteArray();
+  }
+
+  private static BinaryTagPatch<CompoundBinaryTag> roundTrip(final BinaryTagPatch<CompoundBinaryTag> patch) throws IOException {
+    return BinaryTagPatch.read(new DataInputStream(new ByteArrayInputStream(write(patch))));
+  }
+
+  private static void assertPatches(final CompoundBinaryTag from, final CompoundBinaryTag to) throws IOException {
+    final BinaryTagPatch<CompoundBinaryTag> patch = BinaryTagPatch.diff(from, to);
+    assertEquals(to, patch.apply(from));
+    assertEquals(to, roundTrip(patch).apply(from));
+  }
+
+  @Test
+  void testIdentical() throws IOException {
+    final BinaryTagPatch<CompoundBinaryTag> patch = BinaryTagPatch.diff(ENTITY, ENTITY);
+    assertTrue(patch.isEmpty());
+    assertSame(ENTITY, patch.apply(ENTITY));
+    assertTrue(roundTrip(patch).isEmpty());
+    assertTrue(BinaryTagPatch.diff(ENTITY, ENTITY.put(CompoundBinaryTag.empty())).isEmpty());
+  }
+
+  @Test
+  void testNestedChange() throws IOException {
+    final ListBinaryTag inventory = ENTITY.getList("Inventory");
+    final CompoundBinaryTag changed = ENTITY.put("Inventory", inventory.set(1, inventory.getCompound(1).put("components", CompoundBinaryTag.builder().putInt("minecraft:damage", 4).build()), null));
+    assertPatches(ENTITY, changed);
+
+    final BinaryTagPatch<CompoundBinaryTag> patch = BinaryTagPatch.diff(ENTITY, changed);
+    final ByteArrayOutputStream whole = new ByteArrayOutputStream();
+    BinaryTagIO.writer().write(changed, whole);
+    assertTrue(write(patch).length * 4 < whole.size(), "patch should be much smaller than the tag");
+
+    // untouched subtrees are shared with the patched tag
+    final CompoundBinaryTag patched = patch.apply(ENTITY);
+    assertSame(ENTITY.get("Pos"), patched.get("Pos"));
+    assertSame(inventory.get(0), patched.getList("Inventory").get(0));
+  }
+
+  @Test
+  void testAddRemoveReplace() throws IOException {
+    assertPatches(ENTITY, ENTITY.remove("Health").putString("CustomName", "Steve").putInt("id", 5));
+  }
+
+  @Test
+  void testListResize() throws IOException {
+    final ListBinaryTag inventory = ENTITY.getList("Inventory");
+    assertPatches(ENTITY, ENTITY.put("Inventory", inventory.add(item("minecraft:bread", 1))));
+    assertPatches(ENTITY, ENTITY.put("Inventory", inventory.remove(2, null)));
+    assertPatches(ENTITY, ENTITY.put("Inventory", ListBinaryTag.empty()));
+    assertPatches(ENTITY.put("Inventory", ListBinaryTag.empty()), ENTITY);
+    assertPatches(ENTITY, ENTITY.put("Pos", ListBinaryTag.builder(BinaryTagTypes.INT).add(IntBinaryTag.intBinaryTag(1)).build()));
+  }
+
+  @Test
+  void testListDiff() throws IOException {
+    final ListBinaryTag from = ENTITY.getList("Pos");
+    final ListBinaryTag to = from.set(2, DoubleBinaryTag.doubleBinaryTag(0), null);
+    final BinaryTagPatch<ListBinaryTag> patch = BinaryTagPatch.diff(from, to);
+    assertFalse(patch.isEmpty());
+    assertEquals(to, patch.apply(from));
+    assertEquals(to, BinaryTagPatch.readList(new DataInputStream(new ByteArrayInputStream(write(patch)))).apply(from));
+    assertThrows(IOException.class, () -> BinaryTagPatch.read(new DataInputStream(new ByteArrayInputStream(write(patch)))));
+  }
+
+  @Test
+  void testCompressed() throws IOException {
+    final CompoundBinaryTag to = ENTITY.putFloat("Health", 10);
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    BinaryTagPatch.diff(ENTITY, to).write(output, BinaryTagIO.Compression.GZIP);
+    assertEquals(to, BinaryTagPatch.read(new ByteArrayInputStream(output.toByteArray()), BinaryTagIO.Compression.GZIP).apply(ENTITY));
+
+    final ListBinaryTag pos = ENTITY.getList("Pos");
+    final ListBinaryTag moved = pos.set(1, DoubleBinaryTag.doubleBinaryTag(63), null);
+    final ByteArrayOutputStream listOutput = new ByteArrayOutputStream();
+    BinaryTagPatch.diff(pos, moved).write(listOutput, BinaryTagIO.Compression.ZLIB);
+    assertEquals(moved, BinaryTagPatch.readList(new ByteArrayInputStream(listOutput.toByteArray()), BinaryTagIO.Compression.ZLIB).apply(pos));
+  }
+
+  @Test
+  void testUntrustedListCount() throws IOException {
+    // a list patch claiming almost Integer.MAX_VALUE changes, without the data for them
+    final ByteArrayOutputStream oversized = new ByteArrayOutputStream();
+    try (final DataOutputStream output = new DataOutputStream(oversized)) {
+      output.writeByte(BinaryTagTypes.LIST.id());
+      output.writeByte(BinaryTagTypes.INT.id());
+      output.writeInt(Integer.MAX_VALUE);
+      output.writeInt(Integer.MAX_VALUE - 1);
+    }
+    assertThrows(IOException.class, () -> BinaryTagPatch.readList(new DataInputStream(new ByteArrayInputStream(oversized.toByteArray()))));
+
+    // a count within the size limit, but with the input ending early
+    final ByteArrayOutputStream truncated = new ByteArrayOutputStream();
+    try (final DataOutputStream output = new DataOutputStream(truncated)) {
+      output.writeByte(BinaryTagTypes.LIST.id());
+      output.writeByte(BinaryTagTypes.INT.id());
+      output.writeInt(-1);
+      output.writeInt(1000);
+      output.writeByte(1); // SET
+      output.writeInt(0);
+      output.writeByte(BinaryTagTypes.INT.id());
+      output.writeInt(5);
+    }
+    assertThrows(IOException.class, () -> BinaryTagPatch.readList(new DataInputStream(new ByteArrayInputStream(truncated.toByteArray()))));
+  }
+
+  @Test
+  void testSizeLimit() throws IOException {
+    final CompoundBinaryTag to = ENTITY.putByteArray("Data", new byte[200_000]);
+    final BinaryTagPatch<CompoundBinaryTag> patch = BinaryTagPatch.diff(ENTITY, to);
+    final byte[] bytes = write(patch);
+    assertThrows(IOException.class, () -> BinaryTagPatch.read(new DataInputStream(new ByteArrayInputStream(bytes))));
+    assertThrows(IOException.class, () -> BinaryTagPatch.read(new DataInputStream(new ByteArrayInputStream(bytes)), 1024));
+    assertEquals(to, BinaryTagPatch.read(new DataInputStream(new ByteArrayInputStream(bytes)), 1_000_000).apply(ENTITY));
+    assertThrows(IllegalArgumentException.class, () -> BinaryTagPatch.read(new DataInputStream(new ByteArrayInputStream(bytes)), 0));
+
+    final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    patch.write(compressed, BinaryTagIO.Compression.GZIP);
+    assertThrows(IOException.class, () -> BinaryTagPatch.read(new ByteArrayInputStream(compressed.toByteArray()), BinaryTagIO.Compression.GZIP));
+    assertEquals(to, BinaryTagPatch.read(new ByteArrayInputStream(compressed.toByteArray()), BinaryTagIO.Compression.GZIP, 1_000_000).apply(ENTITY));
+
+    final ListBinaryTag list = ListBinaryTag.listBinaryTag(BinaryTagTypes.INT, Collections.nCopies(40_000, IntBinaryTag.intBinaryTag(1)));
+    final byte[] listBytes = write(BinaryTagPatch.diff(ListBinaryTag.empty(), list));
+    assertThrows(IOException.class, () -> BinaryTagPatch.readList(new DataInputStream(new ByteArrayInputStream(listBytes)), 1024));
+    assertEquals(list, BinaryTagPatch.readList(new DataInputStream(new ByteArrayInputStream(listBytes)), 10_000_000).apply(ListBinaryTag.empty()));
+  }
+
+  @Test
+  void testMismatchedStructure() {
+    final CompoundBinaryTag to = ENTITY.put("Inventory", ENTITY.getList("Inventory").set(0, item("minecraft:dirt", 4), null));
+    final BinaryTagPatch<CompoundBinaryTag> patch = BinaryTagPatch.diff(ENTITY, to);
+    assertThrows(IllegalArgumentException.class, () -> patch.apply(ENTITY.putString("Inventory", "none")));
+    assertThrows(IllegalArgumentException.class, () -> patch.apply(ENTITY.put("Inventory", ListBinaryTag.empty())));
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BinaryTagTypeTest {
+  private static final List<BinaryTagType<? extends BinaryTag>> TYPES = Arrays.asList(
+    BinaryTagTypes.END,
+    BinaryTagTypes.BYTE,
+    BinaryTagTypes.SHORT,
+    BinaryTagTypes.INT,
+    BinaryTagTypes.LONG,
+    BinaryTagTypes.FLOAT,
+    BinaryTagTypes.DOUBLE,
+    BinaryTagTypes.BYTE_ARRAY,
+    BinaryTagTypes.STRING,
+    BinaryTagTypes.LIST,
+    BinaryTagTypes.COMPOUND,
+    BinaryTagTypes.INT_ARRAY,
+    BinaryTagTypes.LONG_ARRAY
+  );
+
+  @Test
+  void testLookupById() {
+    for (int id = 0; id < TYPES.size(); id++) {
+      assertSame(TYPES.get(id), BinaryTagType.binaryTagType((byte) id));
+    }
+  }
+
+  @Test
+  void testLookupInvalidId() {
+    for (int id = Byte.MIN_VALUE; id <= Byte.MAX_VALUE; id++) {
+      if (id >= 0 && id < TYPES.size()) continue;
+      final byte invalid = (byte) id;
+      assertThrows(IllegalArgumentException.class, () -> BinaryTagType.binaryTagType(invalid));
+    }
+  }
+}
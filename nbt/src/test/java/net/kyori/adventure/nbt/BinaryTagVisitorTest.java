@@ -0,0 +1,184 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BinaryTagVisitorTest {
+  private static final CompoundBinaryTag TAG = CompoundBinaryTag.builder()
+    .putString("id", "minecraft:stone")
+    .put("Inventory", ListBinaryTag.builder(BinaryTagTypes.COMPOUND)
+      .add(CompoundBinaryTag.builder().putString("id", "minecraft:dirt").putByte("Count", (byte) 3).build())
+      .add(CompoundBinaryTag.builder().putString("id", "minecraft:torch").putByte("Count", (byte) 64).build())
+      .build())
+    .putIntArray("Data", new int[] {1, 2, 3})
+    .put("Pos", ListBinaryTag.builder(BinaryTagTypes.DOUBLE)
+      .add(DoubleBinaryTag.doubleBinaryTag(1.5))
+      .add(DoubleBinaryTag.doubleBinaryTag(64))
+      .add(DoubleBinaryTag.doubleBinaryTag(-3.25))
+      .build())
+    .putLong("Seed", 42L)
+    .build();
+
+  private static byte[] write(final CompoundBinaryTag tag) throws IOException {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    BinaryTagIO.writer().write(tag, output);
+    return output.toByteArray();
+  }
+
+  @Test
+  void testVisitAll() throws IOException {
+    final List<String> events = new ArrayList<>();
+    BinaryTagIO.reader().visit(new ByteArrayInputStream(write(CompoundBinaryTag.builder()
+      .put("list", ListBinaryTag.builder()
+        .add(CompoundBinaryTag.builder().putString("name", "test").build())
+        .add(CompoundBinaryTag.builder().putInt("value", 2).build())
+        .build())
+      .build())), new BinaryTagVisitor() {
+        @Override
+        public void visitCompound() {
+          events.add("compound");
+        }
+
+        @Override
+        public @NotNull Result visitEntry(final @NotNull String key, final @NotNull BinaryTagType<? extends BinaryTag> type) {
+          events.add("entry " + key);
+          return Result.CONTINUE;
+        }
+
+        @Override
+        public void visitList(final @NotNull BinaryTagType<? extends BinaryTag> elementType, final int size) {
+          events.add("list " + size);
+        }
+
+        @Override
+        public void visitEnd() {
+          events.add("end");
+        }
+
+        @Override
+        public void visitInt(final int value) {
+          events.add("int " + value);
+        }
+
+        @Override
+        public void visitString(final @NotNull String value) {
+          events.add("string " + value);
+        }
+      });
+
+    assertEquals(Arrays.asList(
+      "compound",
+      "entry list",
+      "list 2",
+      "compound", "entry name", "string test", "end",
+      "compound", "entry value", "int 2", "end",
+      "end",
+      "end"
+    ), events);
+  }
+
+  @Test
+  void testSkipAndStop() throws IOException {
+    final List<String> seen = new ArrayList<>();
+    final double[] pos = new double[3];
+    BinaryTagIO.reader().visit(new ByteArrayInputStream(write(TAG)), new BinaryTagVisitor() {
+      private int depth;
+      private int index;
+
+      @Override
+      public void visitCompound() {
+        this.depth++;
+      }
+
+      @Override
+      public void visitEnd() {
+        this.depth--;
+      }
+
+      @Override
+      public @NotNull Result visitEntry(final @NotNull String key, final @NotNull BinaryTagType<? extends BinaryTag> type) {
+        seen.add(key);
+        if (key.equals("Pos")) {
+          return Result.CONTINUE;
+        }
+        return seen.size() == TAG.size() ? Result.STOP : Result.SKIP;
+      }
+
+      @Override
+      public @NotNull Result visitElement(final int index, final @NotNull BinaryTagType<? extends BinaryTag> type) {
+        this.index = index;
+        return Result.CONTINUE;
+      }
+
+      @Override
+      public void visitDouble(final double value) {
+        pos[this.index] = value;
+      }
+    });
+
+    assertEquals(TAG.size(), seen.size());
+    assertEquals(1.5, pos[0]);
+    assertEquals(64, pos[1]);
+    assertEquals(-3.25, pos[2]);
+  }
+
+  @Test
+  void testSkippedValuesCountTowardsLimit() throws IOException {
+    final byte[] data = write(CompoundBinaryTag.builder()
+      .putByteArray("big", new byte[4096])
+      .build());
+    assertThrows(IOException.class, () -> BinaryTagIO.reader(1024).visit(new ByteArrayInputStream(data), new BinaryTagVisitor() {
+      @Override
+      public @NotNull Result visitEntry(final @NotNull String key, final @NotNull BinaryTagType<? extends BinaryTag> type) {
+        return Result.SKIP;
+      }
+    }));
+  }
+
+  @Test
+  void testSkipNegativeArrayLength() throws IOException {
+    final byte[] data = write(CompoundBinaryTag.builder()
+      .putByteArray("big", new byte[4])
+      .build());
+    // root type, empty name, entry type and key "big" come before the length
+    Arrays.fill(data, 9, 13, (byte) 0xFF);
+    assertThrows(IOException.class, () -> BinaryTagIO.reader().visit(new ByteArrayInputStream(data), new BinaryTagVisitor() {
+      @Override
+      public @NotNull Result visitEntry(final @NotNull String key, final @NotNull BinaryTagType<? extends BinaryTag> type) {
+        return Result.SKIP;
+      }
+    }));
+  }
+}
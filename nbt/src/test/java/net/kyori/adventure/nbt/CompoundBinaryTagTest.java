@@ -23,10 +23,18 @@
  */
 package net.kyori.adventure.nbt;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class CompoundBinaryTagTest {
@@ -42,4 +50,64 @@ class CompoundBinaryTagTest {
     assertFalse(tagWithValue.getBoolean("test", true));
     assertTrue(tagWithoutValue.getBoolean("test", true));
   }
+
+  @Test
+  void testEditsAcrossStorageSizes() {
+    final Map<String, BinaryTag> expected = new HashMap<>();
+    CompoundBinaryTag tag = CompoundBinaryTag.empty();
+    for (int i = 0; i < 20; i++) {
+      tag = tag.putInt("key" + i, i);
+      expected.put("key" + i, IntBinaryTag.intBinaryTag(i));
+      assertEquals(CompoundBinaryTag.from(expected), tag);
+      assertEquals(CompoundBinaryTag.from(expected).hashCode(), tag.hashCode());
+    }
+    for (int i = 19; i >= 0; i -= 2) {
+      tag = tag.remove("key" + i);
+      expected.remove("key" + i);
+      assertEquals(CompoundBinaryTag.from(expected), tag);
+      assertNull(tag.get("key" + i));
+    }
+    assertEquals(10, tag.size());
+    assertEquals(8, tag.getInt("key8"));
+  }
+
+  @Test
+  void testSmallCompoundKeepsOrder() {
+    final CompoundBinaryTag tag = CompoundBinaryTag.builder()
+      .putString("c", "c")
+      .putString("a", "a")
+      .putString("b", "b")
+      .build();
+    final List<String> keys = new ArrayList<>();
+    tag.forEach(entry -> keys.add(entry.getKey()));
+    assertEquals(Arrays.asList("c", "a", "b"), keys);
+
+    final CompoundBinaryTag replaced = tag.putString("a", "z");
+    assertEquals("z", replaced.getString("a"));
+    assertEquals(tag.keySet(), replaced.keySet());
+    assertSame(tag, tag.remove("missing"));
+  }
+
+  @Test
+  void testEditsWithCollidingKeys() {
+    // "Aa" and "BB" have the same hash code, as do any strings made of them
+    final String[] keys = {"AaAa", "AaBB", "BBAa", "BBBB"};
+    CompoundBinaryTag tag = CompoundBinaryTag.empty();
+    for (int i = 0; i < 12; i++) {
+      tag = tag.putInt("key" + i, i);
+    }
+    for (final String key : keys) {
+      tag = tag.putString(key, key);
+    }
+    assertEquals(16, tag.size());
+    for (final String key : keys) {
+      assertEquals(key, tag.getString(key));
+    }
+    tag = tag.remove("AaBB").remove("BBBB").putString("AaAa", "replaced");
+    assertEquals(14, tag.size());
+    assertEquals("replaced", tag.getString("AaAa"));
+    assertEquals("BBAa", tag.getString("BBAa"));
+    assertNull(tag.get("AaBB"));
+    assertEquals(14, tag.keySet().size());
+  }
 }
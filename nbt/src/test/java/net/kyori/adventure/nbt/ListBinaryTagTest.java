@@ -24,8 +24,11 @@
 package net.kyori.adventure.nbt;
 
 import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -94,4 +97,62 @@ class ListBinaryTagTest {
     assertEquals(i1, l3.get(1));
     assertEquals(i2, l3.get(2));
   }
+
+  @Test
+  void testEditLargeList() {
+    final List<BinaryTag> expected = new ArrayList<>();
+    ListBinaryTag list = ListBinaryTag.empty();
+    for (int i = 0; i < 2000; i++) {
+      list = list.add(IntBinaryTag.intBinaryTag(i));
+      expected.add(IntBinaryTag.intBinaryTag(i));
+    }
+    assertEquals(ListBinaryTag.listBinaryTag(BinaryTagTypes.INT, expected), list);
+    assertEquals(ListBinaryTag.listBinaryTag(BinaryTagTypes.INT, expected).hashCode(), list.hashCode());
+
+    list = list.set(1500, IntBinaryTag.intBinaryTag(-1), removed -> assertEquals(IntBinaryTag.intBinaryTag(1500), removed));
+    expected.set(1500, IntBinaryTag.intBinaryTag(-1));
+    for (int i = 0; i < 1100; i++) {
+      list = list.remove(list.size() - 1, null);
+      expected.remove(expected.size() - 1);
+    }
+    list = list.remove(10, null);
+    expected.remove(10);
+    list = list.add(IntBinaryTag.intBinaryTag(5000));
+    expected.add(IntBinaryTag.intBinaryTag(5000));
+
+    assertEquals(expected.size(), list.size());
+    for (int i = 0; i < expected.size(); i++) {
+      assertEquals(expected.get(i), list.get(i));
+    }
+    final List<BinaryTag> iterated = new ArrayList<>();
+    list.forEach(iterated::add);
+    assertEquals(expected, iterated);
+    assertThrows(IndexOutOfBoundsException.class, () -> ListBinaryTag.empty().add(IntBinaryTag.intBinaryTag(1)).set(1, IntBinaryTag.intBinaryTag(2), null));
+  }
+
+  @Test
+  void testNumberAccessors() {
+    final ListBinaryTag ints = ListBinaryTag.builder(BinaryTagTypes.INT)
+      .add(IntBinaryTag.intBinaryTag(1))
+      .add(IntBinaryTag.intBinaryTag(-2))
+      .build();
+    final ListBinaryTag edited = ListBinaryTag.empty().add(IntBinaryTag.intBinaryTag(1)).add(IntBinaryTag.intBinaryTag(-2));
+    assertEquals(edited, ints);
+    assertEquals(ints, edited);
+    assertEquals(edited.hashCode(), ints.hashCode());
+    assertEquals(IntBinaryTag.intBinaryTag(-2), ints.get(1));
+    assertEquals(-2, ints.getInt(1));
+    assertEquals(-2L, ints.getLong(1));
+    assertArrayEquals(new int[] {1, -2}, ints.toIntArray());
+    assertArrayEquals(new int[] {1, -2}, edited.toIntArray());
+    assertArrayEquals(new double[] {1d, -2d}, ints.toDoubleArray());
+
+    final ListBinaryTag doubles = ListBinaryTag.listBinaryTag(BinaryTagTypes.DOUBLE, ImmutableList.of(DoubleBinaryTag.doubleBinaryTag(0.5d), DoubleBinaryTag.doubleBinaryTag(-1.5d)));
+    assertArrayEquals(new double[] {0.5d, -1.5d}, doubles.toDoubleArray());
+    assertArrayEquals(new int[] {0, -2}, doubles.toIntArray());
+    assertEquals(-1.5f, doubles.getFloat(1));
+
+    final ListBinaryTag strings = ListBinaryTag.from(ImmutableList.of(StringBinaryTag.stringBinaryTag("a")));
+    assertArrayEquals(new int[] {0}, strings.toIntArray());
+  }
 }
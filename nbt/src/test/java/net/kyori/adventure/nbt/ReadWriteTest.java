@@ -23,6 +23,7 @@
  */
 package net.kyori.adventure.nbt;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.io.ByteArrayDataInput;
 import com.google.common.io.ByteArrayDataOutput;
 import com.google.common.io.ByteStreams;
@@ -87,6 +88,16 @@ class ReadWriteTest {
     assertEquals(a.elementType(), b.elementType());
   }
 
+  @Test
+  void testNumberLists() throws IOException {
+    this.testWriteRead(ListBinaryTag.from(ImmutableList.of(ByteBinaryTag.byteBinaryTag((byte) 1), ByteBinaryTag.byteBinaryTag(Byte.MIN_VALUE))), BinaryTagTypes.LIST);
+    this.testWriteRead(ListBinaryTag.from(ImmutableList.of(ShortBinaryTag.shortBinaryTag((short) 1), ShortBinaryTag.shortBinaryTag(Short.MIN_VALUE))), BinaryTagTypes.LIST);
+    this.testWriteRead(ListBinaryTag.from(ImmutableList.of(IntBinaryTag.intBinaryTag(1), IntBinaryTag.intBinaryTag(Integer.MIN_VALUE))), BinaryTagTypes.LIST);
+    this.testWriteRead(ListBinaryTag.from(ImmutableList.of(LongBinaryTag.longBinaryTag(1), LongBinaryTag.longBinaryTag(Long.MIN_VALUE))), BinaryTagTypes.LIST);
+    this.testWriteRead(ListBinaryTag.from(ImmutableList.of(FloatBinaryTag.floatBinaryTag(1f), FloatBinaryTag.floatBinaryTag(Float.NaN))), BinaryTagTypes.LIST);
+    this.testWriteRead(ListBinaryTag.from(ImmutableList.of(DoubleBinaryTag.doubleBinaryTag(1d), DoubleBinaryTag.doubleBinaryTag(-0d))), BinaryTagTypes.LIST);
+  }
+
   @Test
   void testLongArray() throws IOException {
     this.testWriteRead(LongArrayBinaryTag.longArrayBinaryTag(Long.MIN_VALUE, -100, 0, 100, Long.MAX_VALUE), BinaryTagTypes.LONG_ARRAY);
@@ -25,11 +25,16 @@ package net.kyori.adventure.nbt;
 
 import com.google.common.io.Resources;
 import java.io.BufferedReader;
+import java.io.CharArrayWriter;
+import java.io.FilterReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
 import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
+import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -300,6 +305,138 @@ class StringIOTest {
     assertEquals(ListBinaryTag.builder().add(StringBinaryTag.stringBinaryTag("hello")).build(), this.stringToTag("[\"hello\",]"));
   }
 
+  @Test
+  void testReadFromReader() throws IOException {
+    final CompoundBinaryTag.Builder builder = CompoundBinaryTag.builder();
+    for (int i = 0; i < 2000; i++) {
+      builder.put("entry" + i, CompoundBinaryTag.builder()
+        .putString("name", "value \"" + i + "\" with a \\ backslash")
+        .putLong("long", -i * 1_000_000_007L)
+        .putByteArray("bytes", new byte[] {(byte) i, -128, 127})
+        .putLongArray("longs", new long[] {i, Long.MIN_VALUE, Long.MAX_VALUE})
+        .build());
+    }
+    final CompoundBinaryTag tag = builder.build();
+    final String serialized = TagStringIO.builder().indent(2).build().asString(tag);
+
+    // hand out a few characters at a time, so tokens are split across reads
+    final Reader trickle = new FilterReader(new StringReader(serialized)) {
+      private int calls;
+
+      @Override
+      public int read(final char@NotNull[] buffer, final int offset, final int length) throws IOException {
+        return super.read(buffer, offset, Math.min(length, 1 + this.calls++ % 7));
+      }
+    };
+    assertEquals(tag, TagStringIO.get().asCompound(trickle));
+    assertEquals(tag, TagStringIO.get().asCompound(new StringReader(serialized)));
+    assertThrows(IOException.class, () -> TagStringIO.get().asCompound(new StringReader(serialized + " {}")));
+    assertThrows(IOException.class, () -> TagStringIO.get().asCompound(new StringReader(serialized.substring(0, serialized.length() / 2))));
+  }
+
+  @Test
+  void testReaderErrorsAreRethrown() {
+    final IOException failure = new IOException("broken");
+    final Reader broken = new Reader() {
+      @Override
+      public int read(final char@NotNull[] buffer, final int offset, final int length) throws IOException {
+        throw failure;
+      }
+
+      @Override
+      public void close() {
+      }
+    };
+    assertEquals(failure, assertThrows(IOException.class, () -> TagStringIO.get().asCompound(broken)));
+  }
+
+  @Test
+  void testWriteToAppendable() throws IOException {
+    final CompoundBinaryTag tag = CompoundBinaryTag.builder()
+      .putString("quoted", "a \"b\" \\c")
+      .putInt("min", Integer.MIN_VALUE)
+      .putLong("long", Long.MIN_VALUE)
+      .putShort("short", (short) -5)
+      .putDouble("double", 1.5)
+      .putFloat("float", -0.25f)
+      .putIntArray("ints", new int[] {0, -1, 10})
+      .build();
+    final String expected = TagStringIO.get().asString(tag);
+
+    final StringWriter writer = new StringWriter();
+    TagStringIO.get().toWriter(tag, writer);
+    assertEquals(expected, writer.toString());
+
+    final StringBuilder builder = new StringBuilder();
+    TagStringIO.get().toAppendable(tag, builder);
+    assertEquals(expected, builder.toString());
+
+    final CharArrayWriter appendable = new CharArrayWriter();
+    TagStringIO.get().toAppendable(tag, new Appendable() {
+      @Override
+      public Appendable append(final CharSequence csq) {
+        appendable.append(csq);
+        return this;
+      }
+
+      @Override
+      public Appendable append(final CharSequence csq, final int start, final int end) {
+        appendable.append(csq, start, end);
+        return this;
+      }
+
+      @Override
+      public Appendable append(final char c) {
+        appendable.append(c);
+        return this;
+      }
+    });
+    assertEquals(expected, appendable.toString());
+    assertEquals(tag, TagStringIO.get().asCompound(expected));
+  }
+
+  @Test
+  void testAnyTagType() throws IOException {
+    final TagStringIO io = TagStringIO.get();
+    assertEquals(ByteBinaryTag.byteBinaryTag((byte) 1), io.asTag("1b"));
+    assertEquals(StringBinaryTag.stringBinaryTag("hello world"), io.asTag(" \"hello world\" "));
+    assertEquals(IntArrayBinaryTag.intArrayBinaryTag(1, 2), io.asTag(new StringReader("[I; 1, 2]")));
+    assertThrows(IOException.class, () -> io.asTag("1b 2b"));
+    assertThrows(IOException.class, () -> io.asTag(""));
+
+    final ListBinaryTag list = ListBinaryTag.builder()
+      .add(CompoundBinaryTag.builder().putString("id", "minecraft:stone").build())
+      .add(CompoundBinaryTag.builder().putString("id", "minecraft:dirt").build())
+      .build();
+    final String serialized = io.asString(list);
+    assertEquals("[{id:\"minecraft:stone\"},{id:\"minecraft:dirt\"}]", serialized);
+    assertEquals(list, io.asTag(serialized));
+
+    final StringWriter writer = new StringWriter();
+    io.toWriter(LongBinaryTag.longBinaryTag(-3), writer);
+    assertEquals("-3L", writer.toString());
+  }
+
+  @Test
+  void testScalarBounds() throws IOException {
+    assertEquals(IntBinaryTag.intBinaryTag(Integer.MIN_VALUE), this.stringToTag("-2147483648"));
+    assertEquals(IntBinaryTag.intBinaryTag(5), this.stringToTag("+5"));
+    assertEquals(StringBinaryTag.stringBinaryTag("-2147483649"), this.stringToTag("-2147483649"));
+    assertEquals(ByteBinaryTag.byteBinaryTag((byte) -128), this.stringToTag("-128b"));
+    assertEquals(StringBinaryTag.stringBinaryTag("128b"), this.stringToTag("128b"));
+    assertEquals(ShortBinaryTag.shortBinaryTag(Short.MAX_VALUE), this.stringToTag("32767s"));
+    assertEquals(StringBinaryTag.stringBinaryTag("32768s"), this.stringToTag("32768s"));
+    assertEquals(LongBinaryTag.longBinaryTag(Long.MIN_VALUE), this.stringToTag("-9223372036854775808L"));
+    assertEquals(StringBinaryTag.stringBinaryTag("9223372036854775808L"), this.stringToTag("9223372036854775808L"));
+    assertEquals(StringBinaryTag.stringBinaryTag("1e5"), this.stringToTag("1e5"));
+    assertEquals(DoubleBinaryTag.doubleBinaryTag(1e5), this.stringToTag("1e5d"));
+    assertEquals(StringBinaryTag.stringBinaryTag("-"), this.stringToTag("-"));
+    assertEquals(StringBinaryTag.stringBinaryTag("5:b"), this.stringToTag("5\\:b"));
+    assertEquals(ByteBinaryTag.ONE, this.stringToTag("TrUe"));
+    assertEquals(ByteArrayBinaryTag.byteArrayBinaryTag((byte) 1, (byte) -2), this.stringToTag("[B; 1b, -2B]"));
+    assertThrows(StringTagParseException.class, () -> this.stringToTag("[B; 128b]"));
+  }
+
   private String tagToString(final BinaryTag tag) throws IOException {
     final StringWriter writer = new StringWriter();
     try (final TagStringWriter emitter = new TagStringWriter(writer, "")) {